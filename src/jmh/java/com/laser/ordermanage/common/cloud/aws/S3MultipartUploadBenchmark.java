@@ -0,0 +1,88 @@
+package com.laser.ordermanage.common.cloud.aws;
+
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 PUT 업로드와 멀티파트 업로드의 처리량 비교
+ * - 로컬 S3 호환 저장소 (MinIO 등) 필요 : -Djmh.s3-endpoint=http://localhost:9000 (기본값)
+ * - 접근 키는 jmh.s3-access-key, jmh.s3-secret-key (기본값 minioadmin), 버킷은 jmh.s3-bucket (없으면 생성)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@State(Scope.Benchmark)
+public class S3MultipartUploadBenchmark {
+
+    @Param({"32", "128"})
+    private int fileSizeMb;
+
+    @Param({"1", "4", "8"})
+    private int parallelism;
+
+    private S3AsyncClient s3AsyncClient;
+
+    private S3MultipartUploader s3MultipartUploader;
+
+    private String bucketName;
+
+    private byte[] file;
+
+    @Setup
+    public void setUp() {
+        bucketName = System.getProperty("jmh.s3-bucket", "benchmark");
+        s3AsyncClient = S3AsyncClient.builder()
+                .endpointOverride(URI.create(System.getProperty("jmh.s3-endpoint", "http://localhost:9000")))
+                .forcePathStyle(true)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                        System.getProperty("jmh.s3-access-key", "minioadmin"),
+                        System.getProperty("jmh.s3-secret-key", "minioadmin"))))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(50))
+                .build();
+
+        try {
+            s3AsyncClient.createBucket(builder -> builder.bucket(bucketName)).join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof BucketAlreadyOwnedByYouException)) {
+                throw e;
+            }
+        }
+
+        s3MultipartUploader = new S3MultipartUploader(s3AsyncClient, bucketName, 0, 8, parallelism, 2);
+
+        file = new byte[fileSizeMb * 1024 * 1024];
+        new Random(fileSizeMb).nextBytes(file);
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3AsyncClient.close();
+    }
+
+    @Benchmark
+    public void singlePut() {
+        s3AsyncClient.putObject(
+                PutObjectRequest.builder().bucket(bucketName).key("benchmark/" + UUID.randomUUID()).build(),
+                AsyncRequestBody.fromBytes(file)
+        ).join();
+    }
+
+    @Benchmark
+    public void multipartUpload() {
+        s3MultipartUploader.upload(new ByteArrayInputStream(file), "benchmark/" + UUID.randomUUID());
+    }
+}
@@ -0,0 +1,85 @@
+package com.laser.ordermanage.common.nesting;
+
+import com.laser.ordermanage.common.util.DXFUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NestingBenchmark {
+
+    // 4 x 8 feet 원판
+    private static final double SHEET_WIDTH = 1219.2;
+    private static final double SHEET_HEIGHT = 2438.4;
+
+    // 도면 수량
+    @Param({"1", "10", "50"})
+    private int count;
+
+    private List<Path> dxfPathList;
+    private List<NestingPart> partList;
+    private NestingEstimator nestingEstimator;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path corpus = Path.of(System.getProperty("jmh.dxf-corpus", "src/test/resources/drawing"));
+        try (Stream<Path> pathStream = Files.list(corpus)) {
+            dxfPathList = pathStream.filter(path -> path.toString().toLowerCase().endsWith(".dxf")).sorted().toList();
+        }
+
+        partList = new ArrayList<>();
+        for (Path dxfPath : dxfPathList) {
+            List<NestingPart> drawingPartList = extractPartList(dxfPath).stream()
+                    .filter(part -> part.fits(SHEET_WIDTH, SHEET_HEIGHT))
+                    .toList();
+            for (int i = 0; i < count; i++) {
+                partList.addAll(drawingPartList);
+            }
+        }
+
+        nestingEstimator = new NestingEstimator(0, 2000, 32, 5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        nestingEstimator.shutdown();
+    }
+
+    @Benchmark
+    public int extractPartList() throws IOException {
+        int partCount = 0;
+        for (Path dxfPath : dxfPathList) {
+            partCount += extractPartList(dxfPath).size();
+        }
+        return partCount;
+    }
+
+    // 면적 내림차순 한 가지 순서만 단일 스레드로 배치
+    @Benchmark
+    public NestingResult packSingleOrder() {
+        List<NestingPart> candidate = new ArrayList<>(partList);
+        candidate.sort(Comparator.comparingDouble(NestingPart::area).reversed());
+        return new SkylinePacker(SHEET_WIDTH, SHEET_HEIGHT, 5).pack(candidate, () -> false);
+    }
+
+    @Benchmark
+    public NestingResult estimate() {
+        return nestingEstimator.estimate(partList, SHEET_WIDTH, SHEET_HEIGHT);
+    }
+
+    private static List<NestingPart> extractPartList(Path dxfPath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(dxfPath)) {
+            return DXFUtil.extractPartList(inputStream);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.laser.ordermanage.common.util;
+
+import com.aspose.cad.Image;
+import com.aspose.cad.imageoptions.CadRasterizationOptions;
+import com.aspose.cad.imageoptions.PngOptions;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 힙 사용량은 gc 프로파일러 결과 (gc.alloc.rate.norm) 로 비교
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DXFPreviewBenchmark {
+
+    private static final int THUMBNAIL_SIZE = 500;
+
+    private List<byte[]> dxfFileList;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path corpus = Path.of(System.getProperty("jmh.dxf-corpus", "src/test/resources/drawing"));
+        try (Stream<Path> pathStream = Files.list(corpus)) {
+            dxfFileList = new ArrayList<>();
+            for (Path dxfPath : pathStream.filter(path -> path.toString().toLowerCase().endsWith(".dxf")).sorted().toList()) {
+                dxfFileList.add(Files.readAllBytes(dxfPath));
+            }
+        }
+    }
+
+    @Benchmark
+    public int streamingThumbnail() throws IOException {
+        int size = 0;
+        for (byte[] dxfFile : dxfFileList) {
+            DXFPreview preview = DXFUtil.readPreview(new ByteArrayInputStream(dxfFile));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ImageIO.write(preview.toImage(THUMBNAIL_SIZE), "png", outputStream);
+            size += outputStream.size();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int streamingSvg() throws IOException {
+        int size = 0;
+        for (byte[] dxfFile : dxfFileList) {
+            size += DXFUtil.readPreview(new ByteArrayInputStream(dxfFile)).toSvg(THUMBNAIL_SIZE).length();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int asposeThumbnail() {
+        int size = 0;
+        for (byte[] dxfFile : dxfFileList) {
+            Image image = Image.load(new ByteArrayInputStream(dxfFile));
+            try {
+                CadRasterizationOptions rasterizationOptions = new CadRasterizationOptions();
+                rasterizationOptions.setPageWidth(THUMBNAIL_SIZE);
+                rasterizationOptions.setPageHeight(THUMBNAIL_SIZE);
+
+                PngOptions pngOptions = new PngOptions();
+                pngOptions.setVectorRasterizationOptions(rasterizationOptions);
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                image.save(outputStream, pngOptions);
+                size += outputStream.size();
+            } finally {
+                image.dispose();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,101 @@
+package com.laser.ordermanage.common.util;
+
+import org.imgscalr.Scalr;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 큰 이미지 도면의 썸네일 생성 비교 (전체 디코딩 / subsampling 디코딩, subsampling 디코딩은 크기별 썸네일 모두 생성)
+ * - jmh.image-corpus 폴더의 JPG, JPEG, PNG 이미지 사용 (없으면 50MP 스캔 이미지를 JPG, PNG 로 생성)
+ * - 할당량은 gc 프로파일러 결과 (gc.alloc.rate.norm) 로 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ImageThumbnailBenchmark {
+
+    private static final int THUMBNAIL_SIZE = 500;
+
+    private List<byte[]> imageFileList;
+
+    @Setup
+    public void setUp() throws IOException {
+        imageFileList = new ArrayList<>();
+
+        String corpus = System.getProperty("jmh.image-corpus");
+        if (corpus != null) {
+            try (Stream<Path> pathStream = Files.list(Path.of(corpus))) {
+                for (Path imagePath : pathStream.filter(path -> path.toString().toLowerCase().matches(".*\\.(jpg|jpeg|png)$")).sorted().toList()) {
+                    imageFileList.add(Files.readAllBytes(imagePath));
+                }
+            }
+        }
+
+        if (imageFileList.isEmpty()) {
+            BufferedImage scan = createScan(8660, 5773);
+            imageFileList.add(write(scan, "jpg"));
+            imageFileList.add(write(scan, "png"));
+        }
+    }
+
+    @Benchmark
+    public int fullDecodeThumbnail() throws IOException {
+        int size = 0;
+        for (byte[] imageFile : imageFileList) {
+            BufferedImage bufferedImage = ImageIO.read(new MemoryCacheImageInputStream(new ByteArrayInputStream(imageFile)));
+            BufferedImage resizedImage = Scalr.resize(bufferedImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_EXACT, THUMBNAIL_SIZE, THUMBNAIL_SIZE, Scalr.OP_ANTIALIAS);
+            size += ImageUtil.toPng(resizedImage).length;
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int subsampledThumbnail() {
+        int size = 0;
+        for (byte[] imageFile : imageFileList) {
+            size += ImageUtil.extractThumbnail(new ByteArrayInputStream(imageFile), RasterBudget.UNLIMITED).values().stream().mapToInt(thumbnail -> thumbnail.length).sum();
+        }
+        return size;
+    }
+
+    // 흰 바탕에 선이 그려진 스캔 도면
+    private static BufferedImage createScan(int width, int height) {
+        BufferedImage scan = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scan.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(Color.DARK_GRAY);
+            graphics.setStroke(new BasicStroke(4));
+            for (int x = 0; x <= width; x += width / 50) {
+                graphics.drawLine(x, 0, width - x, height);
+                graphics.drawOval(x, height / 3, width / 20, width / 20);
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        return scan;
+    }
+
+    private static byte[] write(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,108 @@
+package com.laser.ordermanage.common.util;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.imgscalr.Scalr;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 크기 (A4 ~ A0) 별 PDF 썸네일 생성 비교 (고정 300 DPI 렌더링 / 페이지 크기 기준 렌더링, 페이지 크기 기준 렌더링은 크기별 썸네일 모두 생성)
+ * - 힙 최대 사용량은 peakHeapMb 보조 결과, 할당량은 gc 프로파일러 결과 (gc.alloc.rate.norm) 로 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PDFThumbnailBenchmark {
+
+    private static final int THUMBNAIL_SIZE = 500;
+
+    @Param({"A4", "A3", "A2", "A1", "A0"})
+    private String pageSize;
+
+    private byte[] pdfFile;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounter {
+
+        private static final List<MemoryPoolMXBean> HEAP_POOL_LIST = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> MemoryType.HEAP.equals(pool.getType()))
+                .toList();
+
+        public long peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            HEAP_POOL_LIST.forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapMb = 0;
+        }
+
+        void record() {
+            long peakHeap = HEAP_POOL_LIST.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            peakHeapMb = Math.max(peakHeapMb, peakHeap / (1024 * 1024));
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        PDRectangle pageBox = switch (pageSize) {
+            case "A0" -> PDRectangle.A0;
+            case "A1" -> PDRectangle.A1;
+            case "A2" -> PDRectangle.A2;
+            case "A3" -> PDRectangle.A3;
+            default -> PDRectangle.A4;
+        };
+
+        // 도면처럼 페이지 전체에 선이 그려진 한 페이지 PDF
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(pageBox);
+            document.addPage(page);
+            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                float step = pageBox.getWidth() / 50;
+                for (float x = 0; x <= pageBox.getWidth(); x += step) {
+                    contentStream.moveTo(x, 0);
+                    contentStream.lineTo(pageBox.getWidth() - x, pageBox.getHeight());
+                }
+                contentStream.stroke();
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            pdfFile = outputStream.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public int fixedDpiThumbnail(HeapCounter heapCounter) throws IOException {
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(new ByteArrayInputStream(pdfFile)))) {
+            BufferedImage originalImage = new PDFRenderer(document).renderImageWithDPI(0, 300);
+            heapCounter.record();
+
+            BufferedImage resizedImage = Scalr.resize(originalImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_EXACT, THUMBNAIL_SIZE, THUMBNAIL_SIZE, Scalr.OP_ANTIALIAS);
+            return ImageUtil.toPng(resizedImage).length;
+        }
+    }
+
+    @Benchmark
+    public int pageSizeThumbnail(HeapCounter heapCounter) {
+        int size = PDFUtil.extractThumbnail(new ByteArrayInputStream(pdfFile), RasterBudget.UNLIMITED).values().stream().mapToInt(thumbnail -> thumbnail.length).sum();
+        heapCounter.record();
+
+        return size;
+    }
+}
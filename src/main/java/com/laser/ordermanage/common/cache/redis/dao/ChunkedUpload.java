@@ -0,0 +1,49 @@
+package com.laser.ordermanage.common.cache.redis.dao;
+
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.constants.ExpireTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+/**
+ * 여러 요청에 나누어 업로드하는 파일 (조각 하나가 AWS S3 멀티파트 업로드의 part 하나)
+ * - 생성 후 변경하지 않고, 업로드된 조각 목록은 AWS S3 에서 조회 (동시에 조각을 업로드해도 유실되지 않음)
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@RedisHash(value = "chunkedUpload", timeToLive = ExpireTime.CHUNKED_UPLOAD_EXPIRE_TIME_FOR_REDIS)
+public class ChunkedUpload {
+
+    @Id
+    private String id;
+
+    private String fileName;
+
+    private Long fileSize;
+
+    // 마지막 조각을 제외한 조각 크기
+    private Integer chunkSize;
+
+    private String multipartUploadId;
+
+    private String fileUrl;
+
+    public StorageMultipartUpload toStorageMultipartUpload() {
+        return new StorageMultipartUpload(multipartUploadId, fileUrl);
+    }
+
+    public int getChunkCount() {
+        return (int) ((fileSize + chunkSize - 1) / chunkSize);
+    }
+
+    // 조각 번호 (1 부터) 의 조각 크기
+    public long getChunkSizeOf(int chunkNumber) {
+        return Math.min(chunkSize, fileSize - (long) (chunkNumber - 1) * chunkSize);
+    }
+}
@@ -0,0 +1,53 @@
+package com.laser.ordermanage.common.cache.redis.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+/**
+ * 썸네일 재생성 작업의 진행 상황 (썸네일 버전마다 하나)
+ * - 마지막으로 처리한 썸네일 PK 를 저장하여, 서버 재시작이나 실행 시간 제한으로 중단되어도 이어서 실행
+ * - 모든 썸네일을 처리하면 완료 상태로 두고 다시 실행하지 않음
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@RedisHash(value = "drawingThumbnailRegeneration")
+public class DrawingThumbnailRegeneration {
+
+    // 썸네일 버전
+    @Id
+    private String id;
+
+    private Long lastId;
+
+    private Long regeneratedCount;
+
+    private Long failedCount;
+
+    private Boolean completed;
+
+    public static DrawingThumbnailRegeneration start(Integer version) {
+        return DrawingThumbnailRegeneration.builder()
+                .id(version.toString())
+                .lastId(0L)
+                .regeneratedCount(0L)
+                .failedCount(0L)
+                .completed(Boolean.FALSE)
+                .build();
+    }
+
+    public void checkpoint(Long lastId, long regeneratedCount, long failedCount) {
+        this.lastId = lastId;
+        this.regeneratedCount += regeneratedCount;
+        this.failedCount += failedCount;
+    }
+
+    public void complete() {
+        this.completed = Boolean.TRUE;
+    }
+}
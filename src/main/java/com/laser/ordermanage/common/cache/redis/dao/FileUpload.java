@@ -0,0 +1,54 @@
+package com.laser.ordermanage.common.cache.redis.dao;
+
+import com.laser.ordermanage.common.constants.ExpireTime;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.order.domain.type.FileType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 클라이언트가 업로드 URL 로 직접 업로드하는 파일 (업로드 완료 확인 시 크기, 해시, 파일 형식 검증)
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@RedisHash(value = "fileUpload", timeToLive = ExpireTime.FILE_UPLOAD_EXPIRE_TIME_FOR_REDIS)
+public class FileUpload {
+
+    @Id
+    private String id;
+
+    private String fileName;
+
+    private Long fileSize;
+
+    // 파일 내용의 SHA-256 해시 (16진수 문자열), AWS S3 가 업로드 시 검증
+    private String fileHash;
+
+    // 업로드 URL 을 생성한 파일 종류의 폴더 (다른 파일 종류로 업로드 완료 확인 불가)
+    private String folderName;
+
+    private String fileUrl;
+
+    private String uploadUrl;
+
+    // 업로드 요청에 포함해야 하는 헤더 (서명에 포함된 헤더)
+    private Map<String, String> uploadHeaderMap;
+
+    private LocalDateTime expiredAt;
+
+    public <T extends FileType> FileEntity<T> toFileEntity(T fileType) {
+        return FileEntity.<T>builder()
+                .name(fileName)
+                .size(fileSize)
+                .type(fileType)
+                .url(fileUrl)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.laser.ordermanage.common.cache.redis.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+/**
+ * 사용하지 않는 저장소 파일 정리 작업의 진행 상황
+ * - 마지막으로 확인한 파일 key 를 저장하여, 실행마다 이어서 확인 (버킷 전체를 한 번에 조회하지 않음)
+ * - 마지막 파일까지 확인하면 처음부터 다시 확인
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@RedisHash(value = "orphanFileCleanup")
+public class OrphanFileCleanup {
+
+    public static final String ID = "storage";
+
+    @Id
+    private String id;
+
+    // 처음부터 확인하는 경우 null
+    private String lastKey;
+
+    private Long deletedCount;
+
+    private Long failedCount;
+
+    public static OrphanFileCleanup start() {
+        return OrphanFileCleanup.builder()
+                .id(ID)
+                .deletedCount(0L)
+                .failedCount(0L)
+                .build();
+    }
+
+    public boolean isAtStart() {
+        return this.lastKey == null;
+    }
+
+    public void checkpoint(String lastKey, long deletedCount, long failedCount) {
+        this.lastKey = lastKey;
+        this.deletedCount += deletedCount;
+        this.failedCount += failedCount;
+    }
+
+    public void restart() {
+        this.lastKey = null;
+        this.deletedCount = 0L;
+        this.failedCount = 0L;
+    }
+}
@@ -0,0 +1,7 @@
+package com.laser.ordermanage.common.cache.redis.repository;
+
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ChunkedUploadRedisRepository extends CrudRepository<ChunkedUpload, String> {
+}
@@ -0,0 +1,7 @@
+package com.laser.ordermanage.common.cache.redis.repository;
+
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
+import org.springframework.data.repository.CrudRepository;
+
+public interface FileUploadRedisRepository extends CrudRepository<FileUpload, String> {
+}
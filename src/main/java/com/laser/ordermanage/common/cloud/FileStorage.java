@@ -0,0 +1,58 @@
+package com.laser.ordermanage.common.cloud;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 저장소
+ * - 업로드 시 "{folder}/{UUID}-{fileName}" key 로 저장하고 파일 URL (FileEntity.url) 반환, 이후 조회, 삭제는 파일 URL 로 요청
+ * - 프로필로 구현 선택 (local-storage 프로필은 로컬 파일 시스템, 그 외는 AWS S3)
+ */
+public interface FileStorage {
+
+    // 한 번의 여러 파일 삭제 요청으로 삭제할 수 있는 최대 파일 수
+    int MAX_DELETE_OBJECT_COUNT = 1000;
+
+    String upload(String folder, MultipartFile multipartFile, String fileName);
+
+    String upload(String folder, byte[] content, String fileName, String contentType);
+
+    CompletableFuture<String> uploadAsync(String folder, MultipartFile multipartFile, String fileName);
+
+    CompletableFuture<String> uploadAsync(String folder, byte[] content, String fileName, String contentType);
+
+    PresignedUpload createPresignedUpload(String folder, String fileName, long fileSize, String fileHash, Duration expiration);
+
+    Optional<StoredObjectMetadata> findMetadata(String fileUrl);
+
+    byte[] downloadRange(String fileUrl, int length);
+
+    StorageMultipartUpload createMultipartUpload(String folder, String fileName);
+
+    void uploadPart(StorageMultipartUpload multipartUpload, int partNumber, InputStream inputStream, long size);
+
+    List<StorageMultipartUploadPart> findPartList(StorageMultipartUpload multipartUpload);
+
+    void completeMultipartUpload(StorageMultipartUpload multipartUpload, List<StorageMultipartUploadPart> partList);
+
+    void abortMultipartUpload(StorageMultipartUpload multipartUpload);
+
+    // initiatedBefore 전에 생성되어 완료되거나 취소되지 않은 멀티파트 업로드를 모두 취소하고, 취소한 수 반환
+    int abortMultipartUploadInitiatedBefore(Instant initiatedBefore);
+
+    InputStream download(String fileUrl);
+
+    CompletableFuture<InputStream> downloadAsync(String fileUrl);
+
+    void delete(String fileUrl);
+
+    StoredObjectList listObjects(String startAfter, int maxKeys);
+
+    List<String> deleteAll(List<String> fileUrlList);
+}
@@ -0,0 +1,13 @@
+package com.laser.ordermanage.common.cloud;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 직접 업로드 URL 과 업로드 요청에 포함해야 하는 헤더, 업로드 후 파일 URL
+public record PresignedUpload(
+        String uploadUrl,
+        Map<String, String> uploadHeaderMap,
+        String fileUrl,
+        Instant expiration
+) {
+}
@@ -0,0 +1,8 @@
+package com.laser.ordermanage.common.cloud;
+
+// 저장소의 멀티파트 업로드 ID 와 업로드 완료 후 파일 URL
+public record StorageMultipartUpload(
+        String uploadId,
+        String fileUrl
+) {
+}
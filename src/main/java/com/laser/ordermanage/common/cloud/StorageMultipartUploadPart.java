@@ -0,0 +1,9 @@
+package com.laser.ordermanage.common.cloud;
+
+// 멀티파트 업로드에 업로드된 part 의 번호, 크기와 ETag (로컬 저장소는 ETag 없음)
+public record StorageMultipartUploadPart(
+        int partNumber,
+        long size,
+        String etag
+) {
+}
@@ -0,0 +1,11 @@
+package com.laser.ordermanage.common.cloud;
+
+import java.time.Instant;
+
+// 저장소에 있는 파일의 key, 업로드 시 반환한 것과 같은 형식의 URL, 마지막 수정 시각
+public record StoredObject(
+        String key,
+        String fileUrl,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,10 @@
+package com.laser.ordermanage.common.cloud;
+
+import java.util.List;
+
+// key 순서로 조회한 파일 목록과 다음 목록 존재 여부
+public record StoredObjectList(
+        List<StoredObject> objectList,
+        boolean hasNext
+) {
+}
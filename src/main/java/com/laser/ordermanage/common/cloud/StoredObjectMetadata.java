@@ -0,0 +1,8 @@
+package com.laser.ordermanage.common.cloud;
+
+// checksumSha256 은 Base64 문자열 (checksum 없이 업로드된 파일은 null)
+public record StoredObjectMetadata(
+        Long size,
+        String checksumSha256
+) {
+}
@@ -3,12 +3,20 @@ package com.laser.ordermanage.common.cloud.aws;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.time.Duration;
+
+// local-storage 프로필에서는 로컬 파일 시스템 저장소를 사용하므로 AWS S3 클라이언트를 생성하지 않음
+@Profile("!local-storage")
 @Configuration
 public class S3Config {
 
@@ -31,4 +39,25 @@ public class S3Config {
         return S3Client.builder().region(Region.of(region)).credentialsProvider(StaticCredentialsProvider.create(awsCredentials)).build();
     }
 
+    // 모든 비동기 업로드가 하나의 연결 풀 (최대 동시 연결 수 제한) 을 공유
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            AwsCredentials awsCredentials,
+            @Value("${cloud.aws.s3.async.max-concurrency:50}") int maxConcurrency,
+            @Value("${cloud.aws.s3.async.connection-acquisition-timeout-seconds:30}") long connectionAcquisitionTimeoutSeconds) {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(connectionAcquisitionTimeoutSeconds)))
+                .build();
+    }
+
+    // 클라이언트가 서버를 거치지 않고 AWS S3 에 직접 업로드하는 URL 생성
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentials awsCredentials) {
+        return S3Presigner.builder().region(Region.of(region)).credentialsProvider(StaticCredentialsProvider.create(awsCredentials)).build();
+    }
+
 }
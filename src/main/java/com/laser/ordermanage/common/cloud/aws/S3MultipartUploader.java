@@ -0,0 +1,177 @@
+package com.laser.ordermanage.common.cloud.aws;
+
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 큰 파일의 AWS S3 멀티파트 업로드
+ * - 파일을 part 크기 단위로 읽으면서 part 를 동시에 업로드 (동시 업로드 수 제한)
+ * - 메모리에는 최대 (동시 업로드 수 + 1) 개의 part 만 유지
+ * - 실패한 part 는 해당 part 만 다시 업로드하고, 재시도 후에도 실패하면 멀티파트 업로드 취소 (업로드된 part 삭제)
+ */
+@Slf4j
+@Profile("!local-storage")
+@Component
+public class S3MultipartUploader {
+
+    // AWS S3 멀티파트 업로드의 최소 part 크기 (마지막 part 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final long threshold;
+    private final int partSize;
+    private final int parallelism;
+    private final int partRetryCount;
+
+    public S3MultipartUploader(
+            S3AsyncClient s3AsyncClient,
+            @Value("${cloud.aws.s3.bucket}") String bucketName,
+            @Value("${cloud.aws.s3.multipart.threshold-mb:16}") long thresholdMb,
+            @Value("${cloud.aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+            @Value("${cloud.aws.s3.multipart.parallelism:4}") int parallelism,
+            @Value("${cloud.aws.s3.multipart.part-retry-count:2}") int partRetryCount) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = bucketName;
+        this.threshold = thresholdMb * 1024 * 1024;
+        this.partSize = Math.max(partSizeMb * 1024 * 1024, MIN_PART_SIZE);
+        this.parallelism = Math.max(parallelism, 1);
+        this.partRetryCount = Math.max(partRetryCount, 0);
+    }
+
+    public boolean supports(long size) {
+        return size >= threshold;
+    }
+
+    /**
+     * InputStream 을 key 에 멀티파트 업로드 (업로드가 끝날 때까지 대기)
+     * - 실패 시 UNABLE_TO_AWS_S3_UPLOAD 예외 발생
+     */
+    public void upload(InputStream inputStream, String key) {
+        String uploadId;
+        try {
+            uploadId = s3AsyncClient.createMultipartUpload(
+                    CreateMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .build()
+            ).join().uploadId();
+        } catch (RuntimeException e) {
+            log.warn("Unable to create multipart upload of {}", key, e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+
+        Semaphore semaphore = new Semaphore(parallelism);
+        List<CompletableFuture<CompletedPart>> partFutureList = new ArrayList<>();
+        try (ReadableByteChannel channel = Channels.newChannel(inputStream)) {
+            int partNumber = 1;
+            ByteBuffer part = readPart(channel);
+            while (part.hasRemaining()) {
+                semaphore.acquire();
+                throwIfAnyFailed(partFutureList);
+
+                partFutureList.add(uploadPart(key, uploadId, partNumber++, part, partRetryCount)
+                        .whenComplete((completedPart, e) -> semaphore.release()));
+
+                part = readPart(channel);
+            }
+
+            List<CompletedPart> completedPartList = partFutureList.stream().map(CompletableFuture::join).toList();
+
+            s3AsyncClient.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedPartList).build())
+                            .build()
+            ).join();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("Unable to upload {} with multipart upload {}", key, uploadId, e);
+            abort(key, uploadId, partFutureList);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+    }
+
+    private ByteBuffer readPart(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(partSize);
+        while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            // part 크기만큼 채우거나 파일 끝까지 읽기
+        }
+
+        return buffer.flip();
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, ByteBuffer part, int remainingRetryCount) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) part.remaining())
+                .build();
+
+        // 재시도할 때 처음부터 다시 읽을 수 있도록 part 의 위치는 변경하지 않음
+        return s3AsyncClient.uploadPart(uploadPartRequest, AsyncRequestBody.fromByteBuffer(part.duplicate()))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build())
+                .exceptionallyCompose(e -> {
+                    if (remainingRetryCount <= 0) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                    log.warn("Retry part {} of {} ({} retries left)", partNumber, key, remainingRetryCount - 1, e);
+                    return uploadPart(key, uploadId, partNumber, part, remainingRetryCount - 1);
+                });
+    }
+
+    private void throwIfAnyFailed(List<CompletableFuture<CompletedPart>> partFutureList) {
+        for (CompletableFuture<CompletedPart> partFuture : partFutureList) {
+            if (partFuture.isCompletedExceptionally()) {
+                partFuture.join();
+            }
+        }
+    }
+
+    // 업로드 중인 part 가 끝난 후에 취소해야 업로드된 part 가 남지 않음
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> partFutureList) {
+        try {
+            CompletableFuture.allOf(partFutureList.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+            s3AsyncClient.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .build()
+            ).join();
+        } catch (RuntimeException e) {
+            log.error("Unable to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+}
@@ -1,34 +1,103 @@
 package com.laser.ordermanage.common.cloud.aws;
 
+import com.laser.ordermanage.common.cloud.FileStorage;
+import com.laser.ordermanage.common.cloud.PresignedUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUploadPart;
+import com.laser.ordermanage.common.cloud.StoredObject;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.cloud.StoredObjectMetadata;
 import com.laser.ordermanage.common.exception.CommonErrorCode;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
+@Profile("!local-storage")
 @Service
-public class S3Service {
+public class S3Service implements FileStorage {
 
     private final S3Client s3Client;
 
-    public S3Service(S3Client s3Client) {
+    private final S3AsyncClient s3AsyncClient;
+
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+
+    private final S3MultipartUploader s3MultipartUploader;
+
+    private final S3Presigner s3Presigner;
+
+    public S3Service(S3Client s3Client, S3AsyncClient s3AsyncClient, ThreadPoolTaskExecutor s3UploadExecutor, S3MultipartUploader s3MultipartUploader, S3Presigner s3Presigner) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.s3MultipartUploader = s3MultipartUploader;
+        this.s3Presigner = s3Presigner;
     }
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Override
     public String upload(String folder, MultipartFile multipartFile, String fileName) {
         String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
+        if (s3MultipartUploader.supports(multipartFile.getSize())) {
+            return multipartUpload(multipartFile, key);
+        }
+
         try {
             RequestBody requestBody = RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize());
             return putObject(requestBody, key);
@@ -37,17 +106,383 @@ public class S3Service {
         }
     }
 
-    public String upload(String folder, File file, String fileName) {
+    // 메모리에 있는 파일 (썸네일 등) 업로드
+    @Override
+    public String upload(String folder, byte[] content, String fileName, String contentType) {
         String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
         try {
-            RequestBody requestBody = RequestBody.fromFile(file);
-            String fileUrl = putObject(requestBody, key);
-            return fileUrl;
+            s3Client.putObject(createPutObjectRequest(key, contentType), RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+
+        return findUploadKeyUrl(key).toString();
+    }
+
+    /**
+     * MultipartFile 비동기 업로드
+     * - 업로드가 완료되면 파일 URL 로 완료되고, 실패하면 UNABLE_TO_AWS_S3_UPLOAD 예외로 완료
+     * - MultipartFile 은 요청이 끝나면 삭제되므로 요청 처리 중에 완료를 기다려야 함
+     * - 큰 파일은 S3 업로드 스레드 풀에서 멀티파트 업로드
+     */
+    @Override
+    public CompletableFuture<String> uploadAsync(String folder, MultipartFile multipartFile, String fileName) {
+        String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
+        if (s3MultipartUploader.supports(multipartFile.getSize())) {
+            try {
+                return CompletableFuture.supplyAsync(() -> multipartUpload(multipartFile, key), s3UploadExecutor);
+            } catch (RejectedExecutionException e) {
+                log.warn("S3 upload queue is full, reject upload of {}", key);
+                return CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.FILE_UPLOAD_BUSY));
+            }
+        }
+
+        InputStream inputStream;
+        try {
+            inputStream = multipartFile.getInputStream();
         } catch (IOException e) {
+            return CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD));
+        }
+
+        AsyncRequestBody requestBody = AsyncRequestBody.fromInputStream(inputStream, multipartFile.getSize(), s3UploadExecutor.getThreadPoolExecutor());
+        return putObjectAsync(requestBody, key)
+                .whenComplete((fileUrl, e) -> closeQuietly(inputStream));
+    }
+
+    @Override
+    public CompletableFuture<String> uploadAsync(String folder, byte[] content, String fileName, String contentType) {
+        String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
+        return putObjectAsync(createPutObjectRequest(key, contentType), AsyncRequestBody.fromBytes(content), key);
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 업로드하는 PUT URL 생성
+     * - folder 아래의 새 key 에만 업로드 가능
+     * - 파일 크기와 SHA-256 해시를 서명에 포함하여, 다른 파일은 AWS S3 가 업로드 시 거부
+     */
+    @Override
+    public PresignedUpload createPresignedUpload(String folder, String fileName, long fileSize, String fileHash, Duration expiration) {
+        String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
+        try {
+            PutObjectRequest objectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentLength(fileSize)
+                    .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(fileHash)))
+                    .build();
+
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(
+                    PutObjectPresignRequest.builder()
+                            .signatureDuration(expiration)
+                            .putObjectRequest(objectRequest)
+                            .build()
+            );
+
+            // host 헤더는 클라이언트가 URL 로 설정
+            Map<String, String> headerMap = new HashMap<>();
+            presignedRequest.signedHeaders().forEach((name, valueList) -> {
+                if (!"host".equalsIgnoreCase(name)) {
+                    headerMap.put(name, String.join(",", valueList));
+                }
+            });
+
+            return new PresignedUpload(presignedRequest.url().toString(), headerMap, findUploadKeyUrl(key).toString(), presignedRequest.expiration());
+        } catch (SdkException | IllegalArgumentException e) {
             throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
         }
     }
 
+    // 파일의 크기와 SHA-256 checksum 조회 (파일이 없으면 Optional.empty())
+    @Override
+    public Optional<StoredObjectMetadata> findMetadata(String fileUrl) {
+        try {
+            HeadObjectRequest objectRequest = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(fileUrl))
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build();
+
+            HeadObjectResponse objectResponse = s3Client.headObject(objectRequest);
+            return Optional.of(new StoredObjectMetadata(objectResponse.contentLength(), objectResponse.checksumSHA256()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD);
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD);
+        }
+    }
+
+    // 파일의 앞부분만 다운로드 (파일 형식 확인용)
+    @Override
+    public byte[] downloadRange(String fileUrl, int length) {
+        try {
+            GetObjectRequest objectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(fileUrl))
+                    .range("bytes=0-" + (length - 1))
+                    .build();
+
+            return s3Client.getObjectAsBytes(objectRequest).asByteArray();
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD);
+        }
+    }
+
+    /**
+     * 여러 요청에 나누어 업로드하는 멀티파트 업로드 생성
+     * - part 는 uploadPart 로 업로드하고, 업로드된 part 목록은 AWS S3 에서 조회 (같은 part 를 다시 업로드하면 덮어씀)
+     */
+    @Override
+    public StorageMultipartUpload createMultipartUpload(String folder, String fileName) {
+        String key = folder + "/" + UUID.randomUUID() + "-" + fileName;
+        try {
+            String uploadId = s3Client.createMultipartUpload(
+                    CreateMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .build()
+            ).uploadId();
+
+            return new StorageMultipartUpload(uploadId, findUploadKeyUrl(key).toString());
+        } catch (SdkException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+    }
+
+    @Override
+    public void uploadPart(StorageMultipartUpload multipartUpload, int partNumber, InputStream inputStream, long size) {
+        try {
+            UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(multipartUpload.fileUrl()))
+                    .uploadId(multipartUpload.uploadId())
+                    .partNumber(partNumber)
+                    .contentLength(size)
+                    .build();
+
+            s3Client.uploadPart(uploadPartRequest, RequestBody.fromInputStream(inputStream, size));
+        } catch (SdkException | IllegalArgumentException e) {
+            log.warn("Unable to upload part {} of {}", partNumber, multipartUpload.fileUrl(), e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+    }
+
+    // 업로드된 part 목록 (part 번호 순)
+    @Override
+    public List<StorageMultipartUploadPart> findPartList(StorageMultipartUpload multipartUpload) {
+        try {
+            ListPartsRequest listPartsRequest = ListPartsRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(multipartUpload.fileUrl()))
+                    .uploadId(multipartUpload.uploadId())
+                    .build();
+
+            return s3Client.listPartsPaginator(listPartsRequest).parts().stream()
+                    .map(part -> new StorageMultipartUploadPart(part.partNumber(), part.size(), part.eTag()))
+                    .toList();
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(StorageMultipartUpload multipartUpload, List<StorageMultipartUploadPart> partList) {
+        List<CompletedPart> completedPartList = partList.stream()
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.partNumber())
+                        .eTag(part.etag())
+                        .build())
+                .toList();
+
+        try {
+            s3Client.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(findKeyOfUrl(multipartUpload.fileUrl()))
+                            .uploadId(multipartUpload.uploadId())
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedPartList).build())
+                            .build()
+            );
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+    }
+
+    // 완료하지 않을 멀티파트 업로드 취소 (업로드된 part 삭제)
+    @Override
+    public void abortMultipartUpload(StorageMultipartUpload multipartUpload) {
+        try {
+            s3Client.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(findKeyOfUrl(multipartUpload.fileUrl()))
+                            .uploadId(multipartUpload.uploadId())
+                            .build()
+            );
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DELETE);
+        }
+    }
+
+    /**
+     * 오래된 멀티파트 업로드 취소 (업로드 정보가 만료되어 완료할 수 없는 멀티파트 업로드의 part 삭제)
+     * - 버킷의 진행 중인 멀티파트 업로드 목록을 조회하여 initiatedBefore 전에 생성된 업로드만 취소
+     * - 취소하지 못한 업로드는 다음 실행에서 다시 취소
+     */
+    @Override
+    public int abortMultipartUploadInitiatedBefore(Instant initiatedBefore) {
+        List<MultipartUpload> expiredUploadList;
+        try {
+            expiredUploadList = s3Client.listMultipartUploadsPaginator(
+                    ListMultipartUploadsRequest.builder()
+                            .bucket(bucketName)
+                            .build()
+            ).uploads().stream()
+                    .filter(upload -> upload.initiated().isBefore(initiatedBefore))
+                    .toList();
+        } catch (SdkException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_LIST);
+        }
+
+        int abortedCount = 0;
+        for (MultipartUpload upload : expiredUploadList) {
+            try {
+                s3Client.abortMultipartUpload(
+                        AbortMultipartUploadRequest.builder()
+                                .bucket(bucketName)
+                                .key(upload.key())
+                                .uploadId(upload.uploadId())
+                                .build()
+                );
+                abortedCount++;
+            } catch (SdkException e) {
+                log.warn("Unable to abort multipart upload {} of {}", upload.uploadId(), upload.key(), e);
+            }
+        }
+        return abortedCount;
+    }
+
+    @Override
+    public InputStream download(String fileUrl) {
+        try {
+            GetObjectRequest objectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(fileUrl))
+                    .build();
+
+            return s3Client.getObject(objectRequest);
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD);
+        }
+    }
+
+    /**
+     * 파일 비동기 다운로드
+     * - 응답 헤더를 받으면 완료되고, 본문은 반환한 InputStream 을 읽는 만큼만 받음 (파일 전체를 메모리에 올리지 않음)
+     * - 반환한 InputStream 을 닫지 않으면 연결이 반환되지 않으므로 반드시 닫아야 함
+     */
+    @Override
+    public CompletableFuture<InputStream> downloadAsync(String fileUrl) {
+        GetObjectRequest objectRequest;
+        try {
+            objectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(fileUrl))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD));
+        }
+
+        return s3AsyncClient.getObject(objectRequest, AsyncResponseTransformer.toBlockingInputStream())
+                .handle((responseInputStream, e) -> {
+                    if (e != null) {
+                        log.warn("Unable to download {} from AWS S3", fileUrl, e);
+                        throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD);
+                    }
+                    return responseInputStream;
+                });
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        try {
+            DeleteObjectRequest objectRequest = DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(findKeyOfUrl(fileUrl))
+                    .build();
+
+            s3Client.deleteObject(objectRequest);
+        } catch (SdkException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DELETE);
+        }
+    }
+
+    /**
+     * 파일 목록을 key 순서로 조회
+     * - startAfter 다음 key 부터 최대 maxKeys 개 조회 (startAfter 가 null 이면 처음부터)
+     * - 버킷 전체를 한 번에 조회하지 않도록, 호출하는 쪽에서 마지막 key 를 저장하여 이어서 조회
+     */
+    @Override
+    public StoredObjectList listObjects(String startAfter, int maxKeys) {
+        try {
+            ListObjectsV2Response response = s3Client.listObjectsV2(
+                    ListObjectsV2Request.builder()
+                            .bucket(bucketName)
+                            .startAfter(startAfter)
+                            .maxKeys(maxKeys)
+                            .build()
+            );
+
+            List<StoredObject> objectList = response.contents().stream()
+                    .map(object -> new StoredObject(object.key(), findUploadKeyUrl(object.key()).toString(), object.lastModified()))
+                    .toList();
+
+            return new StoredObjectList(objectList, Boolean.TRUE.equals(response.isTruncated()));
+        } catch (SdkException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_LIST);
+        }
+    }
+
+    /**
+     * 여러 파일을 DeleteObjects 요청으로 삭제 (요청 하나에 최대 1000 개)
+     * - 삭제하지 못한 파일의 URL 목록 반환 (요청 자체가 실패하면 UNABLE_TO_AWS_S3_DELETE 예외)
+     */
+    @Override
+    public List<String> deleteAll(List<String> fileUrlList) {
+        List<String> failedFileUrlList = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < fileUrlList.size(); fromIndex += MAX_DELETE_OBJECT_COUNT) {
+            List<String> batchFileUrlList = fileUrlList.subList(fromIndex, Math.min(fromIndex + MAX_DELETE_OBJECT_COUNT, fileUrlList.size()));
+
+            Map<String, String> fileUrlByKey = new HashMap<>();
+            try {
+                batchFileUrlList.forEach(fileUrl -> fileUrlByKey.put(findKeyOfUrl(fileUrl), fileUrl));
+
+                List<ObjectIdentifier> objectIdentifierList = fileUrlByKey.keySet().stream()
+                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                        .toList();
+
+                // quiet 모드에서는 삭제하지 못한 파일만 응답
+                DeleteObjectsResponse response = s3Client.deleteObjects(
+                        DeleteObjectsRequest.builder()
+                                .bucket(bucketName)
+                                .delete(Delete.builder().objects(objectIdentifierList).quiet(true).build())
+                                .build()
+                );
+
+                response.errors().forEach(error -> {
+                    log.warn("Unable to delete {} from AWS S3 ({})", error.key(), error.code());
+                    failedFileUrlList.add(fileUrlByKey.get(error.key()));
+                });
+            } catch (SdkException | IllegalArgumentException e) {
+                throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DELETE);
+            }
+        }
+
+        return failedFileUrlList;
+    }
+
     private String putObject(RequestBody requestBody, String key) throws IOException {
         PutObjectRequest objectRequest = createPutObjectRequest(key);
         s3Client.putObject(objectRequest, requestBody);
@@ -55,6 +490,53 @@ public class S3Service {
         return findUploadKeyUrl(key).toString();
     }
 
+    private String multipartUpload(MultipartFile multipartFile, String key) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            s3MultipartUploader.upload(inputStream, key);
+        } catch (IOException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        }
+
+        return findUploadKeyUrl(key).toString();
+    }
+
+    private CompletableFuture<String> putObjectAsync(AsyncRequestBody requestBody, String key) {
+        return putObjectAsync(createPutObjectRequest(key), requestBody, key);
+    }
+
+    private CompletableFuture<String> putObjectAsync(PutObjectRequest objectRequest, AsyncRequestBody requestBody, String key) {
+        return s3AsyncClient.putObject(objectRequest, requestBody)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        // 업로드 스레드 풀의 대기열이 가득 차서 InputStream 읽기 작업이 거절된 경우
+                        if (isRejected(e)) {
+                            log.warn("S3 upload queue is full, reject upload of {}", key);
+                            throw new CustomCommonException(CommonErrorCode.FILE_UPLOAD_BUSY);
+                        }
+                        log.warn("Unable to upload {} to AWS S3", key, e);
+                        throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+                    }
+                    return findUploadKeyUrl(key).toString();
+                });
+    }
+
+    private static boolean isRejected(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("Unable to close upload stream", e);
+        }
+    }
+
     private PutObjectRequest createPutObjectRequest(String key) {
         return PutObjectRequest.builder()
                 .bucket(bucketName)
@@ -62,6 +544,14 @@ public class S3Service {
                 .build();
     }
 
+    private PutObjectRequest createPutObjectRequest(String key, String contentType) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+    }
+
 
     private URL findUploadKeyUrl(String key) {
         GetUrlRequest getUrlRequest = GetUrlRequest.builder()
@@ -71,4 +561,9 @@ public class S3Service {
 
         return s3Client.utilities().getUrl(getUrlRequest);
     }
+
+    // 업로드 시 반환한 URL 의 경로 (디코딩된 경로에서 맨 앞의 "/" 제외) 가 key
+    private String findKeyOfUrl(String fileUrl) {
+        return URI.create(fileUrl).getPath().substring(1);
+    }
 }
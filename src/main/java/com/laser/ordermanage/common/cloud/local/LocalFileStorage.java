@@ -0,0 +1,523 @@
+package com.laser.ordermanage.common.cloud.local;
+
+import com.laser.ordermanage.common.cloud.FileStorage;
+import com.laser.ordermanage.common.cloud.PresignedUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUploadPart;
+import com.laser.ordermanage.common.cloud.StoredObject;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.cloud.StoredObjectMetadata;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 로컬 파일 시스템 저장소 (local-storage 프로필, AWS S3 없이 부하 테스트 또는 사내 서버에서 실행)
+ * - root-path 아래에 key 경로로 파일을 저장하고, 파일 URL 은 "{base-url}/{key}" (LocalFileStorageAPI 에서 다운로드)
+ * - 업로드는 요청 본문을 FileChannel.transferFrom 으로 임시 파일에 쓰고, 완료되면 key 경로로 이동 (쓰는 중인 파일은 조회되지 않음)
+ * - 직접 업로드 URL 은 key, 파일 크기, 만료 시각의 HMAC 서명으로 검증
+ * - 멀티파트 업로드의 part 는 ".multipart/{uploadId}/{partNumber}" 에 저장하고, 완료 시 FileChannel.transferTo 로 합침
+ */
+@Slf4j
+@Profile("local-storage")
+@Service
+public class LocalFileStorage implements FileStorage {
+
+    private static final String MULTIPART_UPLOAD_FOLDER = ".multipart";
+    private static final String UPLOADING_FILE_SUFFIX = ".uploading";
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Path rootPath;
+
+    private final String baseUrl;
+
+    private final byte[] signingKey;
+
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+
+    public LocalFileStorage(
+            @Value("${storage.local.root-path:./storage}") String rootPath,
+            @Value("${storage.local.base-url:http://localhost:8080/storage}") String baseUrl,
+            @Value("${storage.local.signing-key:}") String signingKey,
+            ThreadPoolTaskExecutor s3UploadExecutor) throws IOException {
+        this.rootPath = Files.createDirectories(Paths.get(rootPath)).toRealPath();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        // 서명 키를 설정하지 않으면 실행마다 새로 생성 (재시작 전에 만든 직접 업로드 URL 은 사용할 수 없음)
+        this.signingKey = signingKey.isEmpty() ? createSigningKey() : signingKey.getBytes(StandardCharsets.UTF_8);
+        this.s3UploadExecutor = s3UploadExecutor;
+    }
+
+    @Override
+    public String upload(String folder, MultipartFile multipartFile, String fileName) {
+        String key = createKey(folder, fileName);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            write(findPath(key), Channels.newChannel(inputStream), multipartFile.getSize());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to upload {} to local storage", key, e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+
+        return findUrlOfKey(key);
+    }
+
+    @Override
+    public String upload(String folder, byte[] content, String fileName, String contentType) {
+        String key = createKey(folder, fileName);
+        try {
+            write(findPath(key), Channels.newChannel(new ByteArrayInputStream(content)), content.length);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to upload {} to local storage", key, e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+
+        return findUrlOfKey(key);
+    }
+
+    @Override
+    public CompletableFuture<String> uploadAsync(String folder, MultipartFile multipartFile, String fileName) {
+        return supplyUploadAsync(() -> upload(folder, multipartFile, fileName));
+    }
+
+    @Override
+    public CompletableFuture<String> uploadAsync(String folder, byte[] content, String fileName, String contentType) {
+        return supplyUploadAsync(() -> upload(folder, content, fileName, contentType));
+    }
+
+    // 업로드 스레드 풀의 대기열이 가득 차면 요청 거절
+    private CompletableFuture<String> supplyUploadAsync(Supplier<String> upload) {
+        try {
+            return CompletableFuture.supplyAsync(upload, s3UploadExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.FILE_UPLOAD_BUSY));
+        }
+    }
+
+    /**
+     * 직접 업로드 URL 생성
+     * - "{파일 URL}?size={파일 크기}&expires={만료 시각}&signature={서명}" 으로 PUT 요청하면 LocalFileStorageAPI 에서 서명 확인 후 저장
+     * - 파일 해시는 업로드 완료 확인 시 검증
+     */
+    @Override
+    public PresignedUpload createPresignedUpload(String folder, String fileName, long fileSize, String fileHash, Duration expiration) {
+        String key = createKey(folder, fileName);
+        Instant expiredAt = Instant.now().plus(expiration);
+        String fileUrl = findUrlOfKey(key);
+
+        String uploadUrl = UriComponentsBuilder.fromUriString(fileUrl)
+                .queryParam("size", fileSize)
+                .queryParam("expires", expiredAt.getEpochSecond())
+                .queryParam("signature", sign(key, fileSize, expiredAt.getEpochSecond()))
+                .build()
+                .toUriString();
+
+        return new PresignedUpload(uploadUrl, Map.of(), fileUrl, expiredAt);
+    }
+
+    /**
+     * 직접 업로드 URL 로 요청한 파일 저장
+     * - 서명이 올바르지 않거나 만료되었으면 UNAUTHORIZED 예외, 요청 본문 크기가 서명한 파일 크기와 다르면 INVALID_UPLOADED_FILE 예외
+     */
+    public void uploadPresigned(String key, long fileSize, long expires, String signature, InputStream inputStream, long contentLength) {
+        if (Instant.now().getEpochSecond() > expires
+                || !MessageDigest.isEqual(sign(key, fileSize, expires).getBytes(StandardCharsets.US_ASCII), signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new CustomCommonException(CommonErrorCode.UNAUTHORIZED);
+        }
+
+        if (contentLength != fileSize) {
+            throw new CustomCommonException(CommonErrorCode.INVALID_UPLOADED_FILE);
+        }
+
+        try {
+            write(findPath(key), Channels.newChannel(inputStream), fileSize);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to upload {} to local storage", key, e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+    }
+
+    // 파일의 크기와 SHA-256 checksum (Base64) 조회, checksum 은 파일을 읽어서 계산
+    @Override
+    public Optional<StoredObjectMetadata> findMetadata(String fileUrl) {
+        try (FileChannel fileChannel = FileChannel.open(findPathOfUrl(fileUrl), StandardOpenOption.READ)) {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (fileChannel.read(buffer) != -1) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+
+            return Optional.of(new StoredObjectMetadata(fileChannel.size(), Base64.getEncoder().encodeToString(messageDigest.digest())));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_DOWNLOAD);
+        }
+    }
+
+    @Override
+    public byte[] downloadRange(String fileUrl, int length) {
+        try (FileChannel fileChannel = FileChannel.open(findPathOfUrl(fileUrl), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, fileChannel.size()));
+            while (buffer.hasRemaining() && fileChannel.read(buffer) != -1) {
+                // 요청한 길이 또는 파일 끝까지 읽음
+            }
+
+            return buffer.array();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_DOWNLOAD);
+        }
+    }
+
+    @Override
+    public StorageMultipartUpload createMultipartUpload(String folder, String fileName) {
+        String key = createKey(folder, fileName);
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(findMultipartUploadPath(uploadId));
+        } catch (IOException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+
+        return new StorageMultipartUpload(uploadId, findUrlOfKey(key));
+    }
+
+    @Override
+    public void uploadPart(StorageMultipartUpload multipartUpload, int partNumber, InputStream inputStream, long size) {
+        try {
+            Path multipartUploadPath = findMultipartUploadPath(multipartUpload.uploadId());
+            if (!Files.isDirectory(multipartUploadPath)) {
+                throw new NoSuchFileException(multipartUploadPath.toString());
+            }
+
+            write(multipartUploadPath.resolve(String.valueOf(partNumber)), Channels.newChannel(inputStream), size);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to upload part {} of {}", partNumber, multipartUpload.fileUrl(), e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+    }
+
+    // 업로드된 part 목록 (part 번호 순)
+    @Override
+    public List<StorageMultipartUploadPart> findPartList(StorageMultipartUpload multipartUpload) {
+        try (Stream<Path> partPathStream = Files.list(findMultipartUploadPath(multipartUpload.uploadId()))) {
+            return partPathStream
+                    .filter(partPath -> partPath.getFileName().toString().chars().allMatch(Character::isDigit))
+                    .map(partPath -> new StorageMultipartUploadPart(Integer.parseInt(partPath.getFileName().toString()), findSize(partPath), null))
+                    .sorted(Comparator.comparingInt(StorageMultipartUploadPart::partNumber))
+                    .toList();
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 완료
+     * - part 파일을 순서대로 FileChannel.transferTo 로 합쳐서 (파일 시스템 간 복사, 애플리케이션 메모리를 거치지 않음) key 경로로 이동하고 part 삭제
+     */
+    @Override
+    public void completeMultipartUpload(StorageMultipartUpload multipartUpload, List<StorageMultipartUploadPart> partList) {
+        try {
+            Path multipartUploadPath = findMultipartUploadPath(multipartUpload.uploadId());
+            Path path = findPathOfUrl(multipartUpload.fileUrl());
+            Path uploadingPath = createUploadingPath(path);
+            try (FileChannel fileChannel = FileChannel.open(uploadingPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (StorageMultipartUploadPart part : partList) {
+                    try (FileChannel partChannel = FileChannel.open(multipartUploadPath.resolve(String.valueOf(part.partNumber())), StandardOpenOption.READ)) {
+                        long position = 0;
+                        long size = partChannel.size();
+                        while (position < size) {
+                            position += partChannel.transferTo(position, size - position, fileChannel);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(uploadingPath);
+                throw e;
+            }
+
+            Files.move(uploadingPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteDirectory(multipartUploadPath);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to complete multipart upload of {}", multipartUpload.fileUrl(), e);
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_UPLOAD);
+        }
+    }
+
+    // 완료하지 않을 멀티파트 업로드 취소 (업로드된 part 삭제)
+    @Override
+    public void abortMultipartUpload(StorageMultipartUpload multipartUpload) {
+        try {
+            deleteDirectory(findMultipartUploadPath(multipartUpload.uploadId()));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_DELETE);
+        }
+    }
+
+    // 마지막 part 업로드 (폴더 수정 시각) 가 initiatedBefore 전인 멀티파트 업로드 취소
+    @Override
+    public int abortMultipartUploadInitiatedBefore(Instant initiatedBefore) {
+        Path multipartRootPath = rootPath.resolve(MULTIPART_UPLOAD_FOLDER);
+        if (!Files.isDirectory(multipartRootPath)) {
+            return 0;
+        }
+
+        List<Path> expiredUploadPathList;
+        try (Stream<Path> uploadPathStream = Files.list(multipartRootPath)) {
+            expiredUploadPathList = uploadPathStream
+                    .filter(uploadPath -> isModifiedBefore(uploadPath, initiatedBefore))
+                    .toList();
+        } catch (IOException | UncheckedIOException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_LIST);
+        }
+
+        int abortedCount = 0;
+        for (Path uploadPath : expiredUploadPathList) {
+            try {
+                deleteDirectory(uploadPath);
+                abortedCount++;
+            } catch (IOException e) {
+                log.warn("Unable to abort multipart upload {}", uploadPath, e);
+            }
+        }
+        return abortedCount;
+    }
+
+    @Override
+    public InputStream download(String fileUrl) {
+        try {
+            return Files.newInputStream(findPathOfUrl(fileUrl));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_DOWNLOAD);
+        }
+    }
+
+    // 로컬 파일은 바로 열 수 있으므로 열린 InputStream 으로 완료
+    @Override
+    public CompletableFuture<InputStream> downloadAsync(String fileUrl) {
+        try {
+            return CompletableFuture.completedFuture(download(fileUrl));
+        } catch (CustomCommonException e) {
+            log.warn("Unable to download {} from local storage", fileUrl, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        try {
+            Files.deleteIfExists(findPathOfUrl(fileUrl));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_DELETE);
+        }
+    }
+
+    /**
+     * 파일 목록을 key 순서로 조회
+     * - startAfter 다음 key 부터 최대 maxKeys 개 조회 (startAfter 가 null 이면 처음부터)
+     * - 업로드 중인 파일과 멀티파트 업로드의 part 는 제외
+     */
+    @Override
+    public StoredObjectList listObjects(String startAfter, int maxKeys) {
+        try (Stream<Path> pathStream = Files.walk(rootPath)) {
+            List<String> keyList = pathStream
+                    .filter(Files::isRegularFile)
+                    .map(this::findKeyOfPath)
+                    .filter(key -> !key.startsWith(MULTIPART_UPLOAD_FOLDER + "/") && !key.endsWith(UPLOADING_FILE_SUFFIX))
+                    .filter(key -> startAfter == null || key.compareTo(startAfter) > 0)
+                    .sorted()
+                    .limit(maxKeys + 1L)
+                    .toList();
+
+            List<StoredObject> objectList = new ArrayList<>();
+            for (String key : keyList.subList(0, Math.min(maxKeys, keyList.size()))) {
+                objectList.add(new StoredObject(key, findUrlOfKey(key), Files.getLastModifiedTime(findPath(key)).toInstant()));
+            }
+
+            return new StoredObjectList(objectList, keyList.size() > maxKeys);
+        } catch (IOException | UncheckedIOException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_STORAGE_LIST);
+        }
+    }
+
+    // 여러 파일 삭제, 삭제하지 못한 파일 URL 목록 반환
+    @Override
+    public List<String> deleteAll(List<String> fileUrlList) {
+        List<String> failedFileUrlList = new ArrayList<>();
+        for (String fileUrl : fileUrlList) {
+            try {
+                Files.deleteIfExists(findPathOfUrl(fileUrl));
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Unable to delete {} from local storage", fileUrl, e);
+                failedFileUrlList.add(fileUrl);
+            }
+        }
+
+        return failedFileUrlList;
+    }
+
+    // key 의 파일 경로 (저장소 밖의 경로는 IllegalArgumentException)
+    public Path findPath(String key) {
+        Path path = rootPath.resolve(key).normalize();
+        if (!path.startsWith(rootPath) || path.equals(rootPath) || path.startsWith(rootPath.resolve(MULTIPART_UPLOAD_FOLDER))) {
+            throw new IllegalArgumentException("Invalid key " + key);
+        }
+
+        return path;
+    }
+
+    // 파일 URL 의 경로 (디코딩된 경로에서 base-url 경로 제외) 가 key
+    public String findKeyOfUrl(String fileUrl) {
+        String basePath = URI.create(baseUrl).getPath();
+        String path = URI.create(fileUrl).getPath();
+        if (!path.startsWith(basePath + "/")) {
+            throw new IllegalArgumentException("Invalid file url " + fileUrl);
+        }
+
+        return path.substring(basePath.length() + 1);
+    }
+
+    /**
+     * 요청 본문을 임시 파일에 쓰고 완료되면 경로로 이동
+     * - 본문이 파일 크기보다 짧으면 임시 파일을 삭제하고 예외 발생
+     */
+    private void write(Path path, ReadableByteChannel sourceChannel, long size) throws IOException {
+        Path uploadingPath = createUploadingPath(path);
+        try (FileChannel fileChannel = FileChannel.open(uploadingPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            while (position < size) {
+                long transferred = fileChannel.transferFrom(sourceChannel, position, size - position);
+                if (transferred <= 0) {
+                    throw new IOException("Unexpected end of upload stream at " + position + " of " + size);
+                }
+                position += transferred;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(uploadingPath);
+            throw e;
+        }
+
+        Files.move(uploadingPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path createUploadingPath(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path uploadingPath = path.resolveSibling(path.getFileName() + "-" + UUID.randomUUID() + UPLOADING_FILE_SUFFIX);
+        return Files.createFile(uploadingPath);
+    }
+
+    private Path findPathOfUrl(String fileUrl) {
+        return findPath(findKeyOfUrl(fileUrl));
+    }
+
+    private static boolean isModifiedBefore(Path path, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path findMultipartUploadPath(String uploadId) {
+        // uploadId 는 UUID 만 허용 (다른 경로 접근 방지)
+        return rootPath.resolve(MULTIPART_UPLOAD_FOLDER).resolve(UUID.fromString(uploadId).toString());
+    }
+
+    private String findKeyOfPath(Path path) {
+        return StreamSupport.stream(rootPath.relativize(path).spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"));
+    }
+
+    private String findUrlOfKey(String key) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .pathSegment(key.split("/"))
+                .build()
+                .encode()
+                .toUriString();
+    }
+
+    private String createKey(String folder, String fileName) {
+        return folder + "/" + UUID.randomUUID() + "-" + fileName;
+    }
+
+    private String sign(String key, long fileSize, long expires) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(signingKey, SIGNATURE_ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal((key + "\n" + fileSize + "\n" + expires).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] createSigningKey() {
+        byte[] signingKey = new byte[32];
+        new SecureRandom().nextBytes(signingKey);
+        return signingKey;
+    }
+
+    private static long findSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteDirectory(Path directoryPath) throws IOException {
+        if (!Files.exists(directoryPath)) {
+            return;
+        }
+
+        try (Stream<Path> pathStream = Files.walk(directoryPath)) {
+            for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
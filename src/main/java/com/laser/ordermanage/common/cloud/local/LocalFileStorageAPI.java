@@ -0,0 +1,103 @@
+package com.laser.ordermanage.common.cloud.local;
+
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Profile("local-storage")
+@RequiredArgsConstructor
+@RequestMapping("/storage")
+@RestController
+public class LocalFileStorageAPI {
+
+    private static final String PATH_PREFIX = "/storage/";
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorage localFileStorage;
+
+    /**
+     * 로컬 저장소 파일 다운로드
+     * - Tomcat sendfile 을 지원하면 파일 경로만 전달하여 커널에서 소켓으로 바로 전송
+     * - 지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 복사 (응답 스트림은 소켓 채널이 아니므로 커널에서 바로 전송하지 않고 애플리케이션 버퍼를 거쳐 복사)
+     */
+    @GetMapping("/**")
+    public void downloadFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = findPath(request);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomCommonException(CommonErrorCode.NOT_FOUND);
+        }
+
+        long size = Files.size(path);
+        response.setContentType(MediaTypeFactory.getMediaType(path.getFileName().toString()).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, size);
+            return;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Channels.newChannel 은 버퍼에 읽은 후 응답 스트림에 쓰므로 sendfile 과 달리 사용자 공간 복사가 있음
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += fileChannel.transferTo(position, size - position, responseChannel);
+            }
+        }
+    }
+
+    /**
+     * 직접 업로드 URL 로 파일 업로드
+     * - 서명한 key, 파일 크기, 만료 시각 확인 후 요청 본문을 저장
+     */
+    @PutMapping("/**")
+    public ResponseEntity<?> uploadFile(
+            HttpServletRequest request,
+            @RequestParam(value = "size") Long size,
+            @RequestParam(value = "expires") Long expires,
+            @RequestParam(value = "signature") String signature,
+            @RequestHeader(HttpHeaders.CONTENT_LENGTH) Long contentLength,
+            InputStream inputStream) {
+        localFileStorage.uploadPresigned(findKey(request), size, expires, signature, inputStream, contentLength);
+
+        return ResponseEntity.ok().build();
+    }
+
+    private Path findPath(HttpServletRequest request) {
+        try {
+            return localFileStorage.findPath(findKey(request));
+        } catch (IllegalArgumentException e) {
+            throw new CustomCommonException(CommonErrorCode.NOT_FOUND);
+        }
+    }
+
+    private static String findKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(PATH_PREFIX.length()), StandardCharsets.UTF_8);
+    }
+}
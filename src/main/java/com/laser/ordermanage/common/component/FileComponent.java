@@ -1,21 +1,70 @@
 package com.laser.ordermanage.common.component;
 
-import com.laser.ordermanage.common.cloud.aws.S3Service;
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
+import com.laser.ordermanage.common.cache.redis.repository.ChunkedUploadRedisRepository;
+import com.laser.ordermanage.common.cache.redis.repository.FileUploadRedisRepository;
+import com.laser.ordermanage.common.cloud.FileStorage;
+import com.laser.ordermanage.common.cloud.PresignedUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUploadPart;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.cloud.StoredObjectMetadata;
+import com.laser.ordermanage.common.constants.ExpireTime;
 import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.util.FileUtil;
+import com.laser.ordermanage.common.util.FutureUtil;
 import com.laser.ordermanage.order.domain.type.FileType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class FileComponent {
 
-    private final S3Service s3Service;
+    // multipart 업로드와 같은 최대 파일 크기 (100MB)
+    private static final long MAX_FILE_SIZE = 100L * 1024 * 1024;
+
+    private final FileStorage fileStorage;
+
+    private final FileUploadRedisRepository fileUploadRedisRepository;
+
+    private final ChunkedUploadRedisRepository chunkedUploadRedisRepository;
+
+    // 나누어 업로드하는 파일의 조각 크기 (AWS S3 멀티파트 업로드의 최소 part 크기 5MB 이상)
+    @Value("${file.chunked-upload.chunk-size-mb:8}")
+    private int chunkSizeMb;
+
+    // ZIP 으로 묶을 때 미리 다운로드 요청하는 파일 수
+    @Value("${file.archive.prefetch-count:4}")
+    private int archivePrefetchCount;
 
     public <T extends FileType> FileEntity<T> uploadFile(MultipartFile file, Function<String, T> fileTypeResolver) {
         String fileName = file.getOriginalFilename();
@@ -23,7 +72,7 @@ public class FileComponent {
         T fileType = fileTypeResolver.apply(FileUtil.getExtension(file));
 
         // 파일 업로드
-        String fileUrl = s3Service.upload(fileType.getFolderName(), file, fileType.getFileName());
+        String fileUrl = fileStorage.upload(fileType.getFolderName(), file, fileType.getFileName());
 
         // File 객체 생성
         return FileEntity.<T>builder()
@@ -34,7 +83,310 @@ public class FileComponent {
                 .build();
     }
 
-    public String uploadFile(String folderName, File file, String fileName) {
-        return s3Service.upload(folderName, file, fileName);
+    /**
+     * 파일 비동기 업로드
+     * - 업로드하는 동안 DB 작업 등을 진행하고, FutureUtil.join 으로 완료를 기다림
+     * - 파일 종류가 올바르지 않으면 업로드 전에 예외 발생
+     */
+    public <T extends FileType> CompletableFuture<FileEntity<T>> uploadFileAsync(MultipartFile file, Function<String, T> fileTypeResolver) {
+        String fileName = file.getOriginalFilename();
+        Long fileSize = file.getSize();
+        T fileType = fileTypeResolver.apply(FileUtil.getExtension(file));
+
+        return fileStorage.uploadAsync(fileType.getFolderName(), file, fileType.getFileName())
+                .thenApply(fileUrl -> FileEntity.<T>builder()
+                        .name(fileName)
+                        .size(fileSize)
+                        .type(fileType)
+                        .url(fileUrl)
+                        .build());
+    }
+
+    /**
+     * 파일 비동기 업로드 취소
+     * - 이미 요청한 AWS S3 업로드는 future 를 취소해도 중단되지 않으므로, 업로드가 완료되면 업로드한 파일 삭제
+     * - 업로드에 실패한 경우 삭제할 파일 없음
+     */
+    public void cancelUploadAsync(CompletableFuture<? extends FileEntity<?>> fileFuture) {
+        fileFuture.thenAccept(fileEntity -> deleteFileQuietly(fileEntity.getUrl()));
+    }
+
+    public String uploadFile(String folderName, byte[] content, String fileName, String contentType) {
+        return fileStorage.upload(folderName, content, fileName, contentType);
+    }
+
+    public CompletableFuture<String> uploadFileAsync(String folderName, byte[] content, String fileName, String contentType) {
+        return fileStorage.uploadAsync(folderName, content, fileName, contentType);
+    }
+
+    /**
+     * 직접 업로드 URL 생성
+     * - 파일 확장자로 파일 종류를 확인하고, 파일 종류의 폴더에만 업로드 가능한 URL 생성
+     * - 업로드 완료 확인 시 검증할 파일 정보 (크기, 해시) 를 Redis 에 저장
+     */
+    public <T extends FileType> FileUpload createUpload(String fileName, Long fileSize, String fileHash, Function<String, T> fileTypeResolver) {
+        T fileType = fileTypeResolver.apply(FileUtil.getExtension(fileName));
+        if (fileSize > MAX_FILE_SIZE) {
+            throw new CustomCommonException(CommonErrorCode.REQUEST_FILE_SIZE_EXCEEDED);
+        }
+
+        PresignedUpload presignedUpload = fileStorage.createPresignedUpload(
+                fileType.getFolderName(),
+                fileType.getFileName(),
+                fileSize,
+                fileHash,
+                Duration.ofMillis(ExpireTime.FILE_UPLOAD_URL_EXPIRE_TIME)
+        );
+
+        return fileUploadRedisRepository.save(
+                FileUpload.builder()
+                        .id(UUID.randomUUID().toString())
+                        .fileName(fileName)
+                        .fileSize(fileSize)
+                        .fileHash(fileHash)
+                        .folderName(fileType.getFolderName())
+                        .fileUrl(presignedUpload.fileUrl())
+                        .uploadUrl(presignedUpload.uploadUrl())
+                        .uploadHeaderMap(presignedUpload.uploadHeaderMap())
+                        .expiredAt(LocalDateTime.ofInstant(presignedUpload.expiration(), ZoneId.systemDefault()))
+                        .build()
+        );
+    }
+
+    public FileUpload getUpload(String uploadId) {
+        return fileUploadRedisRepository.findById(uploadId)
+                .orElseThrow(() -> new CustomCommonException(CommonErrorCode.NOT_FOUND_FILE_UPLOAD));
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인
+     * - 파일 크기, SHA-256 해시, 파일 앞부분 (magic bytes) 의 파일 형식 검증 (파일 전체를 다운로드하지 않음)
+     * - 다른 파일 종류의 폴더에 업로드하도록 생성된 업로드는 확인 불가
+     * - 아직 업로드되지 않았거나 저장소 조회에 실패한 경우 업로드 정보를 유지하므로 다시 확인 가능
+     * - 검증에 성공하거나, 업로드된 파일이 요청한 파일과 달라서 검증에 실패한 경우에만 업로드 정보 삭제 (실패 시 업로드된 파일도 삭제)
+     */
+    public <T extends FileType> FileEntity<T> confirmUpload(FileUpload fileUpload, Function<String, T> fileTypeResolver) {
+        T fileType = fileTypeResolver.apply(FileUtil.getExtension(fileUpload.getFileName()));
+        if (fileUpload.getFolderName() != null && !fileUpload.getFolderName().equals(fileType.getFolderName())) {
+            throw new CustomCommonException(CommonErrorCode.NOT_FOUND_FILE_UPLOAD);
+        }
+
+        StoredObjectMetadata metadata = fileStorage.findMetadata(fileUpload.getFileUrl())
+                .orElseThrow(() -> new CustomCommonException(CommonErrorCode.INVALID_UPLOADED_FILE));
+
+        String checksumSha256 = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(fileUpload.getFileHash()));
+        if (!fileUpload.getFileSize().equals(metadata.size())
+                || !checksumSha256.equals(metadata.checksumSha256())
+                || !FileUtil.matchesSignature(fileType.getExtension(), fileStorage.downloadRange(fileUpload.getFileUrl(), FileUtil.SIGNATURE_LENGTH))) {
+            fileUploadRedisRepository.delete(fileUpload);
+            deleteFileQuietly(fileUpload.getFileUrl());
+            throw new CustomCommonException(CommonErrorCode.INVALID_UPLOADED_FILE);
+        }
+        fileUploadRedisRepository.delete(fileUpload);
+
+        return fileUpload.toFileEntity(fileType);
+    }
+
+    public <T extends FileType> FileEntity<T> confirmUpload(String uploadId, Function<String, T> fileTypeResolver) {
+        return confirmUpload(getUpload(uploadId), fileTypeResolver);
+    }
+
+    /**
+     * 나누어 업로드하는 파일의 업로드 생성
+     * - 파일 확장자로 파일 종류를 확인하고, 파일 종류의 폴더에 저장소의 멀티파트 업로드 생성
+     * - 업로드 정보는 Redis 에 저장하고, 연결이 끊기면 업로드되지 않은 조각만 이어서 업로드
+     */
+    public <T extends FileType> ChunkedUpload createChunkedUpload(String fileName, Long fileSize, Function<String, T> fileTypeResolver) {
+        T fileType = fileTypeResolver.apply(FileUtil.getExtension(fileName));
+        if (fileSize > MAX_FILE_SIZE) {
+            throw new CustomCommonException(CommonErrorCode.REQUEST_FILE_SIZE_EXCEEDED);
+        }
+
+        StorageMultipartUpload multipartUpload = fileStorage.createMultipartUpload(fileType.getFolderName(), fileType.getFileName());
+
+        return chunkedUploadRedisRepository.save(
+                ChunkedUpload.builder()
+                        .id(UUID.randomUUID().toString())
+                        .fileName(fileName)
+                        .fileSize(fileSize)
+                        .chunkSize(Math.max(chunkSizeMb, 5) * 1024 * 1024)
+                        .multipartUploadId(multipartUpload.uploadId())
+                        .fileUrl(multipartUpload.fileUrl())
+                        .build()
+        );
+    }
+
+    public ChunkedUpload getChunkedUpload(String uploadId) {
+        return chunkedUploadRedisRepository.findById(uploadId)
+                .orElseThrow(() -> new CustomCommonException(CommonErrorCode.NOT_FOUND_FILE_UPLOAD));
+    }
+
+    // 업로드된 조각의 시작 위치 목록 (이어서 업로드할 조각 확인용)
+    public List<Long> getUploadedOffsetList(ChunkedUpload chunkedUpload) {
+        return fileStorage.findPartList(chunkedUpload.toStorageMultipartUpload()).stream()
+                .map(part -> (long) (part.partNumber() - 1) * chunkedUpload.getChunkSize())
+                .toList();
+    }
+
+    /**
+     * 파일 조각 업로드
+     * - 조각의 시작 위치는 조각 크기의 배수이고, 조각 크기는 조각 크기 (마지막 조각은 남은 크기) 와 같아야 함
+     * - 요청 본문을 메모리나 임시 파일에 저장하지 않고 저장소의 part 로 전달
+     * - 같은 조각을 다시 업로드하면 덮어씀
+     */
+    public void uploadChunk(ChunkedUpload chunkedUpload, Long offset, InputStream inputStream, Long size) {
+        if (offset < 0 || offset >= chunkedUpload.getFileSize() || offset % chunkedUpload.getChunkSize() != 0) {
+            throw new CustomCommonException(CommonErrorCode.INVALID_UPLOAD_CHUNK);
+        }
+
+        int chunkNumber = (int) (offset / chunkedUpload.getChunkSize()) + 1;
+        if (size != chunkedUpload.getChunkSizeOf(chunkNumber)) {
+            throw new CustomCommonException(CommonErrorCode.INVALID_UPLOAD_CHUNK);
+        }
+
+        fileStorage.uploadPart(chunkedUpload.toStorageMultipartUpload(), chunkNumber, inputStream, size);
+    }
+
+    /**
+     * 나누어 업로드한 파일의 업로드 완료
+     * - 모든 조각이 올바른 크기로 업로드되었는지 확인 후 저장소의 멀티파트 업로드 완료
+     * - 멀티파트 업로드 완료에 실패하면 멀티파트 업로드를 취소하고 업로드 정보 삭제 (다시 업로드해야 함)
+     * - 파일 앞부분 (magic bytes) 의 파일 형식 검증에 실패하면 업로드된 파일 삭제
+     */
+    public <T extends FileType> FileEntity<T> completeChunkedUpload(ChunkedUpload chunkedUpload, Function<String, T> fileTypeResolver) {
+        T fileType = fileTypeResolver.apply(FileUtil.getExtension(chunkedUpload.getFileName()));
+
+        StorageMultipartUpload multipartUpload = chunkedUpload.toStorageMultipartUpload();
+        List<StorageMultipartUploadPart> partList = fileStorage.findPartList(multipartUpload);
+        if (partList.size() != chunkedUpload.getChunkCount()
+                || partList.stream().anyMatch(part -> part.size() != chunkedUpload.getChunkSizeOf(part.partNumber()))) {
+            throw new CustomCommonException(CommonErrorCode.INCOMPLETE_CHUNKED_UPLOAD);
+        }
+
+        try {
+            fileStorage.completeMultipartUpload(multipartUpload, partList);
+        } catch (CustomCommonException e) {
+            abortMultipartUploadQuietly(multipartUpload);
+            chunkedUploadRedisRepository.delete(chunkedUpload);
+            throw e;
+        }
+        chunkedUploadRedisRepository.delete(chunkedUpload);
+
+        if (!FileUtil.matchesSignature(fileType.getExtension(), fileStorage.downloadRange(chunkedUpload.getFileUrl(), FileUtil.SIGNATURE_LENGTH))) {
+            deleteFileQuietly(chunkedUpload.getFileUrl());
+            throw new CustomCommonException(CommonErrorCode.INVALID_UPLOADED_FILE);
+        }
+
+        return FileEntity.<T>builder()
+                .name(chunkedUpload.getFileName())
+                .size(chunkedUpload.getFileSize())
+                .type(fileType)
+                .url(chunkedUpload.getFileUrl())
+                .build();
+    }
+
+    /**
+     * 업로드 정보가 만료된 멀티파트 업로드 취소 (저장소 파일 정리 작업에서 실행)
+     * - 완료하지 않은 멀티파트 업로드의 part 는 파일 목록에 나타나지 않고 저장 용량만 차지하므로, 업로드 정보 만료 시간이 지난 업로드를 취소
+     */
+    public int abortExpiredChunkedUpload() {
+        return fileStorage.abortMultipartUploadInitiatedBefore(
+                Instant.now().minusSeconds(ExpireTime.CHUNKED_UPLOAD_EXPIRE_TIME_FOR_REDIS)
+        );
+    }
+
+    // 저장소의 파일을 읽어서 SHA-256 해시 계산 (클라이언트를 거치지 않고 저장소에서 읽음)
+    public String getSha256(String fileUrl) {
+        return FileUtil.getSha256(fileStorage.download(fileUrl));
+    }
+
+    public InputStream downloadFile(String fileUrl) {
+        return fileStorage.download(fileUrl);
+    }
+
+    /**
+     * 파일 목록을 ZIP 으로 묶어서 출력 스트림에 쓰기
+     * - 최대 archivePrefetchCount 개의 파일을 미리 다운로드 요청하고, 목록 순서대로 받는 만큼 ZIP 항목으로 씀 (메모리 사용량은 파일 수, 크기와 관계없음)
+     * - 이미 압축된 형식 (PDF, PNG, JPG, JPEG, DWG 등) 은 다시 압축하지 않음
+     * - 같은 이름의 파일은 "이름 (n).확장자" 로 저장
+     */
+    public void writeZip(List<? extends FileEntity<? extends FileType>> fileList, OutputStream outputStream) throws IOException {
+        int prefetchCount = Math.max(archivePrefetchCount, 1);
+        Deque<CompletableFuture<InputStream>> downloadFutureQueue = new ArrayDeque<>();
+        int downloadIndex = 0;
+        Set<String> entryNameSet = new HashSet<>();
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        try {
+            for (FileEntity<? extends FileType> file : fileList) {
+                while (downloadIndex < fileList.size() && downloadFutureQueue.size() < prefetchCount) {
+                    downloadFutureQueue.add(fileStorage.downloadAsync(fileList.get(downloadIndex++).getUrl()));
+                }
+
+                try (InputStream inputStream = FutureUtil.join(downloadFutureQueue.poll())) {
+                    // STORED 항목은 CRC 를 미리 알아야 하므로, 압축 없는 DEFLATED 로 받는 대로 씀
+                    zipOutputStream.setLevel(FileUtil.isCompressed(file.getType().getExtension()) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+                    zipOutputStream.putNextEntry(new ZipEntry(getUniqueEntryName(file.getName(), entryNameSet)));
+                    inputStream.transferTo(zipOutputStream);
+                    zipOutputStream.closeEntry();
+                }
+            }
+            zipOutputStream.finish();
+        } finally {
+            // 중간에 실패한 경우, 미리 요청한 다운로드의 연결 반환
+            downloadFutureQueue.forEach(downloadFuture -> downloadFuture.thenAccept(this::closeQuietly));
+        }
+    }
+
+    public void deleteFile(String fileUrl) {
+        fileStorage.delete(fileUrl);
+    }
+
+    // 저장소 파일 목록을 key 순서로 startAfter 다음부터 최대 maxCount 개 조회
+    public StoredObjectList getStoredFileList(String startAfter, int maxCount) {
+        return fileStorage.listObjects(startAfter, maxCount);
+    }
+
+    // 여러 파일을 한 번에 삭제하고, 삭제하지 못한 파일 URL 목록 반환
+    public List<String> deleteFileList(List<String> fileUrlList) {
+        return fileStorage.deleteAll(fileUrlList);
+    }
+
+    // 저장하지 못한 파일 등 삭제에 실패해도 요청을 실패시키지 않는 파일 삭제 (삭제하지 못한 파일은 저장소 파일 정리 작업에서 삭제)
+    public void deleteFileQuietly(String fileUrl) {
+        try {
+            fileStorage.delete(fileUrl);
+        } catch (CustomCommonException e) {
+            log.warn("Unable to delete invalid uploaded file {}", fileUrl, e);
+        }
+    }
+
+    private void abortMultipartUploadQuietly(StorageMultipartUpload multipartUpload) {
+        try {
+            fileStorage.abortMultipartUpload(multipartUpload);
+        } catch (CustomCommonException e) {
+            log.warn("Unable to abort multipart upload of {}", multipartUpload.fileUrl(), e);
+        }
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("Unable to close download stream", e);
+        }
+    }
+
+    // 경로 문자는 ZIP 밖으로 풀리지 않도록 치환
+    private static String getUniqueEntryName(String fileName, Set<String> entryNameSet) {
+        String safeFileName = fileName.replace('/', '_').replace('\\', '_');
+        String entryName = safeFileName;
+        for (int index = 1; !entryNameSet.add(entryName); index++) {
+            String extension = FileUtil.getExtension(safeFileName);
+            entryName = extension.isEmpty()
+                    ? safeFileName + " (" + index + ")"
+                    : FileUtil.getFileNameWithoutExtension(safeFileName) + " (" + index + ")." + extension;
+        }
+        return entryName;
     }
 }
@@ -0,0 +1,115 @@
+package com.laser.ordermanage.common.component;
+
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.RasterBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도면 이미지 변환 작업의 픽셀 예산 제한
+ * - 동시에 변환 중인 이미지의 픽셀 수 합이 예산을 넘지 않도록, 파일 헤더로 예상한 픽셀 수만큼 예산을 확보한 작업만 실행
+ * - 예산이 부족하면 요청 순서대로 대기하고, 대기 시간을 넘기면 RASTERIZATION_BUSY 예외 발생 (잠시 후 재시도)
+ * - 대기 작업 수, 사용 중인 픽셀 수, 대기 시간, 거절 수 지표 제공
+ */
+@Slf4j
+@Component
+public class RasterizationLimiter implements RasterBudget {
+
+    // 예산 단위 (1 permit = 1024 픽셀)
+    private static final int PIXELS_PER_PERMIT = 1024;
+
+    private final Semaphore semaphore;
+    private final int totalPermits;
+    private final long waitTimeoutMillis;
+
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public RasterizationLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${drawing.rasterization.budget-megapixels:64}") int budgetMegapixels,
+            @Value("${drawing.rasterization.wait-timeout-seconds:30}") long waitTimeoutSeconds) {
+        this.totalPermits = Math.max(budgetMegapixels, 1) * (1024 * 1024 / PIXELS_PER_PERMIT);
+        this.semaphore = new Semaphore(totalPermits, true);
+        this.waitTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(waitTimeoutSeconds, 0));
+
+        Gauge.builder("drawing.rasterization.queue", semaphore, Semaphore::getQueueLength)
+                .description("픽셀 예산을 기다리는 도면 이미지 변환 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("drawing.rasterization.pixels.in-use", semaphore, s -> (double) (totalPermits - s.availablePermits()) * PIXELS_PER_PERMIT)
+                .description("변환 중인 도면 이미지의 픽셀 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("drawing.rasterization.wait")
+                .description("도면 이미지 변환 작업의 픽셀 예산 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("drawing.rasterization.rejected")
+                .description("대기 시간 초과로 거절된 도면 이미지 변환 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 픽셀 수만큼 예산 확보
+     * - 예산보다 큰 작업은 예산 전체를 확보하여 단독으로 실행
+     */
+    @Override
+    public Permit acquire(long pixels) {
+        int permits = getPermits(pixels);
+
+        long startTime = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(permits, waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("Rasterization budget is exhausted, reject {} pixels (waiting {})", pixels, semaphore.getQueueLength());
+            throw new CustomCommonException(CommonErrorCode.RASTERIZATION_BUSY);
+        }
+
+        return () -> semaphore.release(permits);
+    }
+
+    /**
+     * 기다리지 않는 픽셀 예산 (썸네일 재생성 작업 등 급하지 않은 작업)
+     * - 기다리는 작업이 없고 예산이 남아있을 때만 확보하고, 아니면 바로 RASTERIZATION_BUSY 예외 발생
+     * - 대기하는 요청보다 먼저 예산을 가져가지 않으며, 거절 수 지표에 포함하지 않음
+     */
+    public RasterBudget withoutWaiting() {
+        return pixels -> {
+            int permits = getPermits(pixels);
+
+            boolean acquired;
+            try {
+                // 공정 (fair) 순서를 지키도록 대기 시간 0 으로 확보
+                acquired = !semaphore.hasQueuedThreads() && semaphore.tryAcquire(permits, 0, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+
+            if (!acquired) {
+                throw new CustomCommonException(CommonErrorCode.RASTERIZATION_BUSY);
+            }
+
+            return () -> semaphore.release(permits);
+        };
+    }
+
+    private int getPermits(long pixels) {
+        return (int) Math.min(Math.max((pixels + PIXELS_PER_PERMIT - 1) / PIXELS_PER_PERMIT, 1), totalPermits);
+    }
+}
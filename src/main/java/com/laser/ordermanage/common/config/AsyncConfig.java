@@ -2,6 +2,7 @@ package com.laser.ordermanage.common.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -9,6 +10,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
@@ -32,6 +35,67 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // 도면 절단 경로 분석 (CPU 사용량이 크므로 스레드 수와 대기열을 제한하고, 대기열이 가득 차면 요청 거절)
+    @Bean(name = "drawingAnalysisExecutor")
+    public Executor drawingAnalysisExecutor(
+            @Value("${drawing.analysis.pool-size:2}") int poolSize,
+            @Value("${drawing.analysis.queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("drawingAnalysisExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 도면 썸네일 생성 (대기열이 가득 차면 요청 거절 후 재시도 작업에서 생성)
+    @Bean(name = "drawingThumbnailExecutor")
+    public Executor drawingThumbnailExecutor(
+            @Value("${drawing.thumbnail.pool-size:2}") int poolSize,
+            @Value("${drawing.thumbnail.queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("drawingThumbnailExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 이전 버전 썸네일 재생성 (실시간 썸네일 생성과 스레드 풀을 나누고, 대기열이 가득 차면 재생성 작업 스레드에서 처리)
+    @Bean(name = "drawingThumbnailRegenerationExecutor")
+    public Executor drawingThumbnailRegenerationExecutor(
+            @Value("${drawing.thumbnail.regeneration.pool-size:2}") int poolSize,
+            @Value("${drawing.thumbnail.regeneration.queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("drawingThumbnailRegenerationExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 도면 파일 여러 개 업로드 시 파일마다 파일 종류 확인 및 해시 계산 (대기열이 가득 차면 요청 스레드에서 처리)
+    @Bean(name = "drawingUploadExecutor")
+    public Executor drawingUploadExecutor(
+            @Value("${drawing.upload.pool-size:4}") int poolSize,
+            @Value("${drawing.upload.queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("drawingUploadExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 자재 원판 소요량 추정 시 도면마다 도면 파일 다운로드 및 부품 외곽 추출 (동시 다운로드 수를 제한하고, 대기열이 가득 차면 요청 스레드에서 처리)
+    @Bean(name = "drawingNestingExecutor")
+    public Executor drawingNestingExecutor(
+            @Value("${drawing.nesting.pool-size:4}") int poolSize,
+            @Value("${drawing.nesting.queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("drawingNestingExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // AWS S3 비동기 업로드 시 MultipartFile 의 InputStream 읽기 (블로킹 I/O 를 Netty 이벤트 루프 밖에서 처리)
+    // - 대기열을 제한하고, 대기열이 가득 차면 요청 거절 (요청 스레드 또는 이벤트 루프에서 파일 전체를 읽지 않도록 CallerRunsPolicy 사용 X)
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${cloud.aws.s3.async.upload-pool-size:8}") int poolSize,
+            @Value("${cloud.aws.s3.async.upload-queue-capacity:100}") int queueCapacity) {
+        return createFixedSizeExecutor("s3UploadExecutor-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 스레드 수를 poolSize 로 고정하고 대기열을 제한한 스레드 풀 (대기열이 가득 차면 rejectedExecutionHandler 로 처리)
+    static ThreadPoolTaskExecutor createFixedSizeExecutor(String threadNamePrefix, int poolSize, int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.initialize();
+        return executor;
+    }
+
     // 비동기 예외 처리
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
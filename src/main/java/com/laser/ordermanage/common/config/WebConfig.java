@@ -1,16 +1,32 @@
 package com.laser.ordermanage.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${web.streaming.pool-size:8}")
+    private int streamingPoolSize;
+
+    @Value("${web.streaming.queue-capacity:50}")
+    private int streamingQueueCapacity;
+
     @Bean
     public MethodValidationPostProcessor methodValidationPostProcessor() {
         return new MethodValidationPostProcessor();
     }
 
+    // 파일 스트리밍 응답 (ZIP 다운로드 등) 작성, 응답을 쓰는 동안 스레드를 점유하므로 스레드 수와 대기열 제한 (스트리밍 응답 API 에서만 사용)
+    @Bean(name = "streamingResponseExecutor")
+    public ThreadPoolTaskExecutor streamingResponseExecutor() {
+        return AsyncConfig.createFixedSizeExecutor("streamingResponseExecutor-", streamingPoolSize, streamingQueueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
 }
@@ -10,4 +10,9 @@ public class ExpireTime {
 
     public static final long CHANGE_PASSWORD_TOKEN_EXPIRE_TIME = 15 * 60 * 1000L; // 15분
     public static final long CHANGE_PASSWORD_TOKEN_EXPIRE_TIME_FOR_REDIS = 15 * 60L; // 15분 for redis
+
+    public static final long FILE_UPLOAD_URL_EXPIRE_TIME = 15 * 60 * 1000L; // 15분
+    public static final long FILE_UPLOAD_EXPIRE_TIME_FOR_REDIS = 60 * 60L; // 60분 for redis (업로드 URL 만료 후에도 업로드 완료 확인 가능)
+
+    public static final long CHUNKED_UPLOAD_EXPIRE_TIME_FOR_REDIS = 24 * 60 * 60L; // 1일 for redis (연결이 끊겨도 이어서 업로드 가능)
 }
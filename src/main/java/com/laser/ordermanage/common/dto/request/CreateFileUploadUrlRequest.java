@@ -0,0 +1,23 @@
+package com.laser.ordermanage.common.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+// 견적서, 발주서, 서명 파일의 직접 업로드 URL 생성 요청
+public record CreateFileUploadUrlRequest(
+
+        @NotEmpty(message = "파일 이름은 필수 입력값입니다.")
+        String fileName,
+
+        @NotNull(message = "파일 크기는 필수 입력값입니다.")
+        @Min(value = 1, message = "파일 크기는 1 이상의 정수 입니다.")
+        Long fileSize,
+
+        @NotEmpty(message = "파일 해시는 필수 입력값입니다.")
+        @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "파일 해시는 SHA-256 16진수 문자열입니다.")
+        String fileHash
+
+) {
+}
@@ -0,0 +1,24 @@
+package com.laser.ordermanage.common.dto.response;
+
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record CreateFileUploadUrlResponse(
+        String uploadId,
+        String uploadUrl,
+        Map<String, String> uploadHeaderMap,
+        LocalDateTime expiredAt
+) {
+    public static CreateFileUploadUrlResponse from(FileUpload fileUpload) {
+        return CreateFileUploadUrlResponse.builder()
+                .uploadId(fileUpload.getId())
+                .uploadUrl(fileUpload.getUploadUrl())
+                .uploadHeaderMap(fileUpload.getUploadHeaderMap())
+                .expiredAt(fileUpload.getExpiredAt())
+                .build();
+    }
+}
@@ -20,6 +20,10 @@ public enum CommonErrorCode implements ErrorCode {
 
     REQUIRED_COOKIE("COMMON_400_07", HttpStatus.BAD_REQUEST, "%s 쿠키값이 존재하지 않습니다."),
 
+    INVALID_UPLOADED_FILE("COMMON_400_08", HttpStatus.BAD_REQUEST, "업로드된 파일이 요청한 파일과 다릅니다. (크기, 해시, 파일 형식)"),
+    INVALID_UPLOAD_CHUNK("COMMON_400_09", HttpStatus.BAD_REQUEST, "업로드 조각의 위치 또는 크기가 올바르지 않습니다."),
+    INCOMPLETE_CHUNKED_UPLOAD("COMMON_400_10", HttpStatus.BAD_REQUEST, "업로드되지 않은 조각이 있습니다."),
+
     // 401 UNAUTHORIZED 인증 자격 정보가 유효하지 않음
     UNAUTHORIZED("COMMON_401_01", HttpStatus.UNAUTHORIZED, "인증 자격 정보가 유효하지 않습니다."),
 
@@ -28,6 +32,7 @@ public enum CommonErrorCode implements ErrorCode {
 
     // 404 NOT_FOUND 리소스가 존재하지 않음
     NOT_FOUND("COMMON_404_01", HttpStatus.NOT_FOUND, "리소스가 존재하지 않습니다."),
+    NOT_FOUND_FILE_UPLOAD("COMMON_404_02", HttpStatus.NOT_FOUND, "존재하지 않거나 만료된 파일 업로드 요청입니다."),
 
     // 405 METHOD_NOT_ALLOWED 허용하지 않은 Http Method
     METHOD_NOT_ALLOWED("COMMON_405_01", HttpStatus.METHOD_NOT_ALLOWED, "해당 요청에는 지원하지 않은 HTTP 메서드 입니다."),
@@ -41,7 +46,18 @@ public enum CommonErrorCode implements ErrorCode {
     UNKNOWN_ERROR("COMMON_500_02", HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다."),
     UNABLE_TO_SEND_EMAIL("COMMON_500_03", HttpStatus.INTERNAL_SERVER_ERROR, "메일 전송이 불가능합니다."),
     UNABLE_TO_AWS_S3_UPLOAD("COMMON_500_04", HttpStatus.INTERNAL_SERVER_ERROR, "AWS S3 에 파일 업로드가 불가능합니다."),
-    UNABLE_TO_EXTRACT_THUMBNAIL("COMMON_500_05", HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 추출이 불가능합니다.");
+    UNABLE_TO_EXTRACT_THUMBNAIL("COMMON_500_05", HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 추출이 불가능합니다."),
+    UNABLE_TO_AWS_S3_DOWNLOAD("COMMON_500_06", HttpStatus.INTERNAL_SERVER_ERROR, "AWS S3 에서 파일 다운로드가 불가능합니다."),
+    UNABLE_TO_AWS_S3_DELETE("COMMON_500_07", HttpStatus.INTERNAL_SERVER_ERROR, "AWS S3 에서 파일 삭제가 불가능합니다."),
+    UNABLE_TO_AWS_S3_LIST("COMMON_500_08", HttpStatus.INTERNAL_SERVER_ERROR, "AWS S3 에서 파일 목록 조회가 불가능합니다."),
+    UNABLE_TO_STORAGE_UPLOAD("COMMON_500_09", HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소에 파일 업로드가 불가능합니다."),
+    UNABLE_TO_STORAGE_DOWNLOAD("COMMON_500_10", HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소에서 파일 다운로드가 불가능합니다."),
+    UNABLE_TO_STORAGE_DELETE("COMMON_500_11", HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소에서 파일 삭제가 불가능합니다."),
+    UNABLE_TO_STORAGE_LIST("COMMON_500_12", HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장소에서 파일 목록 조회가 불가능합니다."),
+
+    // 503 SERVICE_UNAVAILABLE 일시적으로 처리 불가
+    RASTERIZATION_BUSY("COMMON_503_01", HttpStatus.SERVICE_UNAVAILABLE, "도면 이미지 변환 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    FILE_UPLOAD_BUSY("COMMON_503_02", HttpStatus.SERVICE_UNAVAILABLE, "파일 업로드 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,46 @@
+package com.laser.ordermanage.common.migration.component;
+
+import com.laser.ordermanage.common.migration.service.DataMigrationService;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
+import com.laser.ordermanage.ingredient.service.IngredientService;
+import com.laser.ordermanage.order.service.DrawingThumbnailRegenerationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DataMigrationComponent {
+
+    private final DataMigrationService dataMigrationService;
+
+    private final IngredientService ingredientService;
+
+    private final IngredientDemandService ingredientDemandService;
+
+    private final DrawingThumbnailRegenerationService drawingThumbnailRegenerationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReadyEvent() {
+        // 재고 변동 이력 도입 전 자재의 기초 재고 이력 생성 (스냅샷 및 자재 현황은 재고 변동 이력으로 계산)
+        runOnce("ingredient-stock-opening-ledger", ingredientService::createIngredientStockOpeningLedger);
+
+        // 소요량 도입 전 거래의 도면 소요량 생성
+        runOnce("ingredient-drawing-demand", ingredientDemandService::backfillDemand);
+
+        // 썸네일 생성 상태 도입 전 도면의 썸네일을 재생성 대상으로 추가
+        runOnce("legacy-drawing-thumbnail", drawingThumbnailRegenerationService::backfillLegacyThumbnail);
+    }
+
+    private void runOnce(String name, Runnable migration) {
+        try {
+            dataMigrationService.runOnce(name, migration);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Data migration {} is already run by another instance", name);
+        }
+    }
+}
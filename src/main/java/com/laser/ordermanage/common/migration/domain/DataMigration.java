@@ -0,0 +1,26 @@
+package com.laser.ordermanage.common.migration.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 실행이 완료된 일회성 데이터 이전 작업 (이름 기준으로 한 번만 실행)
+@Entity
+@Table(name = "data_migration")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", updatable = false)
+    private String name;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
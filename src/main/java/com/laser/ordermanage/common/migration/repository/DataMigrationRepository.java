@@ -0,0 +1,16 @@
+package com.laser.ordermanage.common.migration.repository;
+
+import com.laser.ordermanage.common.migration.domain.DataMigration;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.LocalDateTime;
+
+public interface DataMigrationRepository extends CrudRepository<DataMigration, String> {
+
+    // 이미 실행된 작업이면 기본 키 중복으로 실패 (여러 서버가 동시에 시작해도 한 서버만 실행)
+    @Modifying
+    @Query(value = "INSERT INTO data_migration (name, created_at) VALUES (:name, :createdAt)", nativeQuery = true)
+    int insert(String name, LocalDateTime createdAt);
+}
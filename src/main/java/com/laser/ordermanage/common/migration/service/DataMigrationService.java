@@ -0,0 +1,33 @@
+package com.laser.ordermanage.common.migration.service;
+
+import com.laser.ordermanage.common.migration.repository.DataMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DataMigrationService {
+
+    private final DataMigrationRepository dataMigrationRepository;
+
+    /**
+     * 이름이 name 인 데이터 이전 작업을 한 번만 실행
+     * - 실행 기록과 작업을 같은 트랜잭션으로 처리하므로, 작업이 실패하면 실행 기록도 롤백되어 다음 시작 시 다시 실행
+     * - 다른 서버가 먼저 실행 기록을 생성하면 기본 키 중복 예외 (DataIntegrityViolationException) 발생
+     */
+    @Transactional
+    public void runOnce(String name, Runnable migration) {
+        if (dataMigrationRepository.existsById(name)) {
+            return;
+        }
+
+        dataMigrationRepository.insert(name, LocalDateTime.now());
+        migration.run();
+        log.info("Data migration {} completed", name);
+    }
+}
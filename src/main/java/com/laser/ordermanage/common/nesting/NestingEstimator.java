@@ -0,0 +1,127 @@
+package com.laser.ordermanage.common.nesting;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class NestingEstimator {
+
+    // 정렬 기준이 다른 기본 배치 순서
+    private static final List<Comparator<NestingPart>> BASE_ORDER_LIST = List.of(
+            Comparator.comparingDouble(NestingPart::area).reversed(),
+            Comparator.comparingDouble((NestingPart part) -> Math.max(part.width(), part.height())).reversed(),
+            Comparator.comparingDouble(NestingPart::height).reversed(),
+            Comparator.comparingDouble(NestingPart::width).reversed(),
+            Comparator.comparingDouble((NestingPart part) -> part.width() + part.height()).reversed()
+    );
+
+    private final ForkJoinPool forkJoinPool;
+    private final long timeBudgetMillis;
+    private final int candidateCount;
+    private final double spacing;
+
+    public NestingEstimator(
+            @Value("${nesting.parallelism:0}") int parallelism,
+            @Value("${nesting.time-budget-millis:2000}") long timeBudgetMillis,
+            @Value("${nesting.candidate-count:32}") int candidateCount,
+            @Value("${nesting.spacing:5}") double spacing) {
+        this.forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.candidateCount = Math.max(candidateCount, BASE_ORDER_LIST.size());
+        this.spacing = spacing;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    /**
+     * 원판 (sheetWidth x sheetHeight) 에 부품을 배치했을 때의 원판 수 및 사용률 추정
+     * - 기본 정렬 순서와 면적 내림차순 순서를 무작위로 섞은 후보 순서를 Fork-Join Pool 에서 병렬로 배치
+     * - 제한 시간 (time budget) 이 지나면 남은 후보는 취소하고 완료된 후보 중 가장 좋은 결과 반환
+     * - 제한 시간 내에 완료된 후보가 없으면 면적 내림차순 후보의 완료를 기다려서 반환
+     * - 부품 사이에는 절단 폭을 고려한 간격 (nesting.spacing, mm) 을 둠
+     * - 원판에 들어가지 않는 부품은 호출 전에 제외되어 있어야 함
+     */
+    public NestingResult estimate(List<NestingPart> partList, double sheetWidth, double sheetHeight) {
+        if (partList.isEmpty()) {
+            return new NestingResult(0, 0, 0);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        SkylinePacker packer = new SkylinePacker(sheetWidth, sheetHeight, spacing);
+
+        List<ForkJoinTask<NestingResult>> taskList = new ArrayList<>();
+        for (List<NestingPart> candidate : createCandidateList(partList)) {
+            boolean isBaseline = taskList.isEmpty();
+            taskList.add(forkJoinPool.submit(() -> packer.pack(candidate, () -> !isBaseline && System.nanoTime() > deadline)));
+        }
+
+        NestingResult bestResult = null;
+        for (ForkJoinTask<NestingResult> task : taskList) {
+            try {
+                NestingResult result = task.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                if (result != null && result.isBetterThan(bestResult)) {
+                    bestResult = result;
+                }
+            } catch (TimeoutException e) {
+                // 제한 시간이 지난 후보는 배치 중에 스스로 중단
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.warn("Nesting candidate failed", e.getCause());
+            }
+        }
+
+        // 시작하지 않은 후보 취소 (면적 내림차순 후보 제외)
+        taskList.subList(1, taskList.size()).forEach(task -> task.cancel(false));
+
+        if (bestResult == null) {
+            // 면적 내림차순 후보는 제한 시간과 관계없이 끝까지 배치
+            bestResult = taskList.get(0).join();
+        }
+
+        return bestResult;
+    }
+
+    // 첫 번째 후보는 항상 면적 내림차순
+    private List<List<NestingPart>> createCandidateList(List<NestingPart> partList) {
+        List<List<NestingPart>> candidateList = new ArrayList<>();
+        for (Comparator<NestingPart> order : BASE_ORDER_LIST) {
+            List<NestingPart> candidate = new ArrayList<>(partList);
+            candidate.sort(order);
+            candidateList.add(candidate);
+        }
+
+        // 면적 내림차순에서 일부 부품의 순서를 바꾼 후보 (재현 가능하도록 고정 seed 사용)
+        Random random = new Random(partList.size());
+        List<NestingPart> baseline = candidateList.get(0);
+        while (candidateList.size() < candidateCount) {
+            List<NestingPart> candidate = new ArrayList<>(baseline);
+            int swapCount = 1 + random.nextInt(Math.max(1, candidate.size() / 4));
+            for (int i = 0; i < swapCount && candidate.size() > 1; i++) {
+                int index = random.nextInt(candidate.size() - 1);
+                Collections.swap(candidate, index, index + 1 + random.nextInt(Math.min(candidate.size() - index - 1, 8)));
+            }
+            candidateList.add(candidate);
+        }
+
+        return candidateList;
+    }
+}
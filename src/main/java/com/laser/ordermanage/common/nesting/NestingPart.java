@@ -0,0 +1,15 @@
+package com.laser.ordermanage.common.nesting;
+
+// 도면에서 추출한 부품 외곽의 경계 사각형 (mm)
+public record NestingPart(
+        double width,
+        double height
+) {
+    public double area() {
+        return width * height;
+    }
+
+    public boolean fits(double sheetWidth, double sheetHeight) {
+        return (width <= sheetWidth && height <= sheetHeight) || (height <= sheetWidth && width <= sheetHeight);
+    }
+}
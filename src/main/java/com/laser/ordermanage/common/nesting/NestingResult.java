@@ -0,0 +1,20 @@
+package com.laser.ordermanage.common.nesting;
+
+public record NestingResult(
+        int sheetCount,
+        double utilization,
+        double lastSheetUsedHeight
+) {
+    // 원판 수가 적을수록, 원판 수가 같다면 마지막 원판의 잔여 영역이 클수록 좋은 배치
+    public boolean isBetterThan(NestingResult other) {
+        if (other == null) {
+            return true;
+        }
+
+        if (this.sheetCount != other.sheetCount) {
+            return this.sheetCount < other.sheetCount;
+        }
+
+        return this.lastSheetUsedHeight < other.lastSheetUsedHeight;
+    }
+}
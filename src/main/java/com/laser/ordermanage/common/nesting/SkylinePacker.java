@@ -0,0 +1,194 @@
+package com.laser.ordermanage.common.nesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Skyline Bottom-Left 휴리스틱으로 부품을 원판에 순서대로 배치
+ * - 원판마다 바닥에서부터 채워진 높이를 구간 (skyline) 목록으로 관리
+ * - 부품은 열려있는 원판 중 가장 먼저 들어가는 원판의 가장 낮고 왼쪽인 위치에 배치 (90도 회전 허용)
+ * - 부품 간 간격 (spacing) 은 부품의 너비와 높이에 더해서 배치
+ */
+public class SkylinePacker {
+
+    private static final double EPSILON = 1e-6;
+
+    private final double sheetWidth;
+    private final double sheetHeight;
+    private final double spacing;
+
+    public SkylinePacker(double sheetWidth, double sheetHeight, double spacing) {
+        // 원판 끝에 배치된 부품은 간격이 필요 없으므로 원판 크기에도 간격을 더해서 계산
+        this.sheetWidth = sheetWidth + spacing;
+        this.sheetHeight = sheetHeight + spacing;
+        this.spacing = spacing;
+    }
+
+    /**
+     * 주어진 순서대로 부품 배치
+     * - 원판에 들어가지 않는 부품은 사전에 제외되어 있어야 함
+     * - isCancelled 가 true 를 반환하면 배치를 중단하고 null 반환
+     */
+    public NestingResult pack(List<NestingPart> partList, BooleanSupplier isCancelled) {
+        List<Sheet> sheetList = new ArrayList<>();
+        double totalPartArea = 0;
+
+        for (NestingPart part : partList) {
+            if (isCancelled.getAsBoolean()) {
+                return null;
+            }
+
+            double width = part.width() + spacing;
+            double height = part.height() + spacing;
+
+            boolean isPlaced = false;
+            for (Sheet sheet : sheetList) {
+                if (sheet.place(width, height)) {
+                    isPlaced = true;
+                    break;
+                }
+            }
+
+            if (!isPlaced) {
+                Sheet sheet = new Sheet();
+                if (!sheet.place(width, height)) {
+                    throw new IllegalArgumentException("원판보다 큰 부품은 배치할 수 없습니다.");
+                }
+                sheetList.add(sheet);
+            }
+
+            totalPartArea += part.area();
+        }
+
+        if (sheetList.isEmpty()) {
+            return new NestingResult(0, 0, 0);
+        }
+
+        double utilization = totalPartArea / (sheetList.size() * (sheetWidth - spacing) * (sheetHeight - spacing));
+        double lastSheetUsedHeight = sheetList.get(sheetList.size() - 1).maxHeight();
+
+        return new NestingResult(sheetList.size(), utilization, lastSheetUsedHeight);
+    }
+
+    private class Sheet {
+
+        // x 좌표 순으로 정렬된 skyline 구간 목록 (전체 너비를 빈틈없이 덮음)
+        private final List<Segment> segmentList = new ArrayList<>();
+
+        private Sheet() {
+            segmentList.add(new Segment(0, 0, sheetWidth));
+        }
+
+        private boolean place(double width, double height) {
+            int bestIndex = -1;
+            double bestTop = Double.MAX_VALUE;
+            double bestX = Double.MAX_VALUE;
+            double bestWidth = 0;
+            double bestHeight = 0;
+
+            for (int index = 0; index < segmentList.size(); index++) {
+                // 회전하지 않은 방향과 90도 회전한 방향을 모두 확인
+                for (int rotation = 0; rotation < 2; rotation++) {
+                    double w = rotation == 0 ? width : height;
+                    double h = rotation == 0 ? height : width;
+
+                    double y = fit(index, w, h);
+                    if (y < 0) {
+                        continue;
+                    }
+
+                    double top = y + h;
+                    double x = segmentList.get(index).x;
+                    if (top < bestTop - EPSILON || (Math.abs(top - bestTop) <= EPSILON && x < bestX)) {
+                        bestIndex = index;
+                        bestTop = top;
+                        bestX = x;
+                        bestWidth = w;
+                        bestHeight = h;
+                    }
+                }
+            }
+
+            if (bestIndex < 0) {
+                return false;
+            }
+
+            add(bestIndex, bestWidth, bestTop - bestHeight, bestHeight);
+            return true;
+        }
+
+        // index 구간의 시작점에 부품을 놓을 때의 바닥 높이, 놓을 수 없으면 -1
+        private double fit(int index, double width, double height) {
+            double x = segmentList.get(index).x;
+            if (x + width > sheetWidth + EPSILON) {
+                return -1;
+            }
+
+            double y = 0;
+            double widthLeft = width;
+            int i = index;
+            while (widthLeft > EPSILON) {
+                Segment segment = segmentList.get(i);
+                y = Math.max(y, segment.y);
+                if (y + height > sheetHeight + EPSILON) {
+                    return -1;
+                }
+                widthLeft -= segment.width;
+                i++;
+            }
+
+            return y;
+        }
+
+        private void add(int index, double width, double y, double height) {
+            Segment placed = new Segment(segmentList.get(index).x, y + height, width);
+            segmentList.add(index, placed);
+
+            // 새 구간에 가려진 뒤쪽 구간을 잘라내거나 제거
+            int i = index + 1;
+            while (i < segmentList.size()) {
+                Segment segment = segmentList.get(i);
+                double overlap = placed.x + placed.width - segment.x;
+                if (overlap <= EPSILON) {
+                    break;
+                }
+
+                if (segment.width - overlap <= EPSILON) {
+                    segmentList.remove(i);
+                } else {
+                    segment.x += overlap;
+                    segment.width -= overlap;
+                    break;
+                }
+            }
+
+            // 높이가 같은 인접 구간 병합
+            for (int j = 0; j < segmentList.size() - 1; j++) {
+                Segment current = segmentList.get(j);
+                Segment next = segmentList.get(j + 1);
+                if (Math.abs(current.y - next.y) <= EPSILON) {
+                    current.width += next.width;
+                    segmentList.remove(j + 1);
+                    j--;
+                }
+            }
+        }
+
+        private double maxHeight() {
+            return segmentList.stream().mapToDouble(segment -> segment.y).max().orElse(0);
+        }
+    }
+
+    private static class Segment {
+        private double x;
+        private final double y;
+        private double width;
+
+        private Segment(double x, double y, double width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+}
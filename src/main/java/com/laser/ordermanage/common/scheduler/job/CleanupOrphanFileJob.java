@@ -0,0 +1,22 @@
+package com.laser.ordermanage.common.scheduler.job;
+
+import com.laser.ordermanage.order.service.OrphanFileCleanupService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+// 이전 실행이 끝나지 않았으면 다음 실행은 건너뜀
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+@Component
+public class CleanupOrphanFileJob implements Job {
+
+    private final OrphanFileCleanupService orphanFileCleanupService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        orphanFileCleanupService.cleanupOrphanFile();
+    }
+}
@@ -0,0 +1,22 @@
+package com.laser.ordermanage.common.scheduler.job;
+
+import com.laser.ordermanage.ingredient.service.IngredientService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+@RequiredArgsConstructor
+@Component
+public class CreateIngredientStatusSnapshotJob implements Job {
+
+    private final IngredientService ingredientService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        // 마감된 전일 자재 재고 데이터를 재고 변동 이력으로 갱신 후 자재 현황 저장
+        ingredientService.createIngredientStatusSnapshot(context.getFireTime().toInstant().atZone(ZoneId.systemDefault()).toLocalDate().minusDays(1));
+    }
+}
@@ -0,0 +1,19 @@
+package com.laser.ordermanage.common.scheduler.job;
+
+import com.laser.ordermanage.order.service.DrawingAnalysisService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RetryDrawingAnalysisJob implements Job {
+
+    private final DrawingAnalysisService drawingAnalysisService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        drawingAnalysisService.retryAnalysis();
+    }
+}
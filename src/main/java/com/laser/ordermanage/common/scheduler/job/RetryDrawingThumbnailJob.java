@@ -0,0 +1,19 @@
+package com.laser.ordermanage.common.scheduler.job;
+
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RetryDrawingThumbnailJob implements Job {
+
+    private final DrawingThumbnailService drawingThumbnailService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        drawingThumbnailService.retryThumbnail();
+    }
+}
@@ -2,5 +2,7 @@ package com.laser.ordermanage.common.scheduler.job.type;
 
 public enum JobType {
     ONE_TIME,
+    EVERY_FIVE_MINUTES,
+    DAILY,
     MONTHLY
 }
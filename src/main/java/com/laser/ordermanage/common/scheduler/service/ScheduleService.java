@@ -3,7 +3,12 @@ package com.laser.ordermanage.common.scheduler.service;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.exception.CommonErrorCode;
 import com.laser.ordermanage.common.scheduler.dto.request.JobRequest;
+import com.laser.ordermanage.common.scheduler.job.CreateIngredientStatusSnapshotJob;
 import com.laser.ordermanage.common.scheduler.job.CreateIngredientStockAndPriceJob;
+import com.laser.ordermanage.common.scheduler.job.CleanupOrphanFileJob;
+import com.laser.ordermanage.common.scheduler.job.RegenerateDrawingThumbnailJob;
+import com.laser.ordermanage.common.scheduler.job.RetryDrawingAnalysisJob;
+import com.laser.ordermanage.common.scheduler.job.RetryDrawingThumbnailJob;
 import com.laser.ordermanage.common.scheduler.job.type.JobType;
 import com.laser.ordermanage.common.scheduler.util.JobUtil;
 import com.laser.ordermanage.common.scheduler.job.ChangeStageToCompletedJob;
@@ -38,6 +43,51 @@ public class ScheduleService {
         this.addJob(jobRequest, CreateIngredientStockAndPriceJob.class);
     }
 
+    public void createJobForCreateIngredientStatusSnapshot() {
+        JobRequest jobRequest = JobRequest.builder()
+                .name(CreateIngredientStatusSnapshotJob.class.getName())
+                .group(CreateIngredientStatusSnapshotJob.class.getName())
+                .jobType(JobType.DAILY)
+                .build();
+        this.addJob(jobRequest, CreateIngredientStatusSnapshotJob.class);
+    }
+
+    public void createJobForRetryDrawingThumbnail() {
+        JobRequest jobRequest = JobRequest.builder()
+                .name(RetryDrawingThumbnailJob.class.getName())
+                .group(RetryDrawingThumbnailJob.class.getName())
+                .jobType(JobType.EVERY_FIVE_MINUTES)
+                .build();
+        this.addJob(jobRequest, RetryDrawingThumbnailJob.class);
+    }
+
+    public void createJobForRetryDrawingAnalysis() {
+        JobRequest jobRequest = JobRequest.builder()
+                .name(RetryDrawingAnalysisJob.class.getName())
+                .group(RetryDrawingAnalysisJob.class.getName())
+                .jobType(JobType.EVERY_FIVE_MINUTES)
+                .build();
+        this.addJob(jobRequest, RetryDrawingAnalysisJob.class);
+    }
+
+    public void createJobForRegenerateDrawingThumbnail() {
+        JobRequest jobRequest = JobRequest.builder()
+                .name(RegenerateDrawingThumbnailJob.class.getName())
+                .group(RegenerateDrawingThumbnailJob.class.getName())
+                .jobType(JobType.EVERY_FIVE_MINUTES)
+                .build();
+        this.addJob(jobRequest, RegenerateDrawingThumbnailJob.class);
+    }
+
+    public void createJobForCleanupOrphanFile() {
+        JobRequest jobRequest = JobRequest.builder()
+                .name(CleanupOrphanFileJob.class.getName())
+                .group(CleanupOrphanFileJob.class.getName())
+                .jobType(JobType.EVERY_FIVE_MINUTES)
+                .build();
+        this.addJob(jobRequest, CleanupOrphanFileJob.class);
+    }
+
     private void addJob(JobRequest jobRequest, Class<? extends Job> jobClass) {
         Trigger trigger = JobUtil.createTrigger(jobRequest);
         JobDetail jobDetail = JobUtil.createJob(jobRequest, jobClass);
@@ -57,6 +107,26 @@ public class ScheduleService {
         this.removeJob(CreateIngredientStockAndPriceJob.class.getName(), CreateIngredientStockAndPriceJob.class.getName());
     }
 
+    public void removeJobForCreateIngredientStatusSnapshot() {
+        this.removeJob(CreateIngredientStatusSnapshotJob.class.getName(), CreateIngredientStatusSnapshotJob.class.getName());
+    }
+
+    public void removeJobForRetryDrawingThumbnail() {
+        this.removeJob(RetryDrawingThumbnailJob.class.getName(), RetryDrawingThumbnailJob.class.getName());
+    }
+
+    public void removeJobForRetryDrawingAnalysis() {
+        this.removeJob(RetryDrawingAnalysisJob.class.getName(), RetryDrawingAnalysisJob.class.getName());
+    }
+
+    public void removeJobForRegenerateDrawingThumbnail() {
+        this.removeJob(RegenerateDrawingThumbnailJob.class.getName(), RegenerateDrawingThumbnailJob.class.getName());
+    }
+
+    public void removeJobForCleanupOrphanFile() {
+        this.removeJob(CleanupOrphanFileJob.class.getName(), CleanupOrphanFileJob.class.getName());
+    }
+
     private void removeJob(String jobName, String groupName) {
         JobKey jobKey = JobKey.jobKey(jobName, groupName);
 
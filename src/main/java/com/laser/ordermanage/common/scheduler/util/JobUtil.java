@@ -17,6 +17,19 @@ public class JobUtil {
                     .withIdentity(triggerKey)
                     .startAt(jobRequest.startAt())
                     .build();
+        } else if (jobRequest.jobType().equals(JobType.EVERY_FIVE_MINUTES)) {
+            return TriggerBuilder.newTrigger()
+                    .withIdentity(triggerKey)
+                    .withSchedule(CronScheduleBuilder.cronSchedule("0 0/5 * * * ?"))
+                    .startNow()
+                    .build();
+        } else if (jobRequest.jobType().equals(JobType.DAILY)) {
+            // 월별 자재 재고 및 가격 생성 작업 (매월 1일 0시) 이후 실행
+            return TriggerBuilder.newTrigger()
+                    .withIdentity(triggerKey)
+                    .withSchedule(CronScheduleBuilder.cronSchedule("0 10 0 * * ?"))
+                    .startNow()
+                    .build();
         } else {
             return TriggerBuilder.newTrigger()
                     .withIdentity(triggerKey)
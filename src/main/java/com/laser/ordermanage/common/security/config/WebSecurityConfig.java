@@ -60,6 +60,7 @@ public class WebSecurityConfig {
                         .requestMatchers("/secure/actuator/**").permitAll() // actuator 권한 허가
                         .requestMatchers("/user", "/user/logout", "/user/password", "/user/password/email-link", "/user/email-notification").authenticated()
                         .requestMatchers("/user/**").permitAll()  // 로그인 및 re-issue JWT AccessToken 검증 X
+                        .requestMatchers("/storage/**").permitAll() // 로컬 저장소 파일 URL (S3 파일 URL 과 같이 인증 없이 접근, 업로드는 서명으로 검증)
                         .requestMatchers("/customer/**", "/drawing/**").hasRole("CUSTOMER")
                         .requestMatchers("/factory/**").hasRole("FACTORY")
                         .anyRequest().authenticated()
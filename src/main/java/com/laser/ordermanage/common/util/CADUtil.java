@@ -2,39 +2,92 @@ package com.laser.ordermanage.common.util;
 
 import com.aspose.cad.Image;
 import com.aspose.cad.imageoptions.CadRasterizationOptions;
+import com.aspose.cad.imageoptions.DxfOptions;
 import com.aspose.cad.imageoptions.PngOptions;
-import com.laser.ordermanage.common.exception.CommonErrorCode;
-import com.laser.ordermanage.common.exception.CustomCommonException;
-import org.springframework.web.multipart.MultipartFile;
+import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
+@Slf4j
 public class CADUtil {
 
+    private static final int THUMBNAIL_SIZE = ThumbnailSize.LARGE.getSize();
+
+    // Aspose 는 헤더로 크기를 알 수 없고 도면 전체를 메모리에 올리므로, 큰 고정 픽셀 수로 예산 확보
+    private static final long ASPOSE_RASTER_PIXELS = 16L * 1024 * 1024;
+
     private CADUtil() {
     }
 
-    public static File extractThumbnail(MultipartFile multipartFile, String tempFolderPath) {
+    /**
+     * DXF 도면의 미리보기 좌표 추출
+     * - Aspose 를 사용하지 않고 ENTITIES 섹션만 읽어서 좌표 배열로 변환
+     * - 변환하지 않는 도형이 있거나 읽을 수 없는 도면은 null 반환 (Aspose 로 썸네일 추출)
+     */
+    public static DXFPreview readDXFPreview(InputStream inputStream, String fileName) {
         try {
-            Image image = Image.load(multipartFile.getInputStream());
+            return DXFUtil.readPreview(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read DXF preview of {}, fallback to Aspose", fileName, e);
+            return null;
+        }
+    }
+
+    // 가장 큰 썸네일 크기로 한 번 그린 후 축소하여 크기별 썸네일 생성
+    public static Map<ThumbnailSize, byte[]> extractThumbnail(DXFPreview preview, RasterBudget rasterBudget) {
+        try (RasterBudget.Permit permit = rasterBudget.acquire(ImageUtil.getRasterPixels((long) THUMBNAIL_SIZE * THUMBNAIL_SIZE))) {
+            return ImageUtil.toThumbnail(preview.toImage(THUMBNAIL_SIZE));
+        }
+    }
+
+    public static byte[] extractPreview(DXFPreview preview) {
+        return preview.toSvg(THUMBNAIL_SIZE).getBytes(StandardCharsets.UTF_8);
+    }
 
+    // Aspose 로 가장 큰 썸네일 크기의 PNG 를 만든 후 축소하여 크기별 썸네일 생성
+    public static Map<ThumbnailSize, byte[]> extractThumbnail(InputStream inputStream, RasterBudget rasterBudget) {
+        try (RasterBudget.Permit permit = rasterBudget.acquire(ASPOSE_RASTER_PIXELS)) {
+            return extractAsposeThumbnail(inputStream);
+        }
+    }
+
+    private static Map<ThumbnailSize, byte[]> extractAsposeThumbnail(InputStream inputStream) {
+        Image image = Image.load(inputStream);
+        try {
             CadRasterizationOptions rasterizationOptions = new CadRasterizationOptions();
 
-            rasterizationOptions.setPageWidth(500);
-            rasterizationOptions.setPageHeight(500);
+            rasterizationOptions.setPageWidth(THUMBNAIL_SIZE);
+            rasterizationOptions.setPageHeight(THUMBNAIL_SIZE);
 
             PngOptions pngOptions = new PngOptions();
 
             pngOptions.setVectorRasterizationOptions(rasterizationOptions);
 
-            String filePath = tempFolderPath + FileUtil.getFileNameWithoutExtension(multipartFile) + "-thumbnail.png";
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(64 * 1024);
+            image.save(outputStream, pngOptions);
 
-            image.save(filePath, pngOptions);
+            // 이미 확보한 예산 안에서 변환
+            return ImageUtil.extractThumbnail(new ByteArrayInputStream(outputStream.toByteArray()), RasterBudget.UNLIMITED);
+        } finally {
+            image.dispose();
+        }
+    }
+
+    // DWG 도면을 DXF 로 변환 (절단 경로 분석용)
+    public static InputStream convertToDXF(InputStream inputStream) {
+        Image image = Image.load(inputStream);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            image.save(outputStream, new DxfOptions());
 
-            return new File(filePath);
-        } catch (IOException e) {
-            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_EXTRACT_THUMBNAIL);
+            return new ByteArrayInputStream(outputStream.toByteArray());
+        } finally {
+            image.dispose();
         }
     }
 }
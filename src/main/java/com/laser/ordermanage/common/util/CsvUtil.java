@@ -0,0 +1,78 @@
+package com.laser.ordermanage.common.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvUtil {
+
+    private CsvUtil() {
+    }
+
+    /**
+     * 레코드 하나를 컬럼 단위로 읽음 (RFC 4180, 파일 끝이면 null)
+     * - 큰따옴표로 감싼 컬럼의 쉼표, 줄바꿈 (여러 줄 컬럼) 및 "" 이스케이프 지원
+     * - 레코드 구분은 CRLF, LF, CR
+     * - 큰따옴표가 닫히지 않은 채 파일이 끝나면 IOException
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> columnList = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean isQuoted = false;
+
+        while (c != -1) {
+            if (isQuoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        column.append('"');
+                    } else {
+                        isQuoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    column.append((char) c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                columnList.add(column.toString().trim());
+                column.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                column.append((char) c);
+            }
+
+            c = reader.read();
+        }
+
+        if (isQuoted) {
+            throw new IOException("Unterminated quoted CSV column");
+        }
+        columnList.add(column.toString().trim());
+
+        return columnList;
+    }
+
+    // 빈 줄 (컬럼 하나가 비어 있는 레코드)
+    public static boolean isBlank(List<String> columnList) {
+        return columnList.size() == 1 && columnList.get(0).isEmpty();
+    }
+
+}
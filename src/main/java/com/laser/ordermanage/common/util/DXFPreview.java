@@ -0,0 +1,156 @@
+package com.laser.ordermanage.common.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DXF 도면의 절단 경로 좌표 (mm)
+ * - 모든 경로의 좌표를 하나의 double 배열에 x, y 순서로 저장하고, 경로마다 끝 위치만 보관
+ * - 썸네일 (PNG) 과 SVG 미리보기는 도면 비율을 유지하여 정사각형 영역의 가운데에 그림
+ */
+public class DXFPreview {
+
+    // 가장자리 여백 비율
+    private static final double MARGIN_RATIO = 0.02;
+
+    private double[] coordinates = new double[1024];
+    private int coordinateCount = 0;
+
+    private int[] pathEnds = new int[64];
+    private int pathCount = 0;
+
+    private double minX = Double.MAX_VALUE;
+    private double minY = Double.MAX_VALUE;
+    private double maxX = -Double.MAX_VALUE;
+    private double maxY = -Double.MAX_VALUE;
+
+    DXFPreview() {
+    }
+
+    void addPath(List<double[]> pointList) {
+        if (coordinateCount + pointList.size() * 2 > coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, Math.max(coordinates.length * 2, coordinateCount + pointList.size() * 2));
+        }
+        for (double[] point : pointList) {
+            coordinates[coordinateCount++] = point[0];
+            coordinates[coordinateCount++] = point[1];
+            minX = Math.min(minX, point[0]);
+            minY = Math.min(minY, point[1]);
+            maxX = Math.max(maxX, point[0]);
+            maxY = Math.max(maxY, point[1]);
+        }
+
+        if (pathCount == pathEnds.length) {
+            pathEnds = Arrays.copyOf(pathEnds, pathEnds.length * 2);
+        }
+        pathEnds[pathCount++] = coordinateCount;
+    }
+
+    boolean isEmpty() {
+        return pathCount == 0;
+    }
+
+    public BufferedImage toImage(int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(1f));
+
+            double scale = scale(size);
+            Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, coordinateCount / 2);
+            int start = 0;
+            for (int i = 0; i < pathCount; i++) {
+                path.moveTo(toX(coordinates[start], size, scale), toY(coordinates[start + 1], size, scale));
+                for (int j = start + 2; j < pathEnds[i]; j += 2) {
+                    path.lineTo(toX(coordinates[j], size, scale), toY(coordinates[j + 1], size, scale));
+                }
+                start = pathEnds[i];
+            }
+            graphics.draw(path);
+        } finally {
+            graphics.dispose();
+        }
+
+        return image;
+    }
+
+    // 좌표는 소수점 첫째 자리까지만 기록하고, 반올림 후 같은 위치가 되는 연속된 점은 생략
+    public String toSvg(int size) {
+        StringBuilder builder = new StringBuilder(coordinateCount * 4 + 256);
+        builder.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(size)
+                .append("\" height=\"").append(size)
+                .append("\" viewBox=\"0 0 ").append(size).append(' ').append(size).append("\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"none\" stroke=\"#000\" stroke-width=\"1\" d=\"");
+
+        double scale = scale(size);
+        int start = 0;
+        for (int i = 0; i < pathCount; i++) {
+            long previousX = Math.round(toX(coordinates[start], size, scale) * 10);
+            long previousY = Math.round(toY(coordinates[start + 1], size, scale) * 10);
+            builder.append('M');
+            appendPoint(builder, previousX, previousY);
+
+            boolean isLineStarted = false;
+            for (int j = start + 2; j < pathEnds[i]; j += 2) {
+                long x = Math.round(toX(coordinates[j], size, scale) * 10);
+                long y = Math.round(toY(coordinates[j + 1], size, scale) * 10);
+                if (x == previousX && y == previousY) {
+                    continue;
+                }
+
+                builder.append(isLineStarted ? ' ' : 'L');
+                appendPoint(builder, x, y);
+                isLineStarted = true;
+                previousX = x;
+                previousY = y;
+            }
+            start = pathEnds[i];
+        }
+
+        return builder.append("\"/></svg>").toString();
+    }
+
+    private double scale(int size) {
+        double extent = Math.max(maxX - minX, maxY - minY);
+        return extent == 0 ? 1 : size * (1 - 2 * MARGIN_RATIO) / extent;
+    }
+
+    private double toX(double x, int size, double scale) {
+        return size / 2.0 + (x - (minX + maxX) / 2) * scale;
+    }
+
+    // 도면은 y 축이 위쪽, 이미지는 아래쪽이므로 뒤집어서 그림
+    private double toY(double y, int size, double scale) {
+        return size / 2.0 - (y - (minY + maxY) / 2) * scale;
+    }
+
+    private static void appendPoint(StringBuilder builder, long x, long y) {
+        appendDecimal(builder, x);
+        builder.append(' ');
+        appendDecimal(builder, y);
+    }
+
+    // 10 배 한 정수 좌표를 소수점 첫째 자리 문자열로 기록 (소수점 아래가 0 이면 생략)
+    private static void appendDecimal(StringBuilder builder, long value) {
+        if (value < 0) {
+            builder.append('-');
+            value = -value;
+        }
+        builder.append(value / 10);
+        if (value % 10 != 0) {
+            builder.append('.').append(value % 10);
+        }
+    }
+}
@@ -0,0 +1,632 @@
+package com.laser.ordermanage.common.util;
+
+import com.laser.ordermanage.common.nesting.NestingPart;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class DXFUtil {
+
+    // 서로 다른 도형이 같은 부품으로 연결되었다고 판단하는 거리 (mm)
+    private static final double CONNECT_TOLERANCE = 0.5;
+
+    // 호, 타원, 스플라인을 선분으로 근사할 때 허용하는 최대 오차 (mm)
+    private static final double FLATTEN_TOLERANCE = 0.05;
+
+    // 열린 도형의 끝점이 이어져 있다고 판단하는 거리 (mm)
+    private static final double ENDPOINT_TOLERANCE = 0.01;
+
+    // 절단 경로로 변환하는 도형 (POINT 는 그리지 않지만 무시해도 되는 도형)
+    private static final Set<String> SUPPORTED_ENTITY_SET = Set.of(
+            "LINE", "ARC", "CIRCLE", "ELLIPSE", "LWPOLYLINE", "POLYLINE", "VERTEX", "SEQEND", "SPLINE", "POINT"
+    );
+
+    private DXFUtil() {
+    }
+
+    public record CutMetrics(
+            double cutLength,
+            int pierceCount,
+            double partArea
+    ) {}
+
+    /**
+     * DXF 도면의 부품 외곽 추출
+     * - 절단 경로의 경계 사각형이 서로 닿는 도형을 하나의 부품으로 묶고, 부품의 경계 사각형을 외곽으로 사용 (내부 타공은 외곽에 포함)
+     */
+    public static List<NestingPart> extractPartList(InputStream inputStream) throws IOException {
+        List<Bounds> boundsList = new ArrayList<>();
+        readPathList(inputStream, path -> boundsList.add(Bounds.of(path.pointList())));
+
+        List<NestingPart> partList = new ArrayList<>();
+        for (Bounds bounds : groupConnectedBounds(boundsList)) {
+            partList.add(new NestingPart(bounds.width(), bounds.height()));
+        }
+
+        return partList;
+    }
+
+    /**
+     * DXF 도면의 절단 길이 (mm), 피어싱 횟수 및 부품 면적 (mm²) 계산
+     * - 절단 길이 : 모든 절단 경로 길이의 합
+     * - 피어싱 횟수 : 닫힌 경로 (원, 닫힌 폴리라인 등) 는 경로마다 1 회, 열린 경로는 끝점이 이어진 경로 묶음마다 1 회
+     * - 부품 면적 : 부품 외곽 (extractPartList 와 같은 경계 사각형) 면적의 합
+     */
+    public static CutMetrics extractCutMetrics(InputStream inputStream) throws IOException {
+        double[] cutLength = {0};
+        int[] closedPathCount = {0};
+        List<DXFPath> openPathList = new ArrayList<>();
+        List<Bounds> boundsList = new ArrayList<>();
+
+        readPathList(inputStream, path -> {
+            cutLength[0] += path.length();
+            if (path.isClosed()) {
+                closedPathCount[0]++;
+            } else {
+                openPathList.add(path);
+            }
+            boundsList.add(Bounds.of(path.pointList()));
+        });
+
+        double partArea = 0;
+        for (Bounds bounds : groupConnectedBounds(boundsList)) {
+            partArea += bounds.width() * bounds.height();
+        }
+
+        return new CutMetrics(cutLength[0], closedPathCount[0] + countConnectedOpenPath(openPathList), partArea);
+    }
+
+    /**
+     * DXF 도면의 미리보기 (썸네일, SVG) 용 좌표 추출
+     * - 절단 경로를 좌표 배열에 순서대로 저장
+     * - 블록 참조 (INSERT), 치수, 문자, 해칭 등 변환하지 않는 도형이 있으면 미리보기가 실제 도면과 달라지므로 null 반환
+     */
+    public static DXFPreview readPreview(InputStream inputStream) throws IOException {
+        DXFPreview preview = new DXFPreview();
+        boolean[] hasUnsupportedEntity = {false};
+
+        readPathList(inputStream, path -> preview.addPath(path.pointList()), type -> hasUnsupportedEntity[0] = true);
+
+        return hasUnsupportedEntity[0] || preview.isEmpty() ? null : preview;
+    }
+
+    private static void readPathList(InputStream inputStream, Consumer<DXFPath> consumer) throws IOException {
+        readPathList(inputStream, consumer, type -> {});
+    }
+
+    /**
+     * DXF 도면을 한 줄씩 읽으며 절단 경로를 mm 단위 선분 목록으로 변환
+     * - HEADER 의 $INSUNITS 로 단위를 확인하여 mm 로 변환
+     * - ENTITIES 섹션의 절단 대상 도형 (LINE, ARC, CIRCLE, ELLIPSE, LWPOLYLINE, POLYLINE, SPLINE) 만 변환
+     * - 치수, 문자, 해칭, 블록 참조 (INSERT) 등은 제외
+     */
+    private static void readPathList(InputStream inputStream, Consumer<DXFPath> consumer, Consumer<String> unsupportedEntityConsumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.ISO_8859_1));
+
+        double unitScale = 1;
+        String section = null;
+        String headerVariable = null;
+        DXFEntity entity = null;
+        DXFEntity polyline = null;
+
+        String codeLine;
+        while ((codeLine = reader.readLine()) != null) {
+            String value = reader.readLine();
+            if (value == null) {
+                break;
+            }
+
+            int code = Integer.parseInt(codeLine.trim());
+            value = value.trim();
+
+            if (code == 0) {
+                if (entity != null) {
+                    if ("POLYLINE".equals(entity.type)) {
+                        polyline = entity;
+                    } else if ("VERTEX".equals(entity.type) && polyline != null) {
+                        polyline.appendVertex(entity);
+                    } else {
+                        entity.toPath(unitScale, consumer);
+                    }
+                }
+                entity = null;
+
+                if ("SEQEND".equals(value) && polyline != null) {
+                    polyline.toPath(unitScale, consumer);
+                    polyline = null;
+                } else if ("ENDSEC".equals(value)) {
+                    if ("ENTITIES".equals(section)) {
+                        return;
+                    }
+                    section = null;
+                } else if ("ENTITIES".equals(section)) {
+                    entity = new DXFEntity(value);
+                    if (!SUPPORTED_ENTITY_SET.contains(value)) {
+                        unsupportedEntityConsumer.accept(value);
+                    }
+                }
+                continue;
+            }
+
+            if (section == null && code == 2) {
+                section = value;
+            } else if ("HEADER".equals(section)) {
+                if (code == 9) {
+                    headerVariable = value;
+                } else if (code == 70 && "$INSUNITS".equals(headerVariable)) {
+                    unitScale = toMillimeterScale(Integer.parseInt(value));
+                }
+            } else if (entity != null && isNumericCode(code)) {
+                entity.add(code, Double.parseDouble(value));
+            }
+        }
+
+        if (entity != null) {
+            entity.toPath(unitScale, consumer);
+        }
+    }
+
+    private static boolean isNumericCode(int code) {
+        return (code >= 10 && code <= 59) || (code >= 70 && code <= 79) || (code >= 90 && code <= 99);
+    }
+
+    // $INSUNITS 값을 mm 배율로 변환 (단위가 없으면 mm 로 간주)
+    private static double toMillimeterScale(int insUnits) {
+        return switch (insUnits) {
+            case 1 -> 25.4;
+            case 2 -> 304.8;
+            case 5 -> 10;
+            case 6 -> 1000;
+            default -> 1;
+        };
+    }
+
+    // 경계 사각형이 겹치는 도형을 하나의 부품으로 병합 (x 좌표 기준 정렬 후 sweep)
+    private static List<Bounds> groupConnectedBounds(List<Bounds> boundsList) {
+        List<Bounds> sortedBoundsList = new ArrayList<>(boundsList);
+        sortedBoundsList.sort(Comparator.comparingDouble(bounds -> bounds.minX));
+
+        int[] parent = new int[sortedBoundsList.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        for (int i = 0; i < sortedBoundsList.size(); i++) {
+            Bounds current = sortedBoundsList.get(i);
+            for (int j = i + 1; j < sortedBoundsList.size(); j++) {
+                Bounds next = sortedBoundsList.get(j);
+                if (next.minX > current.maxX + CONNECT_TOLERANCE) {
+                    break;
+                }
+                if (current.intersects(next)) {
+                    union(parent, i, j);
+                }
+            }
+        }
+
+        List<Bounds> groupList = new ArrayList<>();
+        Bounds[] groupByRoot = new Bounds[parent.length];
+        for (int i = 0; i < sortedBoundsList.size(); i++) {
+            int root = find(parent, i);
+            if (groupByRoot[root] == null) {
+                groupByRoot[root] = new Bounds();
+                groupList.add(groupByRoot[root]);
+            }
+            groupByRoot[root].merge(sortedBoundsList.get(i));
+        }
+
+        // L 자 형태 부품의 경계 사각형 안에 다른 부품이 있는 경우처럼 병합 후 겹치는 부품이 생기면 다시 병합
+        boolean isMerged = true;
+        while (isMerged) {
+            isMerged = false;
+            for (int i = 0; i < groupList.size() && !isMerged; i++) {
+                for (int j = i + 1; j < groupList.size(); j++) {
+                    if (groupList.get(i).intersects(groupList.get(j))) {
+                        groupList.get(i).merge(groupList.remove(j));
+                        isMerged = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return groupList;
+    }
+
+    // 끝점이 이어진 열린 경로 묶음 개수 (끝점 좌표를 허용 오차 격자로 맞춰서 비교)
+    private static int countConnectedOpenPath(List<DXFPath> openPathList) {
+        int[] parent = new int[openPathList.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        Map<Long, Integer> pathIndexByEndpoint = new HashMap<>();
+        for (int i = 0; i < openPathList.size(); i++) {
+            List<double[]> pointList = openPathList.get(i).pointList();
+            for (double[] endpoint : List.of(pointList.get(0), pointList.get(pointList.size() - 1))) {
+                Integer connectedIndex = pathIndexByEndpoint.putIfAbsent(toEndpointKey(endpoint), i);
+                if (connectedIndex != null) {
+                    union(parent, connectedIndex, i);
+                }
+            }
+        }
+
+        int groupCount = 0;
+        for (int i = 0; i < parent.length; i++) {
+            if (find(parent, i) == i) {
+                groupCount++;
+            }
+        }
+
+        return groupCount;
+    }
+
+    private static long toEndpointKey(double[] point) {
+        long x = Math.round(point[0] / ENDPOINT_TOLERANCE);
+        long y = Math.round(point[1] / ENDPOINT_TOLERANCE);
+        return x * 31_000_003L + y;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, b)] = find(parent, a);
+    }
+
+    private static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    // mm 단위 선분 목록으로 변환된 절단 경로
+    private record DXFPath(
+            List<double[]> pointList,
+            boolean isClosed
+    ) {
+        double length() {
+            double length = 0;
+            for (int i = 1; i < pointList.size(); i++) {
+                length += Math.hypot(pointList.get(i)[0] - pointList.get(i - 1)[0], pointList.get(i)[1] - pointList.get(i - 1)[1]);
+            }
+            return length;
+        }
+    }
+
+    private static class Bounds {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+
+        static Bounds of(List<double[]> pointList) {
+            Bounds bounds = new Bounds();
+            pointList.forEach(point -> bounds.add(point[0], point[1]));
+            return bounds;
+        }
+
+        void add(double x, double y) {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+
+        void merge(Bounds other) {
+            add(other.minX, other.minY);
+            add(other.maxX, other.maxY);
+        }
+
+        boolean intersects(Bounds other) {
+            return minX <= other.maxX + CONNECT_TOLERANCE && other.minX <= maxX + CONNECT_TOLERANCE
+                    && minY <= other.maxY + CONNECT_TOLERANCE && other.minY <= maxY + CONNECT_TOLERANCE;
+        }
+
+        double width() {
+            return maxX - minX;
+        }
+
+        double height() {
+            return maxY - minY;
+        }
+    }
+
+    // 하나의 도형에 대한 그룹 코드 값 (같은 코드가 여러 번 나오는 꼭짓점, 제어점 등은 순서대로 보관)
+    private static class DXFEntity {
+        private final String type;
+        private final List<Integer> codeList = new ArrayList<>();
+        private final List<Double> valueList = new ArrayList<>();
+
+        DXFEntity(String type) {
+            this.type = type;
+        }
+
+        void add(int code, double value) {
+            codeList.add(code);
+            valueList.add(value);
+        }
+
+        // POLYLINE 자체의 좌표는 항상 원점이므로 VERTEX 의 좌표 및 bulge 만 이어서 보관
+        void appendVertex(DXFEntity vertex) {
+            for (int i = 0; i < vertex.codeList.size(); i++) {
+                int code = vertex.codeList.get(i);
+                if (code == 10 || code == 20 || code == 42) {
+                    add(code, vertex.valueList.get(i));
+                }
+            }
+        }
+
+        double get(int code, double defaultValue) {
+            int index = codeList.indexOf(code);
+            return index < 0 ? defaultValue : valueList.get(index);
+        }
+
+        List<Double> getAll(int code) {
+            List<Double> result = new ArrayList<>();
+            for (int i = 0; i < codeList.size(); i++) {
+                if (codeList.get(i) == code) {
+                    result.add(valueList.get(i));
+                }
+            }
+            return result;
+        }
+
+        void toPath(double scale, Consumer<DXFPath> consumer) {
+            List<double[]> pointList = new ArrayList<>();
+            boolean isClosed;
+
+            switch (type) {
+                case "LINE" -> {
+                    pointList.add(point(get(10, 0), get(20, 0), scale));
+                    pointList.add(point(get(11, 0), get(21, 0), scale));
+                    isClosed = false;
+                }
+                case "CIRCLE" -> {
+                    addArc(pointList, get(10, 0) * scale, get(20, 0) * scale, get(40, 0) * scale, 0, 2 * Math.PI);
+                    isClosed = true;
+                }
+                case "ARC" -> {
+                    double startAngle = Math.toRadians(get(50, 0));
+                    double sweep = normalizeRadian(Math.toRadians(get(51, 360)) - startAngle);
+                    addArc(pointList, get(10, 0) * scale, get(20, 0) * scale, get(40, 0) * scale, startAngle, sweep == 0 ? 2 * Math.PI : sweep);
+                    isClosed = false;
+                }
+                case "ELLIPSE" -> {
+                    double startParameter = get(41, 0);
+                    double sweep = normalizeRadian(get(42, 2 * Math.PI) - startParameter);
+                    isClosed = sweep == 0;
+                    addEllipse(pointList, scale, startParameter, isClosed ? 2 * Math.PI : sweep);
+                }
+                case "LWPOLYLINE", "POLYLINE" -> {
+                    isClosed = ((int) get(70, 0) & 1) == 1;
+                    addPolyline(pointList, scale, isClosed);
+                }
+                case "SPLINE" -> {
+                    isClosed = ((int) get(70, 0) & 1) == 1;
+                    addSpline(pointList, scale);
+                }
+                // 절단 대상이 아닌 도형은 제외
+                default -> {
+                    return;
+                }
+            }
+
+            if (pointList.size() < 2) {
+                return;
+            }
+
+            // 시작점과 끝점이 같으면 닫힌 경로
+            double[] first = pointList.get(0);
+            double[] last = pointList.get(pointList.size() - 1);
+            if (Math.hypot(first[0] - last[0], first[1] - last[1]) <= ENDPOINT_TOLERANCE) {
+                isClosed = true;
+            }
+
+            consumer.accept(new DXFPath(pointList, isClosed));
+        }
+
+        private void addPolyline(List<double[]> pointList, double scale, boolean isClosed) {
+            List<double[]> vertexList = new ArrayList<>();
+            List<Double> bulgeList = new ArrayList<>();
+            double x = 0;
+            for (int i = 0; i < codeList.size(); i++) {
+                int code = codeList.get(i);
+                double value = valueList.get(i);
+                if (code == 10) {
+                    x = value;
+                } else if (code == 20) {
+                    vertexList.add(point(x, value, scale));
+                    bulgeList.add(0.0);
+                } else if (code == 42 && !bulgeList.isEmpty()) {
+                    // bulge 는 해당 꼭짓점에서 다음 꼭짓점까지의 호
+                    bulgeList.set(bulgeList.size() - 1, value);
+                }
+            }
+
+            if (vertexList.isEmpty()) {
+                return;
+            }
+
+            int segmentCount = isClosed ? vertexList.size() : vertexList.size() - 1;
+            pointList.add(vertexList.get(0));
+            for (int i = 0; i < segmentCount; i++) {
+                double[] start = vertexList.get(i);
+                double[] end = vertexList.get((i + 1) % vertexList.size());
+                double bulge = bulgeList.get(i);
+
+                if (bulge == 0) {
+                    pointList.add(end);
+                    continue;
+                }
+
+                // bulge = tan(중심각 / 4), 양수이면 반시계 방향
+                double sweep = 4 * Math.atan(bulge);
+                double chord = Math.hypot(end[0] - start[0], end[1] - start[1]);
+                double radius = chord / (2 * Math.sin(Math.abs(sweep) / 2));
+                double chordAngle = Math.atan2(end[1] - start[1], end[0] - start[0]);
+                double centerAngle = chordAngle + Math.signum(sweep) * (Math.PI / 2 - Math.abs(sweep) / 2);
+                double centerX = start[0] + radius * Math.cos(centerAngle);
+                double centerY = start[1] + radius * Math.sin(centerAngle);
+                double startAngle = Math.atan2(start[1] - centerY, start[0] - centerX);
+
+                List<double[]> arcPointList = new ArrayList<>();
+                addArc(arcPointList, centerX, centerY, radius, startAngle, sweep);
+                pointList.addAll(arcPointList.subList(1, arcPointList.size()));
+            }
+        }
+
+        private void addEllipse(List<double[]> pointList, double scale, double startParameter, double sweep) {
+            double centerX = get(10, 0) * scale;
+            double centerY = get(20, 0) * scale;
+            double majorX = get(11, 0) * scale;
+            double majorY = get(21, 0) * scale;
+            double ratio = get(40, 1);
+
+            int segmentCount = segmentCount(Math.hypot(majorX, majorY), sweep);
+            for (int i = 0; i <= segmentCount; i++) {
+                double parameter = startParameter + sweep * i / segmentCount;
+                double cos = Math.cos(parameter);
+                double sin = Math.sin(parameter);
+                pointList.add(new double[]{
+                        centerX + majorX * cos - ratio * majorY * sin,
+                        centerY + majorY * cos + ratio * majorX * sin
+                });
+            }
+        }
+
+        private void addSpline(List<double[]> pointList, double scale) {
+            List<Double> knotList = getAll(40);
+            List<Double> weightList = getAll(41);
+            List<double[]> controlPointList = pairList(10, 20, scale);
+            int degree = (int) get(71, 3);
+
+            // 제어점이 없는 스플라인은 맞춤점 (fit point) 을 잇는 선분으로 근사
+            if (controlPointList.size() <= degree || knotList.size() != controlPointList.size() + degree + 1) {
+                pointList.addAll(controlPointList.isEmpty() ? pairList(11, 21, scale) : controlPointList);
+                return;
+            }
+
+            double[] weights = new double[controlPointList.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = i < weightList.size() ? weightList.get(i) : 1;
+            }
+
+            double start = knotList.get(degree);
+            double end = knotList.get(controlPointList.size());
+            double[] startPoint = evaluateSpline(degree, knotList, controlPointList, weights, start);
+            double[] endPoint = evaluateSpline(degree, knotList, controlPointList, weights, end);
+
+            pointList.add(startPoint);
+            // 제어점 구간마다 나누어 평가한 뒤 허용 오차를 넘는 구간만 다시 분할
+            int spanCount = controlPointList.size() - degree;
+            double[] previous = startPoint;
+            for (int span = 1; span <= spanCount; span++) {
+                double t = start + (end - start) * span / spanCount;
+                double[] next = span == spanCount ? endPoint : evaluateSpline(degree, knotList, controlPointList, weights, t);
+                subdivideSpline(pointList, degree, knotList, controlPointList, weights, start + (end - start) * (span - 1) / spanCount, t, previous, next, 0);
+                previous = next;
+            }
+        }
+
+        private void subdivideSpline(List<double[]> pointList, int degree, List<Double> knotList, List<double[]> controlPointList, double[] weights,
+                                     double startParameter, double endParameter, double[] start, double[] end, int depth) {
+            double middleParameter = (startParameter + endParameter) / 2;
+            double[] middle = evaluateSpline(degree, knotList, controlPointList, weights, middleParameter);
+
+            if (depth < 12 && distanceToSegment(middle, start, end) > FLATTEN_TOLERANCE) {
+                subdivideSpline(pointList, degree, knotList, controlPointList, weights, startParameter, middleParameter, start, middle, depth + 1);
+                subdivideSpline(pointList, degree, knotList, controlPointList, weights, middleParameter, endParameter, middle, end, depth + 1);
+            } else {
+                pointList.add(end);
+            }
+        }
+
+        // de Boor 알고리즘 (가중치가 있는 NURBS 포함)
+        private static double[] evaluateSpline(int degree, List<Double> knotList, List<double[]> controlPointList, double[] weights, double t) {
+            int span = degree;
+            while (span < controlPointList.size() - 1 && t >= knotList.get(span + 1)) {
+                span++;
+            }
+
+            double[][] d = new double[degree + 1][3];
+            for (int j = 0; j <= degree; j++) {
+                double[] controlPoint = controlPointList.get(span - degree + j);
+                double weight = weights[span - degree + j];
+                d[j] = new double[]{controlPoint[0] * weight, controlPoint[1] * weight, weight};
+            }
+
+            for (int r = 1; r <= degree; r++) {
+                for (int j = degree; j >= r; j--) {
+                    double left = knotList.get(span - degree + j);
+                    double right = knotList.get(span + 1 + j - r);
+                    double alpha = right == left ? 0 : (t - left) / (right - left);
+                    for (int k = 0; k < 3; k++) {
+                        d[j][k] = (1 - alpha) * d[j - 1][k] + alpha * d[j][k];
+                    }
+                }
+            }
+
+            return new double[]{d[degree][0] / d[degree][2], d[degree][1] / d[degree][2]};
+        }
+
+        private List<double[]> pairList(int xCode, int yCode, double scale) {
+            List<double[]> result = new ArrayList<>();
+            double x = 0;
+            for (int i = 0; i < codeList.size(); i++) {
+                if (codeList.get(i) == xCode) {
+                    x = valueList.get(i);
+                } else if (codeList.get(i) == yCode) {
+                    result.add(point(x, valueList.get(i), scale));
+                }
+            }
+            return result;
+        }
+
+        private static void addArc(List<double[]> pointList, double centerX, double centerY, double radius, double startAngle, double sweep) {
+            int segmentCount = segmentCount(radius, Math.abs(sweep));
+            for (int i = 0; i <= segmentCount; i++) {
+                double angle = startAngle + sweep * i / segmentCount;
+                pointList.add(new double[]{centerX + radius * Math.cos(angle), centerY + radius * Math.sin(angle)});
+            }
+        }
+
+        // 현과 호 사이의 거리가 허용 오차 이하가 되는 선분 개수
+        private static int segmentCount(double radius, double sweep) {
+            if (radius <= FLATTEN_TOLERANCE) {
+                return 4;
+            }
+            double maxStep = 2 * Math.acos(1 - FLATTEN_TOLERANCE / radius);
+            return Math.max(4, (int) Math.ceil(sweep / maxStep));
+        }
+
+        private static double distanceToSegment(double[] point, double[] start, double[] end) {
+            double dx = end[0] - start[0];
+            double dy = end[1] - start[1];
+            double lengthSquared = dx * dx + dy * dy;
+            if (lengthSquared == 0) {
+                return Math.hypot(point[0] - start[0], point[1] - start[1]);
+            }
+            double t = Math.max(0, Math.min(1, ((point[0] - start[0]) * dx + (point[1] - start[1]) * dy) / lengthSquared));
+            return Math.hypot(point[0] - (start[0] + t * dx), point[1] - (start[1] + t * dy));
+        }
+
+        private static double normalizeRadian(double angle) {
+            double normalized = angle % (2 * Math.PI);
+            return normalized < 0 ? normalized + 2 * Math.PI : normalized;
+        }
+
+        private static double[] point(double x, double y, double scale) {
+            return new double[]{x * scale, y * scale};
+        }
+    }
+}
@@ -1,14 +1,42 @@
 package com.laser.ordermanage.common.util;
 
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
 public class FileUtil {
 
+    // 파일 형식 확인에 필요한 파일 앞부분 크기
+    public static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] PDF_SIGNATURE = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] DWG_SIGNATURE = "AC10".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BINARY_DXF_SIGNATURE = "AutoCAD Binary DXF".getBytes(StandardCharsets.US_ASCII);
+    // HWP, DOC, XLS, CELL (OLE 복합 문서)
+    private static final byte[] OLE_SIGNATURE = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    // DOCX, XLSX, CELL (ZIP 컨테이너)
+    private static final byte[] ZIP_SIGNATURE = {'P', 'K', 0x03, 0x04};
+
     private FileUtil() {
     }
 
     public static String getFileNameWithoutExtension(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
+        return getFileNameWithoutExtension(file.getOriginalFilename());
+    }
+
+    public static String getFileNameWithoutExtension(String fileName) {
         if (fileName != null && fileName.contains(".")) {
             return fileName.substring(0, fileName.lastIndexOf("."));
         } else {
@@ -17,7 +45,10 @@ public class FileUtil {
     }
 
     public static String getExtension(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
+        return getExtension(file.getOriginalFilename());
+    }
+
+    public static String getExtension(String fileName) {
         if (fileName != null && fileName.contains(".")) {
             return fileName.substring(fileName.lastIndexOf(".") + 1);
         } else {
@@ -25,4 +56,62 @@ public class FileUtil {
         }
     }
 
+    // 파일 내용의 SHA-256 해시 (16진수 문자열)
+    public static String getSha256(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return getSha256(inputStream);
+        } catch (IOException e) {
+            throw new CustomCommonException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public static String getSha256(InputStream inputStream) {
+        try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, MessageDigest.getInstance("SHA-256"))) {
+            digestInputStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digestInputStream.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomCommonException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 파일 앞부분 (magic bytes) 이 확장자의 파일 형식과 일치하는지 확인
+     * - ASCII DXF 는 magic bytes 가 없으므로 그룹 코드 (숫자) 로 시작하는지 확인
+     * - 확인하지 않는 확장자는 일치하는 것으로 판단
+     */
+    public static boolean matchesSignature(String extension, byte[] header) {
+        return switch (extension) {
+            case "pdf" -> startsWith(header, PDF_SIGNATURE);
+            case "png" -> startsWith(header, PNG_SIGNATURE);
+            case "jpg", "jpeg" -> startsWith(header, JPG_SIGNATURE);
+            case "dwg" -> startsWith(header, DWG_SIGNATURE);
+            case "dxf" -> startsWith(header, BINARY_DXF_SIGNATURE) || startsWithGroupCode(header);
+            case "hwp", "doc", "xls" -> startsWith(header, OLE_SIGNATURE);
+            case "docx", "xlsx" -> startsWith(header, ZIP_SIGNATURE);
+            case "cell" -> startsWith(header, OLE_SIGNATURE) || startsWith(header, ZIP_SIGNATURE);
+            default -> true;
+        };
+    }
+
+    // 이미 압축된 파일 형식 (다시 압축해도 크기가 거의 줄지 않음)
+    public static boolean isCompressed(String extension) {
+        return switch (extension) {
+            case "pdf", "png", "jpg", "jpeg", "dwg", "docx", "xlsx", "zip" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private static boolean startsWithGroupCode(byte[] header) {
+        for (byte b : header) {
+            if (!Character.isWhitespace(b)) {
+                return Character.isDigit(b);
+            }
+        }
+        return false;
+    }
+
 }
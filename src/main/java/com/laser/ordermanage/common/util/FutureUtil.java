@@ -0,0 +1,24 @@
+package com.laser.ordermanage.common.util;
+
+import com.laser.ordermanage.common.exception.CustomCommonException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class FutureUtil {
+
+    private FutureUtil() {
+    }
+
+    // 비동기 작업의 완료를 기다리고, 작업에서 발생한 CustomCommonException 은 그대로 전달 (CompletionException 으로 감싸지 않음)
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CustomCommonException customCommonException) {
+                throw customCommonException;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,34 +3,115 @@ package com.laser.ordermanage.common.util;
 import com.laser.ordermanage.common.exception.CommonErrorCode;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import org.imgscalr.Scalr;
-import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
 
 public class ImageUtil {
 
+    // 축소 품질을 위해 가장 큰 썸네일 크기의 2 배 이상으로 디코딩
+    private static final int DECODE_SIZE = ThumbnailSize.LARGE.getSize() * 2;
+
     private ImageUtil() {
 
     }
 
-    public static File extractThumbnail(MultipartFile multipartFile, String tempFolderPath) {
-        try {
-            // MultipartFile to BufferedImage
-            BufferedImage bufferedImage = ImageIO.read(multipartFile.getInputStream());
+    /**
+     * 이미지 파일을 크기별 PNG 썸네일로 변환
+     * - 헤더의 이미지 크기로 subsampling 비율을 정해서, 전체 이미지를 디코딩하지 않고 가장 큰 썸네일 크기의 2 배 이상으로만 디코딩 (50MP 스캔 이미지도 약 1 ~ 2MP)
+     * - 디코딩할 이미지 크기만큼 픽셀 예산을 확보한 후 디코딩
+     */
+    public static Map<ThumbnailSize, byte[]> extractThumbnail(InputStream inputStream, RasterBudget rasterBudget) {
+        // ImageIO 의 임시 파일 캐시를 사용하지 않음
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            Iterator<ImageReader> imageReaderIterator = ImageIO.getImageReaders(imageInputStream);
+            if (!imageReaderIterator.hasNext()) {
+                throw new CustomCommonException(CommonErrorCode.UNABLE_TO_EXTRACT_THUMBNAIL);
+            }
 
-            // resize image
-            BufferedImage resizedImage = Scalr.resize(bufferedImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_EXACT, 500, 500, Scalr.OP_ANTIALIAS);
+            ImageReader imageReader = imageReaderIterator.next();
+            try {
+                imageReader.setInput(imageInputStream, true, true);
 
-            String filePath = tempFolderPath + FileUtil.getFileNameWithoutExtension(multipartFile) + "-thumbnail.png";
+                // 가로 세로 비율을 유지하도록 긴 변 기준으로 같은 비율로 subsampling
+                int width = imageReader.getWidth(0);
+                int height = imageReader.getHeight(0);
+                int subsampling = Math.max(1, Math.max(width, height) / DECODE_SIZE);
+                ImageReadParam imageReadParam = imageReader.getDefaultReadParam();
+                imageReadParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                long decodePixels = (long) ((width + subsampling - 1) / subsampling) * ((height + subsampling - 1) / subsampling);
+                try (RasterBudget.Permit permit = rasterBudget.acquire(getRasterPixels(decodePixels))) {
+                    return toThumbnail(imageReader.read(0, imageReadParam));
+                }
+            } finally {
+                imageReader.dispose();
+            }
+        } catch (IOException e) {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_EXTRACT_THUMBNAIL);
+        }
+    }
 
-            ImageIO.write(resizedImage, "png", new File(filePath));
+    // 원본 이미지와 단계적 축소 중 만들어지는 이미지를 함께 계산 (축소 이미지의 합은 원본 이미지보다 작음)
+    static long getRasterPixels(long imagePixels) {
+        return imagePixels * 2;
+    }
 
-            return new File(filePath);
+    /**
+     * 한 번 디코딩한 이미지로 크기별 PNG 썸네일 생성
+     * - 가로 세로 비율을 유지하여 긴 변을 썸네일 크기로 맞춤
+     * - 큰 썸네일부터 단계적으로 축소 (Scalr.Method.QUALITY) 하고, 작은 썸네일은 바로 앞 썸네일에서 축소
+     */
+    public static Map<ThumbnailSize, byte[]> toThumbnail(BufferedImage image) {
+        Map<ThumbnailSize, byte[]> thumbnailMap = new EnumMap<>(ThumbnailSize.class);
+        try {
+            BufferedImage source = image;
+            for (ThumbnailSize thumbnailSize : ThumbnailSize.values()) {
+                BufferedImage resizedImage = Math.max(source.getWidth(), source.getHeight()) > thumbnailSize.getSize()
+                        ? Scalr.resize(source, Scalr.Method.QUALITY, Scalr.Mode.AUTOMATIC, thumbnailSize.getSize(), Scalr.OP_ANTIALIAS)
+                        : source;
+                thumbnailMap.put(thumbnailSize, toPng(resizedImage));
+                source = resizedImage;
+            }
         } catch (IOException e) {
             throw new CustomCommonException(CommonErrorCode.UNABLE_TO_EXTRACT_THUMBNAIL);
+        } finally {
+            image.flush();
         }
+
+        return thumbnailMap;
+    }
+
+    // 이미지를 메모리에서 최대 압축 PNG 로 변환 (ImageIO 의 임시 파일 캐시를 사용하지 않음)
+    public static byte[] toPng(BufferedImage image) throws IOException {
+        ImageWriter imageWriter = ImageIO.getImageWritersByFormatName("png").next();
+        ImageWriteParam imageWriteParam = imageWriter.getDefaultWriteParam();
+        imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        imageWriteParam.setCompressionQuality(0f);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(64 * 1024);
+        try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            imageWriter.setOutput(imageOutputStream);
+            imageWriter.write(null, new IIOImage(image, null, null), imageWriteParam);
+        } finally {
+            imageWriter.dispose();
+        }
+
+        return outputStream.toByteArray();
     }
 }
@@ -3,48 +3,99 @@ package com.laser.ordermanage.common.util;
 import com.laser.ordermanage.common.exception.CommonErrorCode;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
-import org.imgscalr.Scalr;
-import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.Map;
 
 public class PDFUtil {
 
+    // 축소 품질을 위해 가장 큰 썸네일 크기의 2 배로 렌더링
+    private static final int RENDER_SIZE = ThumbnailSize.LARGE.getSize() * 2;
+
+    // 기존 고정 해상도 (300 DPI) 보다 크게 렌더링하지 않음
+    private static final float MAX_RENDER_SCALE = 300 / 72f;
+
+    // PDF 파일 및 스트림 캐시는 이 크기까지 메모리에 두고, 초과하면 임시 파일 사용
+    private static final long MAX_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+
     private PDFUtil() {
 
     }
 
-    public static File extractThumbnail(MultipartFile multipartFile, String tempFolderPath) {
+    /**
+     * PDF 첫 페이지를 크기별 PNG 썸네일로 변환
+     * - 페이지 크기 (crop box) 로 렌더링 배율을 계산하여, 페이지 크기와 관계없이 썸네일 크기에 가까운 이미지만 렌더링 (A0 도면도 약 1000 x 700)
+     * - 큰 PDF 는 파일 전체를 메모리에 올리지 않고 임시 파일로 받아서 읽고, 스트림 캐시도 임시 파일 사용
+     * - 렌더링할 이미지 크기만큼 픽셀 예산을 확보한 후 렌더링
+     */
+    public static Map<ThumbnailSize, byte[]> extractThumbnail(InputStream inputStream, RasterBudget rasterBudget) {
+        Path tempFilePath = null;
         try {
-            // 일시적인 파일 생성
-            Path tempFile = Files.createTempFile("uploadedDrawing-", ".pdf");
-            Files.copy(multipartFile.getInputStream(), tempFile, StandardCopyOption.REPLACE_EXISTING);
-
-            try (PDDocument document = Loader.loadPDF(tempFile.toFile())) {
-                PDFRenderer renderer = new PDFRenderer(document);
-                BufferedImage originalImage = renderer.renderImageWithDPI(0, 300);
-
-                // 이미지 크기 조정
-                BufferedImage resizedImage = Scalr.resize(originalImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_EXACT, 500, 500, Scalr.OP_ANTIALIAS);
+            // 최대 MAX_MAIN_MEMORY_BYTES 까지만 메모리로 읽고, 더 크면 읽은 부분과 나머지를 임시 파일에 씀
+            byte[] head = inputStream.readNBytes((int) MAX_MAIN_MEMORY_BYTES + 1);
+            RandomAccessRead source;
+            if (head.length <= MAX_MAIN_MEMORY_BYTES) {
+                source = new RandomAccessReadBuffer(head);
+            } else {
+                tempFilePath = Files.createTempFile("drawing-pdf-", ".pdf");
+                try (OutputStream outputStream = Files.newOutputStream(tempFilePath)) {
+                    outputStream.write(head);
+                    inputStream.transferTo(outputStream);
+                }
+                source = new RandomAccessReadBufferedFile(tempFilePath);
+            }
 
-                String filePath = tempFolderPath + FileUtil.getFileNameWithoutExtension(multipartFile) + "-thumbnail.png";
-                ImageIO.write(resizedImage, "png", new File(filePath));
+            try (source; PDDocument document = Loader.loadPDF(source, "", null, null, MemoryUsageSetting.setupMixed(MAX_MAIN_MEMORY_BYTES).streamCache)) {
+                PDRectangle pageBox = document.getPage(0).getCropBox();
+                float renderScale = getRenderScale(pageBox);
+                long renderPixels = (long) Math.ceil(pageBox.getWidth() * renderScale) * (long) Math.ceil(pageBox.getHeight() * renderScale);
 
-                // 임시 파일 삭제
-                Files.deleteIfExists(tempFile);
+                try (RasterBudget.Permit permit = rasterBudget.acquire(ImageUtil.getRasterPixels(renderPixels))) {
+                    PDFRenderer renderer = new PDFRenderer(document);
+                    BufferedImage originalImage = renderer.renderImage(0, renderScale, ImageType.RGB);
 
-                return new File(filePath);
+                    return ImageUtil.toThumbnail(originalImage);
+                }
             }
         } catch (IOException e) {
             throw new CustomCommonException(CommonErrorCode.UNABLE_TO_EXTRACT_THUMBNAIL);
+        } finally {
+            deleteQuietly(tempFilePath);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
         }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    // crop box 가 없으면 media box 와 같음 (단위 : 1/72 inch)
+    private static float getRenderScale(PDRectangle pageBox) {
+        float longSide = Math.max(pageBox.getWidth(), pageBox.getHeight());
+        if (longSide <= 0) {
+            return MAX_RENDER_SCALE;
+        }
+
+        return Math.min(RENDER_SIZE / longSide, MAX_RENDER_SCALE);
     }
 }
@@ -0,0 +1,21 @@
+package com.laser.ordermanage.common.util;
+
+/**
+ * 이미지 변환 (디코딩, 렌더링, 크기 조정) 작업의 픽셀 예산
+ * - 작업 전에 파일 헤더로 예상한 픽셀 수만큼 예산을 확보하고, 작업이 끝나면 반납
+ * - 예산을 확보할 수 없으면 RASTERIZATION_BUSY 예외 발생
+ */
+@FunctionalInterface
+public interface RasterBudget {
+
+    // 예산 제한 없음 (테스트, 벤치마크)
+    RasterBudget UNLIMITED = pixels -> () -> {
+    };
+
+    Permit acquire(long pixels);
+
+    interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
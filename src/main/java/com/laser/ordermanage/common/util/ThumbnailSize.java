@@ -0,0 +1,15 @@
+package com.laser.ordermanage.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 썸네일 크기 (긴 변의 픽셀 수, 가로 세로 비율 유지), 큰 썸네일부터 순서대로 축소하여 생성
+@AllArgsConstructor
+public enum ThumbnailSize {
+    LARGE(500),
+    MEDIUM(256),
+    SMALL(128);
+
+    @Getter
+    private final int size;
+}
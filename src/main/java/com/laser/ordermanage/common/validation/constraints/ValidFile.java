@@ -9,7 +9,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(value = {ElementType.FIELD, ElementType.PARAMETER})
+@Target(value = {ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
 @Retention(value = RetentionPolicy.RUNTIME)
 @Constraint(validatedBy = FileValidator.class)
 public @interface ValidFile {
@@ -1,5 +1,7 @@
 package com.laser.ordermanage.customer.api;
 
+import com.laser.ordermanage.common.dto.request.CreateFileUploadUrlRequest;
+import com.laser.ordermanage.common.dto.response.CreateFileUploadUrlResponse;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.customer.dto.request.*;
 import com.laser.ordermanage.customer.dto.response.CustomerCreateDrawingResponse;
@@ -49,6 +51,30 @@ public class CustomerOrderAPI {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 재발급 거래 생성
+     * - path parameter {order-id} 에 해당하는 이전 거래 조회
+     * - 거래에 대한 현재 로그인한 회원의 접근 권한 확인 (거래의 고객 회원)
+     * - 재발급 거래 데이터 생성 (신규 발급 아님)
+     * - 이전 거래의 도면 데이터를 같은 도면 파일을 사용하도록 복사하여 재발급 거래와 연관관계 매핑
+     * - 공장에게 이메일 전송
+     */
+    @PostMapping("/{order-id}/re-issue")
+    public ResponseEntity<?> reIssueOrder(
+        @PathVariable("order-id") Long orderId,
+        @RequestBody @Valid CustomerReIssueOrderRequest request) {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        customerOrderService.checkAuthorityOfOrder(user.getUsername(), orderId);
+
+        Long reIssuedOrderId = customerOrderService.reIssueOrder(user.getUsername(), orderId, request);
+
+        customerOrderEmailService.sendEmailForCreateOrder(reIssuedOrderId);
+
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 거래 배송지 수정
      * - path parameter {order-id} 에 해당하는 거래 조회
@@ -182,6 +208,7 @@ public class CustomerOrderAPI {
      * - 거래에 대한 현재 로그인한 회원의 접근 권한 확인 (거래의 고객 회원)
      * - 거래 발주서 작성 및 수정 가능 단계 확인 (견적 승인)
      * - 거래 발주서의 검수 기간 및 지급일이 거래의 견적서 납기일 이후인지 확인
+     * - 발주서 파일은 요청에 포함하거나, 직접 업로드 후 업로드 ID (fileUploadId) 로 전달 (업로드 완료 확인 후 사용)
      * - 거래 발주서 작성 및 수정
      * - 공장에게 이메일 전송
      */
@@ -214,4 +241,17 @@ public class CustomerOrderAPI {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 발주서 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PDF, HWP, CELL, DOCX, DOC, XLSX, XLS, JPG, JPEG, PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 클라이언트는 응답의 업로드 URL 에 응답의 헤더를 포함하여 PUT 요청으로 발주서 파일 업로드
+     * - 거래 발주서 작성 및 수정 시 응답의 업로드 ID 를 전달
+     */
+    @PostMapping("/purchase-order/upload-url")
+    public ResponseEntity<?> createPurchaseOrderUploadUrl(@RequestBody @Valid CreateFileUploadUrlRequest request) {
+        CreateFileUploadUrlResponse createFileUploadUrlResponse = customerOrderService.createPurchaseOrderUploadUrl(request);
+
+        return ResponseEntity.ok(createFileUploadUrlResponse);
+    }
+
 }
@@ -21,7 +21,10 @@ public record CustomerCreateOrUpdateOrderPurchaseOrderRequest (
 
     @NotNull(message = "지급 일자는 필수 입력값입니다.")
     @JsonFormat(pattern = "yyyy-MM-dd")
-    LocalDate paymentDate
+    LocalDate paymentDate,
+
+    // 직접 업로드한 발주서 파일의 업로드 ID (발주서 파일을 요청에 포함하지 않는 경우)
+    String fileUploadId
 
 ) {
     public boolean isValidInspectionPeriod(Order order) {
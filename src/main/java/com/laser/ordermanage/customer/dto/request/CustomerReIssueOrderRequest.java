@@ -0,0 +1,42 @@
+package com.laser.ordermanage.customer.dto.request;
+
+import com.laser.ordermanage.customer.domain.Customer;
+import com.laser.ordermanage.order.domain.Order;
+import com.laser.ordermanage.order.domain.OrderManufacturing;
+import com.laser.ordermanage.order.domain.OrderPostProcessing;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+public record CustomerReIssueOrderRequest (
+
+    @NotEmpty(message = "거래 이름은 필수 입력값입니다.")
+    @Pattern(regexp = "^.{0,20}$", message = "거래 이름의 최대 글자수는 20자입니다.")
+    String name,
+
+    List<String> manufacturing,
+
+    List<String> postProcessing,
+
+    String request,
+
+    @Valid
+    CustomerCreateOrderDeliveryAddressRequest deliveryAddress
+
+) {
+    // 재발급 거래의 대표 이미지는 이전 거래의 대표 이미지 사용
+    public Order toEntity(Customer customer, String imgUrl) {
+        return Order.builder()
+                .customer(customer)
+                .deliveryAddress(deliveryAddress.toEntity())
+                .name(name)
+                .imgUrl(imgUrl)
+                .manufacturing(OrderManufacturing.ofRequest(manufacturing))
+                .postProcessing(OrderPostProcessing.ofRequest(postProcessing))
+                .request(request)
+                .isNewIssue(Boolean.FALSE)
+                .build();
+    }
+}
@@ -1,12 +1,17 @@
 package com.laser.ordermanage.customer.service;
 
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
 import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.dto.request.CreateFileUploadUrlRequest;
+import com.laser.ordermanage.common.dto.response.CreateFileUploadUrlResponse;
 import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.FutureUtil;
 import com.laser.ordermanage.customer.domain.Customer;
 import com.laser.ordermanage.customer.domain.DeliveryAddress;
 import com.laser.ordermanage.customer.dto.request.*;
 import com.laser.ordermanage.customer.dto.response.CustomerCreateOrUpdateOrderPurchaseOrderResponse;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.order.domain.Drawing;
 import com.laser.ordermanage.order.domain.Order;
 import com.laser.ordermanage.order.domain.PurchaseOrder;
@@ -21,9 +26,11 @@ import com.laser.ordermanage.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -41,6 +48,9 @@ public class CustomerOrderService {
     private final CustomerUserAccountService customerUserAccountService;
     private final CustomerDeliveryAddressService customerDeliveryAddressService;
     private final DrawingService drawingService;
+    private final IngredientDemandService ingredientDemandService;
+
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public Long createOrder(String email, CustomerCreateOrderRequest request) {
@@ -56,6 +66,32 @@ public class CustomerOrderService {
 
         drawingRepository.saveAll(drawingList);
 
+        // 도면 파일 사용 수 증가
+        drawingService.increaseFileReference(drawingList);
+
+        return createdOrder.getId();
+    }
+
+    /**
+     * 이전 거래의 도면으로 재발급 거래 생성
+     * - 도면은 이전 거래 도면과 같은 저장소 파일, 썸네일을 사용하도록 DB 에서 한 번에 복사 (파일 업로드, 복사 없음)
+     * - 거래 대표 이미지는 이전 거래의 대표 이미지 사용
+     */
+    @Transactional
+    public Long reIssueOrder(String email, Long orderId, CustomerReIssueOrderRequest request) {
+        Customer customer = customerUserAccountService.getCustomerByUserEmail(email);
+
+        Order previousOrder = orderService.getOrderById(orderId);
+
+        Order createdOrder = orderRepository.save(request.toEntity(customer, previousOrder.getImgUrl()));
+
+        List<String> fileUrlList = drawingRepository.findFileUrlByOrderList(List.of(orderId));
+
+        drawingRepository.copyAllByOrder(orderId, createdOrder.getId());
+
+        // 도면 파일 사용 수 증가
+        drawingService.increaseFileReferenceOfFileUrl(fileUrlList);
+
         return createdOrder.getId();
     }
 
@@ -84,6 +120,14 @@ public class CustomerOrderService {
 
         Drawing createdDrawing = drawingRepository.save(drawing);
 
+        // 도면 파일 사용 수 증가
+        drawingService.increaseFileReference(List.of(createdDrawing));
+
+        // 견적 승인, 제작 중 단계 거래의 경우 자재 소요량 반영
+        if (order.isIngredientDemandStage()) {
+            ingredientDemandService.saveDemandByDrawing(createdDrawing);
+        }
+
         return createdDrawing.getId();
     }
 
@@ -98,6 +142,11 @@ public class CustomerOrderService {
         Drawing drawing = drawingService.getDrawingById(drawingId);
 
         drawing.updateProperties(request);
+
+        // 견적 승인, 제작 중 단계 거래의 경우 수정한 도면으로 자재 소요량 수정
+        if (order.isIngredientDemandStage()) {
+            ingredientDemandService.saveDemandByDrawing(drawing);
+        }
     }
 
     @Transactional
@@ -114,7 +163,15 @@ public class CustomerOrderService {
 
         Drawing drawing = drawingService.getDrawingById(drawingId);
 
+        // 견적 승인, 제작 중 단계 거래의 경우 자재 소요량 제거
+        if (order.isIngredientDemandStage()) {
+            ingredientDemandService.deleteDemandByDrawing(drawing);
+        }
+
         drawingRepository.delete(drawing);
+
+        // 도면 파일 사용 수 감소 (사용하는 도면이 없으면 파일 삭제)
+        drawingService.decreaseFileReference(List.of(drawing.getFile().getUrl()));
     }
 
     @Transactional(readOnly = true)
@@ -137,33 +194,73 @@ public class CustomerOrderService {
         }
 
         order.approveQuotation();
+
+        // 견적 승인 단계로 변경된 거래의 도면 자재 소요량 반영
+        ingredientDemandService.saveDemandByOrderList(List.of(orderId));
     }
 
-    @Transactional
-    public CustomerCreateOrUpdateOrderPurchaseOrderResponse createOrderPurchaseOrder(Long orderId, MultipartFile file, CustomerCreateOrUpdateOrderPurchaseOrderRequest request) {
-        Order order = orderService.getOrderById(orderId);
+    /**
+     * 발주서 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PDF, HWP, CELL, DOCX, DOC, XLSX, XLS, JPG, JPEG, PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 발주서 폴더에만 업로드 가능하고, 요청한 파일 크기와 해시 (SHA-256) 의 파일만 업로드 가능
+     */
+    public CreateFileUploadUrlResponse createPurchaseOrderUploadUrl(CreateFileUploadUrlRequest request) {
+        FileUpload fileUpload = fileComponent.createUpload(request.fileName(), request.fileSize(), request.fileHash(), PurchaseOrderFileType::ofExtension);
 
-        if (request.isValidInspectionPeriod(order)) {
-            throw new CustomCommonException(OrderErrorCode.INVALID_PURCHASE_ORDER_INSPECTION_PERIOD);
-        }
+        return CreateFileUploadUrlResponse.from(fileUpload);
+    }
 
-        if (request.isValidPaymentDate(order)) {
-            throw new CustomCommonException(OrderErrorCode.INVALID_PURCHASE_ORDER_PAYMENT_DATE);
+    /**
+     * 거래 발주서 작성
+     * - 발주서 파일은 거래 조회 및 검증하는 동안 업로드하고, 검증에 실패하면 업로드 완료 후 업로드한 파일 삭제
+     * - 업로드 완료를 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 기다린 후, 짧은 트랜잭션으로 발주서 저장 (저장에 실패하면 업로드한 파일 삭제)
+     */
+    public CustomerCreateOrUpdateOrderPurchaseOrderResponse createOrderPurchaseOrder(Long orderId, MultipartFile file, CustomerCreateOrUpdateOrderPurchaseOrderRequest request) {
+        CompletableFuture<FileEntity<PurchaseOrderFileType>> purchaseOrderFileFuture = (file == null || file.isEmpty())
+                ? null
+                : fileComponent.uploadFileAsync(file, PurchaseOrderFileType::ofExtension);
+
+        try {
+            Order order = orderService.getOrderById(orderId);
+
+            if (request.isValidInspectionPeriod(order)) {
+                throw new CustomCommonException(OrderErrorCode.INVALID_PURCHASE_ORDER_INSPECTION_PERIOD);
+            }
+
+            if (request.isValidPaymentDate(order)) {
+                throw new CustomCommonException(OrderErrorCode.INVALID_PURCHASE_ORDER_PAYMENT_DATE);
+            }
+        } catch (RuntimeException e) {
+            if (purchaseOrderFileFuture != null) {
+                fileComponent.cancelUploadAsync(purchaseOrderFileFuture);
+            }
+            throw e;
         }
 
-        // 발주서 파일 유무 확인
-        if (file == null || file.isEmpty()) {
+        // 발주서 파일 유무 확인 (요청에 포함한 파일 또는 직접 업로드한 파일)
+        if (purchaseOrderFileFuture == null && request.fileUploadId() == null) {
             throw new CustomCommonException(OrderErrorCode.REQUIRED_PURCHASE_ORDER_FILE);
         }
 
-        FileEntity<PurchaseOrderFileType> purchaseOrderFile = fileComponent.uploadFile(file, PurchaseOrderFileType::ofExtension);
+        FileEntity<PurchaseOrderFileType> purchaseOrderFile = purchaseOrderFileFuture != null
+                ? FutureUtil.join(purchaseOrderFileFuture)
+                : fileComponent.confirmUpload(request.fileUploadId(), PurchaseOrderFileType::ofExtension);
 
-        PurchaseOrder purchaseOrder = request.toEntity(purchaseOrderFile);
+        try {
+            return transactionTemplate.execute(status -> {
+                Order order = orderService.getOrderById(orderId);
 
-        PurchaseOrder createdPurchaseOrder = purchaseOrderRepository.save(purchaseOrder);
-        order.createPurchaseOrder(createdPurchaseOrder);
+                PurchaseOrder purchaseOrder = request.toEntity(purchaseOrderFile);
 
-        return CustomerCreateOrUpdateOrderPurchaseOrderResponse.from(createdPurchaseOrder);
+                PurchaseOrder createdPurchaseOrder = purchaseOrderRepository.save(purchaseOrder);
+                order.createPurchaseOrder(createdPurchaseOrder);
+
+                return CustomerCreateOrUpdateOrderPurchaseOrderResponse.from(createdPurchaseOrder);
+            });
+        } catch (RuntimeException e) {
+            fileComponent.deleteFileQuietly(purchaseOrderFile.getUrl());
+            throw e;
+        }
     }
 
     @Transactional
@@ -179,12 +276,14 @@ public class CustomerOrderService {
             throw new CustomCommonException(OrderErrorCode.INVALID_PURCHASE_ORDER_PAYMENT_DATE);
         }
 
-        // 발주서 파일 유무 확인
+        // 발주서 파일 유무 확인 (요청에 포함한 파일 또는 직접 업로드한 파일)
         if (file != null && !file.isEmpty()) {
 
             FileEntity<PurchaseOrderFileType> purchaseOrderFile = fileComponent.uploadFile(file, PurchaseOrderFileType::ofExtension);
 
             purchaseOrder.updateFile(purchaseOrderFile);
+        } else if (request.fileUploadId() != null) {
+            purchaseOrder.updateFile(fileComponent.confirmUpload(request.fileUploadId(), PurchaseOrderFileType::ofExtension));
         }
 
         purchaseOrder.updateProperties(request);
@@ -197,6 +296,12 @@ public class CustomerOrderService {
         // 거래 목록 조회 (견적 대기, 견적 승인, 제작 중, 제작 완료)
         List<Long> orderIdList = orderRepository.findIdByCustomerAndStageNotCompleted(email);
 
+        // 견적 승인, 제작 중 단계 거래의 도면 자재 소요량 제거
+        ingredientDemandService.deleteDemandByOrderList(orderIdList);
+
+        // 거래 도면의 도면 파일 사용 수 감소 (사용하는 도면이 없으면 파일 삭제)
+        drawingService.decreaseFileReference(drawingRepository.findFileUrlByOrderList(orderIdList));
+
         // 거래 도면 데이터 삭제
         drawingRepository.deleteAllByOrderList(orderIdList);
 
@@ -1,14 +1,16 @@
 package com.laser.ordermanage.factory.api;
 
+import com.laser.ordermanage.common.dto.request.CreateFileUploadUrlRequest;
+import com.laser.ordermanage.common.dto.response.CreateFileUploadUrlResponse;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.scheduler.service.ScheduleService;
-import com.laser.ordermanage.common.validation.constraints.ValidFile;
 import com.laser.ordermanage.factory.dto.request.FactoryCreateOrUpdateOrderQuotationRequest;
 import com.laser.ordermanage.factory.dto.request.FactoryCreateOrderAcquirerRequest;
 import com.laser.ordermanage.factory.dto.request.FactoryUpdateOrderIsUrgentRequest;
 import com.laser.ordermanage.factory.dto.response.FactoryCreateOrUpdateOrderQuotationResponse;
 import com.laser.ordermanage.factory.service.FactoryOrderEmailService;
 import com.laser.ordermanage.factory.service.FactoryOrderService;
+import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.order.domain.Order;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.service.OrderService;
@@ -18,6 +20,8 @@ import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +36,7 @@ public class FactoryOrderAPI {
     private final FactoryOrderEmailService factoryOrderEmailService;
     private final OrderService orderService;
     private final ScheduleService scheduleService;
+    private final IngredientService ingredientService;
 
     /**
      * 거래 긴급 설정
@@ -58,6 +63,7 @@ public class FactoryOrderAPI {
      * - path parameter {order-id} 에 해당하는 거래 조회
      * - 거래 견적서 작성 및 수정 가능 단계 확인 (견적 대기)
      * - 거래 견적서의 납기일이 거래 생성일 이후인지 확인
+     * - 견적서 파일은 요청에 포함하거나, 직접 업로드 후 업로드 ID (fileUploadId) 로 전달 (업로드 완료 확인 후 사용)
      * - 거래 견적서 작성 및 수정
      * - 거래의 고객에게 이메일 전송
      */
@@ -149,7 +155,8 @@ public class FactoryOrderAPI {
      * 거래 완료 - 인수자 정보 및 서명 등록 후, 거래 완료
      * - path parameter {order-id} 에 해당하는 거래 조회
      * - 거래 완료 가능 단계 확인 (제작 완료)
-     * - 인수자 서명 이미지 파일 S3 업로드
+     * - 인수자 서명 이미지 파일 확인 (요청에 포함한 파일 또는 업로드 ID (fileUploadId) 로 전달한 직접 업로드 파일)
+     * - 인수자 서명 이미지 파일 S3 업로드 또는 직접 업로드한 파일의 업로드 완료 확인
      * - 인수자 정보 데이터 생성 및 거래와 연관관계 매핑
      * - Schedule 에 등록되어 있는 {order-id} 에 해당하는 거래 단계 변경 (제작 완료 -> 거래 완료) 를 위한 Job 이 있다면, 해당 Job 제거
      * - 거래 단계 변경 : 제작 완료 -> 거래 완료 (해당 고객이 신규 고객이면, 신규 고객 -> 기존 고객 변경)
@@ -159,10 +166,14 @@ public class FactoryOrderAPI {
     @PostMapping("/{order-id}/stage/completed")
     public ResponseEntity<?> changeStageToCompleted(
             @PathVariable("order-id") Long orderId,
-            @RequestPart @ValidFile(message = "인수자 서명 파일은 필수 입력값입니다.") MultipartFile file,
+            @RequestPart(required = false) MultipartFile file,
             @RequestPart("acquirer") @Valid FactoryCreateOrderAcquirerRequest request
     ) {
 
+        if ((file == null || file.isEmpty()) && request.fileUploadId() == null) {
+            throw new CustomCommonException(OrderErrorCode.REQUIRED_SIGNATURE_FILE);
+        }
+
         Order order = orderService.getOrderById(orderId);
 
         if (!order.enableChangeStageToCompleted()) {
@@ -201,4 +212,52 @@ public class FactoryOrderAPI {
     public ResponseEntity<?> getOrderPurchaseOrderFile(@PathVariable("order-id") Long orderId) {
         return ResponseEntity.ok(factoryOrderService.getOrderPurchaseOrderFile(orderId));
     }
+
+    /**
+     * 거래의 자재 원판 소요량 추정
+     * - path parameter {order-id} 에 해당하는 거래 조회
+     * - request parameter {ingredient-id} 에 해당하는 자재 조회 및 자재에 대한 접근 권한 확인
+     * - 거래의 DXF 도면에서 부품 외곽 추출 (외곽을 추출할 수 없거나 원판보다 큰 부품이 있는 도면은 제외)
+     * - 도면 수량만큼 부품을 자재 원판에 배치하여 원판 수 및 사용률 추정
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_ADMIN')")
+    @GetMapping("/{order-id}/nesting")
+    public ResponseEntity<?> getOrderNesting(
+            @PathVariable("order-id") Long orderId,
+            @RequestParam(value = "ingredient-id") Long ingredientId) {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        ingredientService.checkAuthorityOfIngredient(user.getUsername(), ingredientId);
+
+        return ResponseEntity.ok(factoryOrderService.getOrderNesting(orderId, ingredientId));
+    }
+
+    /**
+     * 견적서 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PDF, HWP, CELL, DOCX, DOC, XLSX, XLS, JPG, JPEG, PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 클라이언트는 응답의 업로드 URL 에 응답의 헤더를 포함하여 PUT 요청으로 견적서 파일 업로드
+     * - 거래 견적서 작성 및 수정 시 응답의 업로드 ID 를 전달
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_ADMIN')")
+    @PostMapping("/quotation/upload-url")
+    public ResponseEntity<?> createQuotationUploadUrl(@RequestBody @Valid CreateFileUploadUrlRequest request) {
+        CreateFileUploadUrlResponse createFileUploadUrlResponse = factoryOrderService.createQuotationUploadUrl(request);
+
+        return ResponseEntity.ok(createFileUploadUrlResponse);
+    }
+
+    /**
+     * 인수자 서명 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 클라이언트는 응답의 업로드 URL 에 응답의 헤더를 포함하여 PUT 요청으로 서명 파일 업로드
+     * - 거래 완료 시 응답의 업로드 ID 를 전달
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_ADMIN')")
+    @PostMapping("/acquirer/signature/upload-url")
+    public ResponseEntity<?> createSignatureUploadUrl(@RequestBody @Valid CreateFileUploadUrlRequest request) {
+        CreateFileUploadUrlResponse createFileUploadUrlResponse = factoryOrderService.createSignatureUploadUrl(request);
+
+        return ResponseEntity.ok(createFileUploadUrlResponse);
+    }
 }
@@ -15,7 +15,10 @@ public record FactoryCreateOrUpdateOrderQuotationRequest (
 
     @NotNull(message = "납기일은 필수 입력값입니다.")
     @JsonFormat(pattern = "yyyy-MM-dd")
-    LocalDate deliveryDate
+    LocalDate deliveryDate,
+
+    // 직접 업로드한 견적서 파일의 업로드 ID (견적서 파일을 요청에 포함하지 않는 경우)
+    String fileUploadId
 
 ) {
     public Quotation toEntity(FileEntity<QuotationFileType> quotationFile) {
@@ -15,7 +15,10 @@ public record FactoryCreateOrderAcquirerRequest(
 
         @NotNull(message = "연락처는 필수 입력값입니다.")
         @Pattern(regexp = "^\\d{3}\\d{3,4}\\d{4}$", message = "연락처 형식에 맞지 않습니다.")
-        String phone
+        String phone,
+
+        // 직접 업로드한 서명 파일의 업로드 ID (서명 파일을 요청에 포함하지 않는 경우)
+        String fileUploadId
 
 ) {
         public Acquirer toEntity(FileEntity<SignatureFileType> signatureFile) {
@@ -0,0 +1,30 @@
+package com.laser.ordermanage.factory.dto.response;
+
+import com.laser.ordermanage.common.nesting.NestingResult;
+import com.laser.ordermanage.ingredient.domain.Ingredient;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record FactoryGetOrderNestingResponse(
+        Long ingredientId,
+        Integer ingredientWidth,
+        Integer ingredientHeight,
+        Integer partCount,
+        Integer sheetCount,
+        Double utilization,
+        List<Long> excludedDrawingIdList
+) {
+    public static FactoryGetOrderNestingResponse from(Ingredient ingredient, Integer partCount, NestingResult nestingResult, List<Long> excludedDrawingIdList) {
+        return FactoryGetOrderNestingResponse.builder()
+                .ingredientId(ingredient.getId())
+                .ingredientWidth(ingredient.getWidth())
+                .ingredientHeight(ingredient.getHeight())
+                .partCount(partCount)
+                .sheetCount(nestingResult.sheetCount())
+                .utilization(Math.round(nestingResult.utilization() * 1000) / 1000.0)
+                .excludedDrawingIdList(excludedDrawingIdList)
+                .build();
+    }
+}
@@ -1,16 +1,28 @@
 package com.laser.ordermanage.factory.service;
 
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
 import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.dto.request.CreateFileUploadUrlRequest;
+import com.laser.ordermanage.common.dto.response.CreateFileUploadUrlResponse;
 import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.nesting.NestingEstimator;
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.nesting.NestingResult;
+import com.laser.ordermanage.common.util.FutureUtil;
 import com.laser.ordermanage.customer.domain.Customer;
 import com.laser.ordermanage.factory.dto.request.FactoryCreateOrUpdateOrderQuotationRequest;
 import com.laser.ordermanage.factory.dto.request.FactoryCreateOrderAcquirerRequest;
 import com.laser.ordermanage.factory.dto.request.FactoryUpdateOrderIsUrgentRequest;
 import com.laser.ordermanage.factory.dto.response.FactoryCreateOrUpdateOrderQuotationResponse;
 import com.laser.ordermanage.factory.dto.response.FactoryGetOrderCustomerResponse;
+import com.laser.ordermanage.factory.dto.response.FactoryGetOrderNestingResponse;
 import com.laser.ordermanage.factory.dto.response.FactoryGetPurchaseOrderFileResponse;
+import com.laser.ordermanage.ingredient.domain.Ingredient;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
+import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.order.domain.Acquirer;
+import com.laser.ordermanage.order.domain.Drawing;
 import com.laser.ordermanage.order.domain.Order;
 import com.laser.ordermanage.order.domain.PurchaseOrder;
 import com.laser.ordermanage.order.domain.Quotation;
@@ -19,22 +31,56 @@ import com.laser.ordermanage.order.domain.type.SignatureFileType;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.repository.AcquirerRepository;
 import com.laser.ordermanage.order.repository.QuotationRepository;
+import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Service
 public class FactoryOrderService {
 
     private final FileComponent fileComponent;
+    private final NestingEstimator nestingEstimator;
 
     private final QuotationRepository quotationRepository;
     private final AcquirerRepository acquirerRepository;
 
     private final OrderService orderService;
+    private final DrawingService drawingService;
+    private final IngredientDemandService ingredientDemandService;
+    private final IngredientService ingredientService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 견적서 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PDF, HWP, CELL, DOCX, DOC, XLSX, XLS, JPG, JPEG, PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 견적서 폴더에만 업로드 가능하고, 요청한 파일 크기와 해시 (SHA-256) 의 파일만 업로드 가능
+     */
+    public CreateFileUploadUrlResponse createQuotationUploadUrl(CreateFileUploadUrlRequest request) {
+        FileUpload fileUpload = fileComponent.createUpload(request.fileName(), request.fileSize(), request.fileHash(), QuotationFileType::ofExtension);
+
+        return CreateFileUploadUrlResponse.from(fileUpload);
+    }
+
+    /**
+     * 인수자 서명 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (PNG) 및 파일 크기 확인 (100MB 이하)
+     * - 서명 폴더에만 업로드 가능하고, 요청한 파일 크기와 해시 (SHA-256) 의 파일만 업로드 가능
+     */
+    public CreateFileUploadUrlResponse createSignatureUploadUrl(CreateFileUploadUrlRequest request) {
+        FileUpload fileUpload = fileComponent.createUpload(request.fileName(), request.fileSize(), request.fileHash(), SignatureFileType::ofExtension);
+
+        return CreateFileUploadUrlResponse.from(fileUpload);
+    }
 
     @Transactional
     public void updateOrderIsUrgent(Long orderId, FactoryUpdateOrderIsUrgentRequest request) {
@@ -47,27 +93,53 @@ public class FactoryOrderService {
         order.updateIsUrgent(request.isUrgent());
     }
 
-    @Transactional
+    /**
+     * 거래 견적서 작성
+     * - 견적서 파일은 거래 조회 및 검증하는 동안 업로드하고, 검증에 실패하면 업로드 완료 후 업로드한 파일 삭제
+     * - 업로드 완료를 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 기다린 후, 짧은 트랜잭션으로 견적서 저장 (저장에 실패하면 업로드한 파일 삭제)
+     */
     public FactoryCreateOrUpdateOrderQuotationResponse createOrderQuotation(Long orderId, MultipartFile file, FactoryCreateOrUpdateOrderQuotationRequest request) {
-        Order order = orderService.getOrderById(orderId);
-
-        if (order.getCreatedAt().toLocalDate().isAfter(request.deliveryDate())) {
-            throw new CustomCommonException(OrderErrorCode.INVALID_QUOTATION_DELIVERY_DATE);
+        CompletableFuture<FileEntity<QuotationFileType>> quotationFileFuture = (file == null || file.isEmpty())
+                ? null
+                : fileComponent.uploadFileAsync(file, QuotationFileType::ofExtension);
+
+        try {
+            Order order = orderService.getOrderById(orderId);
+
+            if (order.getCreatedAt().toLocalDate().isAfter(request.deliveryDate())) {
+                throw new CustomCommonException(OrderErrorCode.INVALID_QUOTATION_DELIVERY_DATE);
+            }
+        } catch (RuntimeException e) {
+            if (quotationFileFuture != null) {
+                fileComponent.cancelUploadAsync(quotationFileFuture);
+            }
+            throw e;
         }
 
-        // 견적서 파일 유무 확인
-        if (file == null || file.isEmpty()) {
+        // 견적서 파일 유무 확인 (요청에 포함한 파일 또는 직접 업로드한 파일)
+        if (quotationFileFuture == null && request.fileUploadId() == null) {
             throw new CustomCommonException(OrderErrorCode.REQUIRED_QUOTATION_FILE);
         }
 
-        FileEntity<QuotationFileType> quotationFile = fileComponent.uploadFile(file, QuotationFileType::ofExtension);
+        FileEntity<QuotationFileType> quotationFile = quotationFileFuture != null
+                ? FutureUtil.join(quotationFileFuture)
+                : fileComponent.confirmUpload(request.fileUploadId(), QuotationFileType::ofExtension);
 
-        Quotation quotation = request.toEntity(quotationFile);
+        try {
+            return transactionTemplate.execute(status -> {
+                Order order = orderService.getOrderById(orderId);
 
-        Quotation createdQuotation = quotationRepository.save(quotation);
-        order.createQuotation(createdQuotation);
+                Quotation quotation = request.toEntity(quotationFile);
 
-        return FactoryCreateOrUpdateOrderQuotationResponse.from(createdQuotation);
+                Quotation createdQuotation = quotationRepository.save(quotation);
+                order.createQuotation(createdQuotation);
+
+                return FactoryCreateOrUpdateOrderQuotationResponse.from(createdQuotation);
+            });
+        } catch (RuntimeException e) {
+            fileComponent.deleteFileQuietly(quotationFile.getUrl());
+            throw e;
+        }
     }
 
     @Transactional
@@ -79,11 +151,13 @@ public class FactoryOrderService {
             throw new CustomCommonException(OrderErrorCode.INVALID_QUOTATION_DELIVERY_DATE);
         }
 
-        // 견적서 파일 유무 확인
+        // 견적서 파일 유무 확인 (요청에 포함한 파일 또는 직접 업로드한 파일)
         if (file != null && !file.isEmpty()) {
             FileEntity<QuotationFileType> quotationFile = fileComponent.uploadFile(file, QuotationFileType::ofExtension);
 
             quotation.updateFile(quotationFile);
+        } else if (request.fileUploadId() != null) {
+            quotation.updateFile(fileComponent.confirmUpload(request.fileUploadId(), QuotationFileType::ofExtension));
         }
 
         quotation.updateProperties(request);
@@ -114,6 +188,9 @@ public class FactoryOrderService {
             throw new CustomCommonException(OrderErrorCode.INVALID_ORDER_STAGE, order.getStage().getValue());
         }
 
+        // 제작 완료 단계로 변경되는 거래의 도면 자재 소요량 제거
+        ingredientDemandService.deleteDemandByOrderList(List.of(orderId));
+
         order.changeStageToProductionCompleted();
     }
 
@@ -121,8 +198,10 @@ public class FactoryOrderService {
     public void createOrderAcquirer(Long orderId, FactoryCreateOrderAcquirerRequest request, MultipartFile file) {
         Order order = orderService.getOrderById(orderId);
 
-        // 인수자 서명 파일 업로드
-        FileEntity<SignatureFileType> signatureFile = fileComponent.uploadFile(file, SignatureFileType::ofExtension);
+        // 인수자 서명 파일 업로드 (요청에 포함한 파일이 없으면 직접 업로드한 파일 확인)
+        FileEntity<SignatureFileType> signatureFile = (file != null && !file.isEmpty())
+                ? fileComponent.uploadFile(file, SignatureFileType::ofExtension)
+                : fileComponent.confirmUpload(request.fileUploadId(), SignatureFileType::ofExtension);
 
         Acquirer acquirer = request.toEntity(signatureFile);
 
@@ -162,4 +241,43 @@ public class FactoryOrderService {
         return FactoryGetPurchaseOrderFileResponse.fromEntity(purchaseOrder);
     }
 
+    // 도면 파일 다운로드 및 배치 계산 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 수행
+    public FactoryGetOrderNestingResponse getOrderNesting(Long orderId, Long ingredientId) {
+        orderService.getOrderById(orderId);
+        Ingredient ingredient = ingredientService.getIngredientById(ingredientId);
+
+        double sheetWidth = ingredient.getSheetWidthInMillimeter();
+        double sheetHeight = ingredient.getSheetHeightInMillimeter();
+
+        // 수량이 없는 도면은 배치할 부품이 없으므로 다운로드하지 않음
+        List<Drawing> drawingList = drawingService.getDrawingListByOrderId(orderId).stream()
+                .filter(drawing -> drawing.getCount() != null && drawing.getCount() > 0)
+                .toList();
+
+        // 도면 파일 다운로드 및 부품 외곽 추출은 도면마다 동시에 처리
+        List<CompletableFuture<List<NestingPart>>> drawingPartListFutureList = drawingList.stream()
+                .map(drawingService::extractPartListAsync)
+                .toList();
+
+        List<NestingPart> partList = new ArrayList<>();
+        List<Long> excludedDrawingIdList = new ArrayList<>();
+        for (int index = 0; index < drawingList.size(); index++) {
+            Drawing drawing = drawingList.get(index);
+            List<NestingPart> drawingPartList = FutureUtil.join(drawingPartListFutureList.get(index));
+
+            // 외곽을 추출할 수 없거나 원판보다 큰 부품이 있는 도면은 제외
+            if (drawingPartList.isEmpty() || !drawingPartList.stream().allMatch(part -> part.fits(sheetWidth, sheetHeight))) {
+                excludedDrawingIdList.add(drawing.getId());
+                continue;
+            }
+
+            for (int i = 0; i < drawing.getCount(); i++) {
+                partList.addAll(drawingPartList);
+            }
+        }
+
+        NestingResult nestingResult = nestingEstimator.estimate(partList, sheetWidth, sheetHeight);
+
+        return FactoryGetOrderNestingResponse.from(ingredient, partList.size(), nestingResult, excludedDrawingIdList);
+    }
 }
@@ -2,14 +2,22 @@ package com.laser.ordermanage.ingredient.api;
 
 import com.laser.ordermanage.common.exception.CommonErrorCode;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.validation.constraints.ValidFile;
 import com.laser.ordermanage.ingredient.domain.type.IngredientPriceType;
+import com.laser.ordermanage.ingredient.domain.type.IngredientStatusSortType;
 import com.laser.ordermanage.ingredient.domain.type.IngredientStockType;
 import com.laser.ordermanage.ingredient.dto.request.CreateIngredientRequest;
 import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientRequest;
 import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequest;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.ingredient.service.IngredientService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,6 +25,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.Year;
@@ -30,18 +39,37 @@ import java.util.List;
 public class IngredientAPI {
 
     private final IngredientService ingredientService;
+    private final IngredientDemandService ingredientDemandService;
 
     /**
      * 자재 현황 데이터 조회
      * - 날짜 및 조회 데이터 단위에 맞는 자재 현황 데이터 조회 (자재 정보, 단가, 재고)
+     * - page, size 기준으로 pagination 수행 (page 가 없으면 전체 조회)
+     * - sort : (texture, thickness, stock, below-optimal) 정렬 기준, direction : (asc, desc) 정렬 방향
+     * - texture : 재질 기준, is-deleted : 자재 삭제 여부 기준, is-below-optimal : 적정 재고 미만 여부 기준
+     * - 평균 단가 및 전체 재고는 조회 조건에 해당하는 전체 자재 기준으로 계산
      */
     @GetMapping("/status")
     public ResponseEntity<?> getIngredientStatus(
-            @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
+            @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(value = "page", required = false) @Min(value = 1, message = "page 는 1 이상의 정수 입니다.") Integer page,
+            @RequestParam(value = "size", required = false, defaultValue = "10") @Min(value = 1, message = "size 는 1 이상의 정수 입니다.") Integer size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "direction", required = false, defaultValue = "asc") String direction,
+            @RequestParam(value = "texture", required = false) @Pattern(regexp = "^.{0,20}$", message = "재질의 최대 글자수는 20자입니다.") String texture,
+            @RequestParam(value = "is-deleted", required = false) Boolean isDeleted,
+            @RequestParam(value = "is-below-optimal", required = false) Boolean isBelowOptimal
     ) {
+        Pageable pageable = page == null ? Pageable.unpaged() : PageRequest.of(page - 1, size);
+
+        IngredientStatusSortType sortType = sort == null ? null : IngredientStatusSortType.ofRequest(sort);
+
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new CustomCommonException(CommonErrorCode.INVALID_PARAMETER, "direction 파라미터가 올바르지 않습니다."));
+
         User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        return ResponseEntity.ok(ingredientService.getIngredientStatus(user.getUsername(), date));
+        return ResponseEntity.ok(ingredientService.getIngredientStatus(user.getUsername(), date, pageable, sortType, sortDirection, texture, isDeleted, isBelowOptimal));
     }
 
     /**
@@ -61,13 +89,31 @@ public class IngredientAPI {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 자재 CSV 일괄 등록
+     * - 파일 확장자 확인 (CSV) 및 헤더 확인 (texture, thickness, width, height, weight, purchase, sell, optimal-stock, initial-stock)
+     * - initial-stock 컬럼이 없는 이전 형식도 허용 (초기 재고 0)
+     * - 파일을 한 행씩 읽으며 행 단위 유효성 검사 (오류가 있는 행은 제외하고 행 번호와 오류 메시지 응답)
+     * - 큰따옴표로 감싼 컬럼의 쉼표, 줄바꿈 허용 (큰따옴표가 닫히지 않은 파일은 등록 실패)
+     * - 유효한 행은 일정 개수 단위로 자재 데이터, 초기 재고 데이터, 초기 단가 데이터 일괄 생성 (chunk 단위 트랜잭션)
+     * - 저장에 실패한 chunk 의 행은 오류로 응답하고, 나머지 chunk 는 계속 등록
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_ADMIN')")
+    @PostMapping("/import")
+    public ResponseEntity<?> importIngredient(@RequestPart @ValidFile(message = "자재 CSV 파일은 필수 입력값입니다.") MultipartFile file) {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        return ResponseEntity.ok(ingredientService.importIngredient(user.getUsername(), file));
+    }
+
     /**
      * 자재 재고 수정
      * - path parameter {ingredient-id} 에 해당하는 자재 조회
      * - 자재에 대한 현재 로그인한 회원의 접근 권한 확인 (자재의 공장 회원)
      * - 자재 삭제 여부 확인
-     * - 자재 재고 데이터 계산 검증
-     * - 자재 재고 데이터 수정 또는 생성 및 자재 데이터와 연관관계 매핑
+     * - 요청한 입고, 생산 변동량을 자재 재고 변동 이력에 추가
+     * - 당일 자재 재고 데이터에 변동량 반영 (데이터가 없으면 생성)
      */
     @PatchMapping("/{ingredient-id}/stock")
     public ResponseEntity<?> updateIngredientStock(
@@ -83,6 +129,24 @@ public class IngredientAPI {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 자재 재고 변동 이력 조회
+     * - path parameter {ingredient-id} 에 해당하는 자재 조회
+     * - 자재에 대한 현재 로그인한 회원의 접근 권한 확인 (자재의 공장 회원)
+     * - 날짜 기준으로 자재 재고 변동 이력 조회 (입고 및 생산 변동량, 등록 순)
+     */
+    @GetMapping("/{ingredient-id}/stock/ledger")
+    public ResponseEntity<?> getIngredientStockLedger(
+            @PathVariable("ingredient-id") Long ingredientId,
+            @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        ingredientService.checkAuthorityOfIngredient(user.getUsername(), ingredientId);
+
+        return ResponseEntity.ok(ingredientService.getIngredientStockLedger(ingredientId, date));
+    }
+
     /**
      * 자재 정보 (단가, 적정재고) 수정
      * - path parameter {ingredient-id} 에 해당하는 자재 조회
@@ -139,6 +203,21 @@ public class IngredientAPI {
         return ResponseEntity.ok(ingredientService.getIngredientInfoByFactoryManager(user.getUsername()));
     }
 
+    /**
+     * 자재 소요량 조회
+     * - 현재 로그인한 공장 회원의 삭제되지 않은 자재 목록 및 당일 재고 조회
+     * - 견적 승인, 제작 중 단계 거래의 도면 중 재질 및 두께 (반올림한 정수 두께) 가 일치하는 도면의 부품 면적 합계를 자재 (원판) 크기로 나누어 소요량 (원판 수) 으로 조회
+     * - 잔여 재고 (재고 - 소요량) 및 부족 여부 (잔여 재고 < 적정 재고) 조회
+     * - 부품 면적을 알 수 없는 도면의 부품 수는 소요량에 포함하지 않고 별도로 조회
+     */
+    @GetMapping("/demand")
+    public ResponseEntity<?> getIngredientDemand() {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        return ResponseEntity.ok(ingredientDemandService.getIngredientDemand(user.getUsername()));
+    }
+
     //TODO: 2024-11-21 요청 파라미터 검증 로직 API 에서 하는게 맞는지 ?
     /**
      * 자재 재고 분석 데이터 조회
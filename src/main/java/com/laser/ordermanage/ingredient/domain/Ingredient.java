@@ -16,6 +16,8 @@ import java.time.LocalDate;
 @Getter
 public class Ingredient extends CreatedAtEntity {
 
+    private static final double MILLIMETER_PER_FEET = 304.8;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
@@ -60,4 +62,13 @@ public class Ingredient extends CreatedAtEntity {
     public boolean isDeleted() {
         return this.deletedAt != null;
     }
+
+    // 원판의 너비, 높이는 feet 단위 (4 x 8, 5 x 10 등)
+    public double getSheetWidthInMillimeter() {
+        return this.width * MILLIMETER_PER_FEET;
+    }
+
+    public double getSheetHeightInMillimeter() {
+        return this.height * MILLIMETER_PER_FEET;
+    }
 }
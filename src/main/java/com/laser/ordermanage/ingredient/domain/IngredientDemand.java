@@ -0,0 +1,73 @@
+package com.laser.ordermanage.ingredient.domain;
+
+import com.laser.ordermanage.order.domain.Drawing;
+import com.laser.ordermanage.order.domain.type.Ingredient;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 견적 승인, 제작 중 단계 거래의 도면별 자재 소요량 (도면 및 거래 단계 변경 시 도면 id 기준으로 생성, 수정, 삭제)
+@Entity
+@Table(
+        name = "ingredient_drawing_demand",
+        indexes = @Index(name = "idx_ingredient_drawing_demand_order_id", columnList = "order_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IngredientDemand {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "drawing_id", nullable = false, unique = true, updatable = false)
+    private Long drawingId;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "ingredient", nullable = false)
+    private Ingredient ingredient;
+
+    @Column(name = "thickness", nullable = false)
+    private Integer thickness;
+
+    @Column(name = "count", nullable = false)
+    private Integer count;
+
+    // 도면 분석 결과의 부품 면적을 조회하기 위한 도면 파일 URL
+    @Column(name = "file_url", nullable = false)
+    private String fileUrl;
+
+    @Builder
+    public IngredientDemand(Long drawingId, Long orderId, Ingredient ingredient, Integer thickness, Integer count, String fileUrl) {
+        this.drawingId = drawingId;
+        this.orderId = orderId;
+        this.ingredient = ingredient;
+        this.thickness = thickness;
+        this.count = count;
+        this.fileUrl = fileUrl;
+    }
+
+    public static IngredientDemand from(Drawing drawing) {
+        return IngredientDemand.builder()
+                .drawingId(drawing.getId())
+                .orderId(drawing.getOrder().getId())
+                .ingredient(drawing.getIngredient())
+                .thickness(drawing.getThickness())
+                .count(drawing.getCount())
+                .fileUrl(drawing.getFile().getUrl())
+                .build();
+    }
+
+    public void update(Drawing drawing) {
+        this.ingredient = drawing.getIngredient();
+        this.thickness = drawing.getThickness();
+        this.count = drawing.getCount();
+        this.fileUrl = drawing.getFile().getUrl();
+    }
+}
@@ -0,0 +1,72 @@
+package com.laser.ordermanage.ingredient.domain;
+
+import com.laser.ordermanage.factory.domain.Factory;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 지난 날짜의 자재 현황은 변경되지 않으므로 마감 후 저장 (삭제 여부는 이후에 변경될 수 있으므로 조회 시 계산)
+@Entity
+@Table(
+        name = "ingredient_status_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"factory_id", "status_date", "ingredient_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IngredientStatusSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "factory_id", nullable = false)
+    private Factory factory;
+
+    @Column(name = "status_date", nullable = false)
+    private LocalDate statusDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ingredient_id", nullable = false)
+    private Ingredient ingredient;
+
+    @Column(name = "purchase", nullable = false)
+    private Integer purchase;
+
+    @Column(name = "sell", nullable = false)
+    private Integer sell;
+
+    @Column(name = "previous_day", nullable = false)
+    private Integer previousDay;
+
+    @Column(name = "incoming", nullable = false)
+    private Integer incoming;
+
+    @Column(name = "production", nullable = false)
+    private Integer production;
+
+    @Column(name = "current_day", nullable = false)
+    private Integer currentDay;
+
+    @Column(name = "optimal")
+    private Integer optimal;
+
+    @Builder
+    public IngredientStatusSnapshot(Factory factory, LocalDate statusDate, Ingredient ingredient, Integer purchase, Integer sell, Integer previousDay, Integer incoming, Integer production, Integer currentDay, Integer optimal) {
+        this.factory = factory;
+        this.statusDate = statusDate;
+        this.ingredient = ingredient;
+        this.purchase = purchase;
+        this.sell = sell;
+        this.previousDay = previousDay;
+        this.incoming = incoming;
+        this.production = production;
+        this.currentDay = currentDay;
+        this.optimal = optimal;
+    }
+}
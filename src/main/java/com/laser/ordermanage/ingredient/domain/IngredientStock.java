@@ -1,8 +1,5 @@
 package com.laser.ordermanage.ingredient.domain;
 
-import com.laser.ordermanage.common.exception.CustomCommonException;
-import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequest;
-import com.laser.ordermanage.ingredient.exception.IngredientErrorCode;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,8 +10,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
 
+// 자재의 일자별 재고 데이터 (자재 및 일자별 하나, 재고 변동 시 당일 데이터에 변동량 반영)
 @Entity
-@Table(name = "ingredient_stock")
+@Table(
+        name = "ingredient_stock",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ingredient_stock_ingredient_id_created_at", columnNames = {"ingredient_id", "created_at"})
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -54,18 +57,6 @@ public class IngredientStock {
         this.optimal = optimal;
     }
 
-    public static void validate(IngredientStock previousStock, UpdateIngredientStockRequest stockRequest) {
-        if (((previousStock != null ? previousStock.stock : 0) + stockRequest.incoming() - stockRequest.production()) != stockRequest.currentDay()) {
-            throw new CustomCommonException(IngredientErrorCode.INVALID_INGREDIENT_STOCK);
-        }
-    }
-
-    public void updateStock(UpdateIngredientStockRequest stockRequest) {
-        this.incoming = stockRequest.incoming();
-        this.production = stockRequest.production();
-        this.stock = stockRequest.currentDay();
-    }
-
     public void updateOptimalStock(Integer optimalRequest) {
         this.optimal = optimalRequest;
     }
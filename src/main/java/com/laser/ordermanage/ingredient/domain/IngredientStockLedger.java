@@ -0,0 +1,79 @@
+package com.laser.ordermanage.ingredient.domain;
+
+import com.laser.ordermanage.common.entity.CreatedAtEntity;
+import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequest;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 자재 재고 변동 이력 (추가만 가능하며, 해당 일자까지의 변동량 합계가 재고이고 자재 재고 데이터는 이력으로부터 생성)
+@Entity
+@Table(
+        name = "ingredient_stock_ledger",
+        indexes = {
+                @Index(name = "idx_ingredient_stock_ledger_ingredient_id_movement_date", columnList = "ingredient_id, movement_date")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IngredientStockLedger extends CreatedAtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ingredient_id", nullable = false, updatable = false)
+    private Ingredient ingredient;
+
+    @Column(name = "movement_date", nullable = false, updatable = false)
+    private LocalDate movementDate;
+
+    @Column(name = "incoming", nullable = false, updatable = false)
+    private Integer incoming;
+
+    @Column(name = "production", nullable = false, updatable = false)
+    private Integer production;
+
+    // 기초 재고 이력 (자재 생성 시 또는 이력 도입 전 자재의 재고)
+    @Column(name = "opening", updatable = false)
+    private Boolean opening;
+
+    @Builder
+    public IngredientStockLedger(Ingredient ingredient, LocalDate movementDate, Integer incoming, Integer production, Boolean opening) {
+        this.ingredient = ingredient;
+        this.movementDate = movementDate;
+        this.incoming = incoming;
+        this.production = production;
+        this.opening = opening != null && opening;
+    }
+
+    public static IngredientStockLedger opening(Ingredient ingredient, LocalDate movementDate, Integer stock) {
+        return IngredientStockLedger.builder()
+                .ingredient(ingredient)
+                .movementDate(movementDate)
+                .incoming(stock)
+                .production(0)
+                .opening(true)
+                .build();
+    }
+
+    // 요청한 입고, 생산 변동량으로 이력 생성
+    public static IngredientStockLedger of(Ingredient ingredient, LocalDate movementDate, UpdateIngredientStockRequest stockRequest) {
+        return IngredientStockLedger.builder()
+                .ingredient(ingredient)
+                .movementDate(movementDate)
+                .incoming(stockRequest.incoming())
+                .production(stockRequest.production())
+                .build();
+    }
+
+    public boolean isEmpty() {
+        return this.incoming == 0 && this.production == 0;
+    }
+}
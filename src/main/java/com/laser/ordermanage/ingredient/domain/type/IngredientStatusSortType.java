@@ -0,0 +1,36 @@
+package com.laser.ordermanage.ingredient.domain.type;
+
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+public enum IngredientStatusSortType {
+    TEXTURE("texture", "ingredient_status.texture"),
+    THICKNESS("thickness", "ingredient_status.thickness"),
+    STOCK("stock", "ingredient_status.currentDay"),
+    BELOW_OPTIMAL("below-optimal", "(COALESCE(ingredient_status.optimal, 0) - ingredient_status.currentDay)");
+
+    @Getter
+    private final String request;
+
+    // 정렬 기준 SQL 표현식 (요청 값을 SQL 에 직접 사용하지 않기 위함)
+    @Getter
+    private final String expression;
+
+    private static final Map<String, IngredientStatusSortType> ingredientStatusSortTypeMap =
+            Collections.unmodifiableMap(Stream.of(values())
+                    .collect(Collectors.toMap(IngredientStatusSortType::getRequest, Function.identity())));
+
+    public static IngredientStatusSortType ofRequest(String request) {
+        return Optional.ofNullable(ingredientStatusSortTypeMap.get(request)).orElseThrow(() -> new CustomCommonException(CommonErrorCode.INVALID_PARAMETER, "sort 파라미터가 올바르지 않습니다."));
+    }
+}
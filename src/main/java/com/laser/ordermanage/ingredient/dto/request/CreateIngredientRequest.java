@@ -35,8 +35,17 @@ public record CreateIngredientRequest(
         @Valid
         IngredientPriceRequest price,
 
-        Integer optimalStock
+        Integer optimalStock,
+
+        // 등록 전일 기준 보유 재고 (입력하지 않으면 0)
+        @Min(value = 0, message = "초기 재고는 0 이상의 정수 입니다.")
+        Integer initialStock
 ) {
+        public int initialStockOrZero() {
+                return initialStock == null ? 0 : initialStock;
+        }
+
+
         public Ingredient toEntity(Factory factory) {
                 return Ingredient.builder()
                         .factory(factory)
@@ -53,7 +62,7 @@ public record CreateIngredientRequest(
                         .ingredient(ingredient)
                         .incoming(0)
                         .production(0)
-                        .stock(0)
+                        .stock(initialStockOrZero())
                         .optimal(optimalStock)
                         .build();
         }
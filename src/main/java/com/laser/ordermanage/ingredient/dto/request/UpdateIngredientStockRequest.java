@@ -1,27 +1,17 @@
 package com.laser.ordermanage.ingredient.dto.request;
 
-import com.laser.ordermanage.ingredient.domain.Ingredient;
-import com.laser.ordermanage.ingredient.domain.IngredientStock;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+// 자재 재고 변동량 (요청마다 재고 변동 이력에 추가되므로 당일 누계가 아닌 이번 입고, 생산 수량)
 public record UpdateIngredientStockRequest(
 
         @NotNull(message = "입고는 필수 입력값입니다.")
+        @Min(value = 0, message = "입고는 0 이상의 정수 입니다.")
         Integer incoming,
 
         @NotNull(message = "생산은 필수 입력값입니다.")
-        Integer production,
-
-        @NotNull(message = "당일 재고는 필수 입력값입니다.")
-        Integer currentDay
+        @Min(value = 0, message = "생산은 0 이상의 정수 입니다.")
+        Integer production
 ) {
-        public IngredientStock toEntity(Ingredient ingredient, IngredientStock previousIngredientStock) {
-                return IngredientStock.builder()
-                        .ingredient(ingredient)
-                        .incoming(incoming)
-                        .production(production)
-                        .stock(currentDay)
-                        .optimal(previousIngredientStock.getOptimal())
-                        .build();
-        }
 }
@@ -0,0 +1,38 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import lombok.Builder;
+
+// 재고, 적정 재고, 소요량, 잔여 재고는 자재 (원판) 수
+// - 부품 면적을 알 수 없는 도면 (PDF, 이미지, 분석 전 또는 분석 실패) 의 부품은 소요량에 포함하지 않고 unestimatedPartCount 로 조회
+@Builder
+public record GetIngredientDemandResponse (
+        Long id,
+        String texture,
+        Double thickness,
+        Integer stock,
+        Integer optimal,
+        Integer demand,
+        Integer remaining,
+        Boolean isShortage,
+        Integer partCount,
+        Integer unestimatedPartCount
+) {
+    public static GetIngredientDemandResponse from(GetIngredientResponse ingredientResponse, GetIngredientDemandSheetResponse demandSheet) {
+        Integer stock = ingredientResponse.stockCount().currentDay().intValue();
+        Integer optimal = ingredientResponse.stockCount().optimal().intValue();
+        Integer demand = demandSheet == null ? 0 : demandSheet.demand();
+
+        return GetIngredientDemandResponse.builder()
+                .id(ingredientResponse.id())
+                .texture(ingredientResponse.texture())
+                .thickness(ingredientResponse.thickness())
+                .stock(stock)
+                .optimal(optimal)
+                .demand(demand)
+                .remaining(stock - demand)
+                .isShortage(stock - demand < optimal)
+                .partCount(demandSheet == null ? 0 : demandSheet.partCount())
+                .unestimatedPartCount(demandSheet == null ? 0 : demandSheet.unestimatedPartCount())
+                .build();
+    }
+}
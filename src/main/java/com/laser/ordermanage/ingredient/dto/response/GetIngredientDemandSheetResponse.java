@@ -0,0 +1,12 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import lombok.Builder;
+
+// 자재별 원판 소요량 및 소요량에 포함된 부품 수 (부품 면적을 알 수 없어 원판 수에 포함하지 않은 부품 수 포함)
+@Builder
+public record GetIngredientDemandSheetResponse(
+        Long ingredientId,
+        Integer demand,
+        Integer partCount,
+        Integer unestimatedPartCount
+) { }
@@ -1,53 +1,24 @@
 package com.laser.ordermanage.ingredient.dto.response;
 
+import com.laser.ordermanage.common.paging.PageResponse;
 import lombok.Builder;
+import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Builder
 public record GetIngredientStatusResponse (
     GetIngredientPriceResponse averagePrice,
     GetIngredientTotalStockResponse totalStock,
-    List<GetIngredientResponse> ingredientList,
+    PageResponse<GetIngredientResponse> ingredientPage,
     LocalDate date
 ) {
-    public static GetIngredientStatusResponse from(List<GetIngredientResponse> getIngredientResponseList, LocalDate date) {
-        // average price 와 total stock 구하기
-        int sumPurchasePrice = 0;
-        int sumSellPrice = 0;
-        int totalStockCount = 0;
-        double totalStockWeight = 0.0;
-
-        int averagePurchase = 0;
-        int averageSell = 0;
-
-        if (getIngredientResponseList.size() > 0) {
-            for (GetIngredientResponse ingredientResponse : getIngredientResponseList) {
-                sumPurchasePrice += ingredientResponse.price().purchase();
-                sumSellPrice += ingredientResponse.price().sell();
-                totalStockCount += (int) ingredientResponse.stockCount().currentDay();
-                totalStockWeight += (double) ingredientResponse.stockWeight().currentDay();
-            }
-
-            averagePurchase = sumPurchasePrice / getIngredientResponseList.size();
-            averageSell = sumSellPrice / getIngredientResponseList.size();
-        }
-
+    // average price 와 total stock 은 페이지가 아닌 조회 조건에 해당하는 전체 자재 기준으로 DB 에서 계산
+    public static GetIngredientStatusResponse from(GetIngredientStatusSummaryResponse summary, Page<GetIngredientResponse> getIngredientResponsePage, LocalDate date) {
         return GetIngredientStatusResponse.builder()
-                .averagePrice(
-                        GetIngredientPriceResponse.builder()
-                                .purchase(averagePurchase)
-                                .sell(averageSell)
-                                .build()
-                )
-                .totalStock(
-                        GetIngredientTotalStockResponse.builder()
-                                .count(totalStockCount)
-                                .weight(totalStockWeight)
-                                .build()
-                )
-                .ingredientList(getIngredientResponseList)
+                .averagePrice(summary.averagePrice())
+                .totalStock(summary.totalStock())
+                .ingredientPage(new PageResponse<>(getIngredientResponsePage))
                 .date(date)
                 .build();
     }
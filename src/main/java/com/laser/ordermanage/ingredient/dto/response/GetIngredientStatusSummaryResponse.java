@@ -0,0 +1,29 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record GetIngredientStatusSummaryResponse(
+        Long totalElements,
+        GetIngredientPriceResponse averagePrice,
+        GetIngredientTotalStockResponse totalStock
+) {
+    // 조회 조건에 해당하는 자재가 없는 경우의 요약
+    public static GetIngredientStatusSummaryResponse empty() {
+        return GetIngredientStatusSummaryResponse.builder()
+                .totalElements(0L)
+                .averagePrice(
+                        GetIngredientPriceResponse.builder()
+                                .purchase(0)
+                                .sell(0)
+                                .build()
+                )
+                .totalStock(
+                        GetIngredientTotalStockResponse.builder()
+                                .count(0)
+                                .weight(0.0)
+                                .build()
+                )
+                .build();
+    }
+}
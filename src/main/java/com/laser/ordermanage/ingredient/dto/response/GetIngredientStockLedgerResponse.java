@@ -0,0 +1,23 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import com.laser.ordermanage.ingredient.domain.IngredientStockLedger;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record GetIngredientStockLedgerResponse (
+        Long id,
+        Integer incoming,
+        Integer production,
+        LocalDateTime createdAt
+) {
+    public static GetIngredientStockLedgerResponse from(IngredientStockLedger ingredientStockLedger) {
+        return GetIngredientStockLedgerResponse.builder()
+                .id(ingredientStockLedger.getId())
+                .incoming(ingredientStockLedger.getIncoming())
+                .production(ingredientStockLedger.getProduction())
+                .createdAt(ingredientStockLedger.getCreatedAt())
+                .build();
+    }
+}
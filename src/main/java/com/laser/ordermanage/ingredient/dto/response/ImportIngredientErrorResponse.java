@@ -0,0 +1,11 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImportIngredientErrorResponse (
+        Integer rowNumber,
+        List<String> messageList
+) { }
@@ -0,0 +1,12 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImportIngredientResponse (
+        Integer totalRowCount,
+        Integer importedRowCount,
+        List<ImportIngredientErrorResponse> errorList
+) { }
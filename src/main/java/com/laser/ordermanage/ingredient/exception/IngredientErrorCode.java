@@ -13,6 +13,7 @@ public enum IngredientErrorCode implements ErrorCode {
     UNABLE_UPDATE_DELETED_INGREDIENT("INGREDIENT_400_01", HttpStatus.BAD_REQUEST, "삭제된 자재는 수정할 수 없습니다."),
     UNABLE_DELETE_DELETED_INGREDIENT("INGREDIENT_400_02", HttpStatus.BAD_REQUEST, "이미 삭제된 자재는 삭제할 수 없습니다."),
     INVALID_INGREDIENT_STOCK("INGREDIENT_400_03", HttpStatus.BAD_REQUEST, "자재 재고에 대한 데이터가 일치하지 않습니다."),
+    INVALID_INGREDIENT_IMPORT_FILE("INGREDIENT_400_04", HttpStatus.BAD_REQUEST, "자재 일괄 등록 파일은 헤더를 포함한 CSV 파일이어야 합니다."),
 
     // 403 FORBIDDEN 인증 필요
     DENIED_ACCESS_TO_INGREDIENT("INGREDIENT_403_01", HttpStatus.FORBIDDEN, "자재에 대한 접근 권한이 없습니다."),
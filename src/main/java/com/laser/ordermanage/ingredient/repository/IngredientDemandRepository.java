@@ -0,0 +1,56 @@
+package com.laser.ordermanage.ingredient.repository;
+
+import com.laser.ordermanage.ingredient.domain.IngredientDemand;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngredientDemandRepository extends CrudRepository<IngredientDemand, Long> {
+
+    Optional<IngredientDemand> findByDrawingId(Long drawingId);
+
+    @Modifying
+    @Query("DELETE FROM IngredientDemand ingredientDemand WHERE ingredientDemand.drawingId = :drawingId")
+    int deleteByDrawingId(Long drawingId);
+
+    @Modifying
+    @Query("DELETE FROM IngredientDemand ingredientDemand WHERE ingredientDemand.orderId IN :orderIdList")
+    int deleteByOrderIdList(List<Long> orderIdList);
+
+    // 거래 목록의 도면 중 소요량이 없는 도면의 소요량 생성 (거래 id 로 도면 조회)
+    @Modifying
+    @Query(value = """
+            INSERT INTO ingredient_drawing_demand (drawing_id, order_id, ingredient, thickness, count, file_url)
+            SELECT drawing.id, drawing.order_id, drawing.ingredient, drawing.thickness, drawing.count, drawing.file_url
+            FROM drawing
+            WHERE drawing.order_id IN (:orderIdList)
+            AND drawing.count > 0
+            AND NOT EXISTS (
+                SELECT 1
+                FROM ingredient_drawing_demand
+                WHERE ingredient_drawing_demand.drawing_id = drawing.id
+            )
+            """, nativeQuery = true)
+    int insertByOrderList(List<Long> orderIdList);
+
+    // 거래 단계가 stageList 인 거래의 도면 중 소요량이 없는 도면의 소요량 생성 (소요량 도입 전 거래의 일회성 이전 작업)
+    @Modifying
+    @Query(value = """
+            INSERT INTO ingredient_drawing_demand (drawing_id, order_id, ingredient, thickness, count, file_url)
+            SELECT drawing.id, drawing.order_id, drawing.ingredient, drawing.thickness, drawing.count, drawing.file_url
+            FROM drawing
+            JOIN order_table ON order_table.id = drawing.order_id
+            WHERE order_table.stage IN (:stageList)
+            AND drawing.count > 0
+            AND NOT EXISTS (
+                SELECT 1
+                FROM ingredient_drawing_demand
+                WHERE ingredient_drawing_demand.drawing_id = drawing.id
+            )
+            """, nativeQuery = true)
+    int insertByOrderStage(Collection<String> stageList);
+}
@@ -1,17 +1,39 @@
 package com.laser.ordermanage.ingredient.repository;
 
+import com.laser.ordermanage.ingredient.domain.type.IngredientStatusSortType;
+import com.laser.ordermanage.ingredient.dto.request.CreateIngredientRequest;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientAnalysisItemResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandSheetResponse;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientInfoResponse;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientStatusResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface IngredientRepositoryCustom {
-    List<GetIngredientResponse> findIngredientStatusByFactoryAndDate(String email, LocalDate date);
+    List<GetIngredientResponse> findIngredientStatusByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal);
+
+    GetIngredientStatusResponse findIngredientStatusWithSummaryByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal);
+
+    List<GetIngredientResponse> findIngredientStatusSnapshotByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal);
+
+    GetIngredientStatusResponse findIngredientStatusSnapshotWithSummaryByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal);
+
+    List<GetIngredientDemandSheetResponse> findIngredientDemandSheetByFactoryManager(String email);
+
+    boolean existsIngredientStatusSnapshotByFactoryAndDate(String email, LocalDate date);
+
+    void deleteIngredientStatusSnapshotByDate(LocalDate date);
+
+    int createIngredientStatusSnapshotByDate(LocalDate date);
 
     List<GetIngredientInfoResponse> findIngredientByFactoryManager(String email);
 
+    void saveAllIngredientWithStockAndPrice(Long factoryId, List<CreateIngredientRequest> requestList);
+
     List<GetIngredientAnalysisItemResponse> findIngredientAnalysisAsTotalAndMonthAndStockByFactoryManager(String email, LocalDate startDate, LocalDate endDate, List<String> itemTypeList, String stockUnit);
 
     List<GetIngredientAnalysisItemResponse> findIngredientAnalysisAsTotalAndMonthAndPriceByFactoryManager(String email, LocalDate startDate, LocalDate endDate, List<String> itemTypeList);
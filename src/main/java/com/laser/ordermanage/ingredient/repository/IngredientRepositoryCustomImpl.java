@@ -1,46 +1,344 @@
 package com.laser.ordermanage.ingredient.repository;
 
-import com.laser.ordermanage.ingredient.dto.response.GetIngredientAnalysisItemResponse;
-import com.laser.ordermanage.ingredient.dto.response.GetIngredientInfoResponse;
-import com.laser.ordermanage.ingredient.dto.response.GetIngredientResponse;
-import com.laser.ordermanage.ingredient.dto.response.QGetIngredientInfoResponse;
+import com.laser.ordermanage.ingredient.domain.type.IngredientStatusSortType;
+import com.laser.ordermanage.ingredient.dto.request.CreateIngredientRequest;
+import com.laser.ordermanage.ingredient.dto.response.*;
+import com.laser.ordermanage.ingredient.repository.mapper.IngredientDemandSheetRowMapper;
 import com.laser.ordermanage.ingredient.repository.mapper.IngredientRowMapper;
+import com.laser.ordermanage.ingredient.repository.mapper.IngredientStatusSummaryRowMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.laser.ordermanage.factory.domain.QFactory.factory;
 import static com.laser.ordermanage.factory.domain.QFactoryManager.factoryManager;
 import static com.laser.ordermanage.ingredient.domain.QIngredient.ingredient;
+import static com.laser.ordermanage.ingredient.domain.QIngredientStatusSnapshot.ingredientStatusSnapshot;
 import static com.laser.ordermanage.user.domain.QUserEntity.userEntity;
 
 //TODO: 2024-11-21 쿼리 가독성 높이기 with 분리 ?
 @RequiredArgsConstructor
 public class IngredientRepositoryCustomImpl implements IngredientRepositoryCustom{
 
+    // 원판의 너비, 높이는 feet 단위 (1 feet = 304.8 mm)
+    private static final double SQUARE_MILLIMETER_PER_SQUARE_FEET = 304.8 * 304.8;
+
+    // 도면 재질 (enum 이름, 예 : DOUBLE_HL) 을 자재 재질과 비교할 수 있는 재질 값 (예 : 2HL) 으로 변환
+    private static final String DRAWING_INGREDIENT_VALUE_EXPRESSION = Arrays.stream(com.laser.ordermanage.order.domain.type.Ingredient.values())
+            .map(drawingIngredient -> "WHEN '%s' THEN '%s'".formatted(drawingIngredient.name(), drawingIngredient.getValue()))
+            .collect(Collectors.joining(" ", "CASE ingredient_drawing_demand.ingredient ", " END"));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<GetIngredientResponse> findIngredientStatusByFactoryAndDate(String email, LocalDate date) {
+    public List<GetIngredientResponse> findIngredientStatusByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        return findIngredientStatus(createIngredientStatusQuery(), email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
+    }
+
+    @Override
+    public List<GetIngredientResponse> findIngredientStatusSnapshotByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        return findIngredientStatus(createIngredientStatusSnapshotQuery(), email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
+    }
+
+    @Override
+    public GetIngredientStatusResponse findIngredientStatusWithSummaryByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        return findIngredientStatusWithSummary(createIngredientStatusQuery(), email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
+    }
+
+    @Override
+    public GetIngredientStatusResponse findIngredientStatusSnapshotWithSummaryByFactoryAndDate(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        return findIngredientStatusWithSummary(createIngredientStatusSnapshotQuery(), email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
+    }
+
+    /**
+     * 공장 자재별 원판 소요량 조회
+     * - 도면 재질과 공백 및 대소문자를 제외한 자재 재질이 같고, 도면 두께 (정수, mm) 가 자재 두께를 반올림한 두께 구간과 같은 자재에 소요량 반영
+     *   (예 : 1.6 mm, 2.0 mm, 2.3 mm 자재는 2 mm 구간)
+     * - 같은 구간에 자재가 여러 개인 경우 두께가 구간에 가장 가까운 자재 하나에만 반영 (같으면 얇은 자재, 자재 id 순)
+     * - 원판 소요량은 도면 분석 결과의 부품 면적 x 도면 수량 합계를 원판 면적으로 나눈 값의 올림 (배치 손실은 고려하지 않음)
+     * - 부품 면적을 알 수 없는 도면의 수량은 원판 소요량에 포함하지 않고 별도로 조회
+     */
+    @Override
+    public List<GetIngredientDemandSheetResponse> findIngredientDemandSheetByFactoryManager(String email) {
         SqlParameterSource namedParameters = new MapSqlParameterSource()
                 .addValue("email", email)
+                .addValue("squareMillimeterPerSquareFeet", SQUARE_MILLIMETER_PER_SQUARE_FEET);
+
+        String findIngredientDemandSheetQuery = """
+                WITH factory_ingredient AS (
+                    SELECT
+                        ingredient.id AS id,
+                        REPLACE(UPPER(ingredient.texture), ' ', '') AS texture,
+                        FLOOR(ingredient.thickness + 0.5) AS thickness,
+                        ingredient.width AS width,
+                        ingredient.height AS height,
+                        ROW_NUMBER() OVER (
+                            PARTITION BY REPLACE(UPPER(ingredient.texture), ' ', ''), FLOOR(ingredient.thickness + 0.5)
+                            ORDER BY ABS(ingredient.thickness - FLOOR(ingredient.thickness + 0.5)), ingredient.thickness, ingredient.id
+                        ) AS rn
+                    FROM ingredient
+                    WHERE
+                        ingredient.deleted_at IS NULL AND
+                """ +
+                createFactoryManagerCondition("ingredient.factory_id") +
+                """
+                ), drawing_demand AS (
+                    SELECT
+                """ +
+                "        " + DRAWING_INGREDIENT_VALUE_EXPRESSION + " AS texture,\n" +
+                """
+                        ingredient_drawing_demand.thickness AS thickness,
+                        SUM(ingredient_drawing_demand.count) AS partCount,
+                        SUM(CASE WHEN drawing_analysis.part_area IS NULL THEN ingredient_drawing_demand.count ELSE 0 END) AS unestimatedPartCount,
+                        COALESCE(SUM(ingredient_drawing_demand.count * drawing_analysis.part_area), 0) AS partArea
+                    FROM ingredient_drawing_demand
+                    LEFT OUTER JOIN drawing_analysis ON drawing_analysis.file_url = ingredient_drawing_demand.file_url AND drawing_analysis.status = 'COMPLETED'
+                    GROUP BY ingredient_drawing_demand.ingredient, ingredient_drawing_demand.thickness
+                )
+                SELECT
+                    factory_ingredient.id AS ingredientId,
+                    CEIL(drawing_demand.partArea / (factory_ingredient.width * factory_ingredient.height * :squareMillimeterPerSquareFeet)) AS demand,
+                    drawing_demand.partCount AS partCount,
+                    drawing_demand.unestimatedPartCount AS unestimatedPartCount
+                FROM factory_ingredient
+                JOIN drawing_demand ON drawing_demand.texture = factory_ingredient.texture AND drawing_demand.thickness = factory_ingredient.thickness
+                WHERE factory_ingredient.rn = 1
+                """;
+
+        return jdbcTemplate.query(findIngredientDemandSheetQuery, namedParameters, new IngredientDemandSheetRowMapper());
+    }
+
+    @Override
+    public boolean existsIngredientStatusSnapshotByFactoryAndDate(String email, LocalDate date) {
+        Integer fetchOne = queryFactory
+                .selectOne()
+                .from(ingredientStatusSnapshot)
+                .join(factoryManager).on(factoryManager.factory.eq(ingredientStatusSnapshot.factory))
+                .join(factoryManager.user, userEntity)
+                .where(
+                        userEntity.email.eq(email),
+                        ingredientStatusSnapshot.statusDate.eq(date)
+                )
+                .fetchFirst();
+
+        return fetchOne != null;
+    }
+
+    @Override
+    public void deleteIngredientStatusSnapshotByDate(LocalDate date) {
+        SqlParameterSource namedParameters = new MapSqlParameterSource()
+                .addValue("date", date);
+
+        String deleteIngredientStatusSnapshotQuery = """
+                DELETE FROM ingredient_status_snapshot
+                WHERE ingredient_status_snapshot.status_date = :date
+                """;
+
+        jdbcTemplate.update(deleteIngredientStatusSnapshotQuery, namedParameters);
+    }
+
+    @Override
+    public int createIngredientStatusSnapshotByDate(LocalDate date) {
+        SqlParameterSource namedParameters = new MapSqlParameterSource()
                 .addValue("previousDate", date.minusDays(1))
                 .addValue("date", date)
                 .addValue("nextDate", date.plusDays(1));
 
-        String findIngredientQuery = """
+        // 모든 공장의 자재 현황을 한 번에 계산하여 저장
+        String createIngredientStatusSnapshotQuery = """
+                INSERT INTO ingredient_status_snapshot (factory_id, status_date, ingredient_id, purchase, sell, previous_day, incoming, production, current_day, optimal)
+                SELECT
+                    ingredient_status.factoryId,
+                    :date,
+                    ingredient_status.id,
+                    ingredient_status.purchase,
+                    ingredient_status.sell,
+                    ingredient_status.previousDay,
+                    ingredient_status.incoming,
+                    ingredient_status.production,
+                    ingredient_status.currentDay,
+                    ingredient_status.optimal
+                FROM (
+                """ +
+                createIngredientStatusSelectQuery("TRUE") +
+                """
+                ) AS ingredient_status
+                """;
+
+        return jdbcTemplate.update(createIngredientStatusSnapshotQuery, namedParameters);
+    }
+
+    private List<GetIngredientResponse> findIngredientStatus(String ingredientStatusQuery, String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        MapSqlParameterSource namedParameters = createIngredientStatusParameters(email, date, texture);
+
+        String findIngredientQuery = ingredientStatusQuery +
+                """
+                SELECT ingredient_status.*
+                FROM ingredient_status
+                """ +
+                createIngredientStatusCondition(texture, isDeleted, isBelowOptimal) +
+                createIngredientStatusOrder(sortType, direction);
+
+        if (pageable.isPaged()) {
+            namedParameters
+                    .addValue("limit", pageable.getPageSize())
+                    .addValue("offset", pageable.getOffset());
+
+            findIngredientQuery += """
+                LIMIT :limit OFFSET :offset
+                """;
+        }
+
+        return jdbcTemplate.query(findIngredientQuery, namedParameters, new IngredientRowMapper());
+    }
+
+    // 자재 현황 계산 쿼리가 무거우므로 페이지 조회 쿼리에서 윈도우 함수로 조회 조건에 해당하는 전체 자재의 요약까지 함께 계산
+    // - 윈도우 함수는 WHERE 이후, ORDER BY 및 LIMIT 이전에 계산되므로 페이지가 아닌 조회 조건 전체 기준
+    // - 조회된 행이 없는 경우, 첫 페이지이면 빈 요약을 반환하고 범위를 벗어난 페이지이면 요약만 별도 조회
+    private GetIngredientStatusResponse findIngredientStatusWithSummary(String ingredientStatusQuery, String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        MapSqlParameterSource namedParameters = createIngredientStatusParameters(email, date, texture);
+
+        String findIngredientWithSummaryQuery = ingredientStatusQuery +
+                """
+                SELECT
+                    ingredient_status.*,
+                    COUNT(*) OVER () AS totalElements,
+                    COALESCE(FLOOR(AVG(ingredient_status.purchase) OVER ()), 0) AS averagePurchase,
+                    COALESCE(FLOOR(AVG(ingredient_status.sell) OVER ()), 0) AS averageSell,
+                    COALESCE(SUM(ingredient_status.currentDay) OVER (), 0) AS totalStockCount,
+                    COALESCE(ROUND(SUM(CAST(ingredient_status.currentDay AS DECIMAL(10, 2)) * CAST(ingredient_status.weight AS DECIMAL(10, 2))) OVER (), 2), 0) AS totalStockWeight
+                FROM ingredient_status
+                """ +
+                createIngredientStatusCondition(texture, isDeleted, isBelowOptimal) +
+                createIngredientStatusOrder(sortType, direction);
+
+        if (pageable.isPaged()) {
+            namedParameters
+                    .addValue("limit", pageable.getPageSize())
+                    .addValue("offset", pageable.getOffset());
+
+            findIngredientWithSummaryQuery += """
+                LIMIT :limit OFFSET :offset
+                """;
+        }
+
+        IngredientRowMapper ingredientRowMapper = new IngredientRowMapper();
+        IngredientStatusSummaryRowMapper ingredientStatusSummaryRowMapper = new IngredientStatusSummaryRowMapper();
+        List<GetIngredientResponse> ingredientResponseList = new ArrayList<>();
+        List<GetIngredientStatusSummaryResponse> summaryList = new ArrayList<>(1);
+
+        jdbcTemplate.query(findIngredientWithSummaryQuery, namedParameters, (RowCallbackHandler) rs -> {
+            if (summaryList.isEmpty()) {
+                summaryList.add(ingredientStatusSummaryRowMapper.mapRow(rs, 0));
+            }
+            ingredientResponseList.add(ingredientRowMapper.mapRow(rs, ingredientResponseList.size()));
+        });
+
+        GetIngredientStatusSummaryResponse summary;
+        if (!summaryList.isEmpty()) {
+            summary = summaryList.get(0);
+        } else if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+            summary = GetIngredientStatusSummaryResponse.empty();
+        } else {
+            summary = findIngredientStatusSummary(ingredientStatusQuery, email, date, texture, isDeleted, isBelowOptimal);
+        }
+
+        return GetIngredientStatusResponse.from(summary, new PageImpl<>(ingredientResponseList, pageable, summary.totalElements()), date);
+    }
+
+    private GetIngredientStatusSummaryResponse findIngredientStatusSummary(String ingredientStatusQuery, String email, LocalDate date, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        SqlParameterSource namedParameters = createIngredientStatusParameters(email, date, texture);
+
+        String findIngredientSummaryQuery = ingredientStatusQuery +
+                """
+                SELECT
+                    COUNT(*) AS totalElements,
+                    COALESCE(FLOOR(AVG(ingredient_status.purchase)), 0) AS averagePurchase,
+                    COALESCE(FLOOR(AVG(ingredient_status.sell)), 0) AS averageSell,
+                    COALESCE(SUM(ingredient_status.currentDay), 0) AS totalStockCount,
+                    COALESCE(ROUND(SUM(CAST(ingredient_status.currentDay AS DECIMAL(10, 2)) * CAST(ingredient_status.weight AS DECIMAL(10, 2))), 2), 0) AS totalStockWeight
+                FROM ingredient_status
+                """ +
+                createIngredientStatusCondition(texture, isDeleted, isBelowOptimal);
+
+        return jdbcTemplate.queryForObject(findIngredientSummaryQuery, namedParameters, new IngredientStatusSummaryRowMapper());
+    }
+
+    private MapSqlParameterSource createIngredientStatusParameters(String email, LocalDate date, String texture) {
+        return new MapSqlParameterSource()
+                .addValue("email", email)
+                .addValue("previousDate", date.minusDays(1))
+                .addValue("date", date)
+                .addValue("nextDate", date.plusDays(1))
+                .addValue("texture", texture);
+    }
+
+    private String createIngredientStatusQuery() {
+        return """
+            WITH ingredient_status AS (
+            """ +
+            createIngredientStatusSelectQuery(createFactoryManagerCondition("ingredient.factory_id")) +
+            """
+            )
+            """;
+    }
+
+    private String createIngredientStatusSnapshotQuery() {
+        return """
+            WITH ingredient_status AS (
+                SELECT
+                    ingredient.id AS id,
+                    ingredient.texture AS texture,
+                    ingredient.thickness AS thickness,
+                    ingredient.width AS width,
+                    ingredient.height AS height,
+                    ingredient.weight AS weight,
+                    ingredient.deleted_at IS NOT NULL AS isDeleted,
+                    ingredient_status_snapshot.purchase AS purchase,
+                    ingredient_status_snapshot.sell AS sell,
+                    ingredient_status_snapshot.previous_day AS previousDay,
+                    ingredient_status_snapshot.incoming AS incoming,
+                    ingredient_status_snapshot.production AS production,
+                    ingredient_status_snapshot.current_day AS currentDay,
+                    ingredient_status_snapshot.optimal AS optimal
+                FROM ingredient_status_snapshot
+                JOIN ingredient ON ingredient.id = ingredient_status_snapshot.ingredient_id
+                WHERE
+                    ingredient_status_snapshot.status_date = :date AND
+            """ +
+            createFactoryManagerCondition("ingredient_status_snapshot.factory_id") +
+            """
+            )
+            """;
+    }
+
+    private String createIngredientStatusSelectQuery(String factoryCondition) {
+        return """
             SELECT
                 ingredient.id AS id,
+                ingredient.factory_id AS factoryId,
                 ingredient.texture AS texture,
                 ingredient.thickness AS thickness,
                 ingredient.width AS width,
@@ -49,15 +347,15 @@ public class IngredientRepositoryCustomImpl implements IngredientRepositoryCusto
                 ingredient.deleted_at IS NOT NULL AS isDeleted,
                 ingredient_price_data.purchase AS purchase,
                 ingredient_price_data.sell AS sell,
-                COALESCE(ingredient_previous_stock_data.stock, 0) AS previousDay,
-                COALESCE(ingredient_stock_data.incoming, 0) AS incoming,
-                COALESCE(ingredient_stock_data.production, 0) AS production,
-                COALESCE(ingredient_stock_data.stock, COALESCE(ingredient_previous_stock_data.stock, 0)) AS currentDay,
+                COALESCE(ingredient_ledger_data.previousDay, ingredient_previous_stock_data.stock, 0) AS previousDay,
+                COALESCE(ingredient_ledger_data.incoming, ingredient_stock_data.incoming, 0) AS incoming,
+                COALESCE(ingredient_ledger_data.production, ingredient_stock_data.production, 0) AS production,
+                CASE
+                    WHEN ingredient_ledger_data.ingredient_id IS NOT NULL THEN ingredient_ledger_data.previousDay + ingredient_ledger_data.incoming - ingredient_ledger_data.production
+                    ELSE COALESCE(ingredient_stock_data.stock, ingredient_previous_stock_data.stock, 0)
+                END AS currentDay,
                 COALESCE(ingredient_stock_data.optimal, ingredient_previous_stock_data.optimal) AS optimal
             FROM ingredient
-            JOIN factory ON ingredient.factory_id = factory.id
-            JOIN factory_manager ON factory.id = factory_manager.factory_id
-            JOIN user_table on factory_manager.user_id = user_table.id
             JOIN (
                 SELECT
                     ranked_data.ingredient_id,
@@ -100,12 +398,78 @@ public class IngredientRepositoryCustomImpl implements IngredientRepositoryCusto
                 FROM ingredient_stock
                 WHERE ingredient_stock.created_at = :date
             ) AS ingredient_stock_data ON ingredient_stock_data.ingredient_id = ingredient.id
+            LEFT OUTER JOIN (
+            """ +
+            createIngredientLedgerSelectQuery() +
+            """
+            ) AS ingredient_ledger_data ON ingredient_ledger_data.ingredient_id = ingredient.id
             WHERE
                 ingredient.created_at < :nextDate AND
                 (ingredient.deleted_at IS NULL or ingredient.deleted_at >= :date) AND
-                user_table.email = :email
-            """;
-        return jdbcTemplate.query(findIngredientQuery, namedParameters, new IngredientRowMapper());
+            """ +
+            factoryCondition + "\n";
+    }
+
+    // 재고 변동 이력 재생으로 계산한 자재별 전일 재고 및 당일 입고, 생산
+    // - 기초 재고 이력 일자 이후의 재고만 이력으로 계산 (이전 일자는 자재 재고 데이터 사용)
+    // - 기초 재고 이력은 재고에만 포함하고 입고에는 포함 X
+    private String createIngredientLedgerSelectQuery() {
+        return """
+                SELECT
+                    ingredient_stock_ledger.ingredient_id,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date < :date THEN ingredient_stock_ledger.incoming - ingredient_stock_ledger.production ELSE 0 END) AS previousDay,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.incoming ELSE 0 END) AS incoming,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.production ELSE 0 END) AS production
+                FROM ingredient_stock_ledger
+                WHERE ingredient_stock_ledger.movement_date <= :date
+                GROUP BY ingredient_stock_ledger.ingredient_id
+                HAVING MAX(CASE WHEN ingredient_stock_ledger.opening = TRUE THEN ingredient_stock_ledger.movement_date END) < :date
+                """;
+    }
+
+    // 한 공장에 여러 관리자가 존재하더라도 자재가 중복 조회되지 않도록 서브쿼리로 조건 생성
+    private String createFactoryManagerCondition(String factoryIdColumn) {
+        return """
+                %s IN (
+                    SELECT factory_manager.factory_id
+                    FROM factory_manager
+                    JOIN user_table ON factory_manager.user_id = user_table.id
+                    WHERE user_table.email = :email
+                )
+                """.formatted(factoryIdColumn);
+    }
+
+    private String createIngredientStatusCondition(String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        List<String> conditionList = new ArrayList<>();
+
+        if (texture != null) {
+            conditionList.add("ingredient_status.texture = :texture");
+        }
+
+        if (isDeleted != null) {
+            conditionList.add(isDeleted ? "ingredient_status.isDeleted = TRUE" : "ingredient_status.isDeleted = FALSE");
+        }
+
+        if (isBelowOptimal != null) {
+            conditionList.add(isBelowOptimal
+                    ? "(ingredient_status.optimal IS NOT NULL AND ingredient_status.currentDay < ingredient_status.optimal)"
+                    : "(ingredient_status.optimal IS NULL OR ingredient_status.currentDay >= ingredient_status.optimal)");
+        }
+
+        if (conditionList.isEmpty()) {
+            return "";
+        }
+
+        return "WHERE " + String.join(" AND ", conditionList) + "\n";
+    }
+
+    private String createIngredientStatusOrder(IngredientStatusSortType sortType, Sort.Direction direction) {
+        // 정렬 기준이 같은 경우 페이지 간 결과가 바뀌지 않도록 자재 id 로 정렬
+        if (sortType == null) {
+            return "ORDER BY ingredient_status.id\n";
+        }
+
+        return "ORDER BY " + sortType.getExpression() + " " + direction.name() + ", ingredient_status.id\n";
     }
 
     @Override
@@ -126,6 +490,78 @@ public class IngredientRepositoryCustomImpl implements IngredientRepositoryCusto
         return ingredientInfoResponseList;
     }
 
+    @Override
+    public void saveAllIngredientWithStockAndPrice(Long factoryId, List<CreateIngredientRequest> requestList) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate nowDate = now.toLocalDate();
+
+        String createIngredientQuery = """
+                INSERT INTO ingredient (factory_id, texture, thickness, width, height, weight, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        // 자재 데이터 일괄 생성 후 생성된 id 를 이용하여 초기 재고, 기초 재고 이력 및 단가 데이터 일괄 생성 (초기 재고는 전일 기초 재고 이력의 입고량)
+        List<Long> ingredientIdList = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(createIngredientQuery, Statement.RETURN_GENERATED_KEYS)) {
+                for (CreateIngredientRequest request : requestList) {
+                    preparedStatement.setLong(1, factoryId);
+                    preparedStatement.setString(2, request.texture());
+                    preparedStatement.setDouble(3, request.thickness());
+                    preparedStatement.setInt(4, request.width());
+                    preparedStatement.setInt(5, request.height());
+                    preparedStatement.setDouble(6, request.weight());
+                    preparedStatement.setTimestamp(7, Timestamp.valueOf(now));
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+
+                List<Long> generatedIdList = new ArrayList<>(requestList.size());
+                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        generatedIdList.add(generatedKeys.getLong(1));
+                    }
+                }
+                return generatedIdList;
+            }
+        });
+
+        SqlParameterSource[] ingredientStockParameters = new SqlParameterSource[requestList.size()];
+        SqlParameterSource[] ingredientPriceParameters = new SqlParameterSource[requestList.size()];
+        for (int i = 0; i < requestList.size(); i++) {
+            CreateIngredientRequest request = requestList.get(i);
+            ingredientStockParameters[i] = new MapSqlParameterSource()
+                    .addValue("ingredientId", ingredientIdList.get(i))
+                    .addValue("optimal", request.optimalStock())
+                    .addValue("stock", request.initialStockOrZero())
+                    .addValue("createdAt", nowDate)
+                    .addValue("openingDate", nowDate.minusDays(1))
+                    .addValue("ledgerCreatedAt", Timestamp.valueOf(now));
+            ingredientPriceParameters[i] = new MapSqlParameterSource()
+                    .addValue("ingredientId", ingredientIdList.get(i))
+                    .addValue("purchase", request.price().purchase())
+                    .addValue("sell", request.price().sell())
+                    .addValue("createdAt", nowDate);
+        }
+
+        String createIngredientStockQuery = """
+                INSERT INTO ingredient_stock (ingredient_id, incoming, production, stock, optimal, created_at)
+                VALUES (:ingredientId, 0, 0, :stock, :optimal, :createdAt)
+                """;
+        jdbcTemplate.batchUpdate(createIngredientStockQuery, ingredientStockParameters);
+
+        String createIngredientStockLedgerQuery = """
+                INSERT INTO ingredient_stock_ledger (ingredient_id, movement_date, incoming, production, opening, created_at)
+                VALUES (:ingredientId, :openingDate, :stock, 0, TRUE, :ledgerCreatedAt)
+                """;
+        jdbcTemplate.batchUpdate(createIngredientStockLedgerQuery, ingredientStockParameters);
+
+        String createIngredientPriceQuery = """
+                INSERT INTO ingredient_price (ingredient_id, purchase, sell, created_at)
+                VALUES (:ingredientId, :purchase, :sell, :createdAt)
+                """;
+        jdbcTemplate.batchUpdate(createIngredientPriceQuery, ingredientPriceParameters);
+    }
+
     @Override
     public List<GetIngredientAnalysisItemResponse> findIngredientAnalysisAsTotalAndMonthAndStockByFactoryManager(String email, LocalDate startDate, LocalDate endDate, List<String> itemTypeList, String stockUnit) {
         SqlParameterSource namedParameters = new MapSqlParameterSource()
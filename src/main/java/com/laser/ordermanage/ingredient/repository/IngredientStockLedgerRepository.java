@@ -0,0 +1,69 @@
+package com.laser.ordermanage.ingredient.repository;
+
+import com.laser.ordermanage.ingredient.domain.IngredientStockLedger;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IngredientStockLedgerRepository extends CrudRepository<IngredientStockLedger, Long> {
+
+    List<IngredientStockLedger> findByIngredientIdAndMovementDateOrderByIdAsc(Long ingredientId, LocalDate movementDate);
+
+    // 기초 재고 이력이 없는 자재 (이력 도입 전 자재) 에 첫 변동 이력 전의 가장 최근 자재 재고 데이터로 기초 재고 이력 생성
+    // - 변동 이력이 없는 자재는 가장 최근 자재 재고 데이터의 재고를 전일 기초 재고로 생성
+    @Modifying
+    @Query(value = """
+            INSERT INTO ingredient_stock_ledger (ingredient_id, movement_date, incoming, production, opening, created_at)
+            SELECT
+                ingredient.id,
+                CASE
+                    WHEN first_ledger_data.movement_date IS NULL THEN :previousDate
+                    ELSE COALESCE(opening_stock_data.created_at, first_ledger_data.movement_date)
+                END,
+                COALESCE(opening_stock_data.stock, 0),
+                0,
+                TRUE,
+                :createdAt
+            FROM ingredient
+            LEFT OUTER JOIN (
+                SELECT
+                    ingredient_stock_ledger.ingredient_id,
+                    MIN(ingredient_stock_ledger.movement_date) AS movement_date
+                FROM ingredient_stock_ledger
+                GROUP BY ingredient_stock_ledger.ingredient_id
+            ) AS first_ledger_data ON first_ledger_data.ingredient_id = ingredient.id
+            LEFT OUTER JOIN (
+                SELECT
+                    ranked_data.ingredient_id,
+                    ranked_data.stock,
+                    ranked_data.created_at
+                FROM (
+                    SELECT
+                        ingredient_stock.ingredient_id,
+                        ingredient_stock.stock,
+                        ingredient_stock.created_at,
+                        ROW_NUMBER() OVER (PARTITION BY ingredient_stock.ingredient_id ORDER BY ingredient_stock.created_at DESC) AS rn
+                    FROM ingredient_stock
+                    LEFT OUTER JOIN (
+                        SELECT
+                            ingredient_stock_ledger.ingredient_id,
+                            MIN(ingredient_stock_ledger.movement_date) AS movement_date
+                        FROM ingredient_stock_ledger
+                        GROUP BY ingredient_stock_ledger.ingredient_id
+                    ) AS first_ledger_data ON first_ledger_data.ingredient_id = ingredient_stock.ingredient_id
+                    WHERE first_ledger_data.movement_date IS NULL OR ingredient_stock.created_at < first_ledger_data.movement_date
+                ) AS ranked_data
+                WHERE ranked_data.rn = 1
+            ) AS opening_stock_data ON opening_stock_data.ingredient_id = ingredient.id
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM ingredient_stock_ledger
+                WHERE ingredient_stock_ledger.ingredient_id = ingredient.id AND ingredient_stock_ledger.opening = TRUE
+            )
+            """, nativeQuery = true)
+    int insertMissingOpeningLedger(LocalDate previousDate, LocalDateTime createdAt);
+}
@@ -1,6 +1,8 @@
 package com.laser.ordermanage.ingredient.repository;
 
 import com.laser.ordermanage.ingredient.domain.IngredientStock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 import java.time.LocalDate;
@@ -11,4 +13,96 @@ public interface IngredientStockRepository extends CrudRepository<IngredientStoc
     Optional<IngredientStock> findByIngredientIdAndCreatedAt(Long ingredientId, LocalDate date);
 
     IngredientStock findFirstByIngredientIdOrderByCreatedAtDesc(Long ingredientId);
+
+    // 당일 자재 재고 데이터에 재고 변동량 반영 (데이터가 없으면 가장 최근 데이터의 재고, 적정 재고로 생성)
+    // - 자재 및 일자의 unique key 로 동시에 처음 생성해도 하나의 데이터에 합산 (자재 잠금 X)
+    @Modifying
+    @Query(value = """
+            INSERT INTO ingredient_stock (ingredient_id, incoming, production, stock, optimal, created_at)
+            SELECT
+                ingredient.id,
+                :incoming,
+                :production,
+                COALESCE(previous_stock_data.stock, 0) + :incoming - :production,
+                previous_stock_data.optimal,
+                :date
+            FROM ingredient
+            LEFT OUTER JOIN (
+                SELECT
+                    ingredient_stock.stock,
+                    ingredient_stock.optimal
+                FROM ingredient_stock
+                WHERE ingredient_stock.ingredient_id = :ingredientId AND ingredient_stock.created_at < :date
+                ORDER BY ingredient_stock.created_at DESC
+                LIMIT 1
+            ) AS previous_stock_data ON 1 = 1
+            WHERE ingredient.id = :ingredientId
+            ON DUPLICATE KEY UPDATE
+                incoming = ingredient_stock.incoming + :incoming,
+                production = ingredient_stock.production + :production,
+                stock = ingredient_stock.stock + :incoming - :production
+            """, nativeQuery = true)
+    int upsertStockByMovement(Long ingredientId, LocalDate date, Integer incoming, Integer production);
+
+    // 해당 일자의 자재 재고 데이터를 재고 변동 이력으로 갱신 (입고, 생산은 당일 합계, 재고는 해당 일자까지의 합계)
+    // - 기초 재고 이력 일자 이후의 자재 재고 데이터만 갱신 (이전 일자는 이력 도입 전 데이터 유지)
+    @Modifying
+    @Query(value = """
+            UPDATE ingredient_stock
+            JOIN (
+                SELECT
+                    ingredient_stock_ledger.ingredient_id,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.incoming ELSE 0 END) AS incoming,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.production ELSE 0 END) AS production,
+                    SUM(ingredient_stock_ledger.incoming - ingredient_stock_ledger.production) AS stock
+                FROM ingredient_stock_ledger
+                WHERE ingredient_stock_ledger.movement_date <= :date
+                GROUP BY ingredient_stock_ledger.ingredient_id
+                HAVING MAX(CASE WHEN ingredient_stock_ledger.opening = TRUE THEN ingredient_stock_ledger.movement_date END) < :date
+            ) AS ingredient_ledger_data ON ingredient_ledger_data.ingredient_id = ingredient_stock.ingredient_id
+            SET
+                ingredient_stock.incoming = ingredient_ledger_data.incoming,
+                ingredient_stock.production = ingredient_ledger_data.production,
+                ingredient_stock.stock = ingredient_ledger_data.stock
+            WHERE ingredient_stock.created_at = :date
+            """, nativeQuery = true)
+    int updateStockByLedger(LocalDate date);
+
+    // 해당 일자에 재고 변동 이력이 있으나 자재 재고 데이터가 없는 자재의 자재 재고 데이터 생성 (적정 재고는 가장 최근 데이터)
+    @Modifying
+    @Query(value = """
+            INSERT INTO ingredient_stock (ingredient_id, incoming, production, stock, optimal, created_at)
+            SELECT
+                ingredient_ledger_data.ingredient_id,
+                ingredient_ledger_data.incoming,
+                ingredient_ledger_data.production,
+                ingredient_ledger_data.stock,
+                (
+                    SELECT previous_stock.optimal
+                    FROM ingredient_stock AS previous_stock
+                    WHERE previous_stock.ingredient_id = ingredient_ledger_data.ingredient_id AND previous_stock.created_at < :date
+                    ORDER BY previous_stock.created_at DESC
+                    LIMIT 1
+                ),
+                :date
+            FROM (
+                SELECT
+                    ingredient_stock_ledger.ingredient_id,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.incoming ELSE 0 END) AS incoming,
+                    SUM(CASE WHEN ingredient_stock_ledger.movement_date = :date AND ingredient_stock_ledger.opening IS NOT TRUE THEN ingredient_stock_ledger.production ELSE 0 END) AS production,
+                    SUM(ingredient_stock_ledger.incoming - ingredient_stock_ledger.production) AS stock
+                FROM ingredient_stock_ledger
+                WHERE ingredient_stock_ledger.movement_date <= :date
+                GROUP BY ingredient_stock_ledger.ingredient_id
+                HAVING
+                    MAX(CASE WHEN ingredient_stock_ledger.opening = TRUE THEN ingredient_stock_ledger.movement_date END) < :date AND
+                    MAX(ingredient_stock_ledger.movement_date) = :date
+            ) AS ingredient_ledger_data
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM ingredient_stock
+                WHERE ingredient_stock.ingredient_id = ingredient_ledger_data.ingredient_id AND ingredient_stock.created_at = :date
+            )
+            """, nativeQuery = true)
+    int insertStockByLedger(LocalDate date);
 }
@@ -0,0 +1,19 @@
+package com.laser.ordermanage.ingredient.repository.mapper;
+
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandSheetResponse;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class IngredientDemandSheetRowMapper implements RowMapper<GetIngredientDemandSheetResponse> {
+    @Override
+    public GetIngredientDemandSheetResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return GetIngredientDemandSheetResponse.builder()
+                .ingredientId(rs.getLong("ingredientId"))
+                .demand(rs.getInt("demand"))
+                .partCount(rs.getInt("partCount"))
+                .unestimatedPartCount(rs.getInt("unestimatedPartCount"))
+                .build();
+    }
+}
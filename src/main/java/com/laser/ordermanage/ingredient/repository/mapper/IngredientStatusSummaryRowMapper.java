@@ -0,0 +1,30 @@
+package com.laser.ordermanage.ingredient.repository.mapper;
+
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientPriceResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientStatusSummaryResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientTotalStockResponse;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class IngredientStatusSummaryRowMapper implements RowMapper<GetIngredientStatusSummaryResponse> {
+    @Override
+    public GetIngredientStatusSummaryResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return GetIngredientStatusSummaryResponse.builder()
+                .totalElements(rs.getLong("totalElements"))
+                .averagePrice(
+                        GetIngredientPriceResponse.builder()
+                                .purchase(rs.getInt("averagePurchase"))
+                                .sell(rs.getInt("averageSell"))
+                                .build()
+                )
+                .totalStock(
+                        GetIngredientTotalStockResponse.builder()
+                                .count(rs.getInt("totalStockCount"))
+                                .weight(rs.getBigDecimal("totalStockWeight").doubleValue())
+                                .build()
+                )
+                .build();
+    }
+}
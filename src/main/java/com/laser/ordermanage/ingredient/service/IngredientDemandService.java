@@ -0,0 +1,99 @@
+package com.laser.ordermanage.ingredient.service;
+
+import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.ingredient.domain.IngredientDemand;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandSheetResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientResponse;
+import com.laser.ordermanage.ingredient.repository.IngredientDemandRepository;
+import com.laser.ordermanage.ingredient.repository.IngredientRepository;
+import com.laser.ordermanage.order.domain.Drawing;
+import com.laser.ordermanage.order.domain.Order;
+import com.laser.ordermanage.order.domain.type.Stage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class IngredientDemandService {
+
+    private final IngredientDemandRepository ingredientDemandRepository;
+    private final IngredientRepository ingredientRepository;
+
+    @Transactional(readOnly = true)
+    public ListResponse<GetIngredientDemandResponse> getIngredientDemand(String email) {
+        List<GetIngredientResponse> ingredientResponseList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, LocalDate.now(), Pageable.unpaged(), null, Sort.Direction.ASC, null, Boolean.FALSE, null);
+
+        Map<Long, GetIngredientDemandSheetResponse> demandSheetMap = ingredientRepository.findIngredientDemandSheetByFactoryManager(email).stream()
+                .collect(Collectors.toMap(GetIngredientDemandSheetResponse::ingredientId, Function.identity()));
+
+        List<GetIngredientDemandResponse> ingredientDemandResponseList = ingredientResponseList.stream()
+                .map(ingredientResponse -> GetIngredientDemandResponse.from(ingredientResponse, demandSheetMap.get(ingredientResponse.id())))
+                .toList();
+
+        return new ListResponse<>(ingredientDemandResponseList);
+    }
+
+    // 도면의 소요량 생성 또는 수정 (수량이 없는 도면은 소요량 삭제)
+    @Transactional
+    public void saveDemandByDrawing(Drawing drawing) {
+        if (drawing.getCount() == null || drawing.getCount() <= 0) {
+            ingredientDemandRepository.deleteByDrawingId(drawing.getId());
+            return;
+        }
+
+        ingredientDemandRepository.findByDrawingId(drawing.getId())
+                .ifPresentOrElse(
+                        ingredientDemand -> ingredientDemand.update(drawing),
+                        () -> ingredientDemandRepository.save(IngredientDemand.from(drawing))
+                );
+    }
+
+    @Transactional
+    public void deleteDemandByDrawing(Drawing drawing) {
+        ingredientDemandRepository.deleteByDrawingId(drawing.getId());
+    }
+
+    // 견적 승인 단계로 변경된 거래의 도면 소요량 생성
+    @Transactional
+    public void saveDemandByOrderList(List<Long> orderIdList) {
+        if (orderIdList.isEmpty()) {
+            return;
+        }
+
+        ingredientDemandRepository.insertByOrderList(orderIdList);
+    }
+
+    // 견적 승인, 제작 중 단계가 아니게 되거나 삭제되는 거래의 도면 소요량 삭제
+    @Transactional
+    public void deleteDemandByOrderList(List<Long> orderIdList) {
+        if (orderIdList.isEmpty()) {
+            return;
+        }
+
+        ingredientDemandRepository.deleteByOrderIdList(orderIdList);
+    }
+
+    /**
+     * 소요량 도입 전의 견적 승인, 제작 중 단계 거래의 도면 소요량 생성 (일회성 데이터 이전 작업)
+     * - 소요량이 없는 도면만 생성하므로, 이전 작업 중에 생성, 수정된 도면의 소요량을 덮어쓰지 않음
+     */
+    @Transactional
+    public void backfillDemand() {
+        int demandCount = ingredientDemandRepository.insertByOrderStage(
+                Order.INGREDIENT_DEMAND_STAGE_LIST.stream().map(Stage::name).toList()
+        );
+        log.info("Backfilled {} ingredient drawing demands", demandCount);
+    }
+}
@@ -2,29 +2,52 @@ package com.laser.ordermanage.ingredient.service;
 
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.common.util.CsvUtil;
+import com.laser.ordermanage.common.util.FileUtil;
 import com.laser.ordermanage.factory.domain.Factory;
 import com.laser.ordermanage.factory.service.FactoryUserAccountService;
 import com.laser.ordermanage.ingredient.domain.Ingredient;
 import com.laser.ordermanage.ingredient.domain.IngredientPrice;
 import com.laser.ordermanage.ingredient.domain.IngredientStock;
+import com.laser.ordermanage.ingredient.domain.IngredientStockLedger;
+import com.laser.ordermanage.ingredient.domain.type.IngredientStatusSortType;
 import com.laser.ordermanage.ingredient.dto.request.CreateIngredientRequest;
+import com.laser.ordermanage.ingredient.dto.request.IngredientPriceRequest;
 import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientRequest;
 import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequest;
 import com.laser.ordermanage.ingredient.dto.response.*;
 import com.laser.ordermanage.ingredient.exception.IngredientErrorCode;
 import com.laser.ordermanage.ingredient.repository.IngredientPriceRepository;
 import com.laser.ordermanage.ingredient.repository.IngredientRepository;
+import com.laser.ordermanage.ingredient.repository.IngredientStockLedgerRepository;
 import com.laser.ordermanage.ingredient.repository.IngredientStockRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class IngredientService {
@@ -32,9 +55,18 @@ public class IngredientService {
     private final IngredientStockRepository ingredientStockRepository;
     private final IngredientPriceRepository ingredientPriceRepository;
     private final IngredientRepository ingredientRepository;
+    private final IngredientStockLedgerRepository ingredientStockLedgerRepository;
 
     private final FactoryUserAccountService factoryUserAccountService;
 
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final List<String> IMPORT_COLUMN_LIST = List.of("texture", "thickness", "width", "height", "weight", "purchase", "sell", "optimal-stock", "initial-stock");
+    // 초기 재고 컬럼 추가 전 형식 (초기 재고 0)
+    private static final List<String> LEGACY_IMPORT_COLUMN_LIST = IMPORT_COLUMN_LIST.subList(0, IMPORT_COLUMN_LIST.size() - 1);
+
     @Transactional(readOnly = true)
     public Ingredient getIngredientById(Long ingredientId) {
         return ingredientRepository.findFirstById(ingredientId).orElseThrow(() -> new CustomCommonException(IngredientErrorCode.NOT_FOUND_INGREDIENT));
@@ -47,10 +79,13 @@ public class IngredientService {
     }
 
     @Transactional(readOnly = true)
-    public GetIngredientStatusResponse getIngredientStatus(String email, LocalDate date) {
-        List<GetIngredientResponse> getIngredientResponseList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, date);
+    public GetIngredientStatusResponse getIngredientStatus(String email, LocalDate date, Pageable pageable, IngredientStatusSortType sortType, Sort.Direction direction, String texture, Boolean isDeleted, Boolean isBelowOptimal) {
+        // 지난 날짜의 자재 현황은 스냅샷이 존재하는 경우 스냅샷 조회
+        if (date.isBefore(LocalDate.now()) && ingredientRepository.existsIngredientStatusSnapshotByFactoryAndDate(email, date)) {
+            return ingredientRepository.findIngredientStatusSnapshotWithSummaryByFactoryAndDate(email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
+        }
 
-        return GetIngredientStatusResponse.from(getIngredientResponseList, date);
+        return ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, pageable, sortType, direction, texture, isDeleted, isBelowOptimal);
     }
 
     @Transactional
@@ -64,14 +99,150 @@ public class IngredientService {
 
         ingredientStockRepository.save(ingredientStock);
 
+        // 초기 재고는 전일 기초 재고로 기록
+        IngredientStockLedger ingredientStockLedger = IngredientStockLedger.opening(savedIngredient, LocalDate.now().minusDays(1), request.initialStockOrZero());
+
+        ingredientStockLedgerRepository.save(ingredientStockLedger);
+
         IngredientPrice ingredientPrice = request.price().toEntity(savedIngredient);
 
         ingredientPriceRepository.save(ingredientPrice);
     }
 
+    // chunk 단위로 트랜잭션을 나누어 커밋 (저장에 실패한 chunk 는 해당 행을 오류로 응답하고 다음 chunk 진행)
+    public ImportIngredientResponse importIngredient(String email, MultipartFile file) {
+        if (!FileUtil.getExtension(file).equalsIgnoreCase("csv")) {
+            throw new CustomCommonException(IngredientErrorCode.INVALID_INGREDIENT_IMPORT_FILE);
+        }
+
+        Factory factory = factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email);
+
+        int totalRowCount = 0;
+        int importedRowCount = 0;
+        List<ImportIngredientErrorResponse> errorList = new ArrayList<>();
+        List<CreateIngredientRequest> requestList = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<Integer> rowNumberList = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        // 파일 전체를 메모리에 올리지 않고 한 레코드씩 읽으며 검증 후, 유효한 행은 chunk 단위로 일괄 생성
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> columnNameList = CsvUtil.readRecord(reader);
+            if (columnNameList != null && !columnNameList.isEmpty()) {
+                columnNameList.set(0, columnNameList.get(0).replace("\uFEFF", ""));
+            }
+            if (columnNameList == null || (!columnNameList.equals(IMPORT_COLUMN_LIST) && !columnNameList.equals(LEGACY_IMPORT_COLUMN_LIST))) {
+                throw new CustomCommonException(IngredientErrorCode.INVALID_INGREDIENT_IMPORT_FILE);
+            }
+
+            // 행 번호는 헤더를 1 로 하는 레코드 번호 (큰따옴표 안의 줄바꿈은 같은 행)
+            int rowNumber = 1;
+            List<String> columnList;
+            while ((columnList = CsvUtil.readRecord(reader)) != null) {
+                rowNumber++;
+                if (CsvUtil.isBlank(columnList)) {
+                    continue;
+                }
+                totalRowCount++;
+
+                List<String> messageList = new ArrayList<>();
+                CreateIngredientRequest request = toCreateIngredientRequest(columnList, columnNameList.size(), messageList);
+                if (!messageList.isEmpty()) {
+                    errorList.add(
+                            ImportIngredientErrorResponse.builder()
+                                    .rowNumber(rowNumber)
+                                    .messageList(messageList)
+                                    .build()
+                    );
+                    continue;
+                }
+
+                requestList.add(request);
+                rowNumberList.add(rowNumber);
+                if (requestList.size() == IMPORT_CHUNK_SIZE) {
+                    importedRowCount += saveImportChunk(factory.getId(), requestList, rowNumberList, errorList);
+                    requestList.clear();
+                    rowNumberList.clear();
+                }
+            }
+        } catch (IOException e) {
+            // 파일을 읽을 수 없거나 큰따옴표가 닫히지 않은 파일 (앞서 커밋된 chunk 는 유지)
+            throw new CustomCommonException(IngredientErrorCode.INVALID_INGREDIENT_IMPORT_FILE);
+        }
+
+        if (!requestList.isEmpty()) {
+            importedRowCount += saveImportChunk(factory.getId(), requestList, rowNumberList, errorList);
+        }
+
+        errorList.sort(Comparator.comparing(ImportIngredientErrorResponse::rowNumber));
+
+        return ImportIngredientResponse.builder()
+                .totalRowCount(totalRowCount)
+                .importedRowCount(importedRowCount)
+                .errorList(errorList)
+                .build();
+    }
+
+    private int saveImportChunk(Long factoryId, List<CreateIngredientRequest> requestList, List<Integer> rowNumberList, List<ImportIngredientErrorResponse> errorList) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> ingredientRepository.saveAllIngredientWithStockAndPrice(factoryId, requestList));
+            return requestList.size();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to import ingredient rows {} ~ {}", rowNumberList.get(0), rowNumberList.get(rowNumberList.size() - 1), e);
+            rowNumberList.forEach(rowNumber -> errorList.add(
+                    ImportIngredientErrorResponse.builder()
+                            .rowNumber(rowNumber)
+                            .messageList(List.of("자재를 저장하지 못했습니다. 다시 시도해 주세요."))
+                            .build()
+            ));
+            return 0;
+        }
+    }
+
+    private CreateIngredientRequest toCreateIngredientRequest(List<String> columnList, int columnCount, List<String> messageList) {
+        if (columnList.size() != columnCount) {
+            messageList.add("컬럼 수는 " + columnCount + "개 입니다.");
+            return null;
+        }
+
+        Double thickness = parseImportColumn(columnList.get(1), Double::valueOf, "두께", messageList);
+        Integer width = parseImportColumn(columnList.get(2), Integer::valueOf, "너비", messageList);
+        Integer height = parseImportColumn(columnList.get(3), Integer::valueOf, "높이", messageList);
+        Double weight = parseImportColumn(columnList.get(4), Double::valueOf, "무게", messageList);
+        Integer purchase = parseImportColumn(columnList.get(5), Integer::valueOf, "구매 단가", messageList);
+        Integer sell = parseImportColumn(columnList.get(6), Integer::valueOf, "판매 단가", messageList);
+        Integer optimalStock = parseImportColumn(columnList.get(7), Integer::valueOf, "적정 재고", messageList);
+        Integer initialStock = columnCount == IMPORT_COLUMN_LIST.size() ? parseImportColumn(columnList.get(8), Integer::valueOf, "초기 재고", messageList) : null;
+
+        if (!messageList.isEmpty()) {
+            return null;
+        }
+
+        CreateIngredientRequest request = new CreateIngredientRequest(columnList.get(0), thickness, width, height, weight, new IngredientPriceRequest(purchase, sell), optimalStock, initialStock);
+
+        validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .forEach(messageList::add);
+
+        return request;
+    }
+
+    private <T> T parseImportColumn(String column, Function<String, T> parser, String columnName, List<String> messageList) {
+        if (column.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return parser.apply(column);
+        } catch (NumberFormatException e) {
+            messageList.add(columnName + " 형식이 올바르지 않습니다.");
+            return null;
+        }
+    }
+
     @Transactional
     public void updateIngredientStock(Long ingredientId, UpdateIngredientStockRequest request) {
-        Ingredient ingredient = getIngredientByIdForUpdate(ingredientId);
+        // 요청은 입고, 생산 변동량이므로 자재를 잠그지 않고 재고 변동 이력에 추가 (같은 자재의 동시 요청은 각각의 이력으로 합산)
+        Ingredient ingredient = getIngredientById(ingredientId);
 
         if (ingredient.isDeleted()) {
             throw new CustomCommonException(IngredientErrorCode.UNABLE_UPDATE_DELETED_INGREDIENT);
@@ -79,19 +250,22 @@ public class IngredientService {
 
         LocalDate nowDate = LocalDate.now();
 
-        // 가장 최근 자재 데이터와의 계산 일치 유무 확인
-        IngredientStock previousIngredientStock = ingredientStockRepository.findPreviousByIngredientIdAndDate(ingredientId, nowDate);
-        IngredientStock.validate(previousIngredientStock, request);
+        IngredientStockLedger ingredientStockLedger = IngredientStockLedger.of(ingredient, nowDate, request);
+        if (ingredientStockLedger.isEmpty()) {
+            return;
+        }
 
-        // 당일 자재 재고 현황 조회 및 업데이트
-        Optional<IngredientStock> ingredientStockOptional = ingredientStockRepository.findByIngredientIdAndCreatedAt(ingredientId, nowDate);
-        ingredientStockOptional.ifPresentOrElse(
-                ingredientStock -> ingredientStock.updateStock(request),
-                () -> {
-                    IngredientStock ingredientStock = request.toEntity(ingredient, previousIngredientStock);
-                    ingredientStockRepository.save(ingredientStock);
-                }
-        );
+        ingredientStockLedgerRepository.save(ingredientStockLedger);
+
+        // 자재 재고 분석이 조회하는 당일 자재 재고 데이터에 변동량 반영 (마감 후 자재 현황 스냅샷 생성 시 이력으로 다시 계산)
+        ingredientStockRepository.upsertStockByMovement(ingredientId, nowDate, request.incoming(), request.production());
+    }
+
+    @Transactional(readOnly = true)
+    public ListResponse<GetIngredientStockLedgerResponse> getIngredientStockLedger(Long ingredientId, LocalDate date) {
+        List<IngredientStockLedger> ingredientStockLedgerList = ingredientStockLedgerRepository.findByIngredientIdAndMovementDateOrderByIdAsc(ingredientId, date);
+
+        return new ListResponse<>(ingredientStockLedgerList.stream().map(GetIngredientStockLedgerResponse::from).toList());
     }
 
     @Transactional
@@ -275,4 +449,22 @@ public class IngredientService {
         ingredientPriceRepository.saveAll(ingredientPriceList);
     }
 
+    @Transactional
+    public void createIngredientStockOpeningLedger() {
+        // 재고 변동 이력 도입 전 자재의 기초 재고 이력 생성 (일회성 데이터 이전 작업, 이후 이력 재생으로 재고 계산)
+        LocalDateTime now = LocalDateTime.now();
+        ingredientStockLedgerRepository.insertMissingOpeningLedger(now.toLocalDate().minusDays(1), now);
+    }
+
+    @Transactional
+    public void createIngredientStatusSnapshot(LocalDate date) {
+        // 마감된 일자의 자재 재고 데이터를 재고 변동 이력으로 갱신
+        ingredientStockRepository.updateStockByLedger(date);
+        ingredientStockRepository.insertStockByLedger(date);
+
+        // 재실행 시 중복 저장되지 않도록 기존 스냅샷 삭제 후 저장
+        ingredientRepository.deleteIngredientStatusSnapshotByDate(date);
+        ingredientRepository.createIngredientStatusSnapshotByDate(date);
+    }
+
 }
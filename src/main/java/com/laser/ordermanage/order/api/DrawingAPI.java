@@ -1,14 +1,29 @@
 package com.laser.ordermanage.order.api;
 
+import com.laser.ordermanage.common.paging.ListResponse;
 import com.laser.ordermanage.common.validation.constraints.ValidFile;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadSessionRequest;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadUrlRequest;
+import com.laser.ordermanage.order.dto.response.CreateDrawingUploadUrlResponse;
+import com.laser.ordermanage.order.dto.response.GetDrawingThumbnailResponse;
+import com.laser.ordermanage.order.dto.response.GetDrawingUploadSessionResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponse;
+import com.laser.ordermanage.order.dto.response.UploadDrawingFileResultResponse;
 import com.laser.ordermanage.order.service.DrawingService;
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
+
 @Validated
 @RequiredArgsConstructor
 @RequestMapping("/drawing")
@@ -17,12 +32,13 @@ public class DrawingAPI {
 
     private final DrawingService drawingService;
 
+    private final DrawingThumbnailService drawingThumbnailService;
+
     /**
      * 도면 파일 업로드
      * - 파일 확장자 확인 (DWG, DXF, PDF, PNG, JPG, JPEG)
      * - 도면 파일 AWS S3 에 업로드
-     * - 도면 파일의 썸네일 이미지 추출
-     * - 썸네일 이미지 파일 AWS S3 에 업로드
+     * - 도면 파일의 썸네일 이미지 생성 요청 (생성 완료를 기다리지 않고 응답)
      */
     @PostMapping("")
     public ResponseEntity<?> uploadDrawingFile(@RequestPart @ValidFile(message = "도면 파일은 필수 입력값입니다.") MultipartFile file) {
@@ -30,4 +46,111 @@ public class DrawingAPI {
 
         return ResponseEntity.ok(uploadDrawingFileResponse);
     }
+
+    /**
+     * 도면 파일 여러 개 업로드
+     * - 최대 30 개의 도면 파일을 한 번에 업로드
+     * - 파일마다 파일 확장자 확인, 같은 내용의 도면 파일 재사용, AWS S3 업로드를 동시에 처리
+     * - 파일마다의 결과를 요청 순서대로 응답 (실패한 파일은 에러 코드와 메시지)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> uploadDrawingFileList(
+            @RequestPart(value = "files")
+            @NotEmpty(message = "도면 파일은 필수 입력값입니다.")
+            @Size(max = 30, message = "도면 파일은 최대 30 개까지 업로드할 수 있습니다.")
+            List<@ValidFile(message = "빈 도면 파일은 업로드할 수 없습니다.") MultipartFile> fileList) {
+        ListResponse<UploadDrawingFileResultResponse> uploadDrawingFileResultResponseList = drawingService.uploadDrawingFileList(fileList);
+
+        return ResponseEntity.ok(uploadDrawingFileResultResponseList);
+    }
+
+    /**
+     * 도면 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (DWG, DXF, PDF, PNG, JPG, JPEG) 및 파일 크기 확인 (100MB 이하)
+     * - 클라이언트는 응답의 업로드 URL 에 응답의 헤더를 포함하여 PUT 요청으로 도면 파일 업로드
+     * - 요청한 파일 크기와 해시 (SHA-256) 가 다른 파일은 AWS S3 가 업로드 거부
+     */
+    @PostMapping("/upload-url")
+    public ResponseEntity<?> createDrawingUploadUrl(@RequestBody @Valid CreateDrawingUploadUrlRequest request) {
+        CreateDrawingUploadUrlResponse createDrawingUploadUrlResponse = drawingService.createDrawingUploadUrl(request);
+
+        return ResponseEntity.ok(createDrawingUploadUrlResponse);
+    }
+
+    /**
+     * 직접 업로드한 도면 파일의 업로드 완료 확인
+     * - 업로드된 파일의 크기, 해시, 파일 형식 (magic bytes) 검증
+     * - 같은 내용의 도면 파일이 있으면 기존 파일 재사용
+     * - 도면 파일의 분석 및 썸네일 이미지 생성 요청 (생성 완료를 기다리지 않고 응답)
+     */
+    @PostMapping("/upload/{upload-id}/confirm")
+    public ResponseEntity<?> confirmDrawingUpload(@PathVariable("upload-id") String uploadId) {
+        UploadDrawingFileResponse uploadDrawingFileResponse = drawingService.confirmDrawingUpload(uploadId);
+
+        return ResponseEntity.ok(uploadDrawingFileResponse);
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 생성
+     * - 파일 확장자 확인 (DWG, DXF, PDF, PNG, JPG, JPEG) 및 파일 크기 확인 (100MB 이하)
+     * - 업로드 ID 와 조각 크기 응답 (업로드 정보는 1일 동안 유지)
+     */
+    @PostMapping("/upload-session")
+    public ResponseEntity<?> createDrawingUploadSession(@RequestBody @Valid CreateDrawingUploadSessionRequest request) {
+        GetDrawingUploadSessionResponse getDrawingUploadSessionResponse = drawingService.createDrawingUploadSession(request);
+
+        return ResponseEntity.ok(getDrawingUploadSessionResponse);
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 상태 조회
+     * - 업로드된 조각의 시작 위치 목록 응답 (연결이 끊긴 후 업로드되지 않은 조각만 이어서 업로드)
+     */
+    @GetMapping("/upload-session/{upload-id}")
+    public ResponseEntity<?> getDrawingUploadSession(@PathVariable("upload-id") String uploadId) {
+        GetDrawingUploadSessionResponse getDrawingUploadSessionResponse = drawingService.getDrawingUploadSession(uploadId);
+
+        return ResponseEntity.ok(getDrawingUploadSessionResponse);
+    }
+
+    /**
+     * 도면 파일 조각 업로드
+     * - 요청 본문은 offset 위치부터 조각 크기만큼의 파일 내용 (application/octet-stream)
+     * - 조각 순서와 관계없이 업로드 가능하고, 같은 조각을 다시 업로드하면 덮어씀
+     */
+    @PutMapping("/upload-session/{upload-id}/chunk")
+    public ResponseEntity<?> uploadDrawingChunk(
+            @PathVariable("upload-id") String uploadId,
+            @RequestParam(value = "offset") Long offset,
+            @RequestHeader(HttpHeaders.CONTENT_LENGTH) Long contentLength,
+            InputStream inputStream) {
+        drawingService.uploadDrawingChunk(uploadId, offset, inputStream, contentLength);
+
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 완료
+     * - 모든 조각이 업로드되었는지 확인 후 하나의 파일로 완료하고, 파일 형식 (magic bytes) 검증
+     * - 같은 내용의 도면 파일이 있으면 기존 파일 재사용
+     * - 도면 파일의 분석 및 썸네일 이미지 생성 요청 (생성 완료를 기다리지 않고 응답)
+     */
+    @PostMapping("/upload-session/{upload-id}/complete")
+    public ResponseEntity<?> completeDrawingUploadSession(@PathVariable("upload-id") String uploadId) {
+        UploadDrawingFileResponse uploadDrawingFileResponse = drawingService.completeDrawingUploadSession(uploadId);
+
+        return ResponseEntity.ok(uploadDrawingFileResponse);
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 상태 조회
+     * - 도면 파일 URL 기준으로 썸네일 조회
+     * - 생성 완료 (COMPLETED) 시 썸네일 이미지 URL 및 SVG 미리보기 URL (DXF) 포함
+     */
+    @GetMapping("/thumbnail")
+    public ResponseEntity<?> getDrawingThumbnail(@RequestParam(value = "file-url") String fileUrl) {
+        GetDrawingThumbnailResponse getDrawingThumbnailResponse = drawingThumbnailService.getDrawingThumbnail(fileUrl);
+
+        return ResponseEntity.ok(getDrawingThumbnailResponse);
+    }
 }
@@ -1,16 +1,27 @@
 package com.laser.ordermanage.order.api;
 
+import com.laser.ordermanage.order.domain.Drawing;
 import com.laser.ordermanage.order.dto.request.CreateCommentRequest;
 import com.laser.ordermanage.order.dto.response.DeleteOrderResponse;
+import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderEmailService;
 import com.laser.ordermanage.order.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RequestMapping("/order")
@@ -19,6 +30,12 @@ public class OrderAPI {
 
     private final OrderService orderService;
     private final OrderEmailService orderEmailService;
+    private final DrawingService drawingService;
+    private final ThreadPoolTaskExecutor streamingResponseExecutor;
+
+    // ZIP 다운로드는 파일 수, 크기에 따라 오래 걸리므로 서블릿 컨테이너 기본값 (30 초) 보다 길게 설정
+    @Value("${web.streaming.timeout-minutes:30}")
+    private long streamingTimeoutMinutes;
 
     /**
      * 거래의 상세 정보 조회
@@ -36,6 +53,35 @@ public class OrderAPI {
         return ResponseEntity.ok(orderService.getOrderDetail(orderId));
     }
 
+    /**
+     * 거래의 도면 파일 전체 ZIP 다운로드
+     * - 거래에 대한 현재 로그인한 회원의 접근 권한 확인 (공장 or 거래의 고객 회원)
+     * - 거래 PK 기준으로 도면 목록 조회
+     * - 도면 파일을 저장소에서 동시에 받으면서 ZIP 으로 묶어서 응답 (파일 전체를 메모리에 올리지 않음)
+     * - 스트리밍 응답 스레드 풀에서 응답을 작성하고, 이 API 에만 긴 제한 시간 적용
+     */
+    @GetMapping("/{order-id}/drawing/archive")
+    public WebAsyncTask<Void> getOrderDrawingArchive(@PathVariable("order-id") Long orderId, HttpServletResponse response) {
+
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        orderService.checkAuthorityCustomerOfOrderOrFactory(user.getUsername(), orderId);
+
+        List<Drawing> drawingList = drawingService.getDrawingListByOrderId(orderId);
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("order-" + orderId + "-drawing.zip").build().toString());
+        response.setContentType("application/zip");
+
+        return new WebAsyncTask<>(
+                Duration.ofMinutes(streamingTimeoutMinutes).toMillis(),
+                streamingResponseExecutor,
+                () -> {
+                    drawingService.writeDrawingArchive(drawingList, response.getOutputStream());
+                    return null;
+                }
+        );
+    }
+
     /**
      * 거래의 댓글 목록 조회
      * - 거래에 대한 현재 로그인한 회원의 접근 권한 확인 (공장 or 거래의 고객 회원)
@@ -10,8 +10,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 파일 URL, 썸네일 URL 로 도면 조회 (썸네일 반영, 사용하지 않는 저장소 파일 확인)
 @Entity
-@Table(name = "drawing")
+@Table(
+        name = "drawing",
+        indexes = {
+                @Index(name = "idx_drawing_file_url", columnList = "file_url"),
+                @Index(name = "idx_drawing_thumbnail_url", columnList = "thumbnail_url")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Drawing {
@@ -28,7 +35,8 @@ public class Drawing {
     @Embedded
     private FileEntity<DrawingFileType> file;
 
-    @Column(name = "thumbnail_url", nullable = false)
+    // 썸네일은 비동기로 생성되므로 생성 완료 전에는 null
+    @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
     @Column(name = "count")
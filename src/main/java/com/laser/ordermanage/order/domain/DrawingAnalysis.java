@@ -0,0 +1,97 @@
+package com.laser.ordermanage.order.domain;
+
+import com.laser.ordermanage.common.entity.CreatedAtEntity;
+import com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 도면 파일의 절단 길이 (mm), 피어싱 횟수 및 부품 면적 (mm²), 같은 내용의 파일은 file hash 로 분석 결과를 재사용
+@Entity
+@Table(
+        name = "drawing_analysis",
+        indexes = {
+                @Index(name = "idx_drawing_analysis_file_hash", columnList = "file_hash"),
+                @Index(name = "idx_drawing_analysis_status_last_attempt_at", columnList = "status, last_attempt_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class DrawingAnalysis extends CreatedAtEntity {
+
+    // 최대 분석 시도 횟수
+    public static final int MAX_ATTEMPT_COUNT = 3;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "file_url", nullable = false, unique = true, updatable = false)
+    private String fileUrl;
+
+    @Column(name = "file_hash", nullable = false, updatable = false)
+    private String fileHash;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DrawingAnalysisStatus status;
+
+    @Column(name = "cut_length")
+    private Double cutLength;
+
+    @Column(name = "pierce_count")
+    private Integer pierceCount;
+
+    // 도면 1 개의 부품 외곽 (경계 사각형) 면적 합, 자재 원판 소요량 계산에 사용 (부품 면적 도입 전 분석 결과는 null)
+    @Column(name = "part_area")
+    private Double partArea;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    // 마지막 분석 시도 시각 (시도 시각 도입 전 분석 결과는 null)
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
+
+    @Builder
+    public DrawingAnalysis(String fileUrl, String fileHash, DrawingAnalysisStatus status, Double cutLength, Integer pierceCount, Double partArea) {
+        this.fileUrl = fileUrl;
+        this.fileHash = fileHash;
+        this.status = status;
+        this.cutLength = cutLength;
+        this.pierceCount = pierceCount;
+        this.partArea = partArea;
+        this.lastAttemptAt = now();
+    }
+
+    // 분석 시도 시각 (시도 선점 시 DB 에 저장된 값과 비교하므로 DB 에 저장되는 정밀도인 마이크로초까지)
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public void startAttempt(LocalDateTime attemptAt) {
+        this.lastAttemptAt = attemptAt;
+    }
+
+    public void complete(Double cutLength, Integer pierceCount, Double partArea) {
+        this.status = DrawingAnalysisStatus.COMPLETED;
+        this.cutLength = cutLength;
+        this.pierceCount = pierceCount;
+        this.partArea = partArea;
+        this.attemptCount++;
+    }
+
+    // 최대 분석 시도 횟수에 도달하기 전까지는 분석 중 상태를 유지하여 재시도 (부품 면적을 다시 분석하던 분석 완료 결과는 기존 결과 유지)
+    public void fail() {
+        this.attemptCount++;
+        if (DrawingAnalysisStatus.PENDING.equals(this.status) && this.attemptCount >= MAX_ATTEMPT_COUNT) {
+            this.status = DrawingAnalysisStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.laser.ordermanage.order.domain;
+
+import com.laser.ordermanage.common.entity.CreatedAtEntity;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 업로드된 도면 파일 (같은 내용의 파일은 file hash 로 찾아서 업로드하지 않고 재사용), 파일을 사용하는 도면 수가 0 이 되고 최근에 재사용되지 않았으면 파일 삭제
+@Entity
+@Table(
+        name = "drawing_file",
+        indexes = @Index(name = "idx_drawing_file_file_hash", columnList = "file_hash")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class DrawingFile extends CreatedAtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "file_hash", nullable = false, updatable = false)
+    private String fileHash;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "file_type", nullable = false, updatable = false)
+    private DrawingFileType fileType;
+
+    @Column(name = "file_url", nullable = false, unique = true, updatable = false)
+    private String fileUrl;
+
+    @Column(name = "file_size", nullable = false, updatable = false)
+    private Long fileSize;
+
+    // 업로드 직후에는 0 이고, 도면 생성 시 증가, 도면 삭제 시 감소
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount = 0;
+
+    // 업로드 또는 같은 내용의 파일로 재사용한 시각 (재사용 후 도면 생성 전에 파일이 삭제되지 않도록 이후 일정 시간 동안 삭제하지 않음)
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    @Builder
+    public DrawingFile(String fileHash, DrawingFileType fileType, String fileUrl, Long fileSize) {
+        this.fileHash = fileHash;
+        this.fileType = fileType;
+        this.fileUrl = fileUrl;
+        this.fileSize = fileSize;
+        this.lastUsedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,120 @@
+package com.laser.ordermanage.order.domain;
+
+import com.laser.ordermanage.common.entity.CreatedAtEntity;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 업로드한 도면 파일의 썸네일 생성 상태 (재시작 후에도 생성 중인 썸네일을 다시 생성할 수 있도록 저장)
+@Entity
+@Table(
+        name = "drawing_thumbnail",
+        indexes = {
+                @Index(name = "idx_drawing_thumbnail_status_last_attempt_at", columnList = "status, last_attempt_at"),
+                @Index(name = "idx_drawing_thumbnail_completed_at", columnList = "completed_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class DrawingThumbnail extends CreatedAtEntity {
+
+    // 최대 생성 시도 횟수
+    public static final int MAX_ATTEMPT_COUNT = 3;
+
+    // 썸네일 형식, 크기를 바꾸면 증가 (이전 버전으로 생성된 썸네일은 썸네일 재생성 작업에서 다시 생성)
+    public static final int CURRENT_VERSION = 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "file_url", nullable = false, unique = true, updatable = false)
+    private String fileUrl;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "file_type", nullable = false, updatable = false)
+    private DrawingFileType fileType;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DrawingThumbnailStatus status = DrawingThumbnailStatus.PENDING;
+
+    // 긴 변 500px 썸네일 (도면 상세), 256px 썸네일, 128px 썸네일 (거래 목록)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_thumbnail_url")
+    private String mediumThumbnailUrl;
+
+    @Column(name = "small_thumbnail_url")
+    private String smallThumbnailUrl;
+
+    @Column(name = "preview_url")
+    private String previewUrl;
+
+    // 생성 완료된 썸네일의 버전 (버전 도입 전에 생성된 썸네일은 null)
+    @Column(name = "version")
+    private Integer version;
+
+    // 생성 완료 시각 (완료 시각 도입 전에 생성된 썸네일은 null)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(name = "last_attempt_at", nullable = false)
+    private LocalDateTime lastAttemptAt;
+
+    @Builder
+    public DrawingThumbnail(String fileUrl, DrawingFileType fileType) {
+        this.fileUrl = fileUrl;
+        this.fileType = fileType;
+        this.lastAttemptAt = now();
+    }
+
+    // 생성 시도 시각 (시도 선점 시 DB 에 저장된 값과 비교하므로 DB 에 저장되는 정밀도인 마이크로초까지)
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public void startAttempt(LocalDateTime attemptAt) {
+        this.lastAttemptAt = attemptAt;
+    }
+
+    public void complete(String thumbnailUrl, String mediumThumbnailUrl, String smallThumbnailUrl, String previewUrl) {
+        this.status = DrawingThumbnailStatus.COMPLETED;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumThumbnailUrl = mediumThumbnailUrl;
+        this.smallThumbnailUrl = smallThumbnailUrl;
+        this.previewUrl = previewUrl;
+        this.version = CURRENT_VERSION;
+        this.completedAt = LocalDateTime.now();
+        this.attemptCount++;
+    }
+
+    // 완료된 썸네일을 현재 버전으로 다시 생성 (생성 상태와 시도 횟수는 유지)
+    public void regenerate(String thumbnailUrl, String mediumThumbnailUrl, String smallThumbnailUrl, String previewUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumThumbnailUrl = mediumThumbnailUrl;
+        this.smallThumbnailUrl = smallThumbnailUrl;
+        this.previewUrl = previewUrl;
+        this.version = CURRENT_VERSION;
+    }
+
+    // 최대 생성 시도 횟수에 도달하기 전까지는 생성 중 상태를 유지하여 재시도
+    public void fail() {
+        this.attemptCount++;
+        if (this.attemptCount >= MAX_ATTEMPT_COUNT) {
+            this.status = DrawingThumbnailStatus.FAILED;
+        }
+    }
+}
@@ -15,8 +15,12 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
 
+// 대표 이미지 URL 로 거래 조회 (썸네일 반영, 사용하지 않는 저장소 파일 확인)
 @Entity
-@Table(name = "order_table")
+@Table(
+        name = "order_table",
+        indexes = @Index(name = "idx_order_table_img_url", columnList = "img_url")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @DynamicUpdate
@@ -38,7 +42,8 @@ public class Order extends CreatedAtEntity {
     @Column(name = "name", nullable = false, length = 20)
     private String name;
 
-    @Column(name = "img_url", nullable = false)
+    // 첫 번째 도면의 썸네일이 생성되기 전에는 null
+    @Column(name = "img_url")
     private String imgUrl;
 
     @Enumerated(value = EnumType.STRING)
@@ -49,6 +54,7 @@ public class Order extends CreatedAtEntity {
     private static final EnumSet<Stage> ENABLE_UPDATE_DELIVERY_ADDRESS_STAGE_LIST = EnumSet.of(Stage.NEW, Stage.QUOTE_APPROVAL, Stage.IN_PRODUCTION);
     private static final EnumSet<Stage> ENABLE_MANAGE_DRAWING_STAGE_LIST = EnumSet.of(Stage.NEW, Stage.QUOTE_APPROVAL, Stage.IN_PRODUCTION);
     private static final EnumSet<Stage> ENABLE_DELETE_ORDER = EnumSet.of(Stage.NEW, Stage.QUOTE_APPROVAL);
+    public static final EnumSet<Stage> INGREDIENT_DEMAND_STAGE_LIST = EnumSet.of(Stage.QUOTE_APPROVAL, Stage.IN_PRODUCTION);
 
     @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
     @JoinColumn(name = "manufacturing_id", nullable = false)
@@ -120,6 +126,10 @@ public class Order extends CreatedAtEntity {
         return ENABLE_MANAGE_DRAWING_STAGE_LIST.contains(this.stage);
     }
 
+    public boolean isIngredientDemandStage() {
+        return INGREDIENT_DEMAND_STAGE_LIST.contains(this.stage);
+    }
+
     public boolean hasQuotation() {
         return quotation != null;
     }
@@ -0,0 +1,14 @@
+package com.laser.ordermanage.order.domain.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public enum DrawingAnalysisStatus {
+    PENDING("분석 중"),
+    COMPLETED("분석 완료"),
+    FAILED("분석 실패");
+
+    @Getter
+    private final String value;
+}
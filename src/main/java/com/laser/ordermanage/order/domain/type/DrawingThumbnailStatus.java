@@ -0,0 +1,14 @@
+package com.laser.ordermanage.order.domain.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public enum DrawingThumbnailStatus {
+    PENDING("생성 중"),
+    COMPLETED("생성 완료"),
+    FAILED("생성 실패");
+
+    @Getter
+    private final String value;
+}
@@ -0,0 +1,17 @@
+package com.laser.ordermanage.order.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateDrawingUploadSessionRequest(
+
+        @NotEmpty(message = "도면 파일 이름은 필수 입력값입니다.")
+        String fileName,
+
+        @NotNull(message = "도면 파일 크기는 필수 입력값입니다.")
+        @Min(value = 1, message = "도면 파일 크기는 1 이상의 정수 입니다.")
+        Long fileSize
+
+) {
+}
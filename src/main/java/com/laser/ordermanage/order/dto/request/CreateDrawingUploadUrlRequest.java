@@ -0,0 +1,22 @@
+package com.laser.ordermanage.order.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record CreateDrawingUploadUrlRequest(
+
+        @NotEmpty(message = "도면 파일 이름은 필수 입력값입니다.")
+        String fileName,
+
+        @NotNull(message = "도면 파일 크기는 필수 입력값입니다.")
+        @Min(value = 1, message = "도면 파일 크기는 1 이상의 정수 입니다.")
+        Long fileSize,
+
+        @NotEmpty(message = "도면 파일 해시는 필수 입력값입니다.")
+        @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "도면 파일 해시는 SHA-256 16진수 문자열입니다.")
+        String fileHash
+
+) {
+}
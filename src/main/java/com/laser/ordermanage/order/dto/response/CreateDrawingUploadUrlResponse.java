@@ -0,0 +1,24 @@
+package com.laser.ordermanage.order.dto.response;
+
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record CreateDrawingUploadUrlResponse(
+        String uploadId,
+        String uploadUrl,
+        Map<String, String> uploadHeaderMap,
+        LocalDateTime expiredAt
+) {
+    public static CreateDrawingUploadUrlResponse from(FileUpload fileUpload) {
+        return CreateDrawingUploadUrlResponse.builder()
+                .uploadId(fileUpload.getId())
+                .uploadUrl(fileUpload.getUploadUrl())
+                .uploadHeaderMap(fileUpload.getUploadHeaderMap())
+                .expiredAt(fileUpload.getExpiredAt())
+                .build();
+    }
+}
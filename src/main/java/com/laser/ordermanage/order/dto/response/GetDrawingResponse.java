@@ -11,13 +11,17 @@ public record GetDrawingResponse (
         String fileType,
         String fileUrl,
         String thumbnailUrl,
+        String mediumThumbnailUrl,
+        String smallThumbnailUrl,
         Integer count,
         String ingredient,
-        Integer thickness
+        Integer thickness,
+        Double cutLength,
+        Integer pierceCount
 ) {
 
     @QueryProjection
-    public GetDrawingResponse(Long id, String fileName, Long fileSize, Object fileType, String fileUrl, String thumbnailUrl, Integer count, Ingredient ingredient, Integer thickness) {
+    public GetDrawingResponse(Long id, String fileName, Long fileSize, Object fileType, String fileUrl, String thumbnailUrl, String mediumThumbnailUrl, String smallThumbnailUrl, Integer count, Ingredient ingredient, Integer thickness, Double cutLength, Integer pierceCount) {
         this(
                 id,
                 fileName,
@@ -25,9 +29,13 @@ public record GetDrawingResponse (
                 ((DrawingFileType) fileType).getExtension(),
                 fileUrl,
                 thumbnailUrl,
+                mediumThumbnailUrl,
+                smallThumbnailUrl,
                 count,
                 ingredient.getValue(),
-                thickness
+                thickness,
+                cutLength,
+                pierceCount
         );
     }
 }
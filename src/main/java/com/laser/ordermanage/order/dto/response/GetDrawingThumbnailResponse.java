@@ -0,0 +1,25 @@
+package com.laser.ordermanage.order.dto.response;
+
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import lombok.Builder;
+
+@Builder
+public record GetDrawingThumbnailResponse(
+        String fileUrl,
+        String status,
+        String thumbnailUrl,
+        String mediumThumbnailUrl,
+        String smallThumbnailUrl,
+        String previewUrl
+) {
+    public static GetDrawingThumbnailResponse from(DrawingThumbnail drawingThumbnail) {
+        return GetDrawingThumbnailResponse.builder()
+                .fileUrl(drawingThumbnail.getFileUrl())
+                .status(drawingThumbnail.getStatus().name())
+                .thumbnailUrl(drawingThumbnail.getThumbnailUrl())
+                .mediumThumbnailUrl(drawingThumbnail.getMediumThumbnailUrl())
+                .smallThumbnailUrl(drawingThumbnail.getSmallThumbnailUrl())
+                .previewUrl(drawingThumbnail.getPreviewUrl())
+                .build();
+    }
+}
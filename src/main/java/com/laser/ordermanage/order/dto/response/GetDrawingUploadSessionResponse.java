@@ -0,0 +1,25 @@
+package com.laser.ordermanage.order.dto.response;
+
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record GetDrawingUploadSessionResponse(
+        String uploadId,
+        String fileName,
+        Long fileSize,
+        Integer chunkSize,
+        List<Long> uploadedOffsetList
+) {
+    public static GetDrawingUploadSessionResponse from(ChunkedUpload chunkedUpload, List<Long> uploadedOffsetList) {
+        return GetDrawingUploadSessionResponse.builder()
+                .uploadId(chunkedUpload.getId())
+                .fileName(chunkedUpload.getFileName())
+                .fileSize(chunkedUpload.getFileSize())
+                .chunkSize(chunkedUpload.getChunkSize())
+                .uploadedOffsetList(uploadedOffsetList)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.laser.ordermanage.order.dto.response;
 
 import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
 import lombok.Builder;
 
 @Builder
@@ -10,15 +11,30 @@ public record UploadDrawingFileResponse(
         String fileName,
         Long fileSize,
         String fileType,
-        String fileUrl
+        String fileUrl,
+        String thumbnailStatus
 ) {
-    public static UploadDrawingFileResponse fromDTO(FileEntity<DrawingFileType> drawingFile, String thumbnailUrl) {
+    // 썸네일은 업로드 응답 후에 생성되므로 thumbnailUrl 은 썸네일 조회로 확인
+    public static UploadDrawingFileResponse fromDTO(FileEntity<DrawingFileType> drawingFile) {
         return UploadDrawingFileResponse.builder()
-                .thumbnailUrl(thumbnailUrl)
+                .thumbnailUrl(null)
                 .fileName(drawingFile.getName())
                 .fileType(drawingFile.getType().getExtension())
                 .fileUrl(drawingFile.getUrl())
                 .fileSize(drawingFile.getSize())
+                .thumbnailStatus(DrawingThumbnailStatus.PENDING.name())
+                .build();
+    }
+
+    // 같은 내용의 도면 파일을 재사용하는 경우, 기존 파일의 썸네일 생성 상태로 응답
+    public static UploadDrawingFileResponse fromDTO(FileEntity<DrawingFileType> drawingFile, GetDrawingThumbnailResponse drawingThumbnail) {
+        return UploadDrawingFileResponse.builder()
+                .thumbnailUrl(drawingThumbnail.thumbnailUrl())
+                .fileName(drawingFile.getName())
+                .fileType(drawingFile.getType().getExtension())
+                .fileUrl(drawingFile.getUrl())
+                .fileSize(drawingFile.getSize())
+                .thumbnailStatus(drawingThumbnail.status())
                 .build();
     }
 
@@ -0,0 +1,35 @@
+package com.laser.ordermanage.order.dto.response;
+
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.exception.dto.response.ErrorResponse;
+import lombok.Builder;
+
+// 도면 파일 여러 개 업로드 시 파일마다의 결과 (성공 시 drawingFile, 실패 시 error)
+@Builder
+public record UploadDrawingFileResultResponse(
+        Integer index,
+        String fileName,
+        UploadDrawingFileResponse drawingFile,
+        ErrorResponse error
+) {
+    public static UploadDrawingFileResultResponse success(Integer index, String fileName, UploadDrawingFileResponse drawingFile) {
+        return UploadDrawingFileResultResponse.builder()
+                .index(index)
+                .fileName(fileName)
+                .drawingFile(drawingFile)
+                .build();
+    }
+
+    public static UploadDrawingFileResultResponse failure(Integer index, String fileName, CustomCommonException exception) {
+        return UploadDrawingFileResultResponse.builder()
+                .index(index)
+                .fileName(fileName)
+                .error(
+                        ErrorResponse.builder()
+                                .errorCode(exception.getErrorCode())
+                                .message(exception.getMessage())
+                                .build()
+                )
+                .build();
+    }
+}
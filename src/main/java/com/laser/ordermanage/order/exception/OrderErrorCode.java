@@ -22,6 +22,7 @@ public enum OrderErrorCode implements ErrorCode {
     INVALID_PURCHASE_ORDER_INSPECTION_PERIOD("ORDER_400_10", HttpStatus.BAD_REQUEST, "발주서의 검수기간은 거래 납기일 이후이어야 합니다."),
     INVALID_PURCHASE_ORDER_PAYMENT_DATE("ORDER_400_11", HttpStatus.BAD_REQUEST, "발주서의 지급일은 거래 납기일 이후이어야 합니다."),
     UNSUPPORTED_SIGNATURE_FILE_EXTENSION("ORDER_400_12", HttpStatus.BAD_REQUEST, "지원하지 않는 서명 파일 형식입니다."),
+    REQUIRED_SIGNATURE_FILE("ORDER_400_13", HttpStatus.BAD_REQUEST, "인수자 서명 파일은 필수 사항입니다."),
 
     // 403 FORBIDDEN 인증 필요
     DENIED_ACCESS_TO_ORDER("ORDER_403_01", HttpStatus.FORBIDDEN, "거래에 대한 접근 권한이 없습니다."),
@@ -31,7 +32,8 @@ public enum OrderErrorCode implements ErrorCode {
     NOT_FOUND_DRAWING("ORDER_404_02", HttpStatus.NOT_FOUND, "존재하지 않는 도면 입니다."),
     NOT_FOUND_QUOTATION("ORDER_404_03", HttpStatus.NOT_FOUND, "거래의 견적서가 존재하지 않습니다."),
     NOT_FOUND_PURCHASE_ORDER("ORDER_404_04", HttpStatus.NOT_FOUND, "거래의 발주서가 존재하지 않습니다."),
-    NOT_FOUND_COMMENT("ORDER_404_05", HttpStatus.NOT_FOUND, "존재하지 않는 댓글 입니다.");
+    NOT_FOUND_COMMENT("ORDER_404_05", HttpStatus.NOT_FOUND, "존재하지 않는 댓글 입니다."),
+    NOT_FOUND_DRAWING_THUMBNAIL("ORDER_404_06", HttpStatus.NOT_FOUND, "존재하지 않는 도면 썸네일 입니다.");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,36 @@
+package com.laser.ordermanage.order.repository;
+
+import com.laser.ordermanage.order.domain.DrawingAnalysis;
+import com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DrawingAnalysisRepository extends CrudRepository<DrawingAnalysis, Long> {
+    Optional<DrawingAnalysis> findFirstByFileHashAndStatus(String fileHash, DrawingAnalysisStatus status);
+
+    // 다시 분석할 분석 결과를 PK 순서로 조회 (마지막 시도 이후 일정 시간이 지난 분석 중 결과 및 부품 면적 도입 전 분석 완료 결과)
+    @Query("SELECT a FROM DrawingAnalysis a " +
+            "WHERE (a.status = com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus.PENDING " +
+            "OR (a.status = com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus.COMPLETED AND a.partArea IS NULL)) " +
+            "AND a.attemptCount < :maxAttemptCount " +
+            "AND (a.lastAttemptAt IS NULL OR a.lastAttemptAt < :lastAttemptAt) " +
+            "ORDER BY a.id ASC")
+    List<DrawingAnalysis> findRetryAnalysisList(Integer maxAttemptCount, LocalDateTime lastAttemptAt, Pageable pageable);
+
+    // 마지막 시도 시각이 그대로인 분석 결과만 시도 시각을 변경하여 분석 선점 (다른 작업이 먼저 선점했으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrawingAnalysis a SET a.lastAttemptAt = :attemptAt " +
+            "WHERE a.id = :id " +
+            "AND (a.status = com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus.PENDING " +
+            "OR (a.status = com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus.COMPLETED AND a.partArea IS NULL)) " +
+            "AND (a.lastAttemptAt = :lastAttemptAt OR (a.lastAttemptAt IS NULL AND :lastAttemptAt IS NULL))")
+    int claimAttempt(Long id, LocalDateTime lastAttemptAt, LocalDateTime attemptAt);
+}
@@ -0,0 +1,42 @@
+package com.laser.ordermanage.order.repository;
+
+import com.laser.ordermanage.order.domain.DrawingFile;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DrawingFileRepository extends CrudRepository<DrawingFile, Long>, DrawingFileRepositoryCustom {
+    Optional<DrawingFile> findFirstByFileHashAndFileType(String fileHash, DrawingFileType fileType);
+
+    List<DrawingFile> findAllByFileUrlInAndReferenceCountLessThanEqual(Collection<String> fileUrlList, Integer referenceCount);
+
+    // 동시에 도면을 생성, 삭제해도 사용 수가 유실되지 않도록 DB 에서 증감
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrawingFile f SET f.referenceCount = f.referenceCount + :count WHERE f.fileUrl = :fileUrl")
+    int increaseReferenceCount(String fileUrl, Integer count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrawingFile f SET f.referenceCount = f.referenceCount - :count WHERE f.fileUrl = :fileUrl")
+    int decreaseReferenceCount(String fileUrl, Integer count);
+
+    // 같은 내용의 파일로 재사용할 때 재사용 시각 갱신 (이미 삭제된 도면 파일이면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrawingFile f SET f.lastUsedAt = :usedAt WHERE f.fileUrl = :fileUrl")
+    int updateLastUsedAt(String fileUrl, LocalDateTime usedAt);
+
+    // 사용하는 도면이 없고 usedBefore 이전부터 재사용되지 않은 도면 파일만 삭제 (삭제하지 않았으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DrawingFile f WHERE f.fileUrl = :fileUrl AND f.referenceCount <= 0 AND (f.lastUsedAt IS NULL OR f.lastUsedAt < :usedBefore)")
+    int deleteUnusedByFileUrl(String fileUrl, LocalDateTime usedBefore);
+}
@@ -0,0 +1,11 @@
+package com.laser.ordermanage.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DrawingFileRepositoryCustom {
+    int deleteAbandonedDrawingFile(LocalDateTime usedBefore);
+
+    List<String> findReferencedFileUrlList(Collection<String> fileUrlList);
+}
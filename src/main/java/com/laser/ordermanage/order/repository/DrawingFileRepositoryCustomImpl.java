@@ -0,0 +1,82 @@
+package com.laser.ordermanage.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DrawingFileRepositoryCustomImpl implements DrawingFileRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 버려진 도면 파일 정보 삭제 (usedBefore 이전에 생성된 정보만 삭제)
+     * - 도면으로 사용하지 않는 도면 파일 (사용 수 0) 중 usedBefore 이후에 업로드되거나 재사용되지 않은 도면 파일 (재사용 시각이 없으면 업로드 시각 기준)
+     * - 도면 파일 정보도, 파일을 사용하는 도면도 없는 썸네일, 분석 결과
+     * - 삭제한 정보의 파일은 저장소 파일 정리 작업에서 사용하지 않는 파일로 삭제
+     */
+    @Override
+    @Transactional
+    public int deleteAbandonedDrawingFile(LocalDateTime usedBefore) {
+        SqlParameterSource namedParameters = new MapSqlParameterSource()
+                .addValue("usedBefore", usedBefore);
+
+        String deleteDrawingFileQuery = """
+                DELETE FROM drawing_file
+                WHERE drawing_file.reference_count <= 0
+                AND COALESCE(drawing_file.last_used_at, drawing_file.created_at) < :usedBefore
+                AND NOT EXISTS (SELECT 1 FROM drawing WHERE drawing.file_url = drawing_file.file_url)
+                """;
+        int deletedCount = jdbcTemplate.update(deleteDrawingFileQuery, namedParameters);
+
+        String deleteDrawingThumbnailQuery = """
+                DELETE FROM drawing_thumbnail
+                WHERE drawing_thumbnail.created_at < :usedBefore
+                AND NOT EXISTS (SELECT 1 FROM drawing_file WHERE drawing_file.file_url = drawing_thumbnail.file_url)
+                AND NOT EXISTS (SELECT 1 FROM drawing WHERE drawing.file_url = drawing_thumbnail.file_url)
+                """;
+        jdbcTemplate.update(deleteDrawingThumbnailQuery, namedParameters);
+
+        String deleteDrawingAnalysisQuery = """
+                DELETE FROM drawing_analysis
+                WHERE drawing_analysis.created_at < :usedBefore
+                AND NOT EXISTS (SELECT 1 FROM drawing_file WHERE drawing_file.file_url = drawing_analysis.file_url)
+                AND NOT EXISTS (SELECT 1 FROM drawing WHERE drawing.file_url = drawing_analysis.file_url)
+                """;
+        jdbcTemplate.update(deleteDrawingAnalysisQuery, namedParameters);
+
+        return deletedCount;
+    }
+
+    /**
+     * 파일 URL 목록 중 DB 에서 사용하는 URL 조회
+     * - 도면 (파일, 썸네일), 도면 파일, 썸네일 (크기별 썸네일, 미리보기), 거래 대표 이미지, 견적서, 발주서, 인수자 서명
+     */
+    @Override
+    public List<String> findReferencedFileUrlList(Collection<String> fileUrlList) {
+        SqlParameterSource namedParameters = new MapSqlParameterSource()
+                .addValue("fileUrlList", fileUrlList);
+
+        String findReferencedFileUrlQuery = """
+                SELECT drawing.file_url FROM drawing WHERE drawing.file_url IN (:fileUrlList)
+                UNION SELECT drawing.thumbnail_url FROM drawing WHERE drawing.thumbnail_url IN (:fileUrlList)
+                UNION SELECT drawing_file.file_url FROM drawing_file WHERE drawing_file.file_url IN (:fileUrlList)
+                UNION SELECT drawing_thumbnail.thumbnail_url FROM drawing_thumbnail WHERE drawing_thumbnail.thumbnail_url IN (:fileUrlList)
+                UNION SELECT drawing_thumbnail.medium_thumbnail_url FROM drawing_thumbnail WHERE drawing_thumbnail.medium_thumbnail_url IN (:fileUrlList)
+                UNION SELECT drawing_thumbnail.small_thumbnail_url FROM drawing_thumbnail WHERE drawing_thumbnail.small_thumbnail_url IN (:fileUrlList)
+                UNION SELECT drawing_thumbnail.preview_url FROM drawing_thumbnail WHERE drawing_thumbnail.preview_url IN (:fileUrlList)
+                UNION SELECT order_table.img_url FROM order_table WHERE order_table.img_url IN (:fileUrlList)
+                UNION SELECT quotation.file_url FROM quotation WHERE quotation.file_url IN (:fileUrlList)
+                UNION SELECT purchase_order.file_url FROM purchase_order WHERE purchase_order.file_url IN (:fileUrlList)
+                UNION SELECT acquirer.signature_file_url FROM acquirer WHERE acquirer.signature_file_url IN (:fileUrlList)
+                """;
+
+        return jdbcTemplate.queryForList(findReferencedFileUrlQuery, namedParameters, String.class);
+    }
+}
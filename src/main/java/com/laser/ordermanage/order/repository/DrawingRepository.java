@@ -1,12 +1,35 @@
 package com.laser.ordermanage.order.repository;
 
 import com.laser.ordermanage.order.domain.Drawing;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface DrawingRepository extends CrudRepository<Drawing, Long>, DrawingRepositoryCustom {
     Optional<Drawing> findFirstById(Long id);
 
     Integer countByOrderId(Long orderId);
+
+    List<Drawing> findAllByOrderId(Long orderId);
+
+    // 썸네일 생성 완료 후, 썸네일 없이 생성된 도면에 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE Drawing d SET d.thumbnailUrl = :thumbnailUrl WHERE d.file.url = :fileUrl AND d.thumbnailUrl IS NULL")
+    int updateThumbnailUrlByFileUrl(String fileUrl, String thumbnailUrl);
+
+    // 썸네일 생성이 완료된 후에 생성된 도면 반영 (thumbnailCompletedAfter 이후 생성 완료된 썸네일의 도면만 확인)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Drawing d SET d.thumbnailUrl = (SELECT t.thumbnailUrl FROM DrawingThumbnail t WHERE t.fileUrl = d.file.url) " +
+            "WHERE d.thumbnailUrl IS NULL " +
+            "AND d.file.url IN (" +
+            "SELECT t.fileUrl FROM DrawingThumbnail t " +
+            "WHERE t.status = com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus.COMPLETED AND t.completedAt >= :thumbnailCompletedAfter)")
+    int updateMissingThumbnailUrl(LocalDateTime thumbnailCompletedAfter);
 }
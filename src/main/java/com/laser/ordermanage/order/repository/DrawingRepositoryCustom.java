@@ -6,4 +6,8 @@ public interface DrawingRepositoryCustom {
     void deleteAllByOrder(Long orderId);
 
     void deleteAllByOrderList(List<Long> orderIdList);
+
+    List<String> findFileUrlByOrderList(List<Long> orderIdList);
+
+    int copyAllByOrder(Long sourceOrderId, Long targetOrderId);
 }
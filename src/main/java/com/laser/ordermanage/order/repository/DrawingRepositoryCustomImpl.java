@@ -2,6 +2,8 @@ package com.laser.ordermanage.order.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.util.List;
 
@@ -11,6 +13,7 @@ import static com.laser.ordermanage.order.domain.QDrawing.drawing;
 public class DrawingRepositoryCustomImpl implements DrawingRepositoryCustom{
 
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public void deleteAllByOrder(Long orderId) {
@@ -27,4 +30,35 @@ public class DrawingRepositoryCustomImpl implements DrawingRepositoryCustom{
                 .where(drawing.order.id.in(orderIdList))
                 .execute();
     }
+
+    // 도면 수만큼 파일 URL 조회 (같은 파일을 사용하는 도면이 있으면 중복 포함)
+    @Override
+    public List<String> findFileUrlByOrderList(List<Long> orderIdList) {
+        return queryFactory
+                .select(drawing.file.url)
+                .from(drawing)
+                .where(drawing.order.id.in(orderIdList))
+                .fetch();
+    }
+
+    /**
+     * 거래의 도면 전체를 다른 거래의 도면으로 복사
+     * - 같은 저장소 파일, 썸네일을 사용하는 도면 행을 INSERT ... SELECT 한 번으로 생성 (도면 데이터, 파일을 애플리케이션으로 읽지 않음)
+     */
+    @Override
+    public int copyAllByOrder(Long sourceOrderId, Long targetOrderId) {
+        MapSqlParameterSource namedParameters = new MapSqlParameterSource()
+                .addValue("sourceOrderId", sourceOrderId)
+                .addValue("targetOrderId", targetOrderId);
+
+        String copyDrawingQuery = """
+                INSERT INTO drawing (order_id, file_name, file_size, file_type, file_url, thumbnail_url, count, ingredient, thickness)
+                SELECT :targetOrderId, file_name, file_size, file_type, file_url, thumbnail_url, count, ingredient, thickness
+                FROM drawing
+                WHERE order_id = :sourceOrderId
+                ORDER BY id
+                """;
+
+        return jdbcTemplate.update(copyDrawingQuery, namedParameters);
+    }
 }
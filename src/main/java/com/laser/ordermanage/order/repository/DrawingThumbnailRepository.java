@@ -0,0 +1,53 @@
+package com.laser.ordermanage.order.repository;
+
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DrawingThumbnailRepository extends CrudRepository<DrawingThumbnail, Long>, DrawingThumbnailRepositoryCustom {
+    Optional<DrawingThumbnail> findFirstByFileUrl(String fileUrl);
+
+    List<DrawingThumbnail> findTop100ByStatusAndLastAttemptAtBeforeOrderByIdAsc(DrawingThumbnailStatus status, LocalDateTime lastAttemptAt);
+
+    // 마지막 시도 시각이 그대로인 생성 중 썸네일만 시도 시각을 변경하여 생성 선점 (다른 작업이 먼저 선점했으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrawingThumbnail t SET t.lastAttemptAt = :attemptAt " +
+            "WHERE t.id = :id " +
+            "AND t.status = com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus.PENDING " +
+            "AND t.lastAttemptAt = :lastAttemptAt")
+    int claimAttempt(Long id, LocalDateTime lastAttemptAt, LocalDateTime attemptAt);
+
+    // 이전 버전으로 생성 완료된 썸네일을 PK 순서로 조회 (PK 기준 keyset 페이징)
+    @Query("SELECT t FROM DrawingThumbnail t " +
+            "WHERE t.id > :lastId " +
+            "AND t.status = com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus.COMPLETED " +
+            "AND (t.version IS NULL OR t.version < :version) " +
+            "ORDER BY t.id ASC")
+    List<DrawingThumbnail> findOutdatedThumbnailList(Long lastId, Integer version, Pageable pageable);
+
+    // 썸네일 생성 상태 도입 전 도면 파일의 썸네일을 이전 버전 (version null) 생성 완료 상태로 추가 (썸네일 재생성 작업에서 다시 생성)
+    // - 같은 파일을 사용하는 도면이 여러 개이면 하나만 추가하고, 이미 추가된 도면 파일은 제외
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO drawing_thumbnail (file_url, file_type, status, thumbnail_url, attempt_count, last_attempt_at, created_at)
+            SELECT drawing.file_url, MIN(drawing.file_type), 'COMPLETED', MAX(drawing.thumbnail_url), 0, :now, :now
+            FROM drawing
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM drawing_thumbnail
+                WHERE drawing_thumbnail.file_url = drawing.file_url
+            )
+            GROUP BY drawing.file_url
+            """, nativeQuery = true)
+    int insertLegacyThumbnail(LocalDateTime now);
+}
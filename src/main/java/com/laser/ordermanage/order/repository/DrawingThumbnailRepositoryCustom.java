@@ -0,0 +1,10 @@
+package com.laser.ordermanage.order.repository;
+
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+
+import java.util.List;
+import java.util.Map;
+
+public interface DrawingThumbnailRepositoryCustom {
+    void updateRegeneratedThumbnailList(List<DrawingThumbnail> drawingThumbnailList, Map<String, String> previousThumbnailUrlMap);
+}
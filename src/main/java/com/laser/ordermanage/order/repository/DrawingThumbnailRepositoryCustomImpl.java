@@ -0,0 +1,113 @@
+package com.laser.ordermanage.order.repository;
+
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class DrawingThumbnailRepositoryCustomImpl implements DrawingThumbnailRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 다시 생성한 썸네일 목록을 한 번에 반영 (batch update)
+     * - 썸네일의 URL, 버전 변경
+     * - 도면 파일을 사용하는 도면의 썸네일 변경
+     * - 이전 썸네일을 대표 이미지로 사용하는 거래의 대표 이미지 변경
+     * - 도면, 거래는 URL 인덱스 (idx_drawing_file_url, idx_order_table_img_url) 로 대상 id 를 한 번에 조회한 후 PK 로 변경 (보조 인덱스 범위 잠금 X)
+     */
+    @Override
+    @Transactional
+    public void updateRegeneratedThumbnailList(List<DrawingThumbnail> drawingThumbnailList, Map<String, String> previousThumbnailUrlMap) {
+        if (drawingThumbnailList.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] drawingThumbnailParameters = drawingThumbnailList.stream()
+                .map(drawingThumbnail -> new MapSqlParameterSource()
+                        .addValue("id", drawingThumbnail.getId())
+                        .addValue("thumbnailUrl", drawingThumbnail.getThumbnailUrl())
+                        .addValue("mediumThumbnailUrl", drawingThumbnail.getMediumThumbnailUrl())
+                        .addValue("smallThumbnailUrl", drawingThumbnail.getSmallThumbnailUrl())
+                        .addValue("previewUrl", drawingThumbnail.getPreviewUrl())
+                        .addValue("version", drawingThumbnail.getVersion()))
+                .toArray(SqlParameterSource[]::new);
+
+        String updateDrawingThumbnailQuery = """
+                UPDATE drawing_thumbnail
+                SET thumbnail_url = :thumbnailUrl, medium_thumbnail_url = :mediumThumbnailUrl, small_thumbnail_url = :smallThumbnailUrl, preview_url = :previewUrl, version = :version
+                WHERE id = :id
+                """;
+        jdbcTemplate.batchUpdate(updateDrawingThumbnailQuery, drawingThumbnailParameters);
+
+        updateDrawingThumbnailUrl(drawingThumbnailList);
+        updateOrderImgUrl(drawingThumbnailList, previousThumbnailUrlMap);
+    }
+
+    // 도면 파일을 사용하는 도면의 썸네일 변경
+    private void updateDrawingThumbnailUrl(List<DrawingThumbnail> drawingThumbnailList) {
+        Map<String, String> thumbnailUrlMap = drawingThumbnailList.stream()
+                .collect(Collectors.toMap(DrawingThumbnail::getFileUrl, DrawingThumbnail::getThumbnailUrl));
+
+        String findDrawingQuery = """
+                SELECT drawing.id, drawing.file_url
+                FROM drawing
+                WHERE drawing.file_url IN (:fileUrlList)
+                """;
+        SqlParameterSource[] drawingParameters = jdbcTemplate.query(
+                findDrawingQuery,
+                new MapSqlParameterSource("fileUrlList", thumbnailUrlMap.keySet()),
+                (rs, rowNum) -> new MapSqlParameterSource()
+                        .addValue("id", rs.getLong("id"))
+                        .addValue("fileUrl", rs.getString("file_url"))
+                        .addValue("thumbnailUrl", thumbnailUrlMap.get(rs.getString("file_url")))
+        ).toArray(SqlParameterSource[]::new);
+
+        // 조회 후 도면 파일이 변경된 도면은 변경하지 않음
+        String updateDrawingQuery = """
+                UPDATE drawing
+                SET thumbnail_url = :thumbnailUrl
+                WHERE id = :id AND file_url = :fileUrl
+                """;
+        jdbcTemplate.batchUpdate(updateDrawingQuery, drawingParameters);
+    }
+
+    // 이전 썸네일을 대표 이미지로 사용하는 거래의 대표 이미지 변경
+    private void updateOrderImgUrl(List<DrawingThumbnail> drawingThumbnailList, Map<String, String> previousThumbnailUrlMap) {
+        Map<String, String> thumbnailUrlMap = drawingThumbnailList.stream()
+                .filter(drawingThumbnail -> previousThumbnailUrlMap.get(drawingThumbnail.getFileUrl()) != null)
+                .collect(Collectors.toMap(drawingThumbnail -> previousThumbnailUrlMap.get(drawingThumbnail.getFileUrl()), DrawingThumbnail::getThumbnailUrl, (thumbnailUrl, otherThumbnailUrl) -> thumbnailUrl));
+        if (thumbnailUrlMap.isEmpty()) {
+            return;
+        }
+
+        String findOrderQuery = """
+                SELECT order_table.id, order_table.img_url
+                FROM order_table
+                WHERE order_table.img_url IN (:previousThumbnailUrlList)
+                """;
+        SqlParameterSource[] orderParameters = jdbcTemplate.query(
+                findOrderQuery,
+                new MapSqlParameterSource("previousThumbnailUrlList", thumbnailUrlMap.keySet()),
+                (rs, rowNum) -> new MapSqlParameterSource()
+                        .addValue("id", rs.getLong("id"))
+                        .addValue("previousThumbnailUrl", rs.getString("img_url"))
+                        .addValue("thumbnailUrl", thumbnailUrlMap.get(rs.getString("img_url")))
+        ).toArray(SqlParameterSource[]::new);
+
+        // 조회 후 대표 이미지가 변경된 거래는 변경하지 않음
+        String updateOrderQuery = """
+                UPDATE order_table
+                SET img_url = :thumbnailUrl
+                WHERE id = :id AND img_url = :previousThumbnailUrl
+                """;
+        jdbcTemplate.batchUpdate(updateOrderQuery, orderParameters);
+    }
+}
@@ -1,8 +1,12 @@
 package com.laser.ordermanage.order.repository;
 
 import com.laser.ordermanage.order.domain.Order;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,14 @@ public interface OrderRepository extends CrudRepository<Order, Long>, OrderRepos
 
     void deleteAllByIdIn(List<Long> orderIdList);
 
+    // 거래 이미지가 없는 거래에 썸네일이 있는 첫 번째 도면의 썸네일 반영 (thumbnailCompletedAfter 이후 생성 완료된 썸네일의 도면이 있는 거래만 확인)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order o SET o.imgUrl = (SELECT d.thumbnailUrl FROM Drawing d WHERE d.id = (SELECT MIN(d2.id) FROM Drawing d2 WHERE d2.order = o AND d2.thumbnailUrl IS NOT NULL)) " +
+            "WHERE o.imgUrl IS NULL " +
+            "AND EXISTS (" +
+            "SELECT d FROM Drawing d, DrawingThumbnail t " +
+            "WHERE d.order = o AND d.thumbnailUrl IS NOT NULL AND t.fileUrl = d.file.url AND t.completedAt >= :thumbnailCompletedAfter)")
+    int updateMissingImgUrl(LocalDateTime thumbnailCompletedAfter);
+
 }
@@ -25,6 +25,8 @@ import java.util.Optional;
 import static com.laser.ordermanage.customer.domain.QCustomer.customer;
 import static com.laser.ordermanage.order.domain.QAcquirer.acquirer;
 import static com.laser.ordermanage.order.domain.QDrawing.drawing;
+import static com.laser.ordermanage.order.domain.QDrawingAnalysis.drawingAnalysis;
+import static com.laser.ordermanage.order.domain.QDrawingThumbnail.drawingThumbnail;
 import static com.laser.ordermanage.order.domain.QOrder.order;
 import static com.laser.ordermanage.order.domain.QOrderDeliveryAddress.orderDeliveryAddress;
 import static com.laser.ordermanage.order.domain.QOrderManufacturing.orderManufacturing;
@@ -277,6 +279,8 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
                 .join(order.manufacturing, orderManufacturing)
                 .join(order.postProcessing, orderPostProcessing)
                 .join(drawing).on(order.id.eq(drawing.order.id))
+                .leftJoin(drawingAnalysis).on(drawing.file.url.eq(drawingAnalysis.fileUrl))
+                .leftJoin(drawingThumbnail).on(drawing.file.url.eq(drawingThumbnail.fileUrl))
                 .join(order.deliveryAddress, orderDeliveryAddress)
                 .where(
                         order.id.eq(orderId)
@@ -296,9 +300,13 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
                                                         drawing.file.type,
                                                         drawing.file.url,
                                                         drawing.thumbnailUrl,
+                                                        drawingThumbnail.mediumThumbnailUrl,
+                                                        drawingThumbnail.smallThumbnailUrl,
                                                         drawing.count,
                                                         drawing.ingredient,
-                                                        drawing.thickness
+                                                        drawing.thickness,
+                                                        drawingAnalysis.cutLength,
+                                                        drawingAnalysis.pierceCount
                                                 )
                                         ),
                                         order.request,
@@ -326,6 +334,8 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
                 .leftJoin(order.customer, customer)
                 .leftJoin(customer.user, userEntity)
                 .join(drawing).on(order.id.eq(drawing.order.id))
+                .leftJoin(drawingAnalysis).on(drawing.file.url.eq(drawingAnalysis.fileUrl))
+                .leftJoin(drawingThumbnail).on(drawing.file.url.eq(drawingThumbnail.fileUrl))
                 .join(order.deliveryAddress, orderDeliveryAddress)
                 .leftJoin(order.quotation, quotation)
                 .leftJoin(order.purchaseOrder, purchaseOrder)
@@ -356,9 +366,13 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
                                                               drawing.file.type,
                                                               drawing.file.url,
                                                               drawing.thumbnailUrl,
+                                                              drawingThumbnail.mediumThumbnailUrl,
+                                                              drawingThumbnail.smallThumbnailUrl,
                                                               drawing.count,
                                                               drawing.ingredient,
-                                                              drawing.thickness
+                                                              drawing.thickness,
+                                                              drawingAnalysis.cutLength,
+                                                              drawingAnalysis.pierceCount
                                                       )
                                               ),
                                               order.request,
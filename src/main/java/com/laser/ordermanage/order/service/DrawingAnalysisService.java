@@ -0,0 +1,148 @@
+package com.laser.ordermanage.order.service;
+
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.common.util.CADUtil;
+import com.laser.ordermanage.common.util.DXFUtil;
+import com.laser.ordermanage.common.util.FileUtil;
+import com.laser.ordermanage.order.domain.DrawingAnalysis;
+import com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.repository.DrawingAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DrawingAnalysisService {
+
+    // 재시도 작업 한 번에 다시 요청하는 최대 분석 수
+    private static final int RETRY_ANALYSIS_SIZE = 100;
+
+    // 마지막 분석 시도 이후 이 시간 (분) 이 지나도록 분석 중인 결과는 작업이 유실된 것으로 보고 다시 분석
+    @Value("${drawing.analysis.retry-delay-minutes:5}")
+    private long retryDelayMinutes;
+
+    private final Executor drawingAnalysisExecutor;
+
+    private final FileComponent fileComponent;
+
+    private final DrawingAnalysisRepository drawingAnalysisRepository;
+
+    /**
+     * 도면 파일의 절단 길이, 피어싱 횟수 및 부품 면적 분석 요청
+     * - DWG, DXF 도면만 분석
+     * - 같은 내용 (file hash) 의 파일을 분석한 결과가 있으면 결과를 복사하여 저장
+     * - 분석 결과가 없으면 분석 중 (PENDING) 으로 저장 후 도면 분석 스레드 풀에서 분석
+     * - 스레드 풀의 대기열이 가득 차면 분석 중 상태로 두고 재시도 작업에서 분석
+     */
+    public void requestAnalysis(FileEntity<DrawingFileType> drawingFile, String fileHash) {
+        if (!DrawingFileType.DWG.equals(drawingFile.getType()) && !DrawingFileType.DXF.equals(drawingFile.getType())) {
+            return;
+        }
+
+        Optional<DrawingAnalysis> completedAnalysis = drawingAnalysisRepository.findFirstByFileHashAndStatus(fileHash, DrawingAnalysisStatus.COMPLETED);
+        if (completedAnalysis.isPresent()) {
+            drawingAnalysisRepository.save(
+                    DrawingAnalysis.builder()
+                            .fileUrl(drawingFile.getUrl())
+                            .fileHash(fileHash)
+                            .status(DrawingAnalysisStatus.COMPLETED)
+                            .cutLength(completedAnalysis.get().getCutLength())
+                            .pierceCount(completedAnalysis.get().getPierceCount())
+                            .partArea(completedAnalysis.get().getPartArea())
+                            .build()
+            );
+            return;
+        }
+
+        DrawingAnalysis drawingAnalysis = drawingAnalysisRepository.save(
+                DrawingAnalysis.builder()
+                        .fileUrl(drawingFile.getUrl())
+                        .fileHash(fileHash)
+                        .status(DrawingAnalysisStatus.PENDING)
+                        .build()
+        );
+
+        submit(drawingAnalysis, drawingFile.getType());
+    }
+
+    /**
+     * 분석 중 상태로 남아있거나 부품 면적이 없는 분석 결과 다시 분석
+     * - 서버 재시작, 대기열 초과, 분석 실패 등으로 마지막 시도 이후 일정 시간이 지난 분석 중 결과 대상
+     * - 부품 면적 도입 전에 분석 완료된 결과는 부품 면적을 채우기 위해 다시 분석 (분석 전까지 기존 절단 길이, 피어싱 횟수 유지)
+     * - 시도를 선점한 분석만 다시 요청 (대기열에서 기다리던 작업이나 다른 서버의 재시도 작업이 먼저 선점하면 요청하지 않음)
+     */
+    public void retryAnalysis() {
+        List<DrawingAnalysis> drawingAnalysisList = drawingAnalysisRepository.findRetryAnalysisList(
+                DrawingAnalysis.MAX_ATTEMPT_COUNT,
+                LocalDateTime.now().minusMinutes(retryDelayMinutes),
+                PageRequest.of(0, RETRY_ANALYSIS_SIZE)
+        );
+
+        for (DrawingAnalysis drawingAnalysis : drawingAnalysisList) {
+            if (claimAttempt(drawingAnalysis)) {
+                submit(drawingAnalysis, getFileType(drawingAnalysis.getFileUrl()));
+            }
+        }
+    }
+
+    private void submit(DrawingAnalysis drawingAnalysis, DrawingFileType fileType) {
+        try {
+            CompletableFuture.runAsync(() -> analyze(drawingAnalysis, fileType), drawingAnalysisExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Drawing analysis queue is full, retry later {}", drawingAnalysis.getFileUrl());
+        }
+    }
+
+    // 마지막 시도 시각이 그대로인 경우에만 시도 시각을 변경하여 분석 선점
+    private boolean claimAttempt(DrawingAnalysis drawingAnalysis) {
+        LocalDateTime attemptAt = DrawingAnalysis.now();
+        if (drawingAnalysisRepository.claimAttempt(drawingAnalysis.getId(), drawingAnalysis.getLastAttemptAt(), attemptAt) == 0) {
+            return false;
+        }
+
+        drawingAnalysis.startAttempt(attemptAt);
+        return true;
+    }
+
+    // 분석 결과에는 파일 형식이 없으므로 파일 URL 의 확장자로 DWG, DXF 구분
+    private DrawingFileType getFileType(String fileUrl) {
+        return DrawingFileType.DWG.getExtension().equalsIgnoreCase(FileUtil.getExtension(fileUrl)) ? DrawingFileType.DWG : DrawingFileType.DXF;
+    }
+
+    /**
+     * 도면 파일의 절단 길이, 피어싱 횟수 및 부품 면적 분석
+     * - 대기열에서 기다리는 동안 재시도 작업이 다시 요청한 분석은 먼저 시도를 선점한 작업만 분석
+     */
+    private void analyze(DrawingAnalysis drawingAnalysis, DrawingFileType fileType) {
+        if (!claimAttempt(drawingAnalysis)) {
+            log.info("Analysis of drawing {} is already claimed by another attempt", drawingAnalysis.getFileUrl());
+            return;
+        }
+
+        try (InputStream inputStream = fileComponent.downloadFile(drawingAnalysis.getFileUrl());
+             InputStream dxfInputStream = DrawingFileType.DWG.equals(fileType) ? CADUtil.convertToDXF(inputStream) : inputStream) {
+            DXFUtil.CutMetrics cutMetrics = DXFUtil.extractCutMetrics(dxfInputStream);
+            drawingAnalysis.complete(cutMetrics.cutLength(), cutMetrics.pierceCount(), cutMetrics.partArea());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to analyze cut path of drawing {} (attempt {})", drawingAnalysis.getFileUrl(), drawingAnalysis.getAttemptCount() + 1, e);
+            drawingAnalysis.fail();
+        }
+
+        drawingAnalysisRepository.save(drawingAnalysis);
+    }
+}
@@ -1,38 +1,73 @@
 package com.laser.ordermanage.order.service;
 
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
 import com.laser.ordermanage.common.component.FileComponent;
 import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
-import com.laser.ordermanage.common.util.CADUtil;
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.common.util.DXFUtil;
 import com.laser.ordermanage.common.util.FileUtil;
-import com.laser.ordermanage.common.util.ImageUtil;
-import com.laser.ordermanage.common.util.PDFUtil;
+import com.laser.ordermanage.common.util.FutureUtil;
 import com.laser.ordermanage.order.domain.Drawing;
+import com.laser.ordermanage.order.domain.DrawingFile;
 import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadSessionRequest;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadUrlRequest;
+import com.laser.ordermanage.order.dto.response.CreateDrawingUploadUrlResponse;
+import com.laser.ordermanage.order.dto.response.GetDrawingUploadSessionResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponse;
+import com.laser.ordermanage.order.dto.response.UploadDrawingFileResultResponse;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.repository.DrawingFileRepository;
 import com.laser.ordermanage.order.repository.DrawingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class DrawingService {
 
-    @Value("${path.temp-folder}")
-    private String tempFolderPath;
-
     private final FileComponent fileComponent;
 
+    private final DrawingAnalysisService drawingAnalysisService;
+
+    private final DrawingThumbnailService drawingThumbnailService;
+
     private final DrawingRepository drawingRepository;
 
+    private final DrawingFileRepository drawingFileRepository;
+
+    private final Executor drawingUploadExecutor;
+
+    private final Executor drawingNestingExecutor;
+
+    // 같은 내용의 파일로 재사용한 도면 파일은 사용하는 도면이 없어도 이 시간 동안 삭제하지 않음 (재사용 응답 후 도면 생성까지의 시간)
+    @Value("${drawing.file.reuse-grace-hours:24}")
+    private long reuseGraceHours;
+
     @Transactional(readOnly = true)
     public Drawing getDrawingById(Long drawingId) {
         return drawingRepository.findFirstById(drawingId).orElseThrow(() -> new CustomCommonException(OrderErrorCode.NOT_FOUND_DRAWING));
@@ -43,25 +78,333 @@ public class DrawingService {
         return drawingRepository.countByOrderId(orderId);
     }
 
-    public File extractThumbnail(MultipartFile file) {
-        DrawingFileType fileType = DrawingFileType.ofExtension(FileUtil.getExtension(file));
-        return switch (fileType) {
-            case DWG, DXF -> CADUtil.extractThumbnail(file, tempFolderPath);
-            case PDF -> PDFUtil.extractThumbnail(file, tempFolderPath);
-            // PNG, JPG, JPEG
-            default -> ImageUtil.extractThumbnail(file, tempFolderPath);
-        };
+    @Transactional(readOnly = true)
+    public List<Drawing> getDrawingListByOrderId(Long orderId) {
+        return drawingRepository.findAllByOrderId(orderId);
     }
 
+    /**
+     * 거래의 도면 파일을 ZIP 으로 묶어서 출력 스트림에 쓰기
+     * - 도면 파일을 저장소에서 받는 대로 씀 (도면 수, 크기와 관계없이 일정한 메모리 사용)
+     */
+    public void writeDrawingArchive(List<Drawing> drawingList, OutputStream outputStream) throws IOException {
+        List<FileEntity<DrawingFileType>> drawingFileList = drawingList.stream()
+                .map(Drawing::getFile)
+                .toList();
+
+        fileComponent.writeZip(drawingFileList, outputStream);
+    }
+
+    /**
+     * 도면 파일의 부품 외곽 추출
+     * - DXF 도면만 지원하며, 지원하지 않거나 읽을 수 없는 도면은 빈 목록 반환
+     */
+    public List<NestingPart> extractPartList(Drawing drawing) {
+        if (!DrawingFileType.DXF.equals(drawing.getFile().getType())) {
+            return List.of();
+        }
+
+        try (InputStream inputStream = fileComponent.downloadFile(drawing.getFile().getUrl())) {
+            return DXFUtil.extractPartList(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to extract part outline of drawing {}", drawing.getId(), e);
+            return List.of();
+        }
+    }
+
+    // 도면 파일의 부품 외곽 추출을 자재 원판 소요량 추정 스레드 풀에서 처리 (동시에 다운로드하는 도면 수는 스레드 수로 제한)
+    public CompletableFuture<List<NestingPart>> extractPartListAsync(Drawing drawing) {
+        return CompletableFuture.supplyAsync(() -> extractPartList(drawing), drawingNestingExecutor);
+    }
+
+    /**
+     * 도면 파일 업로드
+     * - 파일 내용의 해시 (SHA-256) 로 같은 내용의 도면 파일을 찾아서, 있으면 업로드, 분석, 썸네일 생성 없이 기존 파일 재사용
+     * - 없으면 업로드 후 분석 및 썸네일 생성 요청
+     */
     public UploadDrawingFileResponse uploadDrawingFile(MultipartFile file) {
-        FileEntity<DrawingFileType> drawingFile = fileComponent.uploadFile(file, DrawingFileType::ofExtension);
+        DrawingFileType fileType = DrawingFileType.ofExtension(FileUtil.getExtension(file));
+        String fileHash = FileUtil.getSha256(file);
+
+        Optional<DrawingFile> storedDrawingFile = findReusableDrawingFile(fileHash, fileType);
+        if (storedDrawingFile.isPresent()) {
+            FileEntity<DrawingFileType> drawingFile = FileEntity.<DrawingFileType>builder()
+                    .name(file.getOriginalFilename())
+                    .size(file.getSize())
+                    .type(fileType)
+                    .url(storedDrawingFile.get().getFileUrl())
+                    .build();
+
+            return UploadDrawingFileResponse.fromDTO(drawingFile, drawingThumbnailService.getDrawingThumbnail(drawingFile.getUrl()));
+        }
+
+        return registerDrawingFile(fileComponent.uploadFile(file, DrawingFileType::ofExtension), fileHash);
+    }
+
+    /**
+     * 도면 파일 여러 개 업로드
+     * - 파일 종류 확인 및 해시 (SHA-256) 계산은 도면 업로드 스레드 풀에서 동시에 처리
+     * - 같은 내용의 도면 파일이 없는 파일만 AWS S3 에 동시에 업로드 (요청 안의 같은 파일은 한 번만 업로드)
+     * - 썸네일 생성은 업로드 응답 후 도면 썸네일 스레드 풀에서 처리
+     * - 파일마다의 결과를 요청 순서대로 응답하고, 실패한 파일은 에러 코드와 메시지 응답 (다른 파일은 계속 처리)
+     */
+    public ListResponse<UploadDrawingFileResultResponse> uploadDrawingFileList(List<MultipartFile> fileList) {
+        List<CompletableFuture<String>> fileHashFutureList = fileList.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    DrawingFileType.ofExtension(FileUtil.getExtension(file));
+                    return FileUtil.getSha256(file);
+                }, drawingUploadExecutor))
+                .toList();
+
+        // 파일 해시와 종류가 같으면 같은 도면 파일
+        List<String> fileHashList = new ArrayList<>(fileList.size());
+        List<String> fileKeyList = new ArrayList<>(fileList.size());
+        Map<Integer, CustomCommonException> exceptionMap = new HashMap<>();
+        Map<String, DrawingFile> storedDrawingFileMap = new HashMap<>();
+        Map<String, CompletableFuture<FileEntity<DrawingFileType>>> uploadFutureMap = new HashMap<>();
+        for (int index = 0; index < fileList.size(); index++) {
+            MultipartFile file = fileList.get(index);
+            String fileHash = null;
+            String fileKey = null;
+            try {
+                fileHash = FutureUtil.join(fileHashFutureList.get(index));
+                DrawingFileType fileType = DrawingFileType.ofExtension(FileUtil.getExtension(file));
+                fileKey = fileHash + ":" + fileType.name();
+
+                if (!storedDrawingFileMap.containsKey(fileKey) && !uploadFutureMap.containsKey(fileKey)) {
+                    Optional<DrawingFile> storedDrawingFile = findReusableDrawingFile(fileHash, fileType);
+                    if (storedDrawingFile.isPresent()) {
+                        storedDrawingFileMap.put(fileKey, storedDrawingFile.get());
+                    } else {
+                        uploadFutureMap.put(fileKey, fileComponent.uploadFileAsync(file, DrawingFileType::ofExtension));
+                    }
+                }
+            } catch (CustomCommonException e) {
+                exceptionMap.put(index, e);
+            }
+            fileHashList.add(fileHash);
+            fileKeyList.add(fileKey);
+        }
+
+        List<UploadDrawingFileResultResponse> resultList = new ArrayList<>(fileList.size());
+        Map<String, UploadDrawingFileResponse> uploadedResponseMap = new HashMap<>();
+        for (int index = 0; index < fileList.size(); index++) {
+            MultipartFile file = fileList.get(index);
+            if (exceptionMap.containsKey(index)) {
+                resultList.add(UploadDrawingFileResultResponse.failure(index, file.getOriginalFilename(), exceptionMap.get(index)));
+                continue;
+            }
+
+            String fileKey = fileKeyList.get(index);
+            try {
+                UploadDrawingFileResponse response;
+                if (storedDrawingFileMap.containsKey(fileKey)) {
+                    DrawingFile storedDrawingFile = storedDrawingFileMap.get(fileKey);
+                    response = UploadDrawingFileResponse.fromDTO(
+                            toFileEntity(file, storedDrawingFile.getFileType(), storedDrawingFile.getFileUrl()),
+                            drawingThumbnailService.getDrawingThumbnail(storedDrawingFile.getFileUrl())
+                    );
+                } else if (uploadedResponseMap.containsKey(fileKey)) {
+                    // 요청 안에서 먼저 업로드한 같은 파일 재사용
+                    UploadDrawingFileResponse uploadedResponse = uploadedResponseMap.get(fileKey);
+                    response = UploadDrawingFileResponse.fromDTO(toFileEntity(file, DrawingFileType.ofExtension(uploadedResponse.fileType()), uploadedResponse.fileUrl()));
+                } else {
+                    response = registerDrawingFile(FutureUtil.join(uploadFutureMap.get(fileKey)), fileHashList.get(index));
+                    uploadedResponseMap.put(fileKey, response);
+                }
+
+                resultList.add(UploadDrawingFileResultResponse.success(index, file.getOriginalFilename(), response));
+            } catch (CustomCommonException e) {
+                resultList.add(UploadDrawingFileResultResponse.failure(index, file.getOriginalFilename(), e));
+            }
+        }
+
+        return new ListResponse<>(resultList);
+    }
+
+    private FileEntity<DrawingFileType> toFileEntity(MultipartFile file, DrawingFileType fileType, String fileUrl) {
+        return FileEntity.<DrawingFileType>builder()
+                .name(file.getOriginalFilename())
+                .size(file.getSize())
+                .type(fileType)
+                .url(fileUrl)
+                .build();
+    }
+
+    /**
+     * 도면 파일 직접 업로드 URL 생성
+     * - 파일 확장자 확인 (DWG, DXF, PDF, PNG, JPG, JPEG)
+     * - 도면 폴더에만 업로드 가능하고, 요청한 파일 크기와 해시 (SHA-256) 의 파일만 업로드 가능
+     */
+    public CreateDrawingUploadUrlResponse createDrawingUploadUrl(CreateDrawingUploadUrlRequest request) {
+        FileUpload fileUpload = fileComponent.createUpload(request.fileName(), request.fileSize(), request.fileHash(), DrawingFileType::ofExtension);
+
+        return CreateDrawingUploadUrlResponse.from(fileUpload);
+    }
+
+    /**
+     * 직접 업로드한 도면 파일의 업로드 완료 확인
+     * - 파일 크기, 해시, 파일 형식 (magic bytes) 검증
+     * - 같은 내용의 도면 파일이 있으면 업로드한 파일은 삭제하고 기존 파일 재사용
+     * - 없으면 분석 및 썸네일 생성 요청
+     */
+    public UploadDrawingFileResponse confirmDrawingUpload(String uploadId) {
+        FileUpload fileUpload = fileComponent.getUpload(uploadId);
+        FileEntity<DrawingFileType> drawingFile = fileComponent.confirmUpload(fileUpload, DrawingFileType::ofExtension);
 
-        // 썸네일 파일 추출
-        File thumbnailFile = extractThumbnail(file);
-        // 썸네일 파일 업로드
-        String thumbnailUrl = fileComponent.uploadFile("drawing-thumbnail", thumbnailFile, "drawing-thumbnail.png");
-        thumbnailFile.delete();
+        return registerUploadedDrawingFile(drawingFile, fileUpload.getFileHash());
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 생성
+     * - 파일 확장자 확인 (DWG, DXF, PDF, PNG, JPG, JPEG) 및 파일 크기 확인 (100MB 이하)
+     * - 클라이언트는 응답의 조각 크기로 파일을 나누어 업로드하고, 연결이 끊기면 업로드 상태를 조회하여 업로드되지 않은 조각만 업로드
+     */
+    public GetDrawingUploadSessionResponse createDrawingUploadSession(CreateDrawingUploadSessionRequest request) {
+        ChunkedUpload chunkedUpload = fileComponent.createChunkedUpload(request.fileName(), request.fileSize(), DrawingFileType::ofExtension);
+
+        return GetDrawingUploadSessionResponse.from(chunkedUpload, List.of());
+    }
+
+    public GetDrawingUploadSessionResponse getDrawingUploadSession(String uploadId) {
+        ChunkedUpload chunkedUpload = fileComponent.getChunkedUpload(uploadId);
+
+        return GetDrawingUploadSessionResponse.from(chunkedUpload, fileComponent.getUploadedOffsetList(chunkedUpload));
+    }
+
+    public void uploadDrawingChunk(String uploadId, Long offset, InputStream inputStream, Long size) {
+        fileComponent.uploadChunk(fileComponent.getChunkedUpload(uploadId), offset, inputStream, size);
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 완료
+     * - 모든 조각이 업로드되었는지 확인 후 하나의 파일로 완료하고, 파일 형식 (magic bytes) 검증
+     * - 저장소에서 파일을 읽어서 해시 (SHA-256) 계산 후, 같은 내용의 도면 파일이 있으면 업로드한 파일은 삭제하고 기존 파일 재사용
+     * - 없으면 분석 및 썸네일 생성 요청
+     */
+    public UploadDrawingFileResponse completeDrawingUploadSession(String uploadId) {
+        ChunkedUpload chunkedUpload = fileComponent.getChunkedUpload(uploadId);
+        FileEntity<DrawingFileType> drawingFile = fileComponent.completeChunkedUpload(chunkedUpload, DrawingFileType::ofExtension);
+
+        return registerUploadedDrawingFile(drawingFile, fileComponent.getSha256(drawingFile.getUrl()));
+    }
+
+    /**
+     * 저장소에 업로드된 도면 파일 중 같은 내용의 도면 파일이 이미 있으면 업로드된 파일은 삭제하고 기존 파일 재사용
+     * - 같은 업로드를 동시에 확인하여 업로드된 파일이 이미 등록된 경우, 등록된 파일이므로 삭제하지 않음
+     */
+    private UploadDrawingFileResponse registerUploadedDrawingFile(FileEntity<DrawingFileType> uploadedDrawingFile, String fileHash) {
+        Optional<DrawingFile> storedDrawingFile = findReusableDrawingFile(fileHash, uploadedDrawingFile.getType());
+        if (storedDrawingFile.isPresent()) {
+            if (!storedDrawingFile.get().getFileUrl().equals(uploadedDrawingFile.getUrl())) {
+                deleteFileList(List.of(uploadedDrawingFile.getUrl()));
+            }
+
+            FileEntity<DrawingFileType> drawingFile = FileEntity.<DrawingFileType>builder()
+                    .name(uploadedDrawingFile.getName())
+                    .size(uploadedDrawingFile.getSize())
+                    .type(uploadedDrawingFile.getType())
+                    .url(storedDrawingFile.get().getFileUrl())
+                    .build();
+
+            return UploadDrawingFileResponse.fromDTO(drawingFile, drawingThumbnailService.getDrawingThumbnail(drawingFile.getUrl()));
+        }
+
+        return registerDrawingFile(uploadedDrawingFile, fileHash);
+    }
+
+    /**
+     * 같은 내용의 도면 파일 조회 후 재사용 시각 갱신
+     * - 재사용 시각부터 일정 시간 동안은 사용하는 도면이 없어도 삭제하지 않음 (응답 후 도면 생성 전에 파일이 삭제되지 않도록)
+     * - 조회 후 갱신 전에 삭제된 도면 파일은 재사용하지 않음 (새로 업로드)
+     */
+    private Optional<DrawingFile> findReusableDrawingFile(String fileHash, DrawingFileType fileType) {
+        return drawingFileRepository.findFirstByFileHashAndFileType(fileHash, fileType)
+                .filter(drawingFile -> drawingFileRepository.updateLastUsedAt(drawingFile.getFileUrl(), LocalDateTime.now()) > 0);
+    }
+
+    // 업로드한 도면 파일 저장 후 분석 및 썸네일 생성 요청
+    private UploadDrawingFileResponse registerDrawingFile(FileEntity<DrawingFileType> drawingFile, String fileHash) {
+        drawingFileRepository.save(
+                DrawingFile.builder()
+                        .fileHash(fileHash)
+                        .fileType(drawingFile.getType())
+                        .fileUrl(drawingFile.getUrl())
+                        .fileSize(drawingFile.getSize())
+                        .build()
+        );
+
+        // 절단 길이 및 피어싱 횟수 분석 요청 (견적 작성 시 참고)
+        drawingAnalysisService.requestAnalysis(drawingFile, fileHash);
+
+        // 썸네일 생성 요청 (원본 파일 업로드 후 바로 응답하고, 생성 상태는 썸네일 조회로 확인)
+        drawingThumbnailService.requestThumbnail(drawingFile);
+
+        return UploadDrawingFileResponse.fromDTO(drawingFile);
+    }
+
+    /**
+     * 생성한 도면이 사용하는 도면 파일의 사용 수 증가
+     * - 도면 파일 정보가 없는 (중복 제거 이전에 업로드된) 파일은 사용 수를 관리하지 않으므로 증가하지 않음
+     */
+    public void increaseFileReference(List<Drawing> drawingList) {
+        increaseFileReferenceOfFileUrl(drawingList.stream().map(drawing -> drawing.getFile().getUrl()).toList());
+    }
+
+    // 도면 파일 URL 목록의 사용 수 증가 (도면 수만큼 파일 URL 중복 포함, 도면 파일 정보가 없는 파일은 중복 제거 이전에 업로드된 파일이므로 증가하지 않음)
+    public void increaseFileReferenceOfFileUrl(List<String> fileUrlList) {
+        countByFileUrl(fileUrlList)
+                .forEach((fileUrl, count) -> drawingFileRepository.increaseReferenceCount(fileUrl, count));
+    }
+
+    /**
+     * 삭제한 도면이 사용하던 도면 파일의 사용 수 감소
+     * - 사용하는 도면이 없는 도면 파일은 삭제하고, 트랜잭션 커밋 후에 저장소에서 파일 삭제
+     * - 최근에 같은 내용의 파일로 재사용된 도면 파일은 삭제하지 않음 (버려진 도면 파일 정리 작업에서 삭제)
+     * - 도면 파일 정보가 없는 (중복 제거 이전에 업로드된) 파일은 삭제하지 않음
+     */
+    public void decreaseFileReference(List<String> fileUrlList) {
+        Map<String, Integer> countByFileUrl = countByFileUrl(fileUrlList);
+        if (countByFileUrl.isEmpty()) {
+            return;
+        }
+
+        countByFileUrl.forEach((fileUrl, count) -> drawingFileRepository.decreaseReferenceCount(fileUrl, count));
+
+        // 조회 후 재사용된 도면 파일은 삭제하지 않도록 삭제 시 사용 수와 재사용 시각을 다시 확인
+        LocalDateTime usedBefore = LocalDateTime.now().minusHours(reuseGraceHours);
+        List<String> unusedFileUrlList = drawingFileRepository.findAllByFileUrlInAndReferenceCountLessThanEqual(countByFileUrl.keySet(), 0).stream()
+                .map(DrawingFile::getFileUrl)
+                .filter(fileUrl -> drawingFileRepository.deleteUnusedByFileUrl(fileUrl, usedBefore) > 0)
+                .toList();
+        if (unusedFileUrlList.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFileList(unusedFileUrlList);
+                }
+            });
+        } else {
+            deleteFileList(unusedFileUrlList);
+        }
+    }
+
+    private Map<String, Integer> countByFileUrl(List<String> fileUrlList) {
+        return fileUrlList.stream().collect(Collectors.toMap(Function.identity(), fileUrl -> 1, Integer::sum));
+    }
 
-        return UploadDrawingFileResponse.fromDTO(drawingFile, thumbnailUrl);
+    // 저장소에서 삭제하지 못한 파일은 사용하지 않는 파일 정리 작업에서 삭제
+    private void deleteFileList(List<String> fileUrlList) {
+        for (String fileUrl : fileUrlList) {
+            try {
+                fileComponent.deleteFile(fileUrl);
+            } catch (RuntimeException e) {
+                log.warn("Unable to delete unused drawing file {}", fileUrl, e);
+            }
+        }
     }
 }
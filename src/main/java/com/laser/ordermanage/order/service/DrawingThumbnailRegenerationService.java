@@ -0,0 +1,270 @@
+package com.laser.ordermanage.order.service;
+
+import com.laser.ordermanage.common.cache.redis.dao.DrawingThumbnailRegeneration;
+import com.laser.ordermanage.common.cache.redis.repository.DrawingThumbnailRegenerationRedisRepository;
+import com.laser.ordermanage.common.component.RasterizationLimiter;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.RasterBudget;
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import com.laser.ordermanage.order.repository.DrawingThumbnailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이전 버전 썸네일 재생성 (썸네일 형식, 크기를 바꾼 후 기존 도면의 썸네일 교체)
+ * - 썸네일 PK 순서로 조각 (chunk) 단위로 조회하고, 마지막으로 처리한 PK 를 Redis 에 저장하여 중단된 위치부터 이어서 실행
+ * - 재생성 전용 스레드 풀에서 초당 요청 수를 제한하여 생성하고, 대기하지 않는 픽셀 예산으로 변환 (실시간 썸네일 생성 우선)
+ * - 재생성, 실패, 변환 작업 초과 수와 생성 시간, 마지막으로 처리한 PK 지표 제공
+ */
+@Slf4j
+@Service
+public class DrawingThumbnailRegenerationService {
+
+    private final DrawingThumbnailService drawingThumbnailService;
+
+    private final DrawingThumbnailRepository drawingThumbnailRepository;
+
+    private final DrawingThumbnailRegenerationRedisRepository drawingThumbnailRegenerationRedisRepository;
+
+    private final Executor drawingThumbnailRegenerationExecutor;
+
+    private final RasterBudget rasterBudget;
+
+    private final int chunkSize;
+    private final long requestIntervalNanos;
+    private final long maxRunNanos;
+
+    private final Counter regeneratedCounter;
+    private final Counter failedCounter;
+    private final Counter busyCounter;
+    private final Timer regenerationTimer;
+    private final AtomicLong lastId = new AtomicLong();
+
+    private long nextRequestAt;
+
+    public DrawingThumbnailRegenerationService(
+            DrawingThumbnailService drawingThumbnailService,
+            DrawingThumbnailRepository drawingThumbnailRepository,
+            DrawingThumbnailRegenerationRedisRepository drawingThumbnailRegenerationRedisRepository,
+            Executor drawingThumbnailRegenerationExecutor,
+            RasterizationLimiter rasterizationLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${drawing.thumbnail.regeneration.chunk-size:50}") int chunkSize,
+            @Value("${drawing.thumbnail.regeneration.rate-per-second:2}") double ratePerSecond,
+            @Value("${drawing.thumbnail.regeneration.max-run-minutes:4}") long maxRunMinutes) {
+        this.drawingThumbnailService = drawingThumbnailService;
+        this.drawingThumbnailRepository = drawingThumbnailRepository;
+        this.drawingThumbnailRegenerationRedisRepository = drawingThumbnailRegenerationRedisRepository;
+        this.drawingThumbnailRegenerationExecutor = drawingThumbnailRegenerationExecutor;
+        this.rasterBudget = rasterizationLimiter.withoutWaiting();
+        this.chunkSize = Math.max(chunkSize, 1);
+        // 0 이하이면 요청 수 제한 없음
+        this.requestIntervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        this.maxRunNanos = TimeUnit.MINUTES.toNanos(Math.max(maxRunMinutes, 1));
+        this.nextRequestAt = System.nanoTime();
+
+        this.regeneratedCounter = Counter.builder("drawing.thumbnail.regeneration")
+                .tag("result", "regenerated")
+                .description("다시 생성한 썸네일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("drawing.thumbnail.regeneration")
+                .tag("result", "failed")
+                .description("다시 생성하지 못하여 기존 썸네일을 유지한 썸네일 수")
+                .register(meterRegistry);
+        this.busyCounter = Counter.builder("drawing.thumbnail.regeneration")
+                .tag("result", "busy")
+                .description("변환 작업이 많아 다음 실행으로 미룬 썸네일 수")
+                .register(meterRegistry);
+        this.regenerationTimer = Timer.builder("drawing.thumbnail.regeneration.duration")
+                .description("썸네일 하나를 다시 생성하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("drawing.thumbnail.regeneration.last-id", lastId, AtomicLong::get)
+                .description("썸네일 재생성 작업이 마지막으로 처리한 썸네일 PK")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 버전 썸네일 재생성 (썸네일 재생성 작업에서 주기적으로 실행)
+     * - 현재 버전의 재생성이 완료되었으면 실행하지 않음
+     * - 한 번 실행은 최대 실행 시간 이내로 제한하고, 조각마다 진행 상황 저장
+     * - 변환 작업이 많아 픽셀 예산을 확보하지 못한 썸네일부터는 다음 실행에서 이어서 생성
+     */
+    public void regenerateOutdatedThumbnail() {
+        DrawingThumbnailRegeneration regeneration = drawingThumbnailRegenerationRedisRepository.findById(String.valueOf(DrawingThumbnail.CURRENT_VERSION))
+                .orElseGet(() -> DrawingThumbnailRegeneration.start(DrawingThumbnail.CURRENT_VERSION));
+        if (regeneration.getCompleted()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + maxRunNanos;
+        while (System.nanoTime() - deadline < 0) {
+            List<DrawingThumbnail> drawingThumbnailList = drawingThumbnailRepository.findOutdatedThumbnailList(
+                    regeneration.getLastId(),
+                    DrawingThumbnail.CURRENT_VERSION,
+                    PageRequest.of(0, chunkSize)
+            );
+
+            if (drawingThumbnailList.isEmpty()) {
+                regeneration.complete();
+                drawingThumbnailRegenerationRedisRepository.save(regeneration);
+                log.info("Drawing thumbnail regeneration (version {}) is completed, regenerated {}, failed {}",
+                        regeneration.getId(), regeneration.getRegeneratedCount(), regeneration.getFailedCount());
+                return;
+            }
+
+            boolean isChunkCompleted = regenerateChunk(drawingThumbnailList, regeneration);
+            drawingThumbnailRegenerationRedisRepository.save(regeneration);
+            lastId.set(regeneration.getLastId());
+
+            if (!isChunkCompleted) {
+                log.info("Rasterization is busy, resume drawing thumbnail regeneration after {} later", regeneration.getLastId());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 썸네일 생성 상태 도입 전 도면의 썸네일 추가 (일회성 데이터 이전 작업)
+     * - drawing 에만 썸네일이 있는 도면 파일을 이전 버전 썸네일로 추가하여 재생성 대상에 포함
+     * - 현재 버전의 재생성이 이미 완료되었어도 추가한 썸네일을 다시 생성하도록 진행 상황 초기화 (현재 버전 썸네일은 다시 조회되지 않음)
+     */
+    @Transactional
+    public void backfillLegacyThumbnail() {
+        int thumbnailCount = drawingThumbnailRepository.insertLegacyThumbnail(DrawingThumbnail.now());
+        log.info("Backfilled {} legacy drawing thumbnails", thumbnailCount);
+
+        // 추가한 썸네일이 커밋된 후 초기화 (커밋 전에 실행된 재생성 작업이 추가한 썸네일 없이 다시 완료하지 않도록)
+        Runnable resetRegeneration = () -> drawingThumbnailRegenerationRedisRepository.deleteById(String.valueOf(DrawingThumbnail.CURRENT_VERSION));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            resetRegeneration.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                resetRegeneration.run();
+            }
+        });
+    }
+
+    /**
+     * 조각 하나의 썸네일 재생성
+     * - 썸네일마다 재생성 스레드 풀에 요청하고, 완료된 썸네일의 썸네일, 도면, 거래를 한 번에 변경
+     * - 진행 위치는 변환 작업 초과로 미룬 첫 썸네일 전까지만 이동 (다시 생성한 썸네일은 현재 버전이므로 다시 조회되지 않음)
+     */
+    private boolean regenerateChunk(List<DrawingThumbnail> drawingThumbnailList, DrawingThumbnailRegeneration regeneration) {
+        Map<String, String> previousThumbnailUrlMap = new HashMap<>();
+        AtomicBoolean isBusy = new AtomicBoolean(false);
+        List<CompletableFuture<RegenerationResult>> resultFutureList = new ArrayList<>(drawingThumbnailList.size());
+        for (DrawingThumbnail drawingThumbnail : drawingThumbnailList) {
+            previousThumbnailUrlMap.put(drawingThumbnail.getFileUrl(), drawingThumbnail.getThumbnailUrl());
+            if (!isBusy.get()) {
+                waitForRequestRate();
+            }
+            resultFutureList.add(CompletableFuture.supplyAsync(() -> regenerate(drawingThumbnail, isBusy), drawingThumbnailRegenerationExecutor));
+        }
+
+        List<DrawingThumbnail> regeneratedList = new ArrayList<>();
+        Long checkpointId = regeneration.getLastId();
+        boolean isCheckpointMovable = true;
+        long regeneratedCount = 0;
+        long failedCount = 0;
+        for (int index = 0; index < drawingThumbnailList.size(); index++) {
+            DrawingThumbnail drawingThumbnail = drawingThumbnailList.get(index);
+            RegenerationResult result = resultFutureList.get(index).join();
+
+            if (RegenerationResult.BUSY.equals(result)) {
+                isCheckpointMovable = false;
+                continue;
+            }
+
+            if (RegenerationResult.REGENERATED.equals(result)) {
+                regeneratedList.add(drawingThumbnail);
+                regeneratedCount++;
+            } else if (isCheckpointMovable) {
+                // 미룬 썸네일 뒤의 실패한 썸네일은 다음 실행에서 다시 시도
+                failedCount++;
+            }
+
+            if (isCheckpointMovable) {
+                checkpointId = drawingThumbnail.getId();
+            }
+        }
+
+        if (!regeneratedList.isEmpty()) {
+            drawingThumbnailRepository.updateRegeneratedThumbnailList(regeneratedList, previousThumbnailUrlMap);
+        }
+        regeneration.checkpoint(checkpointId, regeneratedCount, failedCount);
+
+        return isCheckpointMovable;
+    }
+
+    private RegenerationResult regenerate(DrawingThumbnail drawingThumbnail, AtomicBoolean isBusy) {
+        if (isBusy.get()) {
+            busyCounter.increment();
+            return RegenerationResult.BUSY;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            drawingThumbnailService.regenerateThumbnail(drawingThumbnail, rasterBudget);
+            regeneratedCounter.increment();
+            return RegenerationResult.REGENERATED;
+        } catch (CustomCommonException e) {
+            if (CommonErrorCode.RASTERIZATION_BUSY.getCode().equals(e.getErrorCode())) {
+                isBusy.set(true);
+                busyCounter.increment();
+                return RegenerationResult.BUSY;
+            }
+
+            log.warn("Unable to regenerate thumbnail of drawing {}, keep previous thumbnail", drawingThumbnail.getFileUrl(), e);
+            failedCounter.increment();
+            return RegenerationResult.FAILED;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to regenerate thumbnail of drawing {}, keep previous thumbnail", drawingThumbnail.getFileUrl(), e);
+            failedCounter.increment();
+            return RegenerationResult.FAILED;
+        } finally {
+            regenerationTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 초당 요청 수 제한 (이전 요청 후 요청 간격이 지날 때까지 대기)
+    private void waitForRequestRate() {
+        long now = System.nanoTime();
+        long waitNanos = nextRequestAt - now;
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        nextRequestAt = (waitNanos > 0 ? nextRequestAt : now) + requestIntervalNanos;
+    }
+
+    private enum RegenerationResult {
+        REGENERATED,
+        FAILED,
+        BUSY
+    }
+}
@@ -0,0 +1,237 @@
+package com.laser.ordermanage.order.service;
+
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.CADUtil;
+import com.laser.ordermanage.common.util.DXFPreview;
+import com.laser.ordermanage.common.util.FutureUtil;
+import com.laser.ordermanage.common.util.ImageUtil;
+import com.laser.ordermanage.common.util.PDFUtil;
+import com.laser.ordermanage.common.util.RasterBudget;
+import com.laser.ordermanage.common.util.ThumbnailSize;
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import com.laser.ordermanage.order.dto.response.GetDrawingThumbnailResponse;
+import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.repository.DrawingRepository;
+import com.laser.ordermanage.order.repository.DrawingThumbnailRepository;
+import com.laser.ordermanage.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DrawingThumbnailService {
+
+    private static final String SVG_CONTENT_TYPE = "image/svg+xml";
+
+    public static final String THUMBNAIL_FOLDER_NAME = "drawing-thumbnail";
+    public static final String PREVIEW_FOLDER_NAME = "drawing-preview";
+
+    // 재시도 작업에서 썸네일을 도면 및 거래에 반영할 때 확인하는 최근 생성 완료 범위 (분, 5분마다 실행되는 재시도 작업이 늦게 실행되어도 누락되지 않도록 여유를 둠)
+    private static final long MISSING_THUMBNAIL_SYNC_MINUTES = 15;
+
+    // 마지막 생성 시도 이후 이 시간 (분) 이 지나도록 생성 중인 썸네일은 작업이 유실된 것으로 보고 다시 생성
+    @Value("${drawing.thumbnail.retry-delay-minutes:5}")
+    private long retryDelayMinutes;
+
+    private final Executor drawingThumbnailExecutor;
+
+    private final FileComponent fileComponent;
+
+    private final RasterBudget rasterBudget;
+
+    private final DrawingThumbnailRepository drawingThumbnailRepository;
+
+    private final DrawingRepository drawingRepository;
+
+    private final OrderRepository orderRepository;
+
+    @Transactional(readOnly = true)
+    public GetDrawingThumbnailResponse getDrawingThumbnail(String fileUrl) {
+        return drawingThumbnailRepository.findFirstByFileUrl(fileUrl)
+                .map(GetDrawingThumbnailResponse::from)
+                .orElseThrow(() -> new CustomCommonException(OrderErrorCode.NOT_FOUND_DRAWING_THUMBNAIL));
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 요청
+     * - 생성 중 (PENDING) 상태로 저장 후 도면 썸네일 스레드 풀에서 생성
+     * - 스레드 풀의 대기열이 가득 차면 생성 중 상태로 두고 재시도 작업에서 생성
+     */
+    public void requestThumbnail(FileEntity<DrawingFileType> drawingFile) {
+        DrawingThumbnail drawingThumbnail = drawingThumbnailRepository.save(
+                DrawingThumbnail.builder()
+                        .fileUrl(drawingFile.getUrl())
+                        .fileType(drawingFile.getType())
+                        .build()
+        );
+
+        submit(drawingThumbnail);
+    }
+
+    /**
+     * 생성 중 상태로 남아있는 썸네일 다시 생성
+     * - 서버 재시작, 대기열 초과, 생성 실패 등으로 마지막 시도 이후 일정 시간이 지난 썸네일 대상
+     * - 시도를 선점한 썸네일만 다시 요청 (대기열에서 기다리던 작업이나 다른 서버의 재시도 작업이 먼저 선점하면 요청하지 않음)
+     * - 최근 생성 완료된 썸네일만 확인하여, 썸네일 생성이 완료된 후에 생성된 도면 및 거래에 썸네일 반영
+     */
+    public void retryThumbnail() {
+        List<DrawingThumbnail> drawingThumbnailList = drawingThumbnailRepository.findTop100ByStatusAndLastAttemptAtBeforeOrderByIdAsc(
+                DrawingThumbnailStatus.PENDING,
+                LocalDateTime.now().minusMinutes(retryDelayMinutes)
+        );
+
+        for (DrawingThumbnail drawingThumbnail : drawingThumbnailList) {
+            if (claimAttempt(drawingThumbnail)) {
+                submit(drawingThumbnail);
+            }
+        }
+
+        LocalDateTime thumbnailCompletedAfter = LocalDateTime.now().minusMinutes(MISSING_THUMBNAIL_SYNC_MINUTES);
+        drawingRepository.updateMissingThumbnailUrl(thumbnailCompletedAfter);
+        orderRepository.updateMissingImgUrl(thumbnailCompletedAfter);
+    }
+
+    // 도면 파일의 크기별 PNG 썸네일 (임시 파일 없이 메모리에서 한 번 디코딩하여 생성, 픽셀 예산을 확보한 후 변환)
+    public Map<ThumbnailSize, byte[]> extractThumbnail(DrawingFileType fileType, InputStream inputStream) {
+        return extractThumbnail(fileType, inputStream, rasterBudget);
+    }
+
+    /**
+     * 완료된 썸네일을 현재 버전으로 다시 생성 (썸네일 재생성 작업)
+     * - 원본 도면 파일로 새 썸네일을 생성, 업로드하고 썸네일 정보만 변경 (저장은 재생성 작업에서 묶어서 처리)
+     * - 주어진 픽셀 예산으로 변환 (재생성 작업은 실시간 요청을 기다리게 하지 않도록 대기하지 않는 예산 사용)
+     */
+    public void regenerateThumbnail(DrawingThumbnail drawingThumbnail, RasterBudget budget) throws IOException {
+        ThumbnailUrl thumbnailUrl = createThumbnail(drawingThumbnail, budget);
+
+        drawingThumbnail.regenerate(thumbnailUrl.thumbnailUrl(), thumbnailUrl.mediumThumbnailUrl(), thumbnailUrl.smallThumbnailUrl(), thumbnailUrl.previewUrl());
+    }
+
+    private Map<ThumbnailSize, byte[]> extractThumbnail(DrawingFileType fileType, InputStream inputStream, RasterBudget budget) {
+        return switch (fileType) {
+            case DWG, DXF -> CADUtil.extractThumbnail(inputStream, budget);
+            case PDF -> PDFUtil.extractThumbnail(inputStream, budget);
+            // PNG, JPG, JPEG
+            default -> ImageUtil.extractThumbnail(inputStream, budget);
+        };
+    }
+
+    private void submit(DrawingThumbnail drawingThumbnail) {
+        try {
+            CompletableFuture.runAsync(() -> generateThumbnail(drawingThumbnail), drawingThumbnailExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Drawing thumbnail queue is full, retry later {}", drawingThumbnail.getFileUrl());
+        }
+    }
+
+    // 마지막 시도 시각이 그대로인 경우에만 시도 시각을 변경하여 썸네일 생성 선점
+    private boolean claimAttempt(DrawingThumbnail drawingThumbnail) {
+        LocalDateTime attemptAt = DrawingThumbnail.now();
+        if (drawingThumbnailRepository.claimAttempt(drawingThumbnail.getId(), drawingThumbnail.getLastAttemptAt(), attemptAt) == 0) {
+            return false;
+        }
+
+        drawingThumbnail.startAttempt(attemptAt);
+        return true;
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성
+     * - AWS S3 에 업로드된 원본 도면 파일로 생성
+     * - DXF 도면은 Aspose 없이 썸네일과 SVG 미리보기 생성 (변환하지 않는 도형이 있으면 Aspose 로 썸네일만 생성)
+     * - 생성 완료 시, 썸네일 없이 생성된 도면 및 거래에 썸네일 반영
+     * - 이미지 변환 작업이 많아 픽셀 예산을 확보하지 못하면 시도 횟수에 포함하지 않고 생성 중 상태로 두어 재시도 작업에서 생성
+     * - 대기열에서 기다리는 동안 재시도 작업이 다시 요청한 썸네일은 먼저 시도를 선점한 작업만 생성
+     */
+    private void generateThumbnail(DrawingThumbnail drawingThumbnail) {
+        if (!claimAttempt(drawingThumbnail)) {
+            log.info("Thumbnail of drawing {} is already claimed by another attempt", drawingThumbnail.getFileUrl());
+            return;
+        }
+
+        try {
+            ThumbnailUrl thumbnailUrl = createThumbnail(drawingThumbnail, rasterBudget);
+
+            drawingThumbnail.complete(thumbnailUrl.thumbnailUrl(), thumbnailUrl.mediumThumbnailUrl(), thumbnailUrl.smallThumbnailUrl(), thumbnailUrl.previewUrl());
+        } catch (CustomCommonException e) {
+            if (CommonErrorCode.RASTERIZATION_BUSY.getCode().equals(e.getErrorCode())) {
+                log.info("Rasterization is busy, retry thumbnail of drawing {} later", drawingThumbnail.getFileUrl());
+                return;
+            }
+
+            log.warn("Unable to generate thumbnail of drawing {} (attempt {})", drawingThumbnail.getFileUrl(), drawingThumbnail.getAttemptCount() + 1, e);
+            drawingThumbnail.fail();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to generate thumbnail of drawing {} (attempt {})", drawingThumbnail.getFileUrl(), drawingThumbnail.getAttemptCount() + 1, e);
+            drawingThumbnail.fail();
+        }
+
+        drawingThumbnailRepository.save(drawingThumbnail);
+
+        if (DrawingThumbnailStatus.COMPLETED.equals(drawingThumbnail.getStatus())) {
+            drawingRepository.updateThumbnailUrlByFileUrl(drawingThumbnail.getFileUrl(), drawingThumbnail.getThumbnailUrl());
+            orderRepository.updateMissingImgUrl(drawingThumbnail.getCompletedAt());
+        }
+    }
+
+    // AWS S3 에 업로드된 원본 도면 파일로 크기별 썸네일과 SVG 미리보기를 생성하여 업로드
+    private ThumbnailUrl createThumbnail(DrawingThumbnail drawingThumbnail, RasterBudget budget) throws IOException {
+        DXFPreview dxfPreview = null;
+        if (DrawingFileType.DXF.equals(drawingThumbnail.getFileType())) {
+            try (InputStream inputStream = fileComponent.downloadFile(drawingThumbnail.getFileUrl())) {
+                dxfPreview = CADUtil.readDXFPreview(inputStream, drawingThumbnail.getFileUrl());
+            }
+        }
+
+        Map<ThumbnailSize, byte[]> thumbnailMap;
+        byte[] preview = null;
+        if (dxfPreview != null) {
+            thumbnailMap = CADUtil.extractThumbnail(dxfPreview, budget);
+            preview = CADUtil.extractPreview(dxfPreview);
+        } else {
+            try (InputStream inputStream = fileComponent.downloadFile(drawingThumbnail.getFileUrl())) {
+                thumbnailMap = extractThumbnail(drawingThumbnail.getFileType(), inputStream, budget);
+            }
+        }
+
+        // 크기별 썸네일과 SVG 미리보기는 동시에 업로드
+        Map<ThumbnailSize, CompletableFuture<String>> thumbnailUrlFutureMap = new EnumMap<>(ThumbnailSize.class);
+        thumbnailMap.forEach((thumbnailSize, thumbnail) -> thumbnailUrlFutureMap.put(
+                thumbnailSize,
+                fileComponent.uploadFileAsync(THUMBNAIL_FOLDER_NAME, thumbnail, "drawing-thumbnail-" + thumbnailSize.getSize() + ".png", MediaType.IMAGE_PNG_VALUE)
+        ));
+        CompletableFuture<String> previewUrlFuture = preview == null
+                ? CompletableFuture.completedFuture(null)
+                : fileComponent.uploadFileAsync(PREVIEW_FOLDER_NAME, preview, "drawing-preview.svg", SVG_CONTENT_TYPE);
+
+        return new ThumbnailUrl(
+                FutureUtil.join(thumbnailUrlFutureMap.get(ThumbnailSize.LARGE)),
+                FutureUtil.join(thumbnailUrlFutureMap.get(ThumbnailSize.MEDIUM)),
+                FutureUtil.join(thumbnailUrlFutureMap.get(ThumbnailSize.SMALL)),
+                FutureUtil.join(previewUrlFuture)
+        );
+    }
+
+    private record ThumbnailUrl(String thumbnailUrl, String mediumThumbnailUrl, String smallThumbnailUrl, String previewUrl) {
+    }
+}
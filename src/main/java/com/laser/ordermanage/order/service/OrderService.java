@@ -2,6 +2,7 @@ package com.laser.ordermanage.order.service;
 
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.order.domain.Comment;
 import com.laser.ordermanage.order.domain.Order;
 import com.laser.ordermanage.order.dto.request.CreateCommentRequest;
@@ -19,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class OrderService {
@@ -28,6 +31,8 @@ public class OrderService {
     private final OrderRepository orderRepository;
 
     private final UserAuthService userAuthService;
+    private final IngredientDemandService ingredientDemandService;
+    private final DrawingService drawingService;
 
     @Transactional(readOnly = true)
     public Order getOrderById(Long orderId) {
@@ -76,6 +81,12 @@ public class OrderService {
 
         DeleteOrderResponse response = DeleteOrderResponse.fromEntity(order);
 
+        // 견적 승인 단계 거래의 도면 자재 소요량 제거
+        ingredientDemandService.deleteDemandByOrderList(List.of(orderId));
+
+        // 거래 도면의 도면 파일 사용 수 감소 (사용하는 도면이 없으면 파일 삭제)
+        drawingService.decreaseFileReference(drawingRepository.findFileUrlByOrderList(List.of(orderId)));
+
         // 거래 도면 데이터 삭제
         drawingRepository.deleteAllByOrder(orderId);
 
@@ -0,0 +1,148 @@
+package com.laser.ordermanage.order.service;
+
+import com.laser.ordermanage.common.cache.redis.dao.OrphanFileCleanup;
+import com.laser.ordermanage.common.cache.redis.repository.OrphanFileCleanupRedisRepository;
+import com.laser.ordermanage.common.cloud.FileStorage;
+import com.laser.ordermanage.common.cloud.StoredObject;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.PurchaseOrderFileType;
+import com.laser.ordermanage.order.domain.type.QuotationFileType;
+import com.laser.ordermanage.order.domain.type.SignatureFileType;
+import com.laser.ordermanage.order.repository.DrawingFileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용하지 않는 저장소 파일 정리 (거래, 도면 삭제나 파일 교체 후 남은 파일, 도면으로 사용하지 않은 업로드 파일)
+ * - 저장소 파일을 key 순서로 조금씩 조회하고, 마지막으로 확인한 key 를 Redis 에 저장하여 다음 실행에서 이어서 확인
+ * - 도면, 썸네일, 거래, 견적서, 발주서, 인수자 서명에서 사용하지 않는 파일을 DeleteObjects 요청 (최대 1000 개) 으로 삭제
+ * - 업로드 중이거나 아직 DB 에 반영되지 않은 파일을 삭제하지 않도록, 유예 기간이 지난 파일만 삭제
+ * - 파일 목록에 나타나지 않는 완료하지 않은 멀티파트 업로드는 업로드 정보가 만료되면 취소
+ */
+@Slf4j
+@Service
+public class OrphanFileCleanupService {
+
+    // 거래 관련 파일을 저장하는 폴더 (그 외 폴더의 파일은 삭제하지 않음)
+    private static final List<String> FOLDER_NAME_LIST = List.of(
+            DrawingFileType.FOLDER_NAME,
+            DrawingThumbnailService.THUMBNAIL_FOLDER_NAME,
+            DrawingThumbnailService.PREVIEW_FOLDER_NAME,
+            QuotationFileType.FOLDER_NAME,
+            PurchaseOrderFileType.FOLDER_NAME,
+            SignatureFileType.FOLDER_NAME
+    );
+
+    private final FileComponent fileComponent;
+
+    private final DrawingFileRepository drawingFileRepository;
+
+    private final OrphanFileCleanupRedisRepository orphanFileCleanupRedisRepository;
+
+    private final Duration gracePeriod;
+    private final int pageCountPerRun;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public OrphanFileCleanupService(
+            FileComponent fileComponent,
+            DrawingFileRepository drawingFileRepository,
+            OrphanFileCleanupRedisRepository orphanFileCleanupRedisRepository,
+            MeterRegistry meterRegistry,
+            @Value("${storage.orphan-cleanup.grace-period-hours:168}") long gracePeriodHours,
+            @Value("${storage.orphan-cleanup.page-count-per-run:1}") int pageCountPerRun) {
+        this.fileComponent = fileComponent;
+        this.drawingFileRepository = drawingFileRepository;
+        this.orphanFileCleanupRedisRepository = orphanFileCleanupRedisRepository;
+        // 이어서 업로드하는 파일 (최대 1일) 보다 짧으면 업로드 중인 파일을 삭제할 수 있으므로 최소 1일
+        this.gracePeriod = Duration.ofHours(Math.max(gracePeriodHours, 24));
+        this.pageCountPerRun = Math.max(pageCountPerRun, 1);
+
+        this.deletedCounter = Counter.builder("storage.orphan-file.cleanup")
+                .tag("result", "deleted")
+                .description("삭제한 사용하지 않는 저장소 파일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.orphan-file.cleanup")
+                .tag("result", "failed")
+                .description("삭제하지 못한 사용하지 않는 저장소 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용하지 않는 저장소 파일 정리 (저장소 파일 정리 작업에서 주기적으로 실행)
+     * - 처음부터 확인하는 경우, 유예 기간 동안 업로드되거나 재사용되지 않은 버려진 도면 파일 정보를 먼저 삭제 (삭제한 정보의 파일은 이번 확인에서 삭제)
+     * - 처음부터 확인하는 경우, 업로드 정보가 만료된 멀티파트 업로드도 취소
+     * - 한 번 실행에서 최대 pageCountPerRun 개의 목록 (목록마다 최대 1000 개) 만 확인
+     */
+    public void cleanupOrphanFile() {
+        OrphanFileCleanup cleanup = orphanFileCleanupRedisRepository.findById(OrphanFileCleanup.ID)
+                .orElseGet(OrphanFileCleanup::start);
+
+        Instant uploadedBefore = Instant.now().minus(gracePeriod);
+
+        if (cleanup.isAtStart()) {
+            int deletedCount = drawingFileRepository.deleteAbandonedDrawingFile(LocalDateTime.ofInstant(uploadedBefore, ZoneId.systemDefault()));
+            log.info("Deleted {} abandoned drawing files not used since {}", deletedCount, uploadedBefore);
+
+            int abortedCount = fileComponent.abortExpiredChunkedUpload();
+            log.info("Aborted {} expired multipart uploads", abortedCount);
+        }
+
+        for (int page = 0; page < pageCountPerRun; page++) {
+            StoredObjectList storedFileList = fileComponent.getStoredFileList(cleanup.getLastKey(), FileStorage.MAX_DELETE_OBJECT_COUNT);
+            List<StoredObject> objectList = storedFileList.objectList();
+
+            List<String> candidateFileUrlList = objectList.stream()
+                    .filter(object -> isCleanupTarget(object, uploadedBefore))
+                    .map(StoredObject::fileUrl)
+                    .toList();
+
+            long deletedCount = 0;
+            long failedCount = 0;
+            if (!candidateFileUrlList.isEmpty()) {
+                Set<String> referencedFileUrlSet = new HashSet<>(drawingFileRepository.findReferencedFileUrlList(candidateFileUrlList));
+                List<String> orphanFileUrlList = candidateFileUrlList.stream()
+                        .filter(fileUrl -> !referencedFileUrlSet.contains(fileUrl))
+                        .toList();
+
+                if (!orphanFileUrlList.isEmpty()) {
+                    // 삭제하지 못한 파일은 다음 확인에서 다시 삭제
+                    failedCount = fileComponent.deleteFileList(orphanFileUrlList).size();
+                    deletedCount = orphanFileUrlList.size() - failedCount;
+                    deletedCounter.increment(deletedCount);
+                    failedCounter.increment(failedCount);
+                }
+            }
+
+            if (!storedFileList.hasNext()) {
+                log.info("Orphan file cleanup is completed, deleted {}, failed {}",
+                        cleanup.getDeletedCount() + deletedCount, cleanup.getFailedCount() + failedCount);
+                cleanup.restart();
+                orphanFileCleanupRedisRepository.save(cleanup);
+                return;
+            }
+
+            cleanup.checkpoint(objectList.get(objectList.size() - 1).key(), deletedCount, failedCount);
+            orphanFileCleanupRedisRepository.save(cleanup);
+        }
+    }
+
+    private static boolean isCleanupTarget(StoredObject object, Instant uploadedBefore) {
+        return object.lastModified().isBefore(uploadedBefore)
+                && FOLDER_NAME_LIST.stream().anyMatch(folderName -> object.key().startsWith(folderName + "/"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.laser.ordermanage.common.unit.cloud;
+
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.cloud.StoredObject;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.cloud.local.LocalFileStorage;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+public class LocalFileStorageUnitTest {
+
+    @TempDir
+    Path rootPath;
+
+    private LocalFileStorage localFileStorage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        localFileStorage = new LocalFileStorage(rootPath.toString(), "http://localhost:8080/storage", "signing-key", mock(ThreadPoolTaskExecutor.class));
+    }
+
+    /**
+     * 파일 업로드 후 파일 URL 로 다운로드
+     * - 파일 URL 은 "{base-url}/{폴더}/{UUID}-{파일 이름}" 이고, 파일 이름은 URL 인코딩
+     */
+    @Test
+    public void upload_성공() throws IOException {
+        // given
+        final byte[] content = "AC1018 drawing".getBytes(StandardCharsets.US_ASCII);
+        final MockMultipartFile file = new MockMultipartFile("file", "도면 1.dwg", "application/acad", content);
+
+        // when
+        final String fileUrl = localFileStorage.upload("drawing", file, "도면 1.dwg");
+
+        // then
+        Assertions.assertThat(fileUrl).startsWith("http://localhost:8080/storage/drawing/").doesNotContain(" ");
+        Assertions.assertThat(localFileStorage.findKeyOfUrl(fileUrl)).startsWith("drawing/").endsWith("-도면 1.dwg");
+        try (InputStream inputStream = localFileStorage.download(fileUrl)) {
+            Assertions.assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        Assertions.assertThat(localFileStorage.downloadRange(fileUrl, 6)).isEqualTo("AC1018".getBytes(StandardCharsets.US_ASCII));
+        Assertions.assertThat(localFileStorage.findMetadata(fileUrl)).get().extracting("size").isEqualTo((long) content.length);
+    }
+
+    /**
+     * 저장소 밖의 경로는 접근 불가
+     */
+    @Test
+    public void findPath_실패_저장소_밖의_경로() {
+        Assertions.assertThatThrownBy(() -> localFileStorage.findPath("drawing/../../secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 멀티파트 업로드 완료 시 part 를 번호 순서로 합치고 part 삭제
+     */
+    @Test
+    public void completeMultipartUpload_성공() throws IOException {
+        // given
+        final StorageMultipartUpload multipartUpload = localFileStorage.createMultipartUpload("drawing", "drawing.dxf");
+        localFileStorage.uploadPart(multipartUpload, 2, new ByteArrayInputStream("world".getBytes(StandardCharsets.US_ASCII)), 5);
+        localFileStorage.uploadPart(multipartUpload, 1, new ByteArrayInputStream("hello ".getBytes(StandardCharsets.US_ASCII)), 6);
+
+        // when
+        localFileStorage.completeMultipartUpload(multipartUpload, localFileStorage.findPartList(multipartUpload));
+
+        // then
+        try (InputStream inputStream = localFileStorage.download(multipartUpload.fileUrl())) {
+            Assertions.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("hello world");
+        }
+        Assertions.assertThat(Files.exists(rootPath.resolve(".multipart").resolve(multipartUpload.uploadId()))).isFalse();
+    }
+
+    /**
+     * 마지막 part 업로드가 기준 시각 전인 멀티파트 업로드만 취소
+     */
+    @Test
+    public void abortMultipartUploadInitiatedBefore_성공() throws IOException {
+        // given
+        final StorageMultipartUpload expiredMultipartUpload = localFileStorage.createMultipartUpload("drawing", "expired.dwg");
+        final StorageMultipartUpload multipartUpload = localFileStorage.createMultipartUpload("drawing", "drawing.dwg");
+        final Path expiredMultipartUploadPath = rootPath.resolve(".multipart").resolve(expiredMultipartUpload.uploadId());
+        Files.setLastModifiedTime(expiredMultipartUploadPath, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // when
+        final int abortedCount = localFileStorage.abortMultipartUploadInitiatedBefore(Instant.now().minus(Duration.ofDays(1)));
+
+        // then
+        Assertions.assertThat(abortedCount).isEqualTo(1);
+        Assertions.assertThat(Files.exists(expiredMultipartUploadPath)).isFalse();
+        Assertions.assertThat(Files.exists(rootPath.resolve(".multipart").resolve(multipartUpload.uploadId()))).isTrue();
+    }
+
+    /**
+     * 파일 목록을 key 순서로 나누어 조회 (업로드 중인 멀티파트 업로드의 part 제외)
+     */
+    @Test
+    public void listObjects_성공() {
+        // given
+        final String fileUrl1 = localFileStorage.upload("drawing", new byte[]{1}, "a.png", "image/png");
+        final String fileUrl2 = localFileStorage.upload("quotation", new byte[]{2}, "b.pdf", "application/pdf");
+        final StorageMultipartUpload multipartUpload = localFileStorage.createMultipartUpload("drawing", "c.dwg");
+        localFileStorage.uploadPart(multipartUpload, 1, new ByteArrayInputStream(new byte[]{3}), 1);
+
+        // when
+        final StoredObjectList firstObjectList = localFileStorage.listObjects(null, 1);
+        final StoredObjectList secondObjectList = localFileStorage.listObjects(firstObjectList.objectList().get(0).key(), 1);
+
+        // then
+        Assertions.assertThat(firstObjectList.objectList()).extracting(StoredObject::fileUrl).containsExactly(fileUrl1);
+        Assertions.assertThat(firstObjectList.hasNext()).isTrue();
+        Assertions.assertThat(secondObjectList.objectList()).extracting(StoredObject::fileUrl).containsExactly(fileUrl2);
+        Assertions.assertThat(secondObjectList.hasNext()).isFalse();
+
+        Assertions.assertThat(localFileStorage.deleteAll(List.of(fileUrl1, fileUrl2))).isEmpty();
+        Assertions.assertThat(localFileStorage.listObjects(null, 10).objectList()).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.laser.ordermanage.common.unit.cloud;
+
+import com.laser.ordermanage.common.cloud.aws.S3MultipartUploader;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class S3MultipartUploaderUnitTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private S3AsyncClient s3AsyncClient;
+
+    private S3MultipartUploader s3MultipartUploader;
+
+    @BeforeEach
+    public void setUp() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        // 16MB 이상 파일을 5MB part 로 나누어 2 개씩 동시 업로드, part 당 1 번 재시도
+        s3MultipartUploader = new S3MultipartUploader(s3AsyncClient, "bucket", 16, 5, 2, 1);
+
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload-id").build()));
+    }
+
+    @Test
+    public void supports() {
+        Assertions.assertThat(s3MultipartUploader.supports(16L * MB)).isTrue();
+        Assertions.assertThat(s3MultipartUploader.supports(16L * MB - 1)).isFalse();
+    }
+
+    /**
+     * 17MB 파일은 5MB, 5MB, 5MB, 2MB part 로 업로드 후 part 번호 순서대로 완료
+     */
+    @Test
+    public void upload() {
+        // given
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        UploadPartResponse.builder().eTag("etag-" + invocation.getArgument(0, UploadPartRequest.class).partNumber()).build()));
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        // when
+        s3MultipartUploader.upload(new ByteArrayInputStream(new byte[17 * MB]), "drawing/key.dwg");
+
+        // then
+        ArgumentCaptor<UploadPartRequest> uploadPartCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(4)).uploadPart(uploadPartCaptor.capture(), any(AsyncRequestBody.class));
+        Assertions.assertThat(uploadPartCaptor.getAllValues()).extracting(UploadPartRequest::contentLength)
+                .containsExactly(5L * MB, 5L * MB, 5L * MB, 2L * MB);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient, times(1)).completeMultipartUpload(completeCaptor.capture());
+        final List<CompletedPart> actualPartList = completeCaptor.getValue().multipartUpload().parts();
+        Assertions.assertThat(actualPartList).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3, 4);
+        Assertions.assertThat(actualPartList).extracting(CompletedPart::eTag).containsExactly("etag-1", "etag-2", "etag-3", "etag-4");
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    /**
+     * 실패한 part 만 다시 업로드
+     */
+    @Test
+    public void upload_part_재시도() {
+        // given
+        final AtomicInteger secondPartAttemptCount = new AtomicInteger();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> {
+                    int partNumber = invocation.getArgument(0, UploadPartRequest.class).partNumber();
+                    if (partNumber == 2 && secondPartAttemptCount.getAndIncrement() == 0) {
+                        return CompletableFuture.failedFuture(SdkClientException.create("connection reset"));
+                    }
+                    return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag-" + partNumber).build());
+                });
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        // when
+        s3MultipartUploader.upload(new ByteArrayInputStream(new byte[12 * MB]), "drawing/key.dwg");
+
+        // then
+        verify(s3AsyncClient, times(4)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        Assertions.assertThat(secondPartAttemptCount.get()).isEqualTo(2);
+        verify(s3AsyncClient, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    /**
+     * 재시도 후에도 실패하면 멀티파트 업로드 취소
+     */
+    @Test
+    public void upload_실패_멀티파트_업로드_취소() {
+        // given
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(SdkClientException.create("connection reset")));
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> s3MultipartUploader.upload(new ByteArrayInputStream(new byte[17 * MB]), "drawing/key.dwg"))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD.getMessage());
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3AsyncClient, times(1)).abortMultipartUpload(abortCaptor.capture());
+        Assertions.assertThat(abortCaptor.getValue().uploadId()).isEqualTo("upload-id");
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,343 @@
+package com.laser.ordermanage.common.unit.component;
+
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
+import com.laser.ordermanage.common.cache.redis.repository.ChunkedUploadRedisRepository;
+import com.laser.ordermanage.common.cache.redis.repository.FileUploadRedisRepository;
+import com.laser.ordermanage.common.cloud.StorageMultipartUpload;
+import com.laser.ordermanage.common.cloud.StorageMultipartUploadPart;
+import com.laser.ordermanage.common.cloud.StoredObjectMetadata;
+import com.laser.ordermanage.common.cloud.aws.S3Service;
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.QuotationFileType;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.mockito.Mockito.*;
+
+public class FileComponentUnitTest {
+
+    private final static String FILE_HASH = "a".repeat(64);
+
+    private S3Service s3Service;
+
+    private FileUploadRedisRepository fileUploadRedisRepository;
+
+    private ChunkedUploadRedisRepository chunkedUploadRedisRepository;
+
+    private FileComponent fileComponent;
+
+    @BeforeEach
+    public void setUp() {
+        s3Service = mock(S3Service.class);
+        fileUploadRedisRepository = mock(FileUploadRedisRepository.class);
+        chunkedUploadRedisRepository = mock(ChunkedUploadRedisRepository.class);
+        fileComponent = new FileComponent(s3Service, fileUploadRedisRepository, chunkedUploadRedisRepository);
+        ReflectionTestUtils.setField(fileComponent, "archivePrefetchCount", 2);
+    }
+
+    /**
+     * 파일 목록을 순서대로 ZIP 항목으로 씀
+     * - 이미 압축된 형식 (DWG) 은 압축하지 않고, DXF 는 압축
+     * - 같은 이름의 파일은 "이름 (n).확장자" 로 저장
+     */
+    @Test
+    public void writeZip_성공() throws IOException {
+        // given
+        final byte[] dwgContent = "AC1018 drawing".repeat(100).getBytes(StandardCharsets.US_ASCII);
+        final byte[] dxfContent = "0\nSECTION\n".repeat(100).getBytes(StandardCharsets.US_ASCII);
+        final byte[] otherDwgContent = "AC1018 other drawing".getBytes(StandardCharsets.US_ASCII);
+        final List<FileEntity<DrawingFileType>> fileList = List.of(
+                buildFile("drawing.dwg", DrawingFileType.DWG, "dwg-url"),
+                buildFile("drawing.dxf", DrawingFileType.DXF, "dxf-url"),
+                buildFile("drawing.dwg", DrawingFileType.DWG, "other-dwg-url")
+        );
+
+        // stub
+        when(s3Service.downloadAsync("dwg-url")).thenReturn(CompletableFuture.completedFuture(new ByteArrayInputStream(dwgContent)));
+        when(s3Service.downloadAsync("dxf-url")).thenReturn(CompletableFuture.completedFuture(new ByteArrayInputStream(dxfContent)));
+        when(s3Service.downloadAsync("other-dwg-url")).thenReturn(CompletableFuture.completedFuture(new ByteArrayInputStream(otherDwgContent)));
+
+        // when
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        fileComponent.writeZip(fileList, outputStream);
+
+        // then
+        final List<String> entryNameList = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNameList.add(entry.getName());
+                final byte[] content = zipInputStream.readAllBytes();
+                switch (entryNameList.size()) {
+                    case 1 -> {
+                        Assertions.assertThat(content).isEqualTo(dwgContent);
+                        Assertions.assertThat(entry.getCompressedSize()).isGreaterThanOrEqualTo(dwgContent.length);
+                    }
+                    case 2 -> {
+                        Assertions.assertThat(content).isEqualTo(dxfContent);
+                        Assertions.assertThat(entry.getCompressedSize()).isLessThan(dxfContent.length);
+                    }
+                    default -> Assertions.assertThat(content).isEqualTo(otherDwgContent);
+                }
+            }
+        }
+
+        Assertions.assertThat(entryNameList).containsExactly("drawing.dwg", "drawing.dxf", "drawing (1).dwg");
+    }
+
+    /**
+     * 다운로드 실패 시 예외 발생 후, 미리 받은 파일의 연결 반환
+     */
+    @Test
+    public void writeZip_실패_다운로드() {
+        // given
+        final CloseTrackingInputStream prefetchedInputStream = new CloseTrackingInputStream();
+        final List<FileEntity<DrawingFileType>> fileList = List.of(
+                buildFile("drawing.dwg", DrawingFileType.DWG, "dwg-url"),
+                buildFile("drawing.dxf", DrawingFileType.DXF, "dxf-url"),
+                buildFile("drawing.pdf", DrawingFileType.PDF, "pdf-url")
+        );
+
+        // stub
+        when(s3Service.downloadAsync("dwg-url")).thenReturn(CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD)));
+        when(s3Service.downloadAsync("dxf-url")).thenReturn(CompletableFuture.completedFuture(prefetchedInputStream));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.writeZip(fileList, new ByteArrayOutputStream()))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD.getMessage());
+
+        // 미리 받는 파일 수 (2 개) 까지만 다운로드 요청
+        verify(s3Service, never()).downloadAsync("pdf-url");
+        Assertions.assertThat(prefetchedInputStream.closed).isTrue();
+    }
+
+    /**
+     * 비동기 업로드 취소 시, 업로드가 완료되면 업로드한 파일 삭제
+     */
+    @Test
+    public void cancelUploadAsync_성공() {
+        // given
+        final CompletableFuture<FileEntity<DrawingFileType>> fileFuture = new CompletableFuture<>();
+
+        // when
+        fileComponent.cancelUploadAsync(fileFuture);
+
+        // then
+        verify(s3Service, never()).delete(any());
+        fileFuture.complete(buildFile("drawing.dwg", DrawingFileType.DWG, "dwg-url"));
+        verify(s3Service, times(1)).delete("dwg-url");
+    }
+
+    /**
+     * 비동기 업로드 취소 시, 업로드에 실패하면 삭제할 파일 없음
+     */
+    @Test
+    public void cancelUploadAsync_성공_업로드_실패() {
+        // given
+        final CompletableFuture<FileEntity<DrawingFileType>> fileFuture = CompletableFuture.failedFuture(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD));
+
+        // when
+        fileComponent.cancelUploadAsync(fileFuture);
+
+        // then
+        verify(s3Service, never()).delete(any());
+    }
+
+    /**
+     * 나누어 업로드한 파일의 업로드 완료 시, 멀티파트 업로드 완료에 실패하면 멀티파트 업로드 취소 후 업로드 정보 삭제
+     */
+    @Test
+    public void completeChunkedUpload_실패_멀티파트_업로드_완료() {
+        // given
+        final ChunkedUpload chunkedUpload = ChunkedUpload.builder()
+                .id("chunked-upload-id")
+                .fileName("drawing.dwg")
+                .fileSize(10L)
+                .chunkSize(6)
+                .multipartUploadId("multipart-upload-id")
+                .fileUrl("dwg-url")
+                .build();
+        final StorageMultipartUpload multipartUpload = chunkedUpload.toStorageMultipartUpload();
+        final List<StorageMultipartUploadPart> partList = List.of(
+                new StorageMultipartUploadPart(1, 6L, "etag-1"),
+                new StorageMultipartUploadPart(2, 4L, "etag-2")
+        );
+
+        // stub
+        when(s3Service.findPartList(multipartUpload)).thenReturn(partList);
+        doThrow(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD)).when(s3Service).completeMultipartUpload(multipartUpload, partList);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.completeChunkedUpload(chunkedUpload, DrawingFileType::ofExtension))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD.getMessage());
+
+        verify(s3Service, times(1)).abortMultipartUpload(multipartUpload);
+        verify(chunkedUploadRedisRepository, times(1)).delete(chunkedUpload);
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인 성공
+     * - 검증에 성공한 후 업로드 정보 삭제
+     */
+    @Test
+    public void confirmUpload_성공() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+
+        // stub
+        when(s3Service.findMetadata("dwg-url")).thenReturn(Optional.of(new StoredObjectMetadata(10L, getChecksumSha256())));
+        when(s3Service.downloadRange("dwg-url", 32)).thenReturn("AC1032".getBytes(StandardCharsets.US_ASCII));
+
+        // when
+        final FileEntity<DrawingFileType> actualFile = fileComponent.confirmUpload(fileUpload, DrawingFileType::ofExtension);
+
+        // then
+        Assertions.assertThat(actualFile.getUrl()).isEqualTo("dwg-url");
+        Assertions.assertThat(actualFile.getType()).isEqualTo(DrawingFileType.DWG);
+        verify(fileUploadRedisRepository, times(1)).delete(fileUpload);
+        verify(s3Service, never()).delete(any());
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인 실패
+     * - 실패 사유 : 아직 업로드되지 않음 (업로드 정보를 유지하므로 업로드 후 다시 확인 가능)
+     */
+    @Test
+    public void confirmUpload_실패_업로드_전() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+
+        // stub
+        when(s3Service.findMetadata("dwg-url")).thenReturn(Optional.empty());
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.confirmUpload(fileUpload, DrawingFileType::ofExtension))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.INVALID_UPLOADED_FILE.getMessage());
+        verify(fileUploadRedisRepository, never()).delete(any());
+        verify(s3Service, never()).delete(any());
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인 실패
+     * - 실패 사유 : 저장소에서 파일 앞부분 다운로드 실패 (업로드 정보를 유지하므로 다시 확인 가능)
+     */
+    @Test
+    public void confirmUpload_실패_다운로드() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+
+        // stub
+        when(s3Service.findMetadata("dwg-url")).thenReturn(Optional.of(new StoredObjectMetadata(10L, getChecksumSha256())));
+        when(s3Service.downloadRange("dwg-url", 32)).thenThrow(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.confirmUpload(fileUpload, DrawingFileType::ofExtension))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD.getMessage());
+        verify(fileUploadRedisRepository, never()).delete(any());
+        verify(s3Service, never()).delete(any());
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인 실패
+     * - 실패 사유 : 업로드된 파일의 크기가 요청한 파일과 다름 (업로드 정보 및 업로드된 파일 삭제)
+     */
+    @Test
+    public void confirmUpload_실패_INVALID_UPLOADED_FILE() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+
+        // stub
+        when(s3Service.findMetadata("dwg-url")).thenReturn(Optional.of(new StoredObjectMetadata(20L, getChecksumSha256())));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.confirmUpload(fileUpload, DrawingFileType::ofExtension))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.INVALID_UPLOADED_FILE.getMessage());
+        verify(fileUploadRedisRepository, times(1)).delete(fileUpload);
+        verify(s3Service, times(1)).delete("dwg-url");
+    }
+
+    /**
+     * 직접 업로드한 파일의 업로드 완료 확인 실패
+     * - 실패 사유 : 다른 파일 종류 (도면) 의 업로드를 견적서 파일로 확인
+     */
+    @Test
+    public void confirmUpload_실패_NOT_FOUND_FILE_UPLOAD() {
+        // given
+        final FileUpload fileUpload = FileUpload.builder()
+                .id("upload-id")
+                .fileName("quotation.pdf")
+                .folderName(DrawingFileType.FOLDER_NAME)
+                .fileUrl("pdf-url")
+                .build();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> fileComponent.confirmUpload(fileUpload, QuotationFileType::ofExtension))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.NOT_FOUND_FILE_UPLOAD.getMessage());
+        verify(s3Service, never()).findMetadata(any());
+        verify(fileUploadRedisRepository, never()).delete(any());
+    }
+
+    private static FileEntity<DrawingFileType> buildFile(String name, DrawingFileType type, String url) {
+        return FileEntity.<DrawingFileType>builder()
+                .name(name)
+                .size(0L)
+                .type(type)
+                .url(url)
+                .build();
+    }
+
+    private static FileUpload buildFileUpload() {
+        return FileUpload.builder()
+                .id("upload-id")
+                .fileName("drawing.dwg")
+                .fileSize(10L)
+                .fileHash(FILE_HASH)
+                .folderName(DrawingFileType.FOLDER_NAME)
+                .fileUrl("dwg-url")
+                .build();
+    }
+
+    private static String getChecksumSha256() {
+        return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(FILE_HASH));
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed = false;
+
+        CloseTrackingInputStream() {
+            super(new byte[0]);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.laser.ordermanage.common.unit.component;
+
+import com.laser.ordermanage.common.component.RasterizationLimiter;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.RasterBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RasterizationLimiterUnitTest {
+
+    private static final long MEGAPIXEL = 1024 * 1024;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RasterizationLimiter rasterizationLimiter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 예산 4MP, 대기하지 않고 바로 거절
+        rasterizationLimiter = new RasterizationLimiter(meterRegistry, 4, 0);
+    }
+
+    /**
+     * 예산 안의 작업은 동시에 실행하고, 작업이 끝나면 예산 반납
+     */
+    @Test
+    public void acquire_성공() {
+        // when
+        try (RasterBudget.Permit permit = rasterizationLimiter.acquire(MEGAPIXEL);
+             RasterBudget.Permit otherPermit = rasterizationLimiter.acquire(3 * MEGAPIXEL)) {
+            // then
+            Assertions.assertThat(meterRegistry.get("drawing.rasterization.pixels.in-use").gauge().value()).isEqualTo(4.0 * MEGAPIXEL);
+        }
+
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.pixels.in-use").gauge().value()).isEqualTo(0.0);
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.wait").timer().count()).isEqualTo(2);
+    }
+
+    /**
+     * 예산보다 큰 작업은 예산 전체를 확보하여 단독으로 실행
+     */
+    @Test
+    public void acquire_성공_예산_초과_작업() {
+        // when
+        try (RasterBudget.Permit permit = rasterizationLimiter.acquire(100 * MEGAPIXEL)) {
+            // then
+            Assertions.assertThat(meterRegistry.get("drawing.rasterization.pixels.in-use").gauge().value()).isEqualTo(4.0 * MEGAPIXEL);
+        }
+    }
+
+    /**
+     * 대기 시간 안에 예산을 확보하지 못하면 RASTERIZATION_BUSY 예외 발생
+     */
+    @Test
+    public void acquire_실패_RASTERIZATION_BUSY() {
+        // given
+        try (RasterBudget.Permit permit = rasterizationLimiter.acquire(3 * MEGAPIXEL)) {
+            // when & then
+            Assertions.assertThatThrownBy(() -> rasterizationLimiter.acquire(2 * MEGAPIXEL))
+                    .isInstanceOf(CustomCommonException.class)
+                    .hasMessage(CommonErrorCode.RASTERIZATION_BUSY.getMessage());
+        }
+
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.rejected").counter().count()).isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.queue").gauge().value()).isEqualTo(0.0);
+    }
+
+    /**
+     * 기다리지 않는 예산은 남은 예산 안에서만 확보하고, 부족하면 거절 수 지표에 포함하지 않고 바로 RASTERIZATION_BUSY 예외 발생
+     */
+    @Test
+    public void withoutWaiting_성공() {
+        // given
+        final RasterBudget backgroundBudget = rasterizationLimiter.withoutWaiting();
+
+        try (RasterBudget.Permit permit = rasterizationLimiter.acquire(3 * MEGAPIXEL)) {
+            // when
+            try (RasterBudget.Permit backgroundPermit = backgroundBudget.acquire(MEGAPIXEL)) {
+                // then
+                Assertions.assertThat(meterRegistry.get("drawing.rasterization.pixels.in-use").gauge().value()).isEqualTo(4.0 * MEGAPIXEL);
+            }
+
+            Assertions.assertThatThrownBy(() -> backgroundBudget.acquire(2 * MEGAPIXEL))
+                    .isInstanceOf(CustomCommonException.class)
+                    .hasMessage(CommonErrorCode.RASTERIZATION_BUSY.getMessage());
+        }
+
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.rejected").counter().count()).isEqualTo(0.0);
+        Assertions.assertThat(meterRegistry.get("drawing.rasterization.pixels.in-use").gauge().value()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.laser.ordermanage.common.unit.nesting;
+
+import com.laser.ordermanage.common.nesting.NestingEstimator;
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.nesting.NestingResult;
+import com.laser.ordermanage.common.nesting.SkylinePacker;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class NestingEstimatorUnitTest {
+
+    private NestingEstimator nestingEstimator;
+
+    @BeforeEach
+    public void setUp() {
+        nestingEstimator = new NestingEstimator(2, 1000, 8, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nestingEstimator.shutdown();
+    }
+
+    @Test
+    public void pack_원판_한_장() {
+        // given
+        // 100 x 100 원판에 50 x 50 부품 4 개
+        final List<NestingPart> partList = Collections.nCopies(4, new NestingPart(50, 50));
+        final SkylinePacker packer = new SkylinePacker(100, 100, 0);
+
+        // when
+        final NestingResult actualResult = packer.pack(partList, () -> false);
+
+        // then
+        Assertions.assertThat(actualResult.sheetCount()).isEqualTo(1);
+        Assertions.assertThat(actualResult.utilization()).isCloseTo(1.0, Offset.offset(1e-6));
+    }
+
+    @Test
+    public void pack_회전() {
+        // given
+        // 100 x 50 원판에 50 x 100 부품은 회전해서 배치
+        final List<NestingPart> partList = List.of(new NestingPart(50, 100));
+        final SkylinePacker packer = new SkylinePacker(100, 50, 0);
+
+        // when
+        final NestingResult actualResult = packer.pack(partList, () -> false);
+
+        // then
+        Assertions.assertThat(actualResult.sheetCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void pack_간격() {
+        // given
+        // 부품 사이 간격 때문에 한 장에 하나씩만 배치
+        final List<NestingPart> partList = Collections.nCopies(4, new NestingPart(50, 50));
+        final SkylinePacker packer = new SkylinePacker(100, 100, 5);
+
+        // when
+        final NestingResult actualResult = packer.pack(partList, () -> false);
+
+        // then
+        Assertions.assertThat(actualResult.sheetCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void pack_취소() {
+        // given
+        final List<NestingPart> partList = Collections.nCopies(4, new NestingPart(50, 50));
+        final SkylinePacker packer = new SkylinePacker(100, 100, 0);
+
+        // when
+        final NestingResult actualResult = packer.pack(partList, () -> true);
+
+        // then
+        Assertions.assertThat(actualResult).isNull();
+    }
+
+    @Test
+    public void estimate() {
+        // given
+        final List<NestingPart> partList = new ArrayList<>();
+        partList.addAll(Collections.nCopies(8, new NestingPart(600, 400)));
+        partList.addAll(Collections.nCopies(20, new NestingPart(200, 150)));
+        partList.addAll(Collections.nCopies(40, new NestingPart(80, 60)));
+        final double partArea = partList.stream().mapToDouble(NestingPart::area).sum();
+        final double sheetArea = 1219.2 * 2438.4;
+
+        // when
+        final NestingResult actualResult = nestingEstimator.estimate(partList, 1219.2, 2438.4);
+
+        // then
+        Assertions.assertThat(actualResult.sheetCount()).isGreaterThanOrEqualTo((int) Math.ceil(partArea / sheetArea));
+        Assertions.assertThat(actualResult.utilization()).isCloseTo(partArea / (actualResult.sheetCount() * sheetArea), Offset.offset(1e-6));
+    }
+
+    @Test
+    public void estimate_부품_없음() {
+        // when
+        final NestingResult actualResult = nestingEstimator.estimate(List.of(), 1219.2, 2438.4);
+
+        // then
+        Assertions.assertThat(actualResult.sheetCount()).isEqualTo(0);
+    }
+}
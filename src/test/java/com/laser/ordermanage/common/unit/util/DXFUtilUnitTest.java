@@ -0,0 +1,231 @@
+package com.laser.ordermanage.common.unit.util;
+
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.util.DXFPreview;
+import com.laser.ordermanage.common.util.DXFUtil;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+public class DXFUtilUnitTest {
+
+    @Test
+    public void extractPartList() throws Exception {
+        // given
+        // 100 x 50 사각형 (내부 원형 타공 포함) 과 떨어져 있는 반지름 10 원
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                line(0, 0, 100, 0), line(100, 0, 100, 50), line(100, 50, 0, 50), line(0, 50, 0, 0),
+                "0", "CIRCLE", "10", "50", "20", "25", "40", "5",
+                "0", "CIRCLE", "10", "200", "20", "200", "40", "10",
+                "0", "TEXT", "10", "500", "20", "500", "1", "NOTE",
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final List<NestingPart> actualPartList = extractSortedPartList(dxf);
+
+        // then
+        Assertions.assertThat(actualPartList).hasSize(2);
+        Assertions.assertThat(actualPartList.get(0).width()).isCloseTo(100, Offset.offset(1e-6));
+        Assertions.assertThat(actualPartList.get(0).height()).isCloseTo(50, Offset.offset(1e-6));
+        Assertions.assertThat(actualPartList.get(1).width()).isCloseTo(20, Offset.offset(1e-6));
+        Assertions.assertThat(actualPartList.get(1).height()).isCloseTo(20, Offset.offset(1e-6));
+    }
+
+    @Test
+    public void extractPartList_ARC_LWPOLYLINE() throws Exception {
+        // given
+        // 반지름 10 인 0 ~ 90 도 호와 양 끝점을 잇는 폴리라인으로 이루어진 부채꼴
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                "0", "ARC", "10", "0", "20", "0", "40", "10", "50", "0", "51", "90",
+                "0", "LWPOLYLINE", "90", "3", "10", "10", "20", "0", "10", "0", "20", "0", "10", "0", "20", "10",
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final List<NestingPart> actualPartList = extractSortedPartList(dxf);
+
+        // then
+        Assertions.assertThat(actualPartList).hasSize(1);
+        Assertions.assertThat(actualPartList.get(0).width()).isCloseTo(10, Offset.offset(1e-6));
+        Assertions.assertThat(actualPartList.get(0).height()).isCloseTo(10, Offset.offset(1e-6));
+    }
+
+    @Test
+    public void extractPartList_단위_변환() throws Exception {
+        // given
+        // $INSUNITS 1 : inch
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "HEADER", "9", "$INSUNITS", "70", "1", "0", "ENDSEC",
+                "0", "SECTION", "2", "ENTITIES",
+                line(0, 0, 2, 1),
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final List<NestingPart> actualPartList = extractSortedPartList(dxf);
+
+        // then
+        Assertions.assertThat(actualPartList).hasSize(1);
+        Assertions.assertThat(actualPartList.get(0).width()).isCloseTo(50.8, Offset.offset(1e-6));
+        Assertions.assertThat(actualPartList.get(0).height()).isCloseTo(25.4, Offset.offset(1e-6));
+    }
+
+    @Test
+    public void extractPartList_도면_파일() throws Exception {
+        // given
+        final String filePath = "src/test/resources/drawing/drawing.dxf";
+
+        // when
+        final List<NestingPart> actualPartList;
+        try (FileInputStream inputStream = new FileInputStream(filePath)) {
+            actualPartList = DXFUtil.extractPartList(inputStream);
+        }
+
+        // then
+        Assertions.assertThat(actualPartList).isNotEmpty();
+        Assertions.assertThat(actualPartList).allMatch(part -> part.width() >= 0 && part.height() >= 0);
+    }
+
+    @Test
+    public void extractCutMetrics() throws Exception {
+        // given
+        // 100 x 100 사각형 (LINE 4 개가 이어진 하나의 경로) 과 반지름 10 원
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                line(0, 0, 100, 0), line(100, 0, 100, 100), line(100, 100, 0, 100), line(0, 100, 0, 0),
+                "0", "CIRCLE", "10", "200", "20", "200", "40", "10",
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFUtil.CutMetrics actualCutMetrics = extractCutMetrics(dxf);
+
+        // then
+        Assertions.assertThat(actualCutMetrics.cutLength()).isCloseTo(400 + 2 * Math.PI * 10, Offset.offset(0.5));
+        Assertions.assertThat(actualCutMetrics.pierceCount()).isEqualTo(2);
+        Assertions.assertThat(actualCutMetrics.partArea()).isCloseTo(100 * 100 + 20 * 20, Offset.offset(2.0));
+    }
+
+    @Test
+    public void extractCutMetrics_열린_경로() throws Exception {
+        // given
+        // 서로 떨어진 두 선분은 각각 피어싱 필요
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                line(0, 0, 10, 0), line(50, 0, 60, 0),
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFUtil.CutMetrics actualCutMetrics = extractCutMetrics(dxf);
+
+        // then
+        Assertions.assertThat(actualCutMetrics.cutLength()).isCloseTo(20, Offset.offset(1e-6));
+        Assertions.assertThat(actualCutMetrics.pierceCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void extractCutMetrics_LWPOLYLINE_bulge() throws Exception {
+        // given
+        // bulge 1 (반원) 두 개로 이루어진 지름 10 닫힌 폴리라인
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                "0", "LWPOLYLINE", "90", "2", "70", "1", "10", "0", "20", "0", "42", "1", "10", "10", "20", "0", "42", "1",
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFUtil.CutMetrics actualCutMetrics = extractCutMetrics(dxf);
+
+        // then
+        Assertions.assertThat(actualCutMetrics.cutLength()).isCloseTo(Math.PI * 10, Offset.offset(0.5));
+        Assertions.assertThat(actualCutMetrics.pierceCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void extractCutMetrics_SPLINE() throws Exception {
+        // given
+        // 반지름 10 인 1/4 원을 나타내는 2 차 유리 스플라인 (NURBS)
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                "0", "SPLINE", "70", "8", "71", "2",
+                "40", "0", "40", "0", "40", "0", "40", "1", "40", "1", "40", "1",
+                "10", "10", "20", "0", "10", "10", "20", "10", "10", "0", "20", "10",
+                "41", "1", "41", String.valueOf(Math.sqrt(0.5)), "41", "1",
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFUtil.CutMetrics actualCutMetrics = extractCutMetrics(dxf);
+
+        // then
+        Assertions.assertThat(actualCutMetrics.cutLength()).isCloseTo(Math.PI * 5, Offset.offset(0.1));
+        Assertions.assertThat(actualCutMetrics.pierceCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void extractCutMetrics_도면_파일() throws Exception {
+        // given
+        final String filePath = "src/test/resources/drawing/drawing.dxf";
+
+        // when
+        final DXFUtil.CutMetrics actualCutMetrics;
+        try (FileInputStream inputStream = new FileInputStream(filePath)) {
+            actualCutMetrics = DXFUtil.extractCutMetrics(inputStream);
+        }
+
+        // then
+        Assertions.assertThat(actualCutMetrics.cutLength()).isPositive();
+        Assertions.assertThat(actualCutMetrics.pierceCount()).isPositive();
+    }
+
+    @Test
+    public void readPreview() throws Exception {
+        // given
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                line(0, 0, 100, 50),
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFPreview actualPreview = DXFUtil.readPreview(new ByteArrayInputStream(dxf.getBytes(StandardCharsets.ISO_8859_1)));
+
+        // then
+        Assertions.assertThat(actualPreview).isNotNull();
+        Assertions.assertThat(actualPreview.toImage(500).getWidth()).isEqualTo(500);
+        Assertions.assertThat(actualPreview.toSvg(100)).contains("d=\"M2 74L98 26\"");
+    }
+
+    @Test
+    public void readPreview_지원하지_않는_도형() throws Exception {
+        // given
+        // 블록 참조 (INSERT) 는 변환하지 않으므로 Aspose 로 썸네일 추출
+        final String dxf = String.join("\n",
+                "0", "SECTION", "2", "ENTITIES",
+                "0", "INSERT", "2", "BLOCK", "10", "0", "20", "0",
+                line(0, 0, 100, 50),
+                "0", "ENDSEC", "0", "EOF");
+
+        // when
+        final DXFPreview actualPreview = DXFUtil.readPreview(new ByteArrayInputStream(dxf.getBytes(StandardCharsets.ISO_8859_1)));
+
+        // then
+        Assertions.assertThat(actualPreview).isNull();
+    }
+
+    private static String line(double startX, double startY, double endX, double endY) {
+        return String.join("\n", "0", "LINE", "10", String.valueOf(startX), "20", String.valueOf(startY), "11", String.valueOf(endX), "21", String.valueOf(endY));
+    }
+
+    private static List<NestingPart> extractSortedPartList(String dxf) throws Exception {
+        return DXFUtil.extractPartList(new ByteArrayInputStream(dxf.getBytes(StandardCharsets.ISO_8859_1))).stream()
+                .sorted(Comparator.comparingDouble(NestingPart::area).reversed())
+                .toList();
+    }
+
+    private static DXFUtil.CutMetrics extractCutMetrics(String dxf) throws Exception {
+        return DXFUtil.extractCutMetrics(new ByteArrayInputStream(dxf.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+}
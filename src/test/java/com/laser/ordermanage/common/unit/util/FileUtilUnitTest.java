@@ -0,0 +1,41 @@
+package com.laser.ordermanage.common.unit.util;
+
+import com.laser.ordermanage.common.util.FileUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class FileUtilUnitTest {
+
+    /**
+     * 파일 앞부분 (magic bytes) 이 확장자의 파일 형식과 일치
+     */
+    @Test
+    public void matchesSignature() throws Exception {
+        Assertions.assertThat(FileUtil.matchesSignature("dwg", readHeader("src/test/resources/drawing/drawing.dwg"))).isTrue();
+        Assertions.assertThat(FileUtil.matchesSignature("dxf", readHeader("src/test/resources/drawing/drawing.dxf"))).isTrue();
+        Assertions.assertThat(FileUtil.matchesSignature("pdf", readHeader("src/test/resources/drawing/drawing.pdf"))).isTrue();
+        Assertions.assertThat(FileUtil.matchesSignature("png", readHeader("src/test/resources/drawing/drawing.png"))).isTrue();
+    }
+
+    /**
+     * 확장자와 다른 형식의 파일은 일치하지 않음
+     */
+    @Test
+    public void matchesSignature_다른_파일_형식() throws Exception {
+        Assertions.assertThat(FileUtil.matchesSignature("dwg", readHeader("src/test/resources/drawing/drawing.pdf"))).isFalse();
+        Assertions.assertThat(FileUtil.matchesSignature("dxf", readHeader("src/test/resources/drawing/drawing.png"))).isFalse();
+        Assertions.assertThat(FileUtil.matchesSignature("pdf", readHeader("src/test/resources/drawing/drawing.dxf"))).isFalse();
+        Assertions.assertThat(FileUtil.matchesSignature("jpg", readHeader("src/test/resources/drawing/drawing.png"))).isFalse();
+        Assertions.assertThat(FileUtil.matchesSignature("png", new byte[0])).isFalse();
+    }
+
+    private static byte[] readHeader(String filePath) throws IOException {
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            return inputStream.readNBytes(FileUtil.SIGNATURE_LENGTH);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.laser.ordermanage.common.unit.util;
+
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.FutureUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class FutureUtilUnitTest {
+
+    @Test
+    public void join() {
+        // given
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> "file-url");
+
+        // when
+        final String actualResult = FutureUtil.join(future);
+
+        // then
+        Assertions.assertThat(actualResult).isEqualTo("file-url");
+    }
+
+    /**
+     * 비동기 작업에서 발생한 CustomCommonException 은 CompletionException 으로 감싸지 않고 전달
+     */
+    @Test
+    public void join_CustomCommonException() {
+        // given
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            throw new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD);
+        });
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> FutureUtil.join(future))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(CommonErrorCode.UNABLE_TO_AWS_S3_UPLOAD.getMessage());
+    }
+
+    @Test
+    public void join_RuntimeException() {
+        // given
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException();
+        });
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> FutureUtil.join(future))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
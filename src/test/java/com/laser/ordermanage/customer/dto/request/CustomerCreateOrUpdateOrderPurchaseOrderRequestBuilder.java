@@ -4,30 +4,34 @@ import java.time.LocalDate;
 
 public class CustomerCreateOrUpdateOrderPurchaseOrderRequestBuilder {
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest build() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 11, 2), "신규 검수 조건", LocalDate.of(2023, 11, 2));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 11, 2), "신규 검수 조건", LocalDate.of(2023, 11, 2), null);
+    }
+
+    public static CustomerCreateOrUpdateOrderPurchaseOrderRequest fileUploadBuild() {
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 11, 2), "신규 검수 조건", LocalDate.of(2023, 11, 2), "upload-id");
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest nullInspectionPeriodBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(null, "신규 검수 조건", LocalDate.of(2023, 10, 25));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(null, "신규 검수 조건", LocalDate.of(2023, 10, 25), null);
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest nullInspectionConditionBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), null, LocalDate.of(2023, 10, 25));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), null, LocalDate.of(2023, 10, 25), null);
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest emptyInspectionConditionBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "", LocalDate.of(2023, 10, 25));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "", LocalDate.of(2023, 10, 25), null);
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest nullPaymentDateBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "신규 검수 조건", null);
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "신규 검수 조건", null, null);
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest earlyInspectionPeriodBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 12), "신규 검수 조건", LocalDate.of(2023, 10, 25));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 12), "신규 검수 조건", LocalDate.of(2023, 10, 25), null);
     }
 
     public static CustomerCreateOrUpdateOrderPurchaseOrderRequest earlyPaymentDateBuild() {
-        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "신규 검수 조건", LocalDate.of(2023, 10, 12));
+        return new CustomerCreateOrUpdateOrderPurchaseOrderRequest(LocalDate.of(2023, 10, 25), "신규 검수 조건", LocalDate.of(2023, 10, 12), null);
     }
 }
@@ -0,0 +1,16 @@
+package com.laser.ordermanage.customer.dto.request;
+
+import java.util.List;
+
+public class CustomerReIssueOrderRequestBuilder {
+
+    public static CustomerReIssueOrderRequest build() {
+        CustomerCreateOrderDeliveryAddressRequest deliveryAddress = CustomerCreateOrderDeliveryAddressRequestBuilder.build();
+        return new CustomerReIssueOrderRequest("재발급 거래 이름", List.of("laser-cutting", "bending"), List.of("painting", "plating"), "거래 요청 사항", deliveryAddress);
+    }
+
+    public static CustomerReIssueOrderRequest emptyNameBuild() {
+        CustomerCreateOrderDeliveryAddressRequest deliveryAddress = CustomerCreateOrderDeliveryAddressRequestBuilder.build();
+        return new CustomerReIssueOrderRequest("", List.of("laser-cutting", "bending"), List.of("painting", "plating"), "거래 요청 사항", deliveryAddress);
+    }
+}
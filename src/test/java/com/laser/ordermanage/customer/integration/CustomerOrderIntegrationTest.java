@@ -8,8 +8,11 @@ import com.laser.ordermanage.customer.dto.response.CustomerCreateDrawingResponse
 import com.laser.ordermanage.customer.dto.response.CustomerCreateOrUpdateOrderPurchaseOrderResponse;
 import com.laser.ordermanage.customer.dto.response.CustomerCreateOrUpdateOrderPurchaseOrderResponseBuilder;
 import com.laser.ordermanage.customer.exception.CustomerErrorCode;
+import com.laser.ordermanage.order.domain.DrawingFile;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
 import com.laser.ordermanage.order.domain.type.Stage;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.repository.DrawingFileRepository;
 import com.laser.ordermanage.user.exception.UserErrorCode;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,6 +42,9 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
     @Autowired
     private JwtBuilder jwtBuilder;
 
+    @Autowired
+    private DrawingFileRepository drawingFileRepository;
+
     /**
      * 고객 회원의 거래 생성 성공
      */
@@ -46,6 +53,7 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
         // given
         final String accessToken = jwtBuilder.accessJwtBuildOfCustomer();
         final CustomerCreateOrderRequest request = CustomerCreateOrderRequestBuilder.build();
+        saveDrawingFile(request.drawingList().get(0).fileUrl());
 
         // when
         final ResultActions resultActions = requestCreateOrder(accessToken, request);
@@ -138,6 +146,41 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
         assertError(UserErrorCode.INVALID_JWT, resultActions);
     }
 
+    /**
+     * 재발급 거래 생성 성공
+     */
+    @Test
+    public void 재발급_거래_생성_성공() throws Exception {
+        // given
+        final String accessToken = jwtBuilder.accessJwtBuildOfCustomer();
+        final String orderId = "3";
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.build();
+
+        // when
+        final ResultActions resultActions = requestReIssueOrder(accessToken, orderId, request);
+
+        // then
+        resultActions.andExpect(status().isOk());
+    }
+
+    /**
+     * 재발급 거래 생성 실패
+     * - 실패 사유 : 거래에 대한 접근 권한이 없음
+     */
+    @Test
+    public void 재발급_거래_생성_실패_거래_접근_권한() throws Exception {
+        // given
+        final String accessTokenOfUser2 = jwtBuilder.accessJwtBuildOfSocialCustomer();
+        final String orderId = "3";
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.build();
+
+        // when
+        final ResultActions resultActions = requestReIssueOrder(accessTokenOfUser2, orderId, request);
+
+        // then
+        assertError(OrderErrorCode.DENIED_ACCESS_TO_ORDER, resultActions);
+    }
+
     /**
      * 거래 배송지 수정 성공
      */
@@ -308,6 +351,7 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
         final String orderId = "3";
         final CustomerCreateDrawingRequest request = CustomerCreateDrawingRequestBuilder.build();
         final CustomerCreateDrawingResponse expectedResponse = CustomerCreateDrawingResponseBuilder.build();
+        saveDrawingFile(request.fileUrl());
 
         // when
         final ResultActions resultActions = requestCreateOrderDrawing(accessToken, orderId, request);
@@ -928,7 +972,7 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
         final CustomerCreateOrUpdateOrderPurchaseOrderResponse expectedResponse = CustomerCreateOrUpdateOrderPurchaseOrderResponseBuilder.createBuild();
 
         // stub
-        when(s3Service.upload(any(), (MultipartFile) any(), eq("purchase-order.png"))).thenReturn(expectedResponse.fileUrl());
+        when(s3Service.uploadAsync(any(), (MultipartFile) any(), eq("purchase-order.png"))).thenReturn(CompletableFuture.completedFuture(expectedResponse.fileUrl()));
 
         // when
         final ResultActions resultActions = requestCreateOrUpdateOrderPurchaseOrder(accessToken, orderId, file, request);
@@ -1193,6 +1237,14 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
                 .andDo(print());
     }
 
+    private ResultActions requestReIssueOrder(String accessToken, String orderId, CustomerReIssueOrderRequest request) throws Exception {
+        return mvc.perform(post("/customer/order/{order-id}/re-issue", orderId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print());
+    }
+
     private ResultActions requestCreateOrderWithOutAccessToken(CustomerCreateOrderRequest request) throws Exception {
         return mvc.perform(post("/customer/order")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1327,4 +1379,16 @@ public class CustomerOrderIntegrationTest extends IntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print());
     }
+
+    // 도면 생성 시 사용하는 업로드된 도면 파일 정보 저장
+    private void saveDrawingFile(String fileUrl) {
+        drawingFileRepository.save(
+                DrawingFile.builder()
+                        .fileHash("file-hash")
+                        .fileType(DrawingFileType.DWG)
+                        .fileUrl(fileUrl)
+                        .fileSize(140801L)
+                        .build()
+        );
+    }
 }
@@ -39,6 +39,9 @@ import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -571,6 +574,71 @@ public class CustomerOrderAPIUnitTest extends APIUnitTest {
         assertErrorWithMessage(CommonErrorCode.INVALID_REQUEST_BODY_FIELDS, resultActions, "신규 발급 유무는 필수 사항입니다.");
     }
 
+    /**
+     * 재발급 거래 생성 성공
+     */
+    @Test
+    @WithMockUser(roles = {"CUSTOMER"})
+    public void 재발급_거래_생성_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.build();
+        final Long reIssuedOrderId = 2L;
+
+        // stub
+        when(customerOrderService.reIssueOrder(any(), any(), any())).thenReturn(reIssuedOrderId);
+
+        // when
+        final ResultActions resultActions = requestReIssueOrder(accessToken, orderId, request);
+
+        // then
+        resultActions.andExpect(status().isOk());
+        verify(customerOrderEmailService, times(1)).sendEmailForCreateOrder(reIssuedOrderId);
+    }
+
+    /**
+     * 재발급 거래 생성 실패
+     * - 실패 사유 : 거래 이름 필드 empty
+     */
+    @Test
+    @WithMockUser(roles = {"CUSTOMER"})
+    public void 재발급_거래_생성_실패_이름_필드_empty() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.emptyNameBuild();
+
+        // when
+        final ResultActions resultActions = requestReIssueOrder(accessToken, orderId, request);
+
+        // then
+        assertErrorWithMessage(CommonErrorCode.INVALID_REQUEST_BODY_FIELDS, resultActions, "거래 이름은 필수 입력값입니다.");
+    }
+
+    /**
+     * 재발급 거래 생성 실패
+     * - 실패 사유 : 거래에 대한 접근 권한이 없음
+     */
+    @Test
+    @WithMockUser(roles = {"CUSTOMER"})
+    public void 재발급_거래_생성_실패_거래_접근_권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.build();
+
+        // stub
+        doThrow(new CustomCommonException(OrderErrorCode.DENIED_ACCESS_TO_ORDER)).when(customerOrderService).checkAuthorityOfOrder(any(), any());
+
+        // when
+        final ResultActions resultActions = requestReIssueOrder(accessToken, orderId, request);
+
+        // then
+        assertError(OrderErrorCode.DENIED_ACCESS_TO_ORDER, resultActions);
+        verify(customerOrderService, never()).reIssueOrder(any(), any(), any());
+    }
+
     /**
      * 거래 배송지 수정 성공
      */
@@ -1932,6 +2000,14 @@ public class CustomerOrderAPIUnitTest extends APIUnitTest {
                 .andDo(print());
     }
 
+    private ResultActions requestReIssueOrder(String accessToken, String orderId, CustomerReIssueOrderRequest request) throws Exception {
+        return mvc.perform(post("/customer/order/{order-id}/re-issue", orderId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print());
+    }
+
     private ResultActions requestUpdateOrderDeliveryAddress(String accessToken, String orderId, CustomerUpdateOrderDeliveryAddressRequest request) throws Exception {
         return mvc.perform(patch("/customer/order/{order-id}/delivery-address", orderId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -3,6 +3,7 @@ package com.laser.ordermanage.customer.unit.service;
 import com.laser.ordermanage.common.ServiceUnitTest;
 import com.laser.ordermanage.common.component.FileComponent;
 import com.laser.ordermanage.common.entity.FileBuilder;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.customer.domain.DeliveryAddress;
 import com.laser.ordermanage.customer.domain.DeliveryAddressBuilder;
@@ -12,7 +13,9 @@ import com.laser.ordermanage.customer.dto.response.CustomerCreateOrUpdateOrderPu
 import com.laser.ordermanage.customer.service.CustomerDeliveryAddressService;
 import com.laser.ordermanage.customer.service.CustomerOrderService;
 import com.laser.ordermanage.customer.service.CustomerUserAccountService;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.order.domain.*;
+import com.laser.ordermanage.order.domain.type.FileType;
 import com.laser.ordermanage.order.domain.type.Stage;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.repository.CommentRepository;
@@ -23,13 +26,17 @@ import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.FileInputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -66,6 +73,12 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
     @Mock
     private DrawingService drawingService;
 
+    @Mock
+    private IngredientDemandService ingredientDemandService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     /**
      * 거래 생성 성공
      */
@@ -89,6 +102,45 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
         verify(drawingRepository, times(1)).saveAll(any());
     }
 
+    /**
+     * 재발급 거래 생성 성공
+     * - 이전 거래의 대표 이미지를 사용하는 재발급 거래 (신규 발급 아님) 생성
+     * - 이전 거래 도면을 복사하고, 복사한 도면 수만큼 도면 파일 사용 수 증가
+     */
+    @Test
+    public void reIssueOrder_성공() {
+        // given
+        final Order previousOrder = OrderBuilder.build();
+        final Order expectedOrder = OrderBuilder.build();
+        final List<String> fileUrlList = List.of("file-url-1", "file-url-2", "file-url-1");
+
+        final String userEmail = "user@gmail.com";
+        final Long orderId = 1L;
+        final CustomerReIssueOrderRequest request = CustomerReIssueOrderRequestBuilder.build();
+
+        // stub
+        when(customerUserAccountService.getCustomerByUserEmail(userEmail)).thenReturn(previousOrder.getCustomer());
+        when(orderService.getOrderById(orderId)).thenReturn(previousOrder);
+        when(orderRepository.save(any())).thenReturn(expectedOrder);
+        when(drawingRepository.findFileUrlByOrderList(List.of(orderId))).thenReturn(fileUrlList);
+
+        // when
+        final Long actualOrderId = customerOrderService.reIssueOrder(userEmail, orderId, request);
+
+        // then
+        Assertions.assertThat(actualOrderId).isEqualTo(expectedOrder.getId());
+
+        final ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, times(1)).save(orderCaptor.capture());
+        final Order actualOrder = orderCaptor.getValue();
+        Assertions.assertThat(actualOrder.getIsNewIssue()).isFalse();
+        Assertions.assertThat(actualOrder.getImgUrl()).isEqualTo(previousOrder.getImgUrl());
+        Assertions.assertThat(actualOrder.getName()).isEqualTo(request.name());
+
+        verify(drawingRepository, times(1)).copyAllByOrder(orderId, expectedOrder.getId());
+        verify(drawingService, times(1)).increaseFileReferenceOfFileUrl(fileUrlList);
+    }
+
     /**
      * 거래 베송지 수정 성공
      */
@@ -346,6 +398,7 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
 
         // then
         Assertions.assertThat(order.getStage()).isEqualTo(Stage.QUOTE_APPROVAL);
+        verify(ingredientDemandService, times(1)).saveDemandByOrderList(List.of(orderId));
     }
 
     /**
@@ -413,8 +466,9 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
 
         // stub
         when(orderService.getOrderById(orderId)).thenReturn(order);
-        when(fileComponent.uploadFile(any(), any())).thenReturn(FileBuilder.purchaseOrderFileBuild());
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(FileBuilder.purchaseOrderFileBuild()));
         when(purchaseOrderRepository.save(any())).thenReturn(purchaseOrder);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplate).execute(any());
 
         // when
         final CustomerCreateOrUpdateOrderPurchaseOrderResponse actualResponse = customerOrderService.createOrderPurchaseOrder(orderId, file, request);
@@ -424,6 +478,36 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    /**
+     * 거래 발주서 작성 성공
+     * - 직접 업로드한 발주서 파일의 업로드 완료 확인 후 사용
+     */
+    @Test
+    public void createOrderPurchaseOrder_성공_업로드_ID() {
+        // given
+        final Order order = OrderBuilder.build();
+        final Quotation quotation = QuotationBuilder.build();
+        order.createQuotation(quotation);
+        final PurchaseOrder purchaseOrder = PurchaseOrderBuilder.build();
+
+        final Long orderId = 1L;
+        final CustomerCreateOrUpdateOrderPurchaseOrderRequest request = CustomerCreateOrUpdateOrderPurchaseOrderRequestBuilder.fileUploadBuild();
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.confirmUpload(eq(request.fileUploadId()), any())).thenReturn(FileBuilder.purchaseOrderFileBuild());
+        when(purchaseOrderRepository.save(any())).thenReturn(purchaseOrder);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplate).execute(any());
+
+        // when
+        customerOrderService.createOrderPurchaseOrder(orderId, null, request);
+
+        // then
+        Assertions.assertThat(order.getPurchaseOrder()).isNotNull();
+        verify(fileComponent, never()).uploadFileAsync(any(), any());
+        verify(purchaseOrderRepository, times(1)).save(argThat(savedPurchaseOrder -> savedPurchaseOrder.getFile().getUrl().equals(FileBuilder.purchaseOrderFileBuild().getUrl())));
+    }
+
     /**
      * 거래 발주서 작성 실패
      * - 실패 사유 : 발주서의 검수기간이 거래 납기일 이전임
@@ -444,14 +528,17 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
                 new FileInputStream(filePath)
         );
         final CustomerCreateOrUpdateOrderPurchaseOrderRequest request = CustomerCreateOrUpdateOrderPurchaseOrderRequestBuilder.earlyInspectionPeriodBuild();
+        final CompletableFuture<FileEntity<FileType>> purchaseOrderFileFuture = new CompletableFuture<>();
 
         // stub
         when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(purchaseOrderFileFuture);
 
         // when & then
         Assertions.assertThatThrownBy(() -> customerOrderService.createOrderPurchaseOrder(orderId, file, request))
                 .isInstanceOf(CustomCommonException.class)
                 .hasMessage(OrderErrorCode.INVALID_PURCHASE_ORDER_INSPECTION_PERIOD.getMessage());
+        verify(fileComponent, times(1)).cancelUploadAsync(purchaseOrderFileFuture);
     }
 
     /**
@@ -474,14 +561,17 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
                 new FileInputStream(filePath)
         );
         final CustomerCreateOrUpdateOrderPurchaseOrderRequest request = CustomerCreateOrUpdateOrderPurchaseOrderRequestBuilder.earlyPaymentDateBuild();
+        final CompletableFuture<FileEntity<FileType>> purchaseOrderFileFuture = new CompletableFuture<>();
 
         // stub
         when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(purchaseOrderFileFuture);
 
         // when & then
         Assertions.assertThatThrownBy(() -> customerOrderService.createOrderPurchaseOrder(orderId, file, request))
                 .isInstanceOf(CustomCommonException.class)
                 .hasMessage(OrderErrorCode.INVALID_PURCHASE_ORDER_PAYMENT_DATE.getMessage());
+        verify(fileComponent, times(1)).cancelUploadAsync(purchaseOrderFileFuture);
     }
 
     /**
@@ -607,6 +697,7 @@ public class CustomerOrderServiceUnitTest extends ServiceUnitTest {
         customerOrderService.deleteOrderByStageNotCompleted(email);
 
         // then
+        verify(ingredientDemandService, times(1)).deleteDemandByOrderList(orderIdList);
         verify(drawingRepository, times(1)).deleteAllByOrderList(orderIdList);
         verify(commentRepository, times(1)).deleteAllByOrderList(orderIdList);
         verify(orderRepository, times(1)).deleteAllByIdIn(orderIdList);
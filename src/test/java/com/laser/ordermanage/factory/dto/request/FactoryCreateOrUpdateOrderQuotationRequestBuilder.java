@@ -4,18 +4,22 @@ import java.time.LocalDate;
 
 public class FactoryCreateOrUpdateOrderQuotationRequestBuilder {
     public static FactoryCreateOrUpdateOrderQuotationRequest build() {
-        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, LocalDate.of(2023, 10, 27));
+        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, LocalDate.of(2023, 10, 27), null);
+    }
+
+    public static FactoryCreateOrUpdateOrderQuotationRequest fileUploadBuild() {
+        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, LocalDate.of(2023, 10, 27), "upload-id");
     }
 
     public static FactoryCreateOrUpdateOrderQuotationRequest nullTotalCostBuild() {
-        return new FactoryCreateOrUpdateOrderQuotationRequest(null, LocalDate.of(2023, 10, 27));
+        return new FactoryCreateOrUpdateOrderQuotationRequest(null, LocalDate.of(2023, 10, 27), null);
     }
 
     public static FactoryCreateOrUpdateOrderQuotationRequest nullDeliveryDate() {
-        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, null);
+        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, null, null);
     }
 
     public static FactoryCreateOrUpdateOrderQuotationRequest earlyDeliveryDateBuild() {
-        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, LocalDate.of(2023, 10, 11));
+        return new FactoryCreateOrUpdateOrderQuotationRequest(50000000L, LocalDate.of(2023, 10, 11), null);
     }
 }
@@ -2,26 +2,30 @@ package com.laser.ordermanage.factory.dto.request;
 
 public class FactoryCreateOrderAcquirerRequestBuilder {
     public static FactoryCreateOrderAcquirerRequest build() {
-        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", "01012121212");
+        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", "01012121212", null);
+    }
+
+    public static FactoryCreateOrderAcquirerRequest fileUploadBuild() {
+        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", "01012121212", "upload-id");
     }
 
     public static FactoryCreateOrderAcquirerRequest nullNameBuild() {
-        return new FactoryCreateOrderAcquirerRequest(null, "01012121212");
+        return new FactoryCreateOrderAcquirerRequest(null, "01012121212", null);
     }
 
     public static FactoryCreateOrderAcquirerRequest emptyNameBuild() {
-        return new FactoryCreateOrderAcquirerRequest("", "01012121212");
+        return new FactoryCreateOrderAcquirerRequest("", "01012121212", null);
     }
 
     public static FactoryCreateOrderAcquirerRequest invalidNameBuild() {
-        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름".repeat(2), "01012121212");
+        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름".repeat(2), "01012121212", null);
     }
 
     public static FactoryCreateOrderAcquirerRequest nullPhoneBuild() {
-        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", null);
+        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", null, null);
     }
 
     public static FactoryCreateOrderAcquirerRequest invalidPhoneBuild() {
-        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", "invalid-phone");
+        return new FactoryCreateOrderAcquirerRequest("인수자 1 이름", "invalid-phone", null);
     }
 }
@@ -0,0 +1,17 @@
+package com.laser.ordermanage.factory.dto.response;
+
+import java.util.List;
+
+public class FactoryGetOrderNestingResponseBuilder {
+    public static FactoryGetOrderNestingResponse build() {
+        return FactoryGetOrderNestingResponse.builder()
+                .ingredientId(1L)
+                .ingredientWidth(4)
+                .ingredientHeight(8)
+                .partCount(10)
+                .sheetCount(1)
+                .utilization(0.067)
+                .excludedDrawingIdList(List.of())
+                .build();
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -194,7 +195,7 @@ public class FactoryOrderIntegrationTest extends IntegrationTest {
         final FactoryCreateOrUpdateOrderQuotationResponse expectedResponse = FactoryCreateOrUpdateOrderQuotationResponseBuilder.createBuild();
 
         // stub
-        when(s3Service.upload(any(), (MultipartFile) any(), eq("quotation.xlsx"))).thenReturn("https://ordermanage.s3.ap-northeast-2.amazonaws.com/quotation.xlsx");
+        when(s3Service.uploadAsync(any(), (MultipartFile) any(), eq("quotation.xlsx"))).thenReturn(CompletableFuture.completedFuture("https://ordermanage.s3.ap-northeast-2.amazonaws.com/quotation.xlsx"));
 
         // when
         final ResultActions resultActions = requestCreateOrUpdateOrderQuotation(accessToken, orderId, file, request);
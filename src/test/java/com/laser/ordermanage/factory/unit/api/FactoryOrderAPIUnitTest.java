@@ -9,6 +9,8 @@ import com.laser.ordermanage.factory.dto.request.*;
 import com.laser.ordermanage.factory.dto.response.*;
 import com.laser.ordermanage.factory.service.FactoryOrderEmailService;
 import com.laser.ordermanage.factory.service.FactoryOrderService;
+import com.laser.ordermanage.ingredient.exception.IngredientErrorCode;
+import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.order.domain.*;
 import com.laser.ordermanage.order.domain.type.Stage;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
@@ -58,6 +60,9 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
     @MockBean
     private ScheduleService scheduleService;
 
+    @MockBean
+    private IngredientService ingredientService;
+
     @BeforeEach
     public void setUp() {
         mvc = buildMockMvc(context);
@@ -858,6 +863,36 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
         resultActions.andExpect(status().isOk());
     }
 
+    /**
+     * 거래 완료 - 직접 업로드한 인수자 서명 파일의 업로드 ID 로 인수자 정보 및 서명 등록 후, 거래 완료 성공
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 거래_완료_성공_업로드_ID() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final FactoryCreateOrderAcquirerRequest request = FactoryCreateOrderAcquirerRequestBuilder.fileUploadBuild();
+
+        final Order order = OrderBuilder.build();
+        final Quotation quotation = QuotationBuilder.build();
+        order.createQuotation(quotation);
+        order.approveQuotation();
+        final PurchaseOrder purchaseOrder = PurchaseOrderBuilder.build();
+        order.createPurchaseOrder(purchaseOrder);
+        order.approvePurchaseOrder();
+        order.changeStageToProductionCompleted();
+
+        // stub
+        when(orderService.getOrderById(any())).thenReturn(order);
+
+        // when
+        final ResultActions resultActions = requestChangeStageToCompletedWithOutFile(accessToken, orderId, request);
+
+        // then
+        resultActions.andExpect(status().isOk());
+    }
+
     /**
      * 거래 완료 - 인수자 정보 및 서명 등록 후, 거래 완료 실패
      * - 실패 사유 : 고객 역할 (CUSTOMER)에 의한 요청
@@ -952,7 +987,7 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
         final ResultActions resultActions = requestChangeStageToCompletedWithOutFile(accessToken, orderId, request);
 
         // then
-        assertErrorWithMessage(CommonErrorCode.REQUIRED_PARAMETER, resultActions, "file");
+        assertError(OrderErrorCode.REQUIRED_SIGNATURE_FILE, resultActions);
     }
 
     /**
@@ -972,7 +1007,7 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
         final ResultActions resultActions = requestChangeStageToCompleted(accessToken, orderId, emptyFile, request);
 
         // then
-        assertErrorWithMessage(CommonErrorCode.INVALID_PARAMETER, resultActions, "인수자 서명 파일은 필수 입력값입니다.");
+        assertError(OrderErrorCode.REQUIRED_SIGNATURE_FILE, resultActions);
     }
 
     /**
@@ -1352,6 +1387,94 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
         assertError(OrderErrorCode.NOT_FOUND_PURCHASE_ORDER, resultActions);
     }
 
+    /**
+     * 거래의 자재 원판 소요량 추정 성공
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 거래_자재_원판_소요량_추정_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final String ingredientId = "1";
+        final FactoryGetOrderNestingResponse expectedResponse = FactoryGetOrderNestingResponseBuilder.build();
+
+        // stub
+        when(factoryOrderService.getOrderNesting(any(), any())).thenReturn(expectedResponse);
+
+        // when
+        final ResultActions resultActions = requestGetOrderNesting(accessToken, orderId, ingredientId);
+
+        // then
+        final String responseString = resultActions
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        final FactoryGetOrderNestingResponse actualResponse = objectMapper.readValue(responseString, FactoryGetOrderNestingResponse.class);
+
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 실패
+     * - 실패 사유 : 고객 역할 (CUSTOMER)에 의한 요청
+     */
+    @Test
+    @WithMockUser(roles = {"CUSTOMER"})
+    public void 거래_자재_원판_소요량_추정_실패_역할() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final String ingredientId = "1";
+
+        // when
+        final ResultActions resultActions = requestGetOrderNesting(accessToken, orderId, ingredientId);
+
+        // then
+        assertError(UserErrorCode.DENIED_ACCESS, resultActions);
+    }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 실패
+     * - 실패 사유 : 관리자 권한(Authority Admin)이 없음
+     */
+    @Test
+    @WithMockUser(roles = {"FACTORY"})
+    public void 거래_자재_원판_소요량_추정_실패_사용자_권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final String ingredientId = "1";
+
+        // when
+        final ResultActions resultActions = requestGetOrderNesting(accessToken, orderId, ingredientId);
+
+        // then
+        assertError(UserErrorCode.DENIED_ACCESS, resultActions);
+    }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 실패
+     * - 실패 사유 : 자재에 대한 접근 권한이 없음
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 거래_자재_원판_소요량_추정_실패_자재접근권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+        final String ingredientId = "1";
+
+        // stub
+        doThrow(new CustomCommonException(IngredientErrorCode.DENIED_ACCESS_TO_INGREDIENT)).when(ingredientService).checkAuthorityOfIngredient(any(), any());
+
+        // when
+        final ResultActions resultActions = requestGetOrderNesting(accessToken, orderId, ingredientId);
+
+        // then
+        assertError(IngredientErrorCode.DENIED_ACCESS_TO_INGREDIENT, resultActions);
+    }
+
     private ResultActions requestUpdateOrderIsUrgent(String accessToken, String orderId, FactoryUpdateOrderIsUrgentRequest request) throws Exception {
         return mvc.perform(patch("/factory/order/{order-id}/urgent", orderId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -1438,7 +1561,7 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
         MockMultipartHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart("/factory/order/{order-id}/stage/completed", orderId);
 
         String requestJson = objectMapper.writeValueAsString(request);
-        MockMultipartFile acquire = new MockMultipartFile("acquire", "acquire", MediaType.APPLICATION_JSON_VALUE, requestJson.getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile acquire = new MockMultipartFile("acquirer", "acquirer", MediaType.APPLICATION_JSON_VALUE, requestJson.getBytes(StandardCharsets.UTF_8));
 
         return mvc.perform(builder
                         .file(acquire)
@@ -1458,4 +1581,11 @@ public class FactoryOrderAPIUnitTest extends APIUnitTest {
                         .header("Authorization", "Bearer " + accessToken))
                 .andDo(print());
     }
+
+    private ResultActions requestGetOrderNesting(String accessToken, String orderId, String ingredientId) throws Exception {
+        return mvc.perform(get("/factory/order/{order-id}/nesting", orderId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("ingredient-id", ingredientId))
+                .andDo(print());
+    }
 }
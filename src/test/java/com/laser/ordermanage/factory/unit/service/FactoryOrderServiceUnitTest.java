@@ -1,17 +1,30 @@
 package com.laser.ordermanage.factory.unit.service;
 
 import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
 import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.dto.request.CreateFileUploadUrlRequest;
+import com.laser.ordermanage.common.dto.response.CreateFileUploadUrlResponse;
 import com.laser.ordermanage.common.entity.FileBuilder;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.nesting.NestingEstimator;
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.nesting.NestingResult;
 import com.laser.ordermanage.factory.dto.request.*;
 import com.laser.ordermanage.factory.dto.response.*;
 import com.laser.ordermanage.factory.service.FactoryOrderService;
+import com.laser.ordermanage.ingredient.domain.Ingredient;
+import com.laser.ordermanage.ingredient.domain.IngredientBuilder;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
+import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.order.domain.*;
+import com.laser.ordermanage.order.domain.type.FileType;
 import com.laser.ordermanage.order.domain.type.Stage;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.repository.AcquirerRepository;
 import com.laser.ordermanage.order.repository.QuotationRepository;
+import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,12 +33,19 @@ import org.mockito.Mock;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
 
@@ -44,6 +64,21 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private IngredientDemandService ingredientDemandService;
+
+    @Mock
+    private IngredientService ingredientService;
+
+    @Mock
+    private DrawingService drawingService;
+
+    @Mock
+    private NestingEstimator nestingEstimator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     /**
      * 거래 긴급 설정 성공
      */
@@ -110,8 +145,9 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
 
         // stub
         when(orderService.getOrderById(orderId)).thenReturn(order);
-        when(fileComponent.uploadFile(any(), any())).thenReturn(FileBuilder.quotationFileBuild());
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(FileBuilder.quotationFileBuild()));
         when(quotationRepository.save(any())).thenReturn(quotation);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplate).execute(any());
 
         // when
         final FactoryCreateOrUpdateOrderQuotationResponse actualResponse = factoryOrderService.createOrderQuotation(orderId, file, request);
@@ -121,6 +157,59 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    /**
+     * 거래 견적서 작성 성공
+     * - 직접 업로드한 견적서 파일의 업로드 완료 확인 후 사용
+     */
+    @Test
+    public void createOrderQuotation_성공_업로드_ID() {
+        // given
+        final Order order = OrderBuilder.build();
+        ReflectionTestUtils.setField(order, "createdAt", LocalDateTime.of(2023, 10, 2, 10, 20, 30));
+        final Quotation quotation = QuotationBuilder.build();
+
+        final Long orderId = 1L;
+        final FactoryCreateOrUpdateOrderQuotationRequest request = FactoryCreateOrUpdateOrderQuotationRequestBuilder.fileUploadBuild();
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.confirmUpload(eq(request.fileUploadId()), any())).thenReturn(FileBuilder.quotationFileBuild());
+        when(quotationRepository.save(any())).thenReturn(quotation);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplate).execute(any());
+
+        // when
+        factoryOrderService.createOrderQuotation(orderId, null, request);
+
+        // then
+        Assertions.assertThat(order.getQuotation()).isNotNull();
+        verify(fileComponent, never()).uploadFileAsync(any(), any());
+        verify(quotationRepository, times(1)).save(argThat(savedQuotation -> savedQuotation.getFile().getUrl().equals(FileBuilder.quotationFileBuild().getUrl())));
+    }
+
+    /**
+     * 거래 견적서 작성 실패
+     * - 실패 사유 : 견적서 저장 실패 (업로드한 견적서 파일 삭제)
+     */
+    @Test
+    public void createOrderQuotation_실패_저장() {
+        // given
+        final Order order = OrderBuilder.build();
+        ReflectionTestUtils.setField(order, "createdAt", LocalDateTime.of(2023, 10, 2, 10, 20, 30));
+
+        final Long orderId = 1L;
+        final FactoryCreateOrUpdateOrderQuotationRequest request = FactoryCreateOrUpdateOrderQuotationRequestBuilder.fileUploadBuild();
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.confirmUpload(eq(request.fileUploadId()), any())).thenReturn(FileBuilder.quotationFileBuild());
+        when(transactionTemplate.execute(any())).thenThrow(new CannotCreateTransactionException("connection"));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> factoryOrderService.createOrderQuotation(orderId, null, request))
+                .isInstanceOf(CannotCreateTransactionException.class);
+        verify(fileComponent, times(1)).deleteFileQuietly(FileBuilder.quotationFileBuild().getUrl());
+    }
+
     /**
      * 거래 견적서 작성 실패
      * - 실패 사유 : 견적서의 납기일이 거래 생성일 이전임
@@ -140,14 +229,17 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
                 new FileInputStream(filePath)
         );
         final FactoryCreateOrUpdateOrderQuotationRequest request = FactoryCreateOrUpdateOrderQuotationRequestBuilder.earlyDeliveryDateBuild();
+        final CompletableFuture<FileEntity<FileType>> quotationFileFuture = new CompletableFuture<>();
 
         // stub
         when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(quotationFileFuture);
 
         // when & then
         Assertions.assertThatThrownBy(() -> factoryOrderService.createOrderQuotation(orderId, file, request))
                 .isInstanceOf(CustomCommonException.class)
                 .hasMessage(OrderErrorCode.INVALID_QUOTATION_DELIVERY_DATE.getMessage());
+        verify(fileComponent, times(1)).cancelUploadAsync(quotationFileFuture);
     }
 
     /**
@@ -319,6 +411,7 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
 
         // then
         Assertions.assertThat(order.getStage()).isEqualTo(Stage.PRODUCTION_COMPLETED);
+        verify(ingredientDemandService, times(1)).deleteDemandByOrderList(List.of(orderId));
     }
 
     /**
@@ -375,6 +468,58 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
         Assertions.assertThat(order.getAcquirer().getPhone()).isEqualTo(request.phone());
     }
 
+    /**
+     * 거래 인수자 생성 성공
+     * - 직접 업로드한 서명 파일의 업로드 완료 확인 후 사용
+     */
+    @Test
+    public void createOrderAcquirer_성공_업로드_ID() {
+        // given
+        final Order order = OrderBuilder.build();
+        final Acquirer acquirer = AcquirerBuilder.build();
+
+        final Long orderId = 1L;
+        final FactoryCreateOrderAcquirerRequest request = FactoryCreateOrderAcquirerRequestBuilder.fileUploadBuild();
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(fileComponent.confirmUpload(eq(request.fileUploadId()), any())).thenReturn(FileBuilder.signatureFileBuild());
+        when(acquirerRepository.save(any())).thenReturn(acquirer);
+
+        // when
+        factoryOrderService.createOrderAcquirer(orderId, request, null);
+
+        // then
+        Assertions.assertThat(order.getAcquirer()).isNotNull();
+        verify(fileComponent, never()).uploadFile(any(MultipartFile.class), any());
+    }
+
+    /**
+     * 견적서 파일 직접 업로드 URL 생성 성공
+     */
+    @Test
+    public void createQuotationUploadUrl_성공() {
+        // given
+        final CreateFileUploadUrlRequest request = new CreateFileUploadUrlRequest("quotation.pdf", 140801L, "a".repeat(64));
+        final FileUpload fileUpload = FileUpload.builder()
+                .id("upload-id")
+                .uploadUrl("https://ordermanage.s3.ap-northeast-2.amazonaws.com/quotation/quotation.pdf?X-Amz-Signature=signature")
+                .uploadHeaderMap(Map.of("x-amz-checksum-sha256", "checksum"))
+                .expiredAt(LocalDateTime.now().plusMinutes(15))
+                .build();
+
+        // stub
+        when(fileComponent.createUpload(eq("quotation.pdf"), eq(140801L), eq("a".repeat(64)), any())).thenReturn(fileUpload);
+
+        // when
+        final CreateFileUploadUrlResponse actualResponse = factoryOrderService.createQuotationUploadUrl(request);
+
+        // then
+        Assertions.assertThat(actualResponse.uploadId()).isEqualTo(fileUpload.getId());
+        Assertions.assertThat(actualResponse.uploadUrl()).isEqualTo(fileUpload.getUploadUrl());
+        Assertions.assertThat(actualResponse.uploadHeaderMap()).isEqualTo(fileUpload.getUploadHeaderMap());
+    }
+
     /**
      * 거래 단계 완료 변경 성공
      */
@@ -465,4 +610,97 @@ public class FactoryOrderServiceUnitTest extends ServiceUnitTest {
                 .isInstanceOf(CustomCommonException.class)
                 .hasMessage(OrderErrorCode.NOT_FOUND_PURCHASE_ORDER.getMessage());
     }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 성공
+     */
+    @Test
+    public void getOrderNesting_성공() {
+        // given
+        final Order order = OrderBuilder.build();
+        final Ingredient ingredient = IngredientBuilder.build();
+        final Drawing drawing = DrawingBuilder.build();
+        final Long orderId = 1L;
+        final Long ingredientId = 1L;
+        final List<NestingPart> partList = List.of(new NestingPart(100, 200), new NestingPart(50, 50));
+        final NestingResult nestingResult = new NestingResult(1, 0.01, 205);
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(ingredientService.getIngredientById(ingredientId)).thenReturn(ingredient);
+        when(drawingService.getDrawingListByOrderId(orderId)).thenReturn(List.of(drawing));
+        when(drawingService.extractPartListAsync(drawing)).thenReturn(CompletableFuture.completedFuture(partList));
+        when(nestingEstimator.estimate(any(), anyDouble(), anyDouble())).thenReturn(nestingResult);
+
+        // when
+        final FactoryGetOrderNestingResponse actualResponse = factoryOrderService.getOrderNesting(orderId, ingredientId);
+
+        // then
+        Assertions.assertThat(actualResponse.partCount()).isEqualTo(partList.size() * drawing.getCount());
+        Assertions.assertThat(actualResponse.sheetCount()).isEqualTo(nestingResult.sheetCount());
+        Assertions.assertThat(actualResponse.excludedDrawingIdList()).isEmpty();
+        verify(nestingEstimator, times(1)).estimate(any(), eq(ingredient.getSheetWidthInMillimeter()), eq(ingredient.getSheetHeightInMillimeter()));
+    }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 성공
+     * - 외곽을 추출할 수 없거나 원판보다 큰 부품이 있는 도면은 제외
+     */
+    @Test
+    public void getOrderNesting_성공_도면_제외() {
+        // given
+        final Order order = OrderBuilder.build();
+        final Ingredient ingredient = IngredientBuilder.build();
+        final Drawing unsupportedDrawing = DrawingBuilder.build();
+        final Drawing largeDrawing = DrawingBuilder.build();
+        ReflectionTestUtils.setField(unsupportedDrawing, "id", 1L);
+        ReflectionTestUtils.setField(largeDrawing, "id", 2L);
+        final Long orderId = 1L;
+        final Long ingredientId = 1L;
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(ingredientService.getIngredientById(ingredientId)).thenReturn(ingredient);
+        when(drawingService.getDrawingListByOrderId(orderId)).thenReturn(List.of(unsupportedDrawing, largeDrawing));
+        when(drawingService.extractPartListAsync(unsupportedDrawing)).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(drawingService.extractPartListAsync(largeDrawing)).thenReturn(CompletableFuture.completedFuture(List.of(new NestingPart(5000, 5000))));
+        when(nestingEstimator.estimate(any(), anyDouble(), anyDouble())).thenReturn(new NestingResult(0, 0, 0));
+
+        // when
+        final FactoryGetOrderNestingResponse actualResponse = factoryOrderService.getOrderNesting(orderId, ingredientId);
+
+        // then
+        Assertions.assertThat(actualResponse.partCount()).isEqualTo(0);
+        Assertions.assertThat(actualResponse.sheetCount()).isEqualTo(0);
+        Assertions.assertThat(actualResponse.excludedDrawingIdList()).containsExactly(1L, 2L);
+    }
+
+    /**
+     * 거래의 자재 원판 소요량 추정 성공
+     * - 수량이 없는 도면은 부품 외곽을 추출하지 않고 제외 목록에도 포함하지 않음
+     */
+    @Test
+    public void getOrderNesting_성공_수량_없는_도면() {
+        // given
+        final Order order = OrderBuilder.build();
+        final Ingredient ingredient = IngredientBuilder.build();
+        final Drawing drawing = DrawingBuilder.build();
+        ReflectionTestUtils.setField(drawing, "count", null);
+        final Long orderId = 1L;
+        final Long ingredientId = 1L;
+
+        // stub
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(ingredientService.getIngredientById(ingredientId)).thenReturn(ingredient);
+        when(drawingService.getDrawingListByOrderId(orderId)).thenReturn(List.of(drawing));
+        when(nestingEstimator.estimate(any(), anyDouble(), anyDouble())).thenReturn(new NestingResult(0, 0, 0));
+
+        // when
+        final FactoryGetOrderNestingResponse actualResponse = factoryOrderService.getOrderNesting(orderId, ingredientId);
+
+        // then
+        Assertions.assertThat(actualResponse.partCount()).isEqualTo(0);
+        Assertions.assertThat(actualResponse.excludedDrawingIdList()).isEmpty();
+        verify(drawingService, never()).extractPartListAsync(any());
+    }
 }
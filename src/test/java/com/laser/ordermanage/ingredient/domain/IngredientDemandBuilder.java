@@ -0,0 +1,16 @@
+package com.laser.ordermanage.ingredient.domain;
+
+import com.laser.ordermanage.order.domain.type.Ingredient;
+
+public class IngredientDemandBuilder {
+    public static IngredientDemand build() {
+        return IngredientDemand.builder()
+                .drawingId(1L)
+                .orderId(1L)
+                .ingredient(Ingredient.SS400)
+                .thickness(2)
+                .count(30)
+                .fileUrl("https://ordermanage.s3.ap-northeast-2.amazonaws.com/test.dxf")
+                .build();
+    }
+}
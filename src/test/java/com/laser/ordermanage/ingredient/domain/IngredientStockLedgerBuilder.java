@@ -0,0 +1,29 @@
+package com.laser.ordermanage.ingredient.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class IngredientStockLedgerBuilder {
+    public static IngredientStockLedger build() {
+        Ingredient ingredient = IngredientBuilder.build();
+        return IngredientStockLedger.builder()
+                .ingredient(ingredient)
+                .movementDate(LocalDate.of(2024, 4, 1))
+                .incoming(5)
+                .production(65)
+                .build();
+    }
+
+    public static List<IngredientStockLedger> buildList() {
+        Ingredient ingredient = IngredientBuilder.build();
+        IngredientStockLedger ingredientStockLedger1 = build();
+        IngredientStockLedger ingredientStockLedger2 = IngredientStockLedger.builder()
+                .ingredient(ingredient)
+                .movementDate(LocalDate.of(2024, 4, 1))
+                .incoming(20)
+                .production(0)
+                .build();
+
+        return List.of(ingredientStockLedger1, ingredientStockLedger2);
+    }
+}
@@ -0,0 +1,14 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import java.util.List;
+
+public class GetIngredientDemandResponseBuilder {
+    public static List<GetIngredientDemandResponse> buildList() {
+        List<GetIngredientResponse> ingredientResponseList = GetIngredientResponseBuilder.buildList();
+
+        return List.of(
+                GetIngredientDemandResponse.from(ingredientResponseList.get(0), null),
+                GetIngredientDemandResponse.from(ingredientResponseList.get(1), new GetIngredientDemandSheetResponse(2L, 25, 30, 4))
+        );
+    }
+}
@@ -1,5 +1,8 @@
 package com.laser.ordermanage.ingredient.dto.response;
 
+import com.laser.ordermanage.common.paging.PageResponse;
+import org.springframework.data.domain.PageImpl;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -13,7 +16,7 @@ public class GetIngredientStatusResponseBuilder {
         return GetIngredientStatusResponse.builder()
                 .averagePrice(averagePrice)
                 .totalStock(totalStock)
-                .ingredientList(ingredientList)
+                .ingredientPage(new PageResponse<>(new PageImpl<>(ingredientList)))
                 .date(date)
                 .build();
     }
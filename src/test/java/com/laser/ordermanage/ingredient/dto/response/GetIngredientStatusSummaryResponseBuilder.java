@@ -0,0 +1,14 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+public class GetIngredientStatusSummaryResponseBuilder {
+    public static GetIngredientStatusSummaryResponse build() {
+        GetIngredientPriceResponse averagePrice = new GetIngredientPriceResponse(3000, 3200);
+        GetIngredientTotalStockResponse totalStock = new GetIngredientTotalStockResponse(402, 29000.5);
+
+        return GetIngredientStatusSummaryResponse.builder()
+                .totalElements(9L)
+                .averagePrice(averagePrice)
+                .totalStock(totalStock)
+                .build();
+    }
+}
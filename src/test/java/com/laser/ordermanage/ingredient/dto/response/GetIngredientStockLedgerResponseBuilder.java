@@ -0,0 +1,13 @@
+package com.laser.ordermanage.ingredient.dto.response;
+
+import com.laser.ordermanage.ingredient.domain.IngredientStockLedgerBuilder;
+
+import java.util.List;
+
+public class GetIngredientStockLedgerResponseBuilder {
+    public static List<GetIngredientStockLedgerResponse> buildList() {
+        return IngredientStockLedgerBuilder.buildList().stream()
+                .map(GetIngredientStockLedgerResponse::from)
+                .toList();
+    }
+}
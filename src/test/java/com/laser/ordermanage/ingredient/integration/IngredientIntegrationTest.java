@@ -247,13 +247,13 @@ public class IngredientIntegrationTest extends IntegrationTest {
         final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.build();
         final UpdateIngredientStockRequest request2 = UpdateIngredientStockRequestBuilder.build2();
 
-        // when - 당일 자재 재고 현황 존재 X
+        // when - 당일 자재 재고 데이터 존재 X
         final ResultActions resultActions = requestUpdateIngredientStock(accessToken, ingredientId, request);
 
         // then
         resultActions.andExpect(status().isOk());
 
-        // when - 당일 자재 재고 현황 존재 O
+        // when - 당일 자재 재고 데이터 존재 O (변동량 합산)
         final ResultActions resultActions2 = requestUpdateIngredientStock(accessToken, ingredientId, request2);
 
         // then
@@ -385,24 +385,6 @@ public class IngredientIntegrationTest extends IntegrationTest {
         assertError(IngredientErrorCode.UNABLE_UPDATE_DELETED_INGREDIENT, resultActions);
     }
 
-    /**
-     * 자재 재고 수정 실패
-     * - 실패 사유 : 자재 재고에 대한 데이터가 일치하지 않음
-     */
-    @Test
-    public void 자재_재고_수정_실패_데이터_일치() throws Exception {
-        // given
-        final String accessToken = jwtBuilder.accessJwtBuildOfFactory();
-        final String ingredientId = "1";
-        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.invalidBuild();
-
-        // when
-        final ResultActions resultActions = requestUpdateIngredientStock(accessToken, ingredientId, request);
-
-        // then
-        assertError(IngredientErrorCode.INVALID_INGREDIENT_STOCK, resultActions);
-    }
-
     /**
      * 자재 정보 (단가, 적정재고) 수정 성공
      */
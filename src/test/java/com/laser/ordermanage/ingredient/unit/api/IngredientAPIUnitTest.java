@@ -7,11 +7,17 @@ import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.paging.ListResponse;
 import com.laser.ordermanage.ingredient.api.IngredientAPI;
 import com.laser.ordermanage.ingredient.dto.request.*;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandResponseBuilder;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientInfoResponse;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientInfoResponseBuilder;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientStatusResponse;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientStatusResponseBuilder;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientStockLedgerResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientStockLedgerResponseBuilder;
+import com.laser.ordermanage.ingredient.dto.response.ImportIngredientResponse;
 import com.laser.ordermanage.ingredient.exception.IngredientErrorCode;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.user.exception.UserErrorCode;
 import org.assertj.core.api.Assertions;
@@ -21,12 +27,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -44,6 +53,9 @@ public class IngredientAPIUnitTest extends APIUnitTest {
     @MockBean
     private IngredientService ingredientService;
 
+    @MockBean
+    private IngredientDemandService ingredientDemandService;
+
     @BeforeEach
     public void setUp() {
         mvc = buildMockMvc(context);
@@ -61,7 +73,7 @@ public class IngredientAPIUnitTest extends APIUnitTest {
         final GetIngredientStatusResponse expectedResponse = GetIngredientStatusResponseBuilder.build();
 
         // stub
-        when(ingredientService.getIngredientStatus(any(), any())).thenReturn(expectedResponse);
+        when(ingredientService.getIngredientStatus(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(expectedResponse);
 
         // when
         final ResultActions resultActions = requestGetIngredientStatus(accessToken, date);
@@ -129,6 +141,44 @@ public class IngredientAPIUnitTest extends APIUnitTest {
         assertErrorWithMessage(CommonErrorCode.MISMATCH_PARAMETER_TYPE, resultActions, "date");
     }
 
+    /**
+     * 자재 현황 데이터 조회 실패
+     * - 실패 사유 : sort 파라미터 유효성
+     */
+    @Test
+    @WithMockUser(roles = {"FACTORY"})
+    public void 자재_현황_데이터_조회_실패_sort_파라미터_유효성() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String date = LocalDate.of(2024, 4, 1).toString();
+        final String invalidSort = "invalid-sort";
+
+        // when
+        final ResultActions resultActions = requestGetIngredientStatus(accessToken, date, invalidSort, "asc");
+
+        // then
+        assertErrorWithMessage(CommonErrorCode.INVALID_PARAMETER, resultActions, "sort 파라미터가 올바르지 않습니다.");
+    }
+
+    /**
+     * 자재 현황 데이터 조회 실패
+     * - 실패 사유 : direction 파라미터 유효성
+     */
+    @Test
+    @WithMockUser(roles = {"FACTORY"})
+    public void 자재_현황_데이터_조회_실패_direction_파라미터_유효성() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String date = LocalDate.of(2024, 4, 1).toString();
+        final String invalidDirection = "invalid-direction";
+
+        // when
+        final ResultActions resultActions = requestGetIngredientStatus(accessToken, date, "stock", invalidDirection);
+
+        // then
+        assertErrorWithMessage(CommonErrorCode.INVALID_PARAMETER, resultActions, "direction 파라미터가 올바르지 않습니다.");
+    }
+
     /**
      * 자재 추가 성공
      */
@@ -453,6 +503,65 @@ public class IngredientAPIUnitTest extends APIUnitTest {
         assertErrorWithMessage(CommonErrorCode.INVALID_REQUEST_BODY_FIELDS, resultActions, "판매단가는 1 이상, 100,000 이하의 정수 입니다.");
     }
 
+    /**
+     * 자재 CSV 일괄 등록 성공
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 자재_CSV_일괄_등록_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                MediaType.MULTIPART_FORM_DATA_VALUE,
+                new FileInputStream("src/test/resources/ingredient/ingredient.csv")
+        );
+        final ImportIngredientResponse expectedResponse = ImportIngredientResponse.builder()
+                .totalRowCount(4)
+                .importedRowCount(2)
+                .errorList(List.of())
+                .build();
+
+        // stub
+        when(ingredientService.importIngredient(any(), any())).thenReturn(expectedResponse);
+
+        // when
+        final ResultActions resultActions = requestImportIngredient(accessToken, file);
+
+        // then
+        final String responseString = resultActions
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        final ImportIngredientResponse actualResponse = objectMapper.readValue(responseString, ImportIngredientResponse.class);
+
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 실패
+     * - 실패 사유 : 관리자 권한(Authority Admin)이 없음
+     */
+    @Test
+    @WithMockUser(roles = {"FACTORY"})
+    public void 자재_CSV_일괄_등록_실패_사용자_권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                MediaType.MULTIPART_FORM_DATA_VALUE,
+                new FileInputStream("src/test/resources/ingredient/ingredient.csv")
+        );
+
+        // when
+        final ResultActions resultActions = requestImportIngredient(accessToken, file);
+
+        // then
+        assertError(UserErrorCode.DENIED_ACCESS, resultActions);
+    }
+
     /**
      * 자재 재고 수정 성공
      */
@@ -549,21 +658,21 @@ public class IngredientAPIUnitTest extends APIUnitTest {
 
     /**
      * 자재 재고 수정 실패
-     * - 실패 사유 : 당일 재고 필드 null
+     * - 실패 사유 : 입고 필드 음수
      */
     @Test
     @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
-    public void 자재_재고_수정_실패_당일재고_필드_null() throws Exception {
+    public void 자재_재고_수정_실패_입고_필드_음수() throws Exception {
         // given
         final String accessToken = "access-token";
         final String ingredientId = "1";
-        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.nullCurrentDayBuild();
+        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.negativeIncomingBuild();
 
         // when
         final ResultActions resultActions = requestUpdateIngredientStock(accessToken, ingredientId, request);
 
         // then
-        assertErrorWithMessage(CommonErrorCode.INVALID_REQUEST_BODY_FIELDS, resultActions, "당일 재고는 필수 입력값입니다.");
+        assertErrorWithMessage(CommonErrorCode.INVALID_REQUEST_BODY_FIELDS, resultActions, "입고는 0 이상의 정수 입니다.");
     }
 
     /**
@@ -1009,6 +1118,99 @@ public class IngredientAPIUnitTest extends APIUnitTest {
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    /**
+     * 자재 소요량 조회 성공
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 자재_소요량_조회_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final ListResponse<GetIngredientDemandResponse> expectedResponse = new ListResponse<>(GetIngredientDemandResponseBuilder.buildList());
+
+        // stub
+        when(ingredientDemandService.getIngredientDemand(any())).thenReturn(expectedResponse);
+
+        // when
+        final ResultActions resultActions = requestGetIngredientDemand(accessToken);
+
+        // then
+        final String responseString = resultActions
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        final ListResponse<GetIngredientDemandResponse> actualResponse = objectMapper.readValue(responseString, new TypeReference<ListResponse<GetIngredientDemandResponse>>() {});
+
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    /**
+     * 자재 소요량 조회 실패
+     * - 실패 사유 : 고객 역할 (CUSTOMER)에 의한 요청
+     */
+    @Test
+    @WithMockUser(roles = {"CUSTOMER"})
+    public void 자재_소요량_조회_실패_역할() throws Exception {
+        // given
+        final String accessToken = "access-token";
+
+        // when
+        final ResultActions resultActions = requestGetIngredientDemand(accessToken);
+
+        // then
+        assertError(UserErrorCode.DENIED_ACCESS, resultActions);
+    }
+
+    /**
+     * 자재 재고 변동 이력 조회 성공
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 자재_재고_변동_이력_조회_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String ingredientId = "1";
+        final String date = LocalDate.of(2024, 4, 1).toString();
+        final ListResponse<GetIngredientStockLedgerResponse> expectedResponse = new ListResponse<>(GetIngredientStockLedgerResponseBuilder.buildList());
+
+        // stub
+        when(ingredientService.getIngredientStockLedger(any(), any())).thenReturn(expectedResponse);
+
+        // when
+        final ResultActions resultActions = requestGetIngredientStockLedger(accessToken, ingredientId, date);
+
+        // then
+        final String responseString = resultActions
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        final ListResponse<GetIngredientStockLedgerResponse> actualResponse = objectMapper.readValue(responseString, new TypeReference<ListResponse<GetIngredientStockLedgerResponse>>() {});
+
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    /**
+     * 자재 재고 변동 이력 조회 실패
+     * - 실패 사유 : 자재에 대한 접근 권한이 없음
+     */
+    @Test
+    @WithMockUser(authorities = {"ROLE_FACTORY", "AUTHORITY_ADMIN"})
+    public void 자재_재고_변동_이력_조회_실패_자재_접근_권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String ingredientId = "1";
+        final String date = LocalDate.of(2024, 4, 1).toString();
+
+        // stub
+        doThrow(new CustomCommonException(IngredientErrorCode.DENIED_ACCESS_TO_INGREDIENT)).when(ingredientService).checkAuthorityOfIngredient(any(), any());
+
+        // when
+        final ResultActions resultActions = requestGetIngredientStockLedger(accessToken, ingredientId, date);
+
+        // then
+        assertError(IngredientErrorCode.DENIED_ACCESS_TO_INGREDIENT, resultActions);
+    }
+
     private ResultActions requestGetIngredientStatus(String accessToken, String date) throws Exception {
         return mvc.perform(get("/factory/ingredient/status")
                         .header("Authorization", "Bearer " + accessToken)
@@ -1016,6 +1218,15 @@ public class IngredientAPIUnitTest extends APIUnitTest {
                 .andDo(print());
     }
 
+    private ResultActions requestGetIngredientStatus(String accessToken, String date, String sort, String direction) throws Exception {
+        return mvc.perform(get("/factory/ingredient/status")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("date", date)
+                        .param("sort", sort)
+                        .param("direction", direction))
+                .andDo(print());
+    }
+
     private ResultActions requestCreateIngredient(String accessToken, CreateIngredientRequest request) throws Exception {
         return mvc.perform(post("/factory/ingredient")
                         .header("Authorization", "Bearer " + accessToken)
@@ -1024,6 +1235,13 @@ public class IngredientAPIUnitTest extends APIUnitTest {
                 .andDo(print());
     }
 
+    private ResultActions requestImportIngredient(String accessToken, MockMultipartFile file) throws Exception {
+        return mvc.perform(multipart("/factory/ingredient/import")
+                        .file(file)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print());
+    }
+
     private ResultActions requestUpdateIngredientStock(String accessToken, String ingredientId, UpdateIngredientStockRequest request) throws Exception {
         return mvc.perform(patch("/factory/ingredient/{ingredient-id}/stock", ingredientId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -1032,6 +1250,13 @@ public class IngredientAPIUnitTest extends APIUnitTest {
                 .andDo(print());
     }
 
+    private ResultActions requestGetIngredientStockLedger(String accessToken, String ingredientId, String date) throws Exception {
+        return mvc.perform(get("/factory/ingredient/{ingredient-id}/stock/ledger", ingredientId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("date", date))
+                .andDo(print());
+    }
+
     private ResultActions requestUpdateIngredient(String accessToken, String ingredientId, UpdateIngredientRequest request) throws Exception {
         return mvc.perform(patch("/factory/ingredient/{ingredient-id}", ingredientId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -1051,4 +1276,10 @@ public class IngredientAPIUnitTest extends APIUnitTest {
                         .header("Authorization", "Bearer " + accessToken))
                 .andDo(print());
     }
+
+    private ResultActions requestGetIngredientDemand(String accessToken) throws Exception {
+        return mvc.perform(get("/factory/ingredient/demand")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print());
+    }
 }
@@ -6,6 +6,7 @@ import com.laser.ordermanage.common.exception.ErrorCode;
 import com.laser.ordermanage.ingredient.api.IngredientAPI;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientAnalysisResponse;
 import com.laser.ordermanage.ingredient.dto.response.GetIngredientAnalysisResponseBuilder;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.ingredient.service.IngredientService;
 import com.laser.ordermanage.user.exception.UserErrorCode;
 import org.assertj.core.api.Assertions;
@@ -41,6 +42,9 @@ public class IngredientAnalysisAPIUnitTest extends APIUnitTest {
     @MockBean
     private IngredientService ingredientService;
 
+    @MockBean
+    private IngredientDemandService ingredientDemandService;
+
     @BeforeEach
     public void setUp() {
         mvc = buildMockMvc(context);
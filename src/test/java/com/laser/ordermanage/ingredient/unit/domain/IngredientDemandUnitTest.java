@@ -0,0 +1,49 @@
+package com.laser.ordermanage.ingredient.unit.domain;
+
+import com.laser.ordermanage.customer.dto.request.CustomerUpdateDrawingRequest;
+import com.laser.ordermanage.customer.dto.request.CustomerUpdateDrawingRequestBuilder;
+import com.laser.ordermanage.ingredient.domain.IngredientDemand;
+import com.laser.ordermanage.ingredient.domain.IngredientDemandBuilder;
+import com.laser.ordermanage.order.domain.Drawing;
+import com.laser.ordermanage.order.domain.DrawingBuilder;
+import com.laser.ordermanage.order.domain.type.Ingredient;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IngredientDemandUnitTest {
+
+    @Test
+    public void from() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+
+        // when
+        final IngredientDemand actualIngredientDemand = IngredientDemand.from(drawing);
+
+        // then
+        Assertions.assertThat(actualIngredientDemand.getDrawingId()).isEqualTo(drawing.getId());
+        Assertions.assertThat(actualIngredientDemand.getOrderId()).isEqualTo(drawing.getOrder().getId());
+        Assertions.assertThat(actualIngredientDemand.getIngredient()).isEqualTo(drawing.getIngredient());
+        Assertions.assertThat(actualIngredientDemand.getThickness()).isEqualTo(drawing.getThickness());
+        Assertions.assertThat(actualIngredientDemand.getCount()).isEqualTo(drawing.getCount());
+        Assertions.assertThat(actualIngredientDemand.getFileUrl()).isEqualTo(drawing.getFile().getUrl());
+    }
+
+    @Test
+    public void update() {
+        // given
+        final IngredientDemand ingredientDemand = IngredientDemandBuilder.build();
+        final CustomerUpdateDrawingRequest request = CustomerUpdateDrawingRequestBuilder.build();
+        final Drawing drawing = DrawingBuilder.build();
+        drawing.updateProperties(request);
+
+        // when
+        ingredientDemand.update(drawing);
+
+        // then
+        Assertions.assertThat(ingredientDemand.getIngredient()).isEqualTo(Ingredient.AC);
+        Assertions.assertThat(ingredientDemand.getThickness()).isEqualTo(request.thickness());
+        Assertions.assertThat(ingredientDemand.getCount()).isEqualTo(request.count());
+        Assertions.assertThat(ingredientDemand.getFileUrl()).isEqualTo(drawing.getFile().getUrl());
+    }
+}
@@ -0,0 +1,61 @@
+package com.laser.ordermanage.ingredient.unit.domain;
+
+import com.laser.ordermanage.ingredient.domain.Ingredient;
+import com.laser.ordermanage.ingredient.domain.IngredientBuilder;
+import com.laser.ordermanage.ingredient.domain.IngredientStockLedger;
+import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequest;
+import com.laser.ordermanage.ingredient.dto.request.UpdateIngredientStockRequestBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+public class IngredientStockLedgerUnitTest {
+
+    @Test
+    public void of() {
+        // given
+        final Ingredient ingredient = IngredientBuilder.build();
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.build();
+
+        // when
+        final IngredientStockLedger ingredientStockLedger = IngredientStockLedger.of(ingredient, date, request);
+
+        // then
+        Assertions.assertThat(ingredientStockLedger.getMovementDate()).isEqualTo(date);
+        Assertions.assertThat(ingredientStockLedger.getIncoming()).isEqualTo(request.incoming());
+        Assertions.assertThat(ingredientStockLedger.getProduction()).isEqualTo(request.production());
+        Assertions.assertThat(ingredientStockLedger.getOpening()).isFalse();
+        Assertions.assertThat(ingredientStockLedger.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void isEmpty() {
+        // given
+        final Ingredient ingredient = IngredientBuilder.build();
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.emptyBuild();
+
+        // when
+        final IngredientStockLedger ingredientStockLedger = IngredientStockLedger.of(ingredient, date, request);
+
+        // then
+        Assertions.assertThat(ingredientStockLedger.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void opening() {
+        // given
+        final Ingredient ingredient = IngredientBuilder.build();
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+
+        // when
+        final IngredientStockLedger ingredientStockLedger = IngredientStockLedger.opening(ingredient, date, 70);
+
+        // then
+        Assertions.assertThat(ingredientStockLedger.getIncoming()).isEqualTo(70);
+        Assertions.assertThat(ingredientStockLedger.getProduction()).isEqualTo(0);
+        Assertions.assertThat(ingredientStockLedger.getOpening()).isTrue();
+    }
+}
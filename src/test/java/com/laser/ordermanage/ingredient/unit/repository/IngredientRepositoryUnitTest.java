@@ -3,16 +3,25 @@ package com.laser.ordermanage.ingredient.unit.repository;
 import com.laser.ordermanage.common.RepositoryUnitTest;
 import com.laser.ordermanage.ingredient.domain.Ingredient;
 import com.laser.ordermanage.ingredient.domain.IngredientBuilder;
+import com.laser.ordermanage.ingredient.domain.IngredientDemand;
+import com.laser.ordermanage.ingredient.domain.type.IngredientStatusSortType;
 import com.laser.ordermanage.ingredient.dto.response.*;
+import com.laser.ordermanage.ingredient.repository.IngredientDemandRepository;
 import com.laser.ordermanage.ingredient.repository.IngredientRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @EnableJpaRepositories(basePackageClasses = IngredientRepository.class)
@@ -21,6 +30,9 @@ public class IngredientRepositoryUnitTest extends RepositoryUnitTest {
     @Autowired
     private IngredientRepository ingredientRepository;
 
+    @Autowired
+    private IngredientDemandRepository ingredientDemandRepository;
+
     private final static String email = "admin@kumoh.org";
 
     private final static Long ingredientId = 1L;
@@ -86,12 +98,140 @@ public class IngredientRepositoryUnitTest extends RepositoryUnitTest {
         final List<GetIngredientResponse> expectedIngredientList = GetIngredientResponseBuilder.buildList();
 
         // when
-        final List<GetIngredientResponse> actualIngredientList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, date);
+        final List<GetIngredientResponse> actualIngredientList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, date, Pageable.unpaged(), null, Sort.Direction.ASC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualIngredientList).isEqualTo(expectedIngredientList);
+    }
+
+    @Test
+    public void findIngredientStatusByFactoryAndDate_페이지_정렬() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final Pageable pageable = PageRequest.of(0, 3);
+        final List<GetIngredientResponse> expectedIngredientList = GetIngredientResponseBuilder.buildList().stream()
+                .sorted(Comparator.comparing((GetIngredientResponse ingredientResponse) -> ingredientResponse.stockCount().currentDay().intValue()).reversed())
+                .limit(3)
+                .toList();
+
+        // when
+        final List<GetIngredientResponse> actualIngredientList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, date, pageable, IngredientStatusSortType.STOCK, Sort.Direction.DESC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualIngredientList).isEqualTo(expectedIngredientList);
+    }
+
+    @Test
+    public void findIngredientStatusByFactoryAndDate_필터() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final String texture = "ATOS";
+        final List<GetIngredientResponse> expectedIngredientList = GetIngredientResponseBuilder.buildList().stream()
+                .filter(ingredientResponse -> ingredientResponse.texture().equals(texture))
+                .toList();
+
+        // when
+        final List<GetIngredientResponse> actualIngredientList = ingredientRepository.findIngredientStatusByFactoryAndDate(email, date, Pageable.unpaged(), null, Sort.Direction.ASC, texture, Boolean.FALSE, null);
 
         // then
         Assertions.assertThat(actualIngredientList).isEqualTo(expectedIngredientList);
     }
 
+    @Test
+    public void findIngredientStatusWithSummaryByFactoryAndDate() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final GetIngredientStatusResponse expectedResponse = GetIngredientStatusResponseBuilder.build();
+
+        // when
+        final GetIngredientStatusResponse actualResponse = ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, Pageable.unpaged(), null, Sort.Direction.ASC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    public void findIngredientStatusWithSummaryByFactoryAndDate_페이지() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final Pageable pageable = PageRequest.of(0, 3);
+        final GetIngredientStatusSummaryResponse expectedSummary = GetIngredientStatusSummaryResponseBuilder.build();
+
+        // when
+        final GetIngredientStatusResponse actualResponse = ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualResponse.ingredientPage().contents()).isEqualTo(GetIngredientResponseBuilder.buildList().subList(0, 3));
+        Assertions.assertThat(actualResponse.ingredientPage().page()).isEqualTo(1);
+        Assertions.assertThat(actualResponse.ingredientPage().size()).isEqualTo(3);
+        Assertions.assertThat(actualResponse.ingredientPage().totalElements()).isEqualTo(expectedSummary.totalElements());
+        Assertions.assertThat(actualResponse.ingredientPage().totalPages()).isEqualTo((int) Math.ceil(expectedSummary.totalElements() / 3.0));
+        Assertions.assertThat(actualResponse.averagePrice()).isEqualTo(expectedSummary.averagePrice());
+        Assertions.assertThat(actualResponse.totalStock()).isEqualTo(expectedSummary.totalStock());
+    }
+
+    @Test
+    public void findIngredientStatusWithSummaryByFactoryAndDate_범위를_벗어난_페이지() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final Pageable pageable = PageRequest.of(10, 3);
+        final GetIngredientStatusSummaryResponse expectedSummary = GetIngredientStatusSummaryResponseBuilder.build();
+
+        // when
+        final GetIngredientStatusResponse actualResponse = ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualResponse.ingredientPage().contents()).isEmpty();
+        Assertions.assertThat(actualResponse.ingredientPage().page()).isEqualTo(11);
+        Assertions.assertThat(actualResponse.ingredientPage().totalElements()).isEqualTo(expectedSummary.totalElements());
+        Assertions.assertThat(actualResponse.averagePrice()).isEqualTo(expectedSummary.averagePrice());
+        Assertions.assertThat(actualResponse.totalStock()).isEqualTo(expectedSummary.totalStock());
+    }
+
+    @Test
+    public void findIngredientStatusWithSummaryByFactoryAndDate_조회_결과_없음() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+
+        // when
+        final GetIngredientStatusResponse actualResponse = ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, PageRequest.of(0, 3), null, Sort.Direction.ASC, "UNKNOWN", null, null);
+
+        // then
+        Assertions.assertThat(actualResponse.ingredientPage().contents()).isEmpty();
+        Assertions.assertThat(actualResponse.ingredientPage().totalElements()).isEqualTo(0L);
+        Assertions.assertThat(actualResponse.ingredientPage().totalPages()).isEqualTo(0);
+        Assertions.assertThat(actualResponse.totalStock()).isEqualTo(GetIngredientStatusSummaryResponse.empty().totalStock());
+    }
+
+    @Test
+    public void createIngredientStatusSnapshotByDate() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final List<GetIngredientResponse> expectedIngredientList = GetIngredientResponseBuilder.buildList();
+        final GetIngredientStatusResponse expectedResponse = GetIngredientStatusResponseBuilder.build();
+
+        // when
+        ingredientRepository.createIngredientStatusSnapshotByDate(date);
+
+        // then
+        Assertions.assertThat(ingredientRepository.existsIngredientStatusSnapshotByFactoryAndDate(email, date)).isTrue();
+        Assertions.assertThat(ingredientRepository.findIngredientStatusSnapshotByFactoryAndDate(email, date, Pageable.unpaged(), null, Sort.Direction.ASC, null, null, null)).isEqualTo(expectedIngredientList);
+        Assertions.assertThat(ingredientRepository.findIngredientStatusSnapshotWithSummaryByFactoryAndDate(email, date, Pageable.unpaged(), null, Sort.Direction.ASC, null, null, null)).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    public void deleteIngredientStatusSnapshotByDate() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        ingredientRepository.createIngredientStatusSnapshotByDate(date);
+
+        // when
+        ingredientRepository.deleteIngredientStatusSnapshotByDate(date);
+
+        // then
+        Assertions.assertThat(ingredientRepository.existsIngredientStatusSnapshotByFactoryAndDate(email, date)).isFalse();
+    }
+
     @Test
     public void findIngredientByFactoryManager() {
         // given
@@ -104,6 +244,24 @@ public class IngredientRepositoryUnitTest extends RepositoryUnitTest {
         Assertions.assertThat(actualIngredientInfoList).isEqualTo(expectedIngredientInfoList);
     }
 
+    @Test
+    public void findIngredientDemandSheetByFactoryManager() {
+        // given
+        // 도면 분석 결과가 없는 도면 (부품 면적을 알 수 없음) 의 소요량
+        ingredientDemandRepository.save(IngredientDemand.builder().drawingId(-1L).orderId(-1L).ingredient(com.laser.ordermanage.order.domain.type.Ingredient.SS400).thickness(2).count(10).fileUrl("unanalyzed-1.dxf").build());
+        ingredientDemandRepository.save(IngredientDemand.builder().drawingId(-2L).orderId(-1L).ingredient(com.laser.ordermanage.order.domain.type.Ingredient.ATOS).thickness(5).count(6).fileUrl("unanalyzed-2.dxf").build());
+
+        // when
+        final Map<Long, GetIngredientDemandSheetResponse> actualDemandSheetMap = ingredientRepository.findIngredientDemandSheetByFactoryManager(email).stream()
+                .collect(Collectors.toMap(GetIngredientDemandSheetResponse::ingredientId, Function.identity()));
+
+        // then
+        // SS 400 2.0 자재 (두께 2), ATOS 4.5 자재 (반올림한 두께 5)
+        Assertions.assertThat(actualDemandSheetMap).containsOnlyKeys(2L, 8L);
+        Assertions.assertThat(actualDemandSheetMap.get(2L)).isEqualTo(new GetIngredientDemandSheetResponse(2L, 0, 10, 10));
+        Assertions.assertThat(actualDemandSheetMap.get(8L)).isEqualTo(new GetIngredientDemandSheetResponse(8L, 0, 6, 6));
+    }
+
     // total, month, stock, count
     @Test
     public void findIngredientAnalysisAsTotalAndMonthAndStockByFactoryManager_count() {
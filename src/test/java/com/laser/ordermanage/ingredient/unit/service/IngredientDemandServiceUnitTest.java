@@ -0,0 +1,210 @@
+package com.laser.ordermanage.ingredient.unit.service;
+
+import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.customer.dto.request.CustomerUpdateDrawingRequestBuilder;
+import com.laser.ordermanage.ingredient.domain.IngredientDemand;
+import com.laser.ordermanage.ingredient.domain.IngredientDemandBuilder;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientDemandSheetResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientResponse;
+import com.laser.ordermanage.ingredient.dto.response.GetIngredientResponseBuilder;
+import com.laser.ordermanage.ingredient.repository.IngredientDemandRepository;
+import com.laser.ordermanage.ingredient.repository.IngredientRepository;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
+import com.laser.ordermanage.order.domain.Drawing;
+import com.laser.ordermanage.order.domain.DrawingBuilder;
+import com.laser.ordermanage.order.domain.type.Ingredient;
+import com.laser.ordermanage.order.domain.type.Stage;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class IngredientDemandServiceUnitTest extends ServiceUnitTest {
+
+    @InjectMocks
+    private IngredientDemandService ingredientDemandService;
+
+    @Mock
+    private IngredientDemandRepository ingredientDemandRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    private final static String email = "factory@gmail.com";
+
+    /**
+     * 자재 소요량 조회 성공
+     * - 소요량은 자재 (원판) 수, 잔여 재고는 재고 - 소요량
+     */
+    @Test
+    public void getIngredientDemand_성공() {
+        // given
+        final List<GetIngredientResponse> getIngredientResponseList = GetIngredientResponseBuilder.buildList();
+        final List<GetIngredientDemandSheetResponse> demandSheetList = List.of(
+                new GetIngredientDemandSheetResponse(2L, 25, 30, 4),
+                new GetIngredientDemandSheetResponse(8L, 0, 6, 6)
+        );
+
+        // stub
+        when(ingredientRepository.findIngredientStatusByFactoryAndDate(eq(email), any(LocalDate.class), eq(Pageable.unpaged()), eq(null), eq(Sort.Direction.ASC), eq(null), eq(Boolean.FALSE), eq(null))).thenReturn(getIngredientResponseList);
+        when(ingredientRepository.findIngredientDemandSheetByFactoryManager(email)).thenReturn(demandSheetList);
+
+        // when
+        final ListResponse<GetIngredientDemandResponse> actualResponse = ingredientDemandService.getIngredientDemand(email);
+
+        // then
+        Assertions.assertThat(actualResponse.contents()).hasSize(getIngredientResponseList.size());
+
+        // SS 400, 1.6 : 소요량 없음
+        final GetIngredientDemandResponse ingredientDemandResponse1 = actualResponse.contents().get(0);
+        Assertions.assertThat(ingredientDemandResponse1.demand()).isEqualTo(0);
+        Assertions.assertThat(ingredientDemandResponse1.remaining()).isEqualTo(70);
+        Assertions.assertThat(ingredientDemandResponse1.isShortage()).isFalse();
+
+        // SS 400, 2.0 : 재고 50, 적정 재고 30, 소요량 25 원판
+        final GetIngredientDemandResponse ingredientDemandResponse2 = actualResponse.contents().get(1);
+        Assertions.assertThat(ingredientDemandResponse2.stock()).isEqualTo(50);
+        Assertions.assertThat(ingredientDemandResponse2.demand()).isEqualTo(25);
+        Assertions.assertThat(ingredientDemandResponse2.remaining()).isEqualTo(25);
+        Assertions.assertThat(ingredientDemandResponse2.isShortage()).isTrue();
+        Assertions.assertThat(ingredientDemandResponse2.partCount()).isEqualTo(30);
+        Assertions.assertThat(ingredientDemandResponse2.unestimatedPartCount()).isEqualTo(4);
+
+        // ATOS, 4.5 : 부품 면적을 알 수 없는 부품만 있음
+        final GetIngredientDemandResponse ingredientDemandResponse7 = actualResponse.contents().get(6);
+        Assertions.assertThat(ingredientDemandResponse7.demand()).isEqualTo(0);
+        Assertions.assertThat(ingredientDemandResponse7.unestimatedPartCount()).isEqualTo(6);
+    }
+
+    /**
+     * 도면의 자재 소요량 생성 성공
+     */
+    @Test
+    public void saveDemandByDrawing_성공_생성() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+
+        // stub
+        when(ingredientDemandRepository.findByDrawingId(drawing.getId())).thenReturn(Optional.empty());
+
+        // when
+        ingredientDemandService.saveDemandByDrawing(drawing);
+
+        // then
+        verify(ingredientDemandRepository, times(1)).save(argThat(ingredientDemand ->
+                ingredientDemand.getIngredient().equals(Ingredient.SS400)
+                        && ingredientDemand.getThickness().equals(drawing.getThickness())
+                        && ingredientDemand.getCount().equals(drawing.getCount())
+        ));
+    }
+
+    /**
+     * 도면의 자재 소요량 수정 성공
+     */
+    @Test
+    public void saveDemandByDrawing_성공_수정() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+        drawing.updateProperties(CustomerUpdateDrawingRequestBuilder.build());
+        final IngredientDemand ingredientDemand = IngredientDemandBuilder.build();
+
+        // stub
+        when(ingredientDemandRepository.findByDrawingId(drawing.getId())).thenReturn(Optional.of(ingredientDemand));
+
+        // when
+        ingredientDemandService.saveDemandByDrawing(drawing);
+
+        // then
+        verify(ingredientDemandRepository, never()).save(any());
+        Assertions.assertThat(ingredientDemand.getIngredient()).isEqualTo(Ingredient.AC);
+        Assertions.assertThat(ingredientDemand.getThickness()).isEqualTo(drawing.getThickness());
+        Assertions.assertThat(ingredientDemand.getCount()).isEqualTo(drawing.getCount());
+    }
+
+    /**
+     * 도면의 자재 소요량 삭제 성공
+     * - 도면 수량이 없으면 소요량 삭제
+     */
+    @Test
+    public void saveDemandByDrawing_성공_수량_없음() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+        drawing.updateProperties(CustomerUpdateDrawingRequestBuilder.nullCountBuild());
+
+        // when
+        ingredientDemandService.saveDemandByDrawing(drawing);
+
+        // then
+        verify(ingredientDemandRepository, times(1)).deleteByDrawingId(drawing.getId());
+        verify(ingredientDemandRepository, never()).findByDrawingId(any());
+    }
+
+    /**
+     * 거래 목록의 도면 자재 소요량 생성 성공
+     */
+    @Test
+    public void saveDemandByOrderList_성공() {
+        // given
+        final List<Long> orderIdList = List.of(1L, 2L);
+
+        // when
+        ingredientDemandService.saveDemandByOrderList(orderIdList);
+
+        // then
+        verify(ingredientDemandRepository, times(1)).insertByOrderList(orderIdList);
+    }
+
+    /**
+     * 거래 목록의 도면 자재 소요량 생성 성공
+     * - 거래 목록이 비어 있으면 조회하지 않음
+     */
+    @Test
+    public void saveDemandByOrderList_성공_거래_없음() {
+        // when
+        ingredientDemandService.saveDemandByOrderList(List.of());
+
+        // then
+        verifyNoInteractions(ingredientDemandRepository);
+    }
+
+    /**
+     * 거래 목록의 도면 자재 소요량 삭제 성공
+     */
+    @Test
+    public void deleteDemandByOrderList_성공() {
+        // given
+        final List<Long> orderIdList = List.of(1L, 2L);
+
+        // when
+        ingredientDemandService.deleteDemandByOrderList(orderIdList);
+
+        // then
+        verify(ingredientDemandRepository, times(1)).deleteByOrderIdList(orderIdList);
+    }
+
+    /**
+     * 소요량 도입 전 거래의 도면 자재 소요량 생성 성공
+     * - 견적 승인, 제작 중 단계 거래의 도면 중 소요량이 없는 도면만 생성
+     */
+    @Test
+    public void backfillDemand_성공() {
+        // when
+        ingredientDemandService.backfillDemand();
+
+        // then
+        verify(ingredientDemandRepository, times(1)).insertByOrderStage(argThat(stageList -> stageList.containsAll(List.of(Stage.QUOTE_APPROVAL.name(), Stage.IN_PRODUCTION.name())) && stageList.size() == 2));
+    }
+}
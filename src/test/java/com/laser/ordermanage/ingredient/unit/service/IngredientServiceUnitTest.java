@@ -12,18 +12,31 @@ import com.laser.ordermanage.ingredient.dto.response.*;
 import com.laser.ordermanage.ingredient.exception.IngredientErrorCode;
 import com.laser.ordermanage.ingredient.repository.IngredientPriceRepository;
 import com.laser.ordermanage.ingredient.repository.IngredientRepository;
+import com.laser.ordermanage.ingredient.repository.IngredientStockLedgerRepository;
 import com.laser.ordermanage.ingredient.repository.IngredientStockRepository;
 import com.laser.ordermanage.ingredient.service.IngredientService;
+import jakarta.validation.Validator;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
 
@@ -41,9 +54,18 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
     @Mock
     private IngredientRepository ingredientRepository;
 
+    @Mock
+    private IngredientStockLedgerRepository ingredientStockLedgerRepository;
+
     @Mock
     private FactoryUserAccountService factoryUserAccountService;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     private final static String email = "factory@gmail.com";
 
     private final static String totalData = "total";
@@ -152,18 +174,42 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
     public void getIngredientStatus_성공() {
         // given
         final LocalDate date = LocalDate.of(2024, 4, 1);
-        final List<GetIngredientResponse> getIngredientResponseList = GetIngredientResponseBuilder.buildList();
+        final Pageable pageable = Pageable.unpaged();
+        final GetIngredientStatusResponse expectedResponse = GetIngredientStatusResponseBuilder.build();
+
+        // stub
+        when(ingredientRepository.findIngredientStatusWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null)).thenReturn(expectedResponse);
+
+        // when
+        final GetIngredientStatusResponse actualResponse = ingredientService.getIngredientStatus(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
+
+        // then
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(ingredientRepository, times(1)).findIngredientStatusWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
+    }
+
+    /**
+     * 자재 현황 데이터 조회 성공 - 지난 날짜의 스냅샷 조회
+     */
+    @Test
+    public void getIngredientStatus_성공_스냅샷() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final Pageable pageable = Pageable.unpaged();
         final GetIngredientStatusResponse expectedResponse = GetIngredientStatusResponseBuilder.build();
 
         // stub
-        when(ingredientRepository.findIngredientStatusByFactoryAndDate(email, date)).thenReturn(getIngredientResponseList);
+        when(ingredientRepository.existsIngredientStatusSnapshotByFactoryAndDate(email, date)).thenReturn(true);
+        when(ingredientRepository.findIngredientStatusSnapshotWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null)).thenReturn(expectedResponse);
 
         // when
-        final GetIngredientStatusResponse actualResponse = ingredientService.getIngredientStatus(email, date);
+        final GetIngredientStatusResponse actualResponse = ingredientService.getIngredientStatus(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
 
         // then
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
-        verify(ingredientRepository, times(1)).findIngredientStatusByFactoryAndDate(email, date);
+        verify(ingredientRepository, times(1)).existsIngredientStatusSnapshotByFactoryAndDate(email, date);
+        verify(ingredientRepository, times(1)).findIngredientStatusSnapshotWithSummaryByFactoryAndDate(email, date, pageable, null, Sort.Direction.ASC, null, null, null);
+        verify(ingredientRepository, never()).findIngredientStatusWithSummaryByFactoryAndDate(any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     /**
@@ -185,62 +231,257 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
         verify(factoryUserAccountService, times(1)).getFactoryByFactoryManagerUserEmail(email);
         verify(ingredientRepository, times(1)).save(any());
         verify(ingredientStockRepository, times(1)).save(any());
+        verify(ingredientStockLedgerRepository, times(1)).save(any());
         verify(ingredientPriceRepository, times(1)).save(any());
     }
 
+    /**
+     * 자재 생성 성공
+     * - 초기 재고는 자재 재고 데이터의 재고 및 전일 기초 재고 이력의 입고량
+     */
+    @Test
+    public void createIngredient_성공_초기_재고() {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final CreateIngredientRequest request = CreateIngredientRequestBuilder.initialStockBuild();
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+
+        // when
+        ingredientService.createIngredient(email, request);
+
+        // then
+        final ArgumentCaptor<IngredientStock> ingredientStockCaptor = ArgumentCaptor.forClass(IngredientStock.class);
+        verify(ingredientStockRepository, times(1)).save(ingredientStockCaptor.capture());
+        Assertions.assertThat(ingredientStockCaptor.getValue().getStock()).isEqualTo(70);
+
+        final ArgumentCaptor<IngredientStockLedger> ingredientStockLedgerCaptor = ArgumentCaptor.forClass(IngredientStockLedger.class);
+        verify(ingredientStockLedgerRepository, times(1)).save(ingredientStockLedgerCaptor.capture());
+        Assertions.assertThat(ingredientStockLedgerCaptor.getValue().getIncoming()).isEqualTo(70);
+        Assertions.assertThat(ingredientStockLedgerCaptor.getValue().getOpening()).isTrue();
+        Assertions.assertThat(ingredientStockLedgerCaptor.getValue().getMovementDate()).isEqualTo(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 성공
+     * - 형식이 올바르지 않은 행은 제외하고 행 번호와 오류 메시지 응답
+     */
+    @Test
+    public void importIngredient_성공() throws IOException {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                "text/csv",
+                new FileInputStream("src/test/resources/ingredient/ingredient.csv")
+        );
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        final ImportIngredientResponse actualResponse = ingredientService.importIngredient(email, file);
+
+        // then
+        Assertions.assertThat(actualResponse.totalRowCount()).isEqualTo(4);
+        Assertions.assertThat(actualResponse.importedRowCount()).isEqualTo(2);
+        Assertions.assertThat(actualResponse.errorList()).extracting(ImportIngredientErrorResponse::rowNumber).containsExactly(4, 5);
+        Assertions.assertThat(actualResponse.errorList().get(0).messageList()).containsExactly("두께 형식이 올바르지 않습니다.");
+        verify(factoryUserAccountService, times(1)).getFactoryByFactoryManagerUserEmail(email);
+        verify(validator, times(2)).validate(any());
+        verify(ingredientRepository, times(1)).saveAllIngredientWithStockAndPrice(any(), argThat(requestList ->
+                requestList.size() == 2 && requestList.get(0).initialStockOrZero() == 100 && requestList.get(1).initialStock() == null));
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 성공
+     * - 초기 재고 컬럼이 없는 이전 형식의 파일은 초기 재고 0
+     */
+    @Test
+    public void importIngredient_성공_초기_재고_컬럼_없음() {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                "text/csv",
+                "texture,thickness,width,height,weight,purchase,sell,optimal-stock\nSS 400,1.6,4,8,37.3,3000,3200,60\n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        final ImportIngredientResponse actualResponse = ingredientService.importIngredient(email, file);
+
+        // then
+        Assertions.assertThat(actualResponse.importedRowCount()).isEqualTo(1);
+        Assertions.assertThat(actualResponse.errorList()).isEmpty();
+        verify(ingredientRepository, times(1)).saveAllIngredientWithStockAndPrice(any(), argThat(requestList ->
+                requestList.size() == 1 && requestList.get(0).initialStockOrZero() == 0));
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 성공
+     * - 큰따옴표로 감싼 컬럼의 쉼표, 줄바꿈은 같은 행으로 읽고, 행 번호는 레코드 기준
+     */
+    @Test
+    public void importIngredient_성공_큰따옴표_줄바꿈() {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                "text/csv",
+                "\uFEFFtexture,thickness,width,height,weight,purchase,sell,optimal-stock,initial-stock\r\n\"SS 400\n(국산, \"\"A\"\")\",1.6,4,8,37.3,3000,3200,60,100\r\nSS 400,abc,4,8,37.3,3000,3200,60,100\r\n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        final ImportIngredientResponse actualResponse = ingredientService.importIngredient(email, file);
+
+        // then
+        Assertions.assertThat(actualResponse.totalRowCount()).isEqualTo(2);
+        Assertions.assertThat(actualResponse.importedRowCount()).isEqualTo(1);
+        Assertions.assertThat(actualResponse.errorList()).extracting(ImportIngredientErrorResponse::rowNumber).containsExactly(3);
+        verify(ingredientRepository, times(1)).saveAllIngredientWithStockAndPrice(any(), argThat(requestList ->
+                requestList.size() == 1 && requestList.get(0).texture().equals("SS 400\n(국산, \"A\")")));
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 성공
+     * - 저장에 실패한 chunk 의 행은 오류로 응답
+     */
+    @Test
+    public void importIngredient_성공_chunk_저장_실패() throws IOException {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                "text/csv",
+                new FileInputStream("src/test/resources/ingredient/ingredient.csv")
+        );
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+        doThrow(new DataIntegrityViolationException("duplicate")).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        final ImportIngredientResponse actualResponse = ingredientService.importIngredient(email, file);
+
+        // then
+        Assertions.assertThat(actualResponse.totalRowCount()).isEqualTo(4);
+        Assertions.assertThat(actualResponse.importedRowCount()).isEqualTo(0);
+        Assertions.assertThat(actualResponse.errorList()).extracting(ImportIngredientErrorResponse::rowNumber).containsExactly(2, 3, 4, 5);
+        Assertions.assertThat(actualResponse.errorList().get(0).messageList()).containsExactly("자재를 저장하지 못했습니다. 다시 시도해 주세요.");
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 실패
+     * - 실패 사유 : 큰따옴표가 닫히지 않은 파일
+     */
+    @Test
+    public void importIngredient_실패_INVALID_INGREDIENT_IMPORT_FILE_큰따옴표() {
+        // given
+        final Factory factory = FactoryBuilder.build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "ingredient.csv",
+                "text/csv",
+                "texture,thickness,width,height,weight,purchase,sell,optimal-stock,initial-stock\n\"SS 400,1.6,4,8,37.3,3000,3200,60,100\n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // stub
+        when(factoryUserAccountService.getFactoryByFactoryManagerUserEmail(email)).thenReturn(factory);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> ingredientService.importIngredient(email, file))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(IngredientErrorCode.INVALID_INGREDIENT_IMPORT_FILE.getMessage());
+        verify(ingredientRepository, never()).saveAllIngredientWithStockAndPrice(any(), any());
+    }
+
+    /**
+     * 자재 CSV 일괄 등록 실패
+     * - 실패 사유 : CSV 파일이 아님
+     */
+    @Test
+    public void importIngredient_실패_INVALID_INGREDIENT_IMPORT_FILE() throws IOException {
+        // given
+        final MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "purchase-order.png",
+                "image/png",
+                new FileInputStream("src/test/resources/purchase-order/purchase-order.png")
+        );
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> ingredientService.importIngredient(email, file))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(IngredientErrorCode.INVALID_INGREDIENT_IMPORT_FILE.getMessage());
+        verify(ingredientRepository, never()).saveAllIngredientWithStockAndPrice(any(), any());
+    }
+
     /**
      * 자재 재고 수정 성공
-     * - 당일 최초 등록
+     * - 변동량을 재고 변동 이력에 추가하고 당일 자재 재고 데이터에 반영 (자재 잠금 X)
      */
     @Test
-    public void updateIngredientStock_성공_최초등록() {
+    public void updateIngredientStock_성공() {
         // given
         final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.build();
         final Ingredient ingredient = IngredientBuilder.build();
-        final IngredientStock previousIngredientStock = IngredientStockBuilder.build();
 
         // stub
-        when(ingredientRepository.findFirstByIdForUpdate(ingredientId)).thenReturn(Optional.of(ingredient));
-        when(ingredientStockRepository.findPreviousByIngredientIdAndDate(eq(ingredientId), any())).thenReturn(previousIngredientStock);
-        when(ingredientStockRepository.findByIngredientIdAndCreatedAt(eq(ingredientId), any())).thenReturn(Optional.empty());
+        when(ingredientRepository.findFirstById(ingredientId)).thenReturn(Optional.of(ingredient));
 
         // when
         ingredientService.updateIngredientStock(ingredientId, request);
 
         // then
-        verify(ingredientRepository, times(1)).findFirstByIdForUpdate(ingredientId);
-        verify(ingredientStockRepository, times(1)).findPreviousByIngredientIdAndDate(eq(ingredientId), any());
-        verify(ingredientStockRepository, times(1)).findByIngredientIdAndCreatedAt(eq(ingredientId), any());
-        verify(ingredientStockRepository, times(1)).save(any());
+        verify(ingredientRepository, never()).findFirstByIdForUpdate(any());
+        verify(ingredientStockLedgerRepository, times(1)).save(argThat(ingredientStockLedger ->
+                ingredientStockLedger.getIncoming().equals(request.incoming()) && ingredientStockLedger.getProduction().equals(request.production())
+        ));
+        verify(ingredientStockRepository, times(1)).upsertStockByMovement(eq(ingredientId), any(), eq(request.incoming()), eq(request.production()));
     }
 
     /**
      * 자재 재고 수정 성공
-     * - 당일 재 등록
+     * - 변동량이 없으면 이력 추가 X
      */
     @Test
-    public void updateIngredientStock_성공_재등록() {
+    public void updateIngredientStock_성공_변동량_없음() {
         // given
-        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.build();
+        final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.emptyBuild();
         final Ingredient ingredient = IngredientBuilder.build();
-        final IngredientStock previousIngredientStock = IngredientStockBuilder.build();
-        final IngredientStock todayIngredientStock = IngredientStockBuilder.build();
 
         // stub
-        when(ingredientRepository.findFirstByIdForUpdate(ingredientId)).thenReturn(Optional.of(ingredient));
-        when(ingredientStockRepository.findPreviousByIngredientIdAndDate(eq(ingredientId), any())).thenReturn(previousIngredientStock);
-        when(ingredientStockRepository.findByIngredientIdAndCreatedAt(eq(ingredientId), any())).thenReturn(Optional.of(todayIngredientStock));
+        when(ingredientRepository.findFirstById(ingredientId)).thenReturn(Optional.of(ingredient));
 
         // when
         ingredientService.updateIngredientStock(ingredientId, request);
 
         // then
-        Assertions.assertThat(todayIngredientStock.getIncoming()).isEqualTo(request.incoming());
-        Assertions.assertThat(todayIngredientStock.getProduction()).isEqualTo(request.production());
-        Assertions.assertThat(todayIngredientStock.getStock()).isEqualTo(request.currentDay());
-        verify(ingredientRepository, times(1)).findFirstByIdForUpdate(ingredientId);
-        verify(ingredientStockRepository, times(1)).findPreviousByIngredientIdAndDate(eq(ingredientId), any());
-        verify(ingredientStockRepository, times(1)).findByIngredientIdAndCreatedAt(eq(ingredientId), any());
+        verify(ingredientStockLedgerRepository, never()).save(any());
+        verify(ingredientStockRepository, never()).upsertStockByMovement(any(), any(), any(), any());
     }
 
     /**
@@ -254,7 +495,7 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
         final UpdateIngredientStockRequest request = UpdateIngredientStockRequestBuilder.build();
 
         // stub
-        when(ingredientRepository.findFirstByIdForUpdate(unknownIngredientId)).thenReturn(Optional.empty());
+        when(ingredientRepository.findFirstById(unknownIngredientId)).thenReturn(Optional.empty());
 
         // when & then
         Assertions.assertThatThrownBy(() -> ingredientService.updateIngredientStock(unknownIngredientId, request))
@@ -274,7 +515,7 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
         ingredient.delete();
 
         // stub
-        when(ingredientRepository.findFirstByIdForUpdate(ingredientId)).thenReturn(Optional.of(ingredient));
+        when(ingredientRepository.findFirstById(ingredientId)).thenReturn(Optional.of(ingredient));
 
         // when & then
         Assertions.assertThatThrownBy(() -> ingredientService.updateIngredientStock(ingredientId, request))
@@ -282,6 +523,27 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
                 .hasMessage(IngredientErrorCode.UNABLE_UPDATE_DELETED_INGREDIENT.getMessage());
     }
 
+    /**
+     * 자재 재고 변동 이력 조회 성공
+     */
+    @Test
+    public void getIngredientStockLedger_성공() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+        final List<IngredientStockLedger> ingredientStockLedgerList = IngredientStockLedgerBuilder.buildList();
+        final ListResponse<GetIngredientStockLedgerResponse> expectedResponse = new ListResponse<>(GetIngredientStockLedgerResponseBuilder.buildList());
+
+        // stub
+        when(ingredientStockLedgerRepository.findByIngredientIdAndMovementDateOrderByIdAsc(ingredientId, date)).thenReturn(ingredientStockLedgerList);
+
+        // when
+        final ListResponse<GetIngredientStockLedgerResponse> actualResponse = ingredientService.getIngredientStockLedger(ingredientId, date);
+
+        // then
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(ingredientStockLedgerRepository, times(1)).findByIngredientIdAndMovementDateOrderByIdAsc(ingredientId, date);
+    }
+
     /**
      * 자재 정보 (단가, 적정재고) 수정 성공
      * - 당일 최초 등록
@@ -876,4 +1138,34 @@ public class IngredientServiceUnitTest extends ServiceUnitTest {
         verify(ingredientStockRepository, times(1)).saveAll(any());
         verify(ingredientPriceRepository, times(1)).saveAll(any());
     }
+
+    /**
+     * 일 단위 자재 현황 스냅샷 생성 성공
+     */
+    @Test
+    public void createIngredientStatusSnapshot_성공() {
+        // given
+        final LocalDate date = LocalDate.of(2024, 4, 1);
+
+        // when
+        ingredientService.createIngredientStatusSnapshot(date);
+
+        // then
+        verify(ingredientStockRepository, times(1)).updateStockByLedger(date);
+        verify(ingredientStockRepository, times(1)).insertStockByLedger(date);
+        verify(ingredientRepository, times(1)).deleteIngredientStatusSnapshotByDate(date);
+        verify(ingredientRepository, times(1)).createIngredientStatusSnapshotByDate(date);
+    }
+
+    /**
+     * 재고 변동 이력 도입 전 자재의 기초 재고 이력 생성 성공
+     */
+    @Test
+    public void createIngredientStockOpeningLedger_성공() {
+        // when
+        ingredientService.createIngredientStockOpeningLedger();
+
+        // then
+        verify(ingredientStockLedgerRepository, times(1)).insertMissingOpeningLedger(any(), any());
+    }
 }
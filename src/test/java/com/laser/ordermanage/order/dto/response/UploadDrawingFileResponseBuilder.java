@@ -1,45 +1,46 @@
 package com.laser.ordermanage.order.dto.response;
 
 import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
 
 public class UploadDrawingFileResponseBuilder {
     public static UploadDrawingFileResponse buildOfDWGDrawing() {
         return UploadDrawingFileResponse.builder()
-                .thumbnailUrl("thumbnail-url.dwg")
                 .fileName("drawing.dwg")
                 .fileSize(140801L)
                 .fileType(DrawingFileType.DWG.getExtension())
                 .fileUrl("drawing-file-url.dwg")
+                .thumbnailStatus(DrawingThumbnailStatus.PENDING.name())
                 .build();
     }
 
     public static UploadDrawingFileResponse buildOfDXFDrawing() {
         return UploadDrawingFileResponse.builder()
-                .thumbnailUrl("thumbnail-url.dxf")
                 .fileName("drawing.dxf")
                 .fileSize(1827628L)
                 .fileType(DrawingFileType.DXF.getExtension())
                 .fileUrl("drawing-file-url.dxf")
+                .thumbnailStatus(DrawingThumbnailStatus.PENDING.name())
                 .build();
     }
 
     public static UploadDrawingFileResponse buildOfPDFDrawing() {
         return UploadDrawingFileResponse.builder()
-                .thumbnailUrl("thumbnail-url.pdf")
                 .fileName("drawing.pdf")
                 .fileSize(160737L)
                 .fileType(DrawingFileType.PDF.getExtension())
                 .fileUrl("drawing-file-url.pdf")
+                .thumbnailStatus(DrawingThumbnailStatus.PENDING.name())
                 .build();
     }
 
     public static UploadDrawingFileResponse buildOfPNGDrawing() {
         return UploadDrawingFileResponse.builder()
-                .thumbnailUrl("thumbnail-url.png")
                 .fileName("drawing.png")
                 .fileSize(95120L)
                 .fileType(DrawingFileType.PNG.getExtension())
                 .fileUrl("drawing-file-url.png")
+                .thumbnailStatus(DrawingThumbnailStatus.PENDING.name())
                 .build();
     }
 }
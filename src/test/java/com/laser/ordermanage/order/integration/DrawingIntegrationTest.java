@@ -14,7 +14,6 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
 
@@ -48,7 +47,6 @@ public class DrawingIntegrationTest extends IntegrationTest {
 
         // stub
         when(s3Service.upload(any(), (MultipartFile) any(), eq("drawing.dwg"))).thenReturn("drawing-file-url.dwg");
-        when(s3Service.upload(any(), (File) any(), eq("drawing-thumbnail.png"))).thenReturn("thumbnail-url.dwg");
 
         // when
         final ResultActions resultActions = requestUploadDrawingFile(accessToken, file);
@@ -81,7 +79,6 @@ public class DrawingIntegrationTest extends IntegrationTest {
 
         // stub
         when(s3Service.upload(any(), (MultipartFile) any(), eq("drawing.dxf"))).thenReturn("drawing-file-url.dxf");
-        when(s3Service.upload(any(), (File) any(), eq("drawing-thumbnail.png"))).thenReturn("thumbnail-url.dxf");
 
         // when
         final ResultActions resultActions = requestUploadDrawingFile(accessToken, file);
@@ -114,7 +111,6 @@ public class DrawingIntegrationTest extends IntegrationTest {
 
         // stub
         when(s3Service.upload(any(), (MultipartFile) any(), eq("drawing.pdf"))).thenReturn("drawing-file-url.pdf");
-        when(s3Service.upload(any(), (File) any(), eq("drawing-thumbnail.png"))).thenReturn("thumbnail-url.pdf");
 
         // when
         final ResultActions resultActions = requestUploadDrawingFile(accessToken, file);
@@ -147,7 +143,6 @@ public class DrawingIntegrationTest extends IntegrationTest {
 
         // stub
         when(s3Service.upload(any(), (MultipartFile) any(), eq("drawing.png"))).thenReturn("drawing-file-url.png");
-        when(s3Service.upload(any(), (File) any(), eq("drawing-thumbnail.png"))).thenReturn("thumbnail-url.png");
 
         // when
         final ResultActions resultActions = requestUploadDrawingFile(accessToken, file);
@@ -2,10 +2,15 @@ package com.laser.ordermanage.order.unit.api;
 
 import com.laser.ordermanage.common.APIUnitTest;
 import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.order.api.DrawingAPI;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import com.laser.ordermanage.order.dto.response.GetDrawingThumbnailResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponseBuilder;
+import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.service.DrawingService;
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
 import com.laser.ordermanage.user.exception.UserErrorCode;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +29,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -37,6 +43,9 @@ public class DrawingAPIUnitTest extends APIUnitTest {
     @MockBean
     private DrawingService drawingService;
 
+    @MockBean
+    private DrawingThumbnailService drawingThumbnailService;
+
     @BeforeEach
     public void setUp() {
         mvc = buildMockMvc(context);
@@ -134,6 +143,76 @@ public class DrawingAPIUnitTest extends APIUnitTest {
         assertErrorWithMessage(CommonErrorCode.INVALID_PARAMETER, resultActions, "도면 파일은 필수 입력값입니다.");
     }
 
+    /**
+     * 도면 썸네일 조회 성공
+     */
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    public void 도면_썸네일_조회_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String fileUrl = "drawing-file-url.dwg";
+        final GetDrawingThumbnailResponse expectedResponse = GetDrawingThumbnailResponse.builder()
+                .fileUrl(fileUrl)
+                .status(DrawingThumbnailStatus.COMPLETED.name())
+                .thumbnailUrl("thumbnail-url.png")
+                .build();
+
+        // stub
+        when(drawingThumbnailService.getDrawingThumbnail(fileUrl)).thenReturn(expectedResponse);
+
+        // when
+        final ResultActions resultActions = requestGetDrawingThumbnail(accessToken, fileUrl);
+
+        // then
+        final String responseString = resultActions
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        final GetDrawingThumbnailResponse actualResponse = objectMapper.readValue(responseString, GetDrawingThumbnailResponse.class);
+
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    /**
+     * 도면 썸네일 조회 실패
+     * - 실패 사유 : 공장(FACTORY) 사용자에 의한 요청
+     */
+    @Test
+    @WithMockUser(roles = "FACTORY")
+    public void 도면_썸네일_조회_실패_사용자_역할() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String fileUrl = "drawing-file-url.dwg";
+
+        // when
+        final ResultActions resultActions = requestGetDrawingThumbnail(accessToken, fileUrl);
+
+        // then
+        assertError(UserErrorCode.DENIED_ACCESS, resultActions);
+    }
+
+    /**
+     * 도면 썸네일 조회 실패
+     * - 실패 사유 : 존재하지 않는 도면 썸네일
+     */
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    public void 도면_썸네일_조회_실패_도면_썸네일_존재() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String unknownFileUrl = "unknown-file-url.dwg";
+
+        // stub
+        when(drawingThumbnailService.getDrawingThumbnail(unknownFileUrl)).thenThrow(new CustomCommonException(OrderErrorCode.NOT_FOUND_DRAWING_THUMBNAIL));
+
+        // when
+        final ResultActions resultActions = requestGetDrawingThumbnail(accessToken, unknownFileUrl);
+
+        // then
+        assertError(OrderErrorCode.NOT_FOUND_DRAWING_THUMBNAIL, resultActions);
+    }
+
     private ResultActions requestUploadDrawingFile(String accessToken, MockMultipartFile file) throws Exception {
         return mvc.perform(
                         multipart("/drawing")
@@ -149,4 +228,12 @@ public class DrawingAPIUnitTest extends APIUnitTest {
                                 .header("Authorization", "Bearer " + accessToken))
                 .andDo(print());
     }
+
+    private ResultActions requestGetDrawingThumbnail(String accessToken, String fileUrl) throws Exception {
+        return mvc.perform(
+                        get("/drawing/thumbnail")
+                                .param("file-url", fileUrl)
+                                .header("Authorization", "Bearer " + accessToken))
+                .andDo(print());
+    }
 }
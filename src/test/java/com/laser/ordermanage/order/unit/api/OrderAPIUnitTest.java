@@ -11,6 +11,7 @@ import com.laser.ordermanage.order.dto.request.CreateCommentRequest;
 import com.laser.ordermanage.order.dto.request.CreateCommentRequestBuilder;
 import com.laser.ordermanage.order.dto.response.*;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderEmailService;
 import com.laser.ordermanage.order.service.OrderService;
 import com.laser.ordermanage.user.exception.UserErrorCode;
@@ -20,19 +21,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderAPI.class)
 public class OrderAPIUnitTest extends APIUnitTest {
@@ -46,6 +51,9 @@ public class OrderAPIUnitTest extends APIUnitTest {
     @MockBean
     private OrderEmailService orderEmailService;
 
+    @MockBean
+    private DrawingService drawingService;
+
     @BeforeEach
     public void setUp() {
         mvc = buildMockMvc(context);
@@ -183,6 +191,54 @@ public class OrderAPIUnitTest extends APIUnitTest {
         assertError(OrderErrorCode.DENIED_ACCESS_TO_ORDER, resultActions);
     }
 
+    /**
+     * 거래의 도면 파일 전체 ZIP 다운로드 성공
+     */
+    @Test
+    @WithMockUser
+    public void 거래_도면_파일_ZIP_다운로드_성공() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+
+        // stub
+        when(drawingService.getDrawingListByOrderId(any())).thenReturn(List.of());
+
+        // when
+        final MvcResult mvcResult = requestGetOrderDrawingArchive(accessToken, orderId)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"order-1-drawing.zip\""));
+
+        verify(drawingService).writeDrawingArchive(any(), any());
+    }
+
+    /**
+     * 거래의 도면 파일 전체 ZIP 다운로드 실패
+     * - 실패 사유 : 거래에 대한 접근 권한이 없음
+     */
+    @Test
+    @WithMockUser
+    public void 거래_도면_파일_ZIP_다운로드_실패_거래접근권한() throws Exception {
+        // given
+        final String accessToken = "access-token";
+        final String orderId = "1";
+
+        // stub
+        doThrow(new CustomCommonException(OrderErrorCode.DENIED_ACCESS_TO_ORDER)).when(orderService).checkAuthorityCustomerOfOrderOrFactory(any(), any());
+
+        // when
+        final ResultActions resultActions = requestGetOrderDrawingArchive(accessToken, orderId);
+
+        // then
+        assertError(OrderErrorCode.DENIED_ACCESS_TO_ORDER, resultActions);
+    }
+
     /**
      * 거래에 댓글 작성 성공
      */
@@ -454,6 +510,12 @@ public class OrderAPIUnitTest extends APIUnitTest {
                 .andDo(print());
     }
 
+    private ResultActions requestGetOrderDrawingArchive(String accessToken, String orderId) throws Exception {
+        return mvc.perform(get("/order/{order-id}/drawing/archive", orderId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print());
+    }
+
     private ResultActions requestCreateComment(String accessToken, String orderId, CreateCommentRequest request) throws Exception {
         return mvc.perform(post("/order/{order-id}/comment", orderId)
                         .header("Authorization", "Bearer " + accessToken)
@@ -0,0 +1,255 @@
+package com.laser.ordermanage.order.unit.service;
+
+import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.order.domain.DrawingAnalysis;
+import com.laser.ordermanage.order.domain.type.DrawingAnalysisStatus;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.repository.DrawingAnalysisRepository;
+import com.laser.ordermanage.order.service.DrawingAnalysisService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DrawingAnalysisServiceUnitTest extends ServiceUnitTest {
+
+    private DrawingAnalysisService drawingAnalysisService;
+
+    @Mock
+    private FileComponent fileComponent;
+
+    @Mock
+    private DrawingAnalysisRepository drawingAnalysisRepository;
+
+    private final FileEntity<DrawingFileType> dxfFile = FileEntity.<DrawingFileType>builder()
+            .name("drawing.dxf")
+            .size(1827628L)
+            .type(DrawingFileType.DXF)
+            .url("https://ordermanage.s3.ap-northeast-2.amazonaws.com/drawing.dxf")
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        // 분석 작업을 요청 스레드에서 바로 실행
+        drawingAnalysisService = new DrawingAnalysisService(Runnable::run, fileComponent, drawingAnalysisRepository);
+        ReflectionTestUtils.setField(drawingAnalysisService, "retryDelayMinutes", 5L);
+    }
+
+    /**
+     * 도면 파일 분석 요청 성공
+     * - 분석 중으로 저장 후 분석 완료로 변경
+     */
+    @Test
+    public void requestAnalysis_성공() throws Exception {
+        // given
+        final String fileHash = "file-hash";
+
+        // stub
+        when(drawingAnalysisRepository.findFirstByFileHashAndStatus(fileHash, DrawingAnalysisStatus.COMPLETED)).thenReturn(Optional.empty());
+        when(drawingAnalysisRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingAnalysisRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+
+        // when
+        drawingAnalysisService.requestAnalysis(dxfFile, fileHash);
+
+        // then
+        ArgumentCaptor<DrawingAnalysis> captor = ArgumentCaptor.forClass(DrawingAnalysis.class);
+        verify(drawingAnalysisRepository, times(2)).save(captor.capture());
+        final DrawingAnalysis actualDrawingAnalysis = captor.getValue();
+        Assertions.assertThat(actualDrawingAnalysis.getFileUrl()).isEqualTo(dxfFile.getUrl());
+        Assertions.assertThat(actualDrawingAnalysis.getStatus()).isEqualTo(DrawingAnalysisStatus.COMPLETED);
+        Assertions.assertThat(actualDrawingAnalysis.getCutLength()).isPositive();
+        Assertions.assertThat(actualDrawingAnalysis.getPierceCount()).isPositive();
+        Assertions.assertThat(actualDrawingAnalysis.getPartArea()).isPositive();
+    }
+
+    /**
+     * 도면 파일 분석 요청 성공 - 같은 내용의 파일을 분석한 결과 재사용
+     */
+    @Test
+    public void requestAnalysis_성공_분석_결과_재사용() {
+        // given
+        final String fileHash = "file-hash";
+        final DrawingAnalysis completedDrawingAnalysis = DrawingAnalysis.builder()
+                .fileUrl("https://ordermanage.s3.ap-northeast-2.amazonaws.com/previous.dxf")
+                .fileHash(fileHash)
+                .status(DrawingAnalysisStatus.COMPLETED)
+                .cutLength(1234.5)
+                .pierceCount(12)
+                .partArea(40000.0)
+                .build();
+
+        // stub
+        when(drawingAnalysisRepository.findFirstByFileHashAndStatus(fileHash, DrawingAnalysisStatus.COMPLETED)).thenReturn(Optional.of(completedDrawingAnalysis));
+
+        // when
+        drawingAnalysisService.requestAnalysis(dxfFile, fileHash);
+
+        // then
+        ArgumentCaptor<DrawingAnalysis> captor = ArgumentCaptor.forClass(DrawingAnalysis.class);
+        verify(drawingAnalysisRepository, times(1)).save(captor.capture());
+        final DrawingAnalysis actualDrawingAnalysis = captor.getValue();
+        Assertions.assertThat(actualDrawingAnalysis.getFileUrl()).isEqualTo(dxfFile.getUrl());
+        Assertions.assertThat(actualDrawingAnalysis.getStatus()).isEqualTo(DrawingAnalysisStatus.COMPLETED);
+        Assertions.assertThat(actualDrawingAnalysis.getCutLength()).isEqualTo(1234.5);
+        Assertions.assertThat(actualDrawingAnalysis.getPierceCount()).isEqualTo(12);
+        Assertions.assertThat(actualDrawingAnalysis.getPartArea()).isEqualTo(40000.0);
+        verify(fileComponent, never()).downloadFile(any());
+    }
+
+    /**
+     * 도면 파일 분석 요청 성공 - 분석 대기열이 가득 차면 분석 중 상태로 두고 재시도 작업에서 분석
+     */
+    @Test
+    public void requestAnalysis_성공_대기열_초과() {
+        // given
+        final String fileHash = "file-hash";
+        drawingAnalysisService = new DrawingAnalysisService(
+                command -> {
+                    throw new RejectedExecutionException();
+                },
+                fileComponent,
+                drawingAnalysisRepository
+        );
+
+        // stub
+        when(drawingAnalysisRepository.findFirstByFileHashAndStatus(fileHash, DrawingAnalysisStatus.COMPLETED)).thenReturn(Optional.empty());
+        when(drawingAnalysisRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        drawingAnalysisService.requestAnalysis(dxfFile, fileHash);
+
+        // then
+        ArgumentCaptor<DrawingAnalysis> captor = ArgumentCaptor.forClass(DrawingAnalysis.class);
+        verify(drawingAnalysisRepository, times(1)).save(captor.capture());
+        Assertions.assertThat(captor.getValue().getStatus()).isEqualTo(DrawingAnalysisStatus.PENDING);
+        verify(fileComponent, never()).downloadFile(any());
+    }
+
+    /**
+     * 도면 파일 분석 요청 성공 - 분석 실패 시 최대 시도 횟수 전까지 분석 중 상태로 두고 재시도 작업에서 분석
+     */
+    @Test
+    public void requestAnalysis_성공_분석_실패() {
+        // given
+        final String fileHash = "file-hash";
+
+        // stub
+        when(drawingAnalysisRepository.findFirstByFileHashAndStatus(fileHash, DrawingAnalysisStatus.COMPLETED)).thenReturn(Optional.empty());
+        when(drawingAnalysisRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingAnalysisRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenThrow(new RuntimeException());
+
+        // when
+        drawingAnalysisService.requestAnalysis(dxfFile, fileHash);
+
+        // then
+        ArgumentCaptor<DrawingAnalysis> captor = ArgumentCaptor.forClass(DrawingAnalysis.class);
+        verify(drawingAnalysisRepository, times(2)).save(captor.capture());
+        final DrawingAnalysis actualDrawingAnalysis = captor.getValue();
+        Assertions.assertThat(actualDrawingAnalysis.getStatus()).isEqualTo(DrawingAnalysisStatus.PENDING);
+        Assertions.assertThat(actualDrawingAnalysis.getAttemptCount()).isEqualTo(1);
+    }
+
+    /**
+     * 도면 파일 분석 요청 성공 - DWG, DXF 가 아닌 도면은 분석하지 않음
+     */
+    @Test
+    public void requestAnalysis_성공_분석_대상_아님() {
+        // given
+        final FileEntity<DrawingFileType> pdfFile = FileEntity.<DrawingFileType>builder()
+                .name("drawing.pdf")
+                .size(1000L)
+                .type(DrawingFileType.PDF)
+                .url("https://ordermanage.s3.ap-northeast-2.amazonaws.com/drawing.pdf")
+                .build();
+
+        // when
+        drawingAnalysisService.requestAnalysis(pdfFile, "file-hash");
+
+        // then
+        verifyNoInteractions(drawingAnalysisRepository, fileComponent);
+    }
+
+    /**
+     * 분석 결과 재분석 성공
+     * - 분석 중 상태로 남아있는 결과와 부품 면적 도입 전 분석 완료 결과를 다시 분석
+     */
+    @Test
+    public void retryAnalysis_성공() throws IOException {
+        // given
+        final DrawingAnalysis pendingDrawingAnalysis = DrawingAnalysis.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileHash("file-hash")
+                .status(DrawingAnalysisStatus.PENDING)
+                .build();
+        final DrawingAnalysis legacyDrawingAnalysis = DrawingAnalysis.builder()
+                .fileUrl("https://ordermanage.s3.ap-northeast-2.amazonaws.com/legacy.DXF")
+                .fileHash("legacy-file-hash")
+                .status(DrawingAnalysisStatus.COMPLETED)
+                .cutLength(1234.5)
+                .pierceCount(12)
+                .build();
+
+        // stub
+        when(drawingAnalysisRepository.findRetryAnalysisList(eq(DrawingAnalysis.MAX_ATTEMPT_COUNT), any(), any())).thenReturn(List.of(pendingDrawingAnalysis, legacyDrawingAnalysis));
+        when(drawingAnalysisRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(drawingAnalysisRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileComponent.downloadFile(pendingDrawingAnalysis.getFileUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+        when(fileComponent.downloadFile(legacyDrawingAnalysis.getFileUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+
+        // when
+        drawingAnalysisService.retryAnalysis();
+
+        // then
+        Assertions.assertThat(pendingDrawingAnalysis.getStatus()).isEqualTo(DrawingAnalysisStatus.COMPLETED);
+        Assertions.assertThat(pendingDrawingAnalysis.getPartArea()).isPositive();
+        Assertions.assertThat(legacyDrawingAnalysis.getStatus()).isEqualTo(DrawingAnalysisStatus.COMPLETED);
+        Assertions.assertThat(legacyDrawingAnalysis.getPartArea()).isPositive();
+        verify(drawingAnalysisRepository, times(4)).claimAttempt(any(), any(), any());
+        verify(drawingAnalysisRepository, times(2)).save(any());
+    }
+
+    /**
+     * 분석 결과 재분석 성공
+     * - 대기열에서 기다리던 작업이나 다른 재시도 작업이 먼저 선점한 분석은 다시 요청하지 않음
+     */
+    @Test
+    public void retryAnalysis_성공_이미_선점() {
+        // given
+        final DrawingAnalysis drawingAnalysis = DrawingAnalysis.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileHash("file-hash")
+                .status(DrawingAnalysisStatus.PENDING)
+                .build();
+        final LocalDateTime lastAttemptAt = drawingAnalysis.getLastAttemptAt();
+
+        // stub
+        when(drawingAnalysisRepository.findRetryAnalysisList(eq(DrawingAnalysis.MAX_ATTEMPT_COUNT), any(), any())).thenReturn(List.of(drawingAnalysis));
+        when(drawingAnalysisRepository.claimAttempt(any(), eq(lastAttemptAt), any())).thenReturn(0);
+
+        // when
+        drawingAnalysisService.retryAnalysis();
+
+        // then
+        Assertions.assertThat(drawingAnalysis.getLastAttemptAt()).isEqualTo(lastAttemptAt);
+        verify(fileComponent, never()).downloadFile(any());
+        verify(drawingAnalysisRepository, never()).save(any());
+    }
+}
@@ -1,16 +1,36 @@
 package com.laser.ordermanage.order.unit.service;
 
 import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.cache.redis.dao.ChunkedUpload;
+import com.laser.ordermanage.common.cache.redis.dao.FileUpload;
 import com.laser.ordermanage.common.component.FileComponent;
 import com.laser.ordermanage.common.entity.FileBuilder;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
 import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.nesting.NestingPart;
+import com.laser.ordermanage.common.paging.ListResponse;
 import com.laser.ordermanage.order.domain.Drawing;
 import com.laser.ordermanage.order.domain.DrawingBuilder;
+import com.laser.ordermanage.order.domain.DrawingFile;
+import com.laser.ordermanage.order.domain.OrderBuilder;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import com.laser.ordermanage.order.domain.type.FileType;
+import com.laser.ordermanage.order.domain.type.Ingredient;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadSessionRequest;
+import com.laser.ordermanage.order.dto.request.CreateDrawingUploadUrlRequest;
+import com.laser.ordermanage.order.dto.response.CreateDrawingUploadUrlResponse;
+import com.laser.ordermanage.order.dto.response.GetDrawingUploadSessionResponse;
+import com.laser.ordermanage.order.dto.response.GetDrawingThumbnailResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponse;
 import com.laser.ordermanage.order.dto.response.UploadDrawingFileResponseBuilder;
+import com.laser.ordermanage.order.dto.response.UploadDrawingFileResultResponse;
 import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.repository.DrawingFileRepository;
 import com.laser.ordermanage.order.repository.DrawingRepository;
+import com.laser.ordermanage.order.service.DrawingAnalysisService;
 import com.laser.ordermanage.order.service.DrawingService;
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -19,12 +39,18 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.io.File;
 import java.io.FileInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 public class DrawingServiceUnitTest extends ServiceUnitTest {
 
@@ -34,12 +60,19 @@ public class DrawingServiceUnitTest extends ServiceUnitTest {
     @Mock
     private FileComponent fileComponent;
 
+    @Mock
+    private DrawingAnalysisService drawingAnalysisService;
+
+    @Mock
+    private DrawingThumbnailService drawingThumbnailService;
+
     @Mock
     private DrawingRepository drawingRepository;
 
-    public void setUp() {
-        ReflectionTestUtils.setField(drawingService, "tempFolderPath", "src/test/resources/temp/");
-    }
+    @Mock
+    private DrawingFileRepository drawingFileRepository;
+
+    private static final String FILE_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
 
     /**
      * 도면 DB id 기준으로 도면 조회 성공
@@ -98,13 +131,10 @@ public class DrawingServiceUnitTest extends ServiceUnitTest {
     }
 
     /**
-     * 도면 파일의 썸네일 추출 기능 성공 (DWG)
+     * 도면 파일 업로드 기능 성공
      */
     @Test
-    public void extractThumbnail_성공_DWG() throws Exception {
-        // before
-        setUp();
-
+    public void uploadDrawingFile_성공() throws Exception {
         // given
         final String filePath = "src/test/resources/drawing/drawing.dwg";
         final MockMultipartFile file = new MockMultipartFile(
@@ -113,128 +143,499 @@ public class DrawingServiceUnitTest extends ServiceUnitTest {
                 MediaType.MULTIPART_FORM_DATA_VALUE,
                 new FileInputStream(filePath)
         );
+        final UploadDrawingFileResponse expectedResponse = UploadDrawingFileResponseBuilder.buildOfDWGDrawing();
+
+        // stub
+        when(drawingFileRepository.findFirstByFileHashAndFileType(any(), eq(DrawingFileType.DWG))).thenReturn(Optional.empty());
+        when(fileComponent.uploadFile(any(), any())).thenReturn(FileBuilder.drawingFileBuild());
 
         // when
-        File thumbnailFile = drawingService.extractThumbnail(file);
+        UploadDrawingFileResponse actualResponse = drawingService.uploadDrawingFile(file);
 
         // then
-        Assertions.assertThat(thumbnailFile.exists()).isTrue();
-        Assertions.assertThat(thumbnailFile.isFile()).isTrue();
-
-        // after
-        thumbnailFile.delete();
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(drawingFileRepository, times(1)).save(any());
+        verify(drawingAnalysisService, times(1)).requestAnalysis(any(), any());
+        verify(drawingThumbnailService, times(1)).requestThumbnail(any());
     }
 
     /**
-     * 도면 파일의 썸네일 추출 기능 성공 (DXF)
+     * 도면 파일 업로드 기능 성공 - 같은 내용의 도면 파일 재사용
+     * - 업로드, 분석, 썸네일 생성 없이 기존 파일 URL 과 썸네일 생성 상태로 응답
      */
     @Test
-    public void extractThumbnail_성공_DXF() throws Exception {
-        // before
-        setUp();
-
+    public void uploadDrawingFile_성공_같은_파일_재사용() throws Exception {
         // given
-        final String filePath = "src/test/resources/drawing/drawing.dxf";
+        final String filePath = "src/test/resources/drawing/drawing.dwg";
         final MockMultipartFile file = new MockMultipartFile(
                 "file",
-                "drawing.dxf",
+                "drawing.dwg",
                 MediaType.MULTIPART_FORM_DATA_VALUE,
                 new FileInputStream(filePath)
         );
+        final DrawingFile storedDrawingFile = DrawingFile.builder()
+                .fileHash("file-hash")
+                .fileType(DrawingFileType.DWG)
+                .fileUrl("drawing-file-url.dwg")
+                .fileSize(140801L)
+                .build();
+        final GetDrawingThumbnailResponse drawingThumbnail = GetDrawingThumbnailResponse.builder()
+                .fileUrl("drawing-file-url.dwg")
+                .status(DrawingThumbnailStatus.COMPLETED.name())
+                .thumbnailUrl("drawing-thumbnail-url.png")
+                .build();
+
+        // stub
+        when(drawingFileRepository.findFirstByFileHashAndFileType(any(), eq(DrawingFileType.DWG))).thenReturn(Optional.of(storedDrawingFile));
+        when(drawingFileRepository.updateLastUsedAt(eq("drawing-file-url.dwg"), any())).thenReturn(1);
+        when(drawingThumbnailService.getDrawingThumbnail("drawing-file-url.dwg")).thenReturn(drawingThumbnail);
 
         // when
-        File thumbnailFile = drawingService.extractThumbnail(file);
+        UploadDrawingFileResponse actualResponse = drawingService.uploadDrawingFile(file);
 
         // then
-        Assertions.assertThat(thumbnailFile.exists()).isTrue();
-        Assertions.assertThat(thumbnailFile.isFile()).isTrue();
-
-        // after
-        thumbnailFile.delete();
+        Assertions.assertThat(actualResponse.fileUrl()).isEqualTo("drawing-file-url.dwg");
+        Assertions.assertThat(actualResponse.fileName()).isEqualTo("drawing.dwg");
+        Assertions.assertThat(actualResponse.thumbnailUrl()).isEqualTo("drawing-thumbnail-url.png");
+        Assertions.assertThat(actualResponse.thumbnailStatus()).isEqualTo(DrawingThumbnailStatus.COMPLETED.name());
+        verify(fileComponent, never()).uploadFile(any(), any());
+        verify(drawingAnalysisService, never()).requestAnalysis(any(), any());
+        verify(drawingThumbnailService, never()).requestThumbnail(any());
     }
 
     /**
-     * 도면 파일의 썸네일 추출 기능 성공 (PDF)
+     * 도면 파일 업로드 기능 성공 - 같은 내용의 도면 파일이 재사용 전에 삭제됨
+     * - 조회 후 삭제된 도면 파일은 재사용하지 않고 새로 업로드
      */
     @Test
-    public void extractThumbnail_성공_PDF() throws Exception {
-        // before
-        setUp();
-
+    public void uploadDrawingFile_성공_재사용_전에_삭제된_파일() throws Exception {
         // given
-        final String filePath = "src/test/resources/drawing/drawing.pdf";
+        final String filePath = "src/test/resources/drawing/drawing.dwg";
         final MockMultipartFile file = new MockMultipartFile(
                 "file",
-                "drawing.pdf",
+                "drawing.dwg",
                 MediaType.MULTIPART_FORM_DATA_VALUE,
                 new FileInputStream(filePath)
         );
+        final DrawingFile deletedDrawingFile = DrawingFile.builder()
+                .fileHash("file-hash")
+                .fileType(DrawingFileType.DWG)
+                .fileUrl("deleted-drawing-file-url.dwg")
+                .fileSize(140801L)
+                .build();
+
+        // stub
+        when(drawingFileRepository.findFirstByFileHashAndFileType(any(), eq(DrawingFileType.DWG))).thenReturn(Optional.of(deletedDrawingFile));
+        when(drawingFileRepository.updateLastUsedAt(eq("deleted-drawing-file-url.dwg"), any())).thenReturn(0);
+        when(fileComponent.uploadFile(eq(file), any())).thenReturn(FileBuilder.drawingFileBuild());
 
         // when
-        File thumbnailFile = drawingService.extractThumbnail(file);
+        UploadDrawingFileResponse actualResponse = drawingService.uploadDrawingFile(file);
 
         // then
-        Assertions.assertThat(thumbnailFile.exists()).isTrue();
-        Assertions.assertThat(thumbnailFile.isFile()).isTrue();
+        Assertions.assertThat(actualResponse).isEqualTo(UploadDrawingFileResponseBuilder.buildOfDWGDrawing());
+        verify(drawingFileRepository, times(1)).save(any());
+        verify(drawingThumbnailService, times(1)).requestThumbnail(any());
+    }
+
+    /**
+     * 도면 파일 여러 개 업로드 성공
+     * - 요청 안의 같은 파일은 한 번만 업로드하고, 지원하지 않는 파일은 해당 파일만 실패
+     * - 파일마다의 결과를 요청 순서대로 응답
+     */
+    @Test
+    public void uploadDrawingFileList_성공() throws Exception {
+        // given
+        final String filePath = "src/test/resources/drawing/drawing.dwg";
+        final MockMultipartFile file = new MockMultipartFile("files", "drawing.dwg", MediaType.MULTIPART_FORM_DATA_VALUE, new FileInputStream(filePath));
+        final MockMultipartFile unsupportedFile = new MockMultipartFile("files", "drawing.txt", MediaType.MULTIPART_FORM_DATA_VALUE, "drawing".getBytes());
+        final MockMultipartFile sameFile = new MockMultipartFile("files", "same-drawing.dwg", MediaType.MULTIPART_FORM_DATA_VALUE, new FileInputStream(filePath));
+
+        // 파일 해시 계산을 요청 스레드에서 바로 실행
+        ReflectionTestUtils.setField(drawingService, "drawingUploadExecutor", (Executor) Runnable::run);
 
-        // after
-        thumbnailFile.delete();
+        // stub
+        when(drawingFileRepository.findFirstByFileHashAndFileType(any(), eq(DrawingFileType.DWG))).thenReturn(Optional.empty());
+        when(fileComponent.uploadFileAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(FileBuilder.drawingFileBuild()));
+
+        // when
+        ListResponse<UploadDrawingFileResultResponse> actualResponse = drawingService.uploadDrawingFileList(List.of(file, unsupportedFile, sameFile));
+
+        // then
+        Assertions.assertThat(actualResponse.totalElements()).isEqualTo(3);
+        final List<UploadDrawingFileResultResponse> actualResultList = actualResponse.contents();
+
+        Assertions.assertThat(actualResultList.get(0).index()).isEqualTo(0);
+        Assertions.assertThat(actualResultList.get(0).drawingFile()).isEqualTo(UploadDrawingFileResponseBuilder.buildOfDWGDrawing());
+        Assertions.assertThat(actualResultList.get(0).error()).isNull();
+
+        Assertions.assertThat(actualResultList.get(1).fileName()).isEqualTo("drawing.txt");
+        Assertions.assertThat(actualResultList.get(1).drawingFile()).isNull();
+        Assertions.assertThat(actualResultList.get(1).error().errorCode()).isEqualTo(OrderErrorCode.UNSUPPORTED_DRAWING_FILE_EXTENSION.getCode());
+
+        Assertions.assertThat(actualResultList.get(2).fileName()).isEqualTo("same-drawing.dwg");
+        Assertions.assertThat(actualResultList.get(2).drawingFile().fileName()).isEqualTo("same-drawing.dwg");
+        Assertions.assertThat(actualResultList.get(2).drawingFile().fileUrl()).isEqualTo("drawing-file-url.dwg");
+
+        verify(fileComponent, times(1)).uploadFileAsync(any(), any());
+        verify(drawingFileRepository, times(1)).save(any());
+        verify(drawingAnalysisService, times(1)).requestAnalysis(any(), any());
+        verify(drawingThumbnailService, times(1)).requestThumbnail(any());
     }
 
     /**
-     * 도면 파일의 썸네일 추출 기능 성공 (PNG)
+     * 도면 파일 직접 업로드 URL 생성 성공
      */
     @Test
-    public void extractThumbnail_성공_PNG() throws Exception {
-        // before
-        setUp();
+    public void createDrawingUploadUrl_성공() {
+        // given
+        final CreateDrawingUploadUrlRequest request = new CreateDrawingUploadUrlRequest("drawing.dwg", 140801L, FILE_HASH);
+        final FileUpload fileUpload = buildFileUpload();
+
+        // stub
+        when(fileComponent.createUpload(eq("drawing.dwg"), eq(140801L), eq(FILE_HASH), any())).thenReturn(fileUpload);
 
+        // when
+        CreateDrawingUploadUrlResponse actualResponse = drawingService.createDrawingUploadUrl(request);
+
+        // then
+        Assertions.assertThat(actualResponse.uploadId()).isEqualTo(fileUpload.getId());
+        Assertions.assertThat(actualResponse.uploadUrl()).isEqualTo(fileUpload.getUploadUrl());
+        Assertions.assertThat(actualResponse.uploadHeaderMap()).isEqualTo(fileUpload.getUploadHeaderMap());
+        Assertions.assertThat(actualResponse.expiredAt()).isEqualTo(fileUpload.getExpiredAt());
+    }
+
+    /**
+     * 직접 업로드한 도면 파일의 업로드 완료 확인 성공
+     * - 도면 파일 저장 후 분석 및 썸네일 생성 요청
+     */
+    @Test
+    public void confirmDrawingUpload_성공() {
         // given
-        final String filePath = "src/test/resources/drawing/drawing.png";
-        final MockMultipartFile file = new MockMultipartFile(
-                "file",
-                "drawing.png",
-                MediaType.MULTIPART_FORM_DATA_VALUE,
-                new FileInputStream(filePath)
-        );
+        final FileUpload fileUpload = buildFileUpload();
+        final UploadDrawingFileResponse expectedResponse = UploadDrawingFileResponseBuilder.buildOfDWGDrawing();
+
+        // stub
+        when(fileComponent.getUpload(fileUpload.getId())).thenReturn(fileUpload);
+        when(fileComponent.confirmUpload(eq(fileUpload), any())).thenReturn(FileBuilder.drawingFileBuild());
+        when(drawingFileRepository.findFirstByFileHashAndFileType(FILE_HASH, DrawingFileType.DWG)).thenReturn(Optional.empty());
 
         // when
-        File thumbnailFile = drawingService.extractThumbnail(file);
+        UploadDrawingFileResponse actualResponse = drawingService.confirmDrawingUpload(fileUpload.getId());
 
         // then
-        Assertions.assertThat(thumbnailFile.exists()).isTrue();
-        Assertions.assertThat(thumbnailFile.isFile()).isTrue();
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(drawingFileRepository, times(1)).save(any());
+        verify(drawingAnalysisService, times(1)).requestAnalysis(any(), eq(FILE_HASH));
+        verify(drawingThumbnailService, times(1)).requestThumbnail(any());
+        verify(fileComponent, never()).deleteFile(any());
+    }
+
+    /**
+     * 직접 업로드한 도면 파일의 업로드 완료 확인 성공 - 같은 내용의 도면 파일 재사용
+     * - 업로드한 파일은 삭제하고, 분석 및 썸네일 생성 없이 기존 파일 URL 과 썸네일 생성 상태로 응답
+     */
+    @Test
+    public void confirmDrawingUpload_성공_같은_파일_재사용() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+        final FileEntity<FileType> uploadedDrawingFile = FileEntity.<FileType>builder()
+                .name("drawing.dwg")
+                .size(140801L)
+                .type(DrawingFileType.DWG)
+                .url("uploaded-drawing-file-url.dwg")
+                .build();
+        final DrawingFile storedDrawingFile = DrawingFile.builder()
+                .fileHash(FILE_HASH)
+                .fileType(DrawingFileType.DWG)
+                .fileUrl("drawing-file-url.dwg")
+                .fileSize(140801L)
+                .build();
+        final GetDrawingThumbnailResponse drawingThumbnail = GetDrawingThumbnailResponse.builder()
+                .fileUrl("drawing-file-url.dwg")
+                .status(DrawingThumbnailStatus.COMPLETED.name())
+                .thumbnailUrl("drawing-thumbnail-url.png")
+                .build();
+
+        // stub
+        when(fileComponent.getUpload(fileUpload.getId())).thenReturn(fileUpload);
+        when(fileComponent.confirmUpload(eq(fileUpload), any())).thenReturn(uploadedDrawingFile);
+        when(drawingFileRepository.findFirstByFileHashAndFileType(FILE_HASH, DrawingFileType.DWG)).thenReturn(Optional.of(storedDrawingFile));
+        when(drawingFileRepository.updateLastUsedAt(eq("drawing-file-url.dwg"), any())).thenReturn(1);
+        when(drawingThumbnailService.getDrawingThumbnail("drawing-file-url.dwg")).thenReturn(drawingThumbnail);
 
-        // after
-        thumbnailFile.delete();
+        // when
+        UploadDrawingFileResponse actualResponse = drawingService.confirmDrawingUpload(fileUpload.getId());
+
+        // then
+        Assertions.assertThat(actualResponse.fileUrl()).isEqualTo("drawing-file-url.dwg");
+        Assertions.assertThat(actualResponse.thumbnailStatus()).isEqualTo(DrawingThumbnailStatus.COMPLETED.name());
+        verify(fileComponent, times(1)).deleteFile(uploadedDrawingFile.getUrl());
+        verify(drawingFileRepository, never()).save(any());
+        verify(drawingAnalysisService, never()).requestAnalysis(any(), any());
+        verify(drawingThumbnailService, never()).requestThumbnail(any());
     }
 
     /**
-     * 도면 파일 업로드 기능 성공
+     * 직접 업로드한 도면 파일의 업로드 완료 확인 성공 - 같은 업로드를 동시에 확인
+     * - 업로드한 파일이 이미 도면 파일로 등록되어 있으면 삭제하지 않고 재사용
      */
     @Test
-    public void uploadDrawingFile_성공() throws Exception {
-        // before
-        setUp();
+    public void confirmDrawingUpload_성공_같은_업로드_동시_확인() {
+        // given
+        final FileUpload fileUpload = buildFileUpload();
+        final DrawingFile storedDrawingFile = DrawingFile.builder()
+                .fileHash(FILE_HASH)
+                .fileType(DrawingFileType.DWG)
+                .fileUrl(fileUpload.getFileUrl())
+                .fileSize(140801L)
+                .build();
+
+        // stub
+        when(fileComponent.getUpload(fileUpload.getId())).thenReturn(fileUpload);
+        when(fileComponent.confirmUpload(eq(fileUpload), any())).thenReturn(FileBuilder.drawingFileBuild());
+        when(drawingFileRepository.findFirstByFileHashAndFileType(FILE_HASH, DrawingFileType.DWG)).thenReturn(Optional.of(storedDrawingFile));
+        when(drawingFileRepository.updateLastUsedAt(eq(fileUpload.getFileUrl()), any())).thenReturn(1);
+
+        // when
+        UploadDrawingFileResponse actualResponse = drawingService.confirmDrawingUpload(fileUpload.getId());
+
+        // then
+        Assertions.assertThat(actualResponse.fileUrl()).isEqualTo(fileUpload.getFileUrl());
+        verify(fileComponent, never()).deleteFile(any());
+        verify(drawingFileRepository, never()).save(any());
+    }
 
+    /**
+     * 도면 파일 나누어 업로드 생성 성공
+     */
+    @Test
+    public void createDrawingUploadSession_성공() {
         // given
-        final String filePath = "src/test/resources/drawing/drawing.dwg";
-        final MockMultipartFile file = new MockMultipartFile(
-                "file",
-                "drawing.dwg",
-                MediaType.MULTIPART_FORM_DATA_VALUE,
-                new FileInputStream(filePath)
-        );
+        final CreateDrawingUploadSessionRequest request = new CreateDrawingUploadSessionRequest("drawing.dwg", 20971520L);
+        final ChunkedUpload chunkedUpload = buildChunkedUpload();
+
+        // stub
+        when(fileComponent.createChunkedUpload(eq("drawing.dwg"), eq(20971520L), any())).thenReturn(chunkedUpload);
+
+        // when
+        GetDrawingUploadSessionResponse actualResponse = drawingService.createDrawingUploadSession(request);
+
+        // then
+        Assertions.assertThat(actualResponse.uploadId()).isEqualTo(chunkedUpload.getId());
+        Assertions.assertThat(actualResponse.chunkSize()).isEqualTo(chunkedUpload.getChunkSize());
+        Assertions.assertThat(actualResponse.uploadedOffsetList()).isEmpty();
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 상태 조회 성공 - 업로드된 조각의 시작 위치 목록 응답
+     */
+    @Test
+    public void getDrawingUploadSession_성공() {
+        // given
+        final ChunkedUpload chunkedUpload = buildChunkedUpload();
+
+        // stub
+        when(fileComponent.getChunkedUpload(chunkedUpload.getId())).thenReturn(chunkedUpload);
+        when(fileComponent.getUploadedOffsetList(chunkedUpload)).thenReturn(List.of(0L, 16777216L));
+
+        // when
+        GetDrawingUploadSessionResponse actualResponse = drawingService.getDrawingUploadSession(chunkedUpload.getId());
+
+        // then
+        Assertions.assertThat(actualResponse.uploadedOffsetList()).containsExactly(0L, 16777216L);
+    }
+
+    /**
+     * 도면 파일 나누어 업로드 완료 성공
+     * - 저장소에서 계산한 해시로 도면 파일 저장 후 분석 및 썸네일 생성 요청
+     */
+    @Test
+    public void completeDrawingUploadSession_성공() {
+        // given
+        final ChunkedUpload chunkedUpload = buildChunkedUpload();
         final UploadDrawingFileResponse expectedResponse = UploadDrawingFileResponseBuilder.buildOfDWGDrawing();
 
         // stub
-        when(fileComponent.uploadFile(any(), any())).thenReturn(FileBuilder.drawingFileBuild());
-        when(fileComponent.uploadFile(any(), any(), any())).thenReturn("thumbnail-url.dwg");
+        when(fileComponent.getChunkedUpload(chunkedUpload.getId())).thenReturn(chunkedUpload);
+        when(fileComponent.completeChunkedUpload(eq(chunkedUpload), any())).thenReturn(FileBuilder.drawingFileBuild());
+        when(fileComponent.getSha256("drawing-file-url.dwg")).thenReturn(FILE_HASH);
+        when(drawingFileRepository.findFirstByFileHashAndFileType(FILE_HASH, DrawingFileType.DWG)).thenReturn(Optional.empty());
 
         // when
-        UploadDrawingFileResponse actualResponse = drawingService.uploadDrawingFile(file);
+        UploadDrawingFileResponse actualResponse = drawingService.completeDrawingUploadSession(chunkedUpload.getId());
 
         // then
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(drawingFileRepository, times(1)).save(any());
+        verify(drawingAnalysisService, times(1)).requestAnalysis(any(), eq(FILE_HASH));
+        verify(drawingThumbnailService, times(1)).requestThumbnail(any());
+    }
+
+    private ChunkedUpload buildChunkedUpload() {
+        return ChunkedUpload.builder()
+                .id("upload-id")
+                .fileName("drawing.dwg")
+                .fileSize(20971520L)
+                .chunkSize(8388608)
+                .multipartUploadId("multipart-upload-id")
+                .fileUrl("drawing-file-url.dwg")
+                .build();
+    }
+
+    private FileUpload buildFileUpload() {
+        return FileUpload.builder()
+                .id("upload-id")
+                .fileName("drawing.dwg")
+                .fileSize(140801L)
+                .fileHash(FILE_HASH)
+                .folderName(DrawingFileType.FOLDER_NAME)
+                .fileUrl("drawing-file-url.dwg")
+                .uploadUrl("https://ordermanage.s3.ap-northeast-2.amazonaws.com/drawing/drawing.dwg?X-Amz-Signature=signature")
+                .uploadHeaderMap(Map.of("x-amz-checksum-sha256", "checksum"))
+                .expiredAt(LocalDateTime.now().plusMinutes(15))
+                .build();
+    }
+
+    /**
+     * 도면 파일 사용 수 증가 성공
+     * - 같은 파일을 사용하는 도면은 한 번에 증가
+     */
+    @Test
+    public void increaseFileReference_성공() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+        final String fileUrl = drawing.getFile().getUrl();
+
+        // stub
+        when(drawingFileRepository.increaseReferenceCount(fileUrl, 2)).thenReturn(1);
+
+        // when
+        drawingService.increaseFileReference(List.of(drawing, drawing));
+
+        // then
+        verify(drawingFileRepository, times(1)).increaseReferenceCount(fileUrl, 2);
+    }
+
+    /**
+     * 도면 파일 사용 수 증가 성공
+     * - 도면 파일 정보가 없는 (중복 제거 이전에 업로드된) 파일은 증가하지 않음
+     */
+    @Test
+    public void increaseFileReference_성공_도면_파일_정보_없음() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+
+        // stub
+        when(drawingFileRepository.increaseReferenceCount(drawing.getFile().getUrl(), 1)).thenReturn(0);
+
+        // when
+        drawingService.increaseFileReference(List.of(drawing));
+
+        // then
+        verify(drawingFileRepository, times(1)).increaseReferenceCount(drawing.getFile().getUrl(), 1);
+    }
+
+    /**
+     * 도면 파일 사용 수 감소 성공
+     * - 사용하는 도면이 없는 도면 파일만 삭제
+     */
+    @Test
+    public void decreaseFileReference_성공() {
+        // given
+        final DrawingFile unusedDrawingFile = DrawingFile.builder()
+                .fileHash("file-hash")
+                .fileType(DrawingFileType.DWG)
+                .fileUrl("unused-file-url.dwg")
+                .fileSize(140801L)
+                .build();
+
+        // stub
+        when(drawingFileRepository.findAllByFileUrlInAndReferenceCountLessThanEqual(Set.of("unused-file-url.dwg", "used-file-url.dwg"), 0))
+                .thenReturn(List.of(unusedDrawingFile));
+        when(drawingFileRepository.deleteUnusedByFileUrl(eq("unused-file-url.dwg"), any())).thenReturn(1);
+
+        // when
+        drawingService.decreaseFileReference(List.of("unused-file-url.dwg", "used-file-url.dwg", "used-file-url.dwg"));
+
+        // then
+        verify(drawingFileRepository, times(1)).decreaseReferenceCount("unused-file-url.dwg", 1);
+        verify(drawingFileRepository, times(1)).decreaseReferenceCount("used-file-url.dwg", 2);
+        verify(drawingFileRepository, never()).deleteUnusedByFileUrl(eq("used-file-url.dwg"), any());
+        verify(fileComponent, times(1)).deleteFile("unused-file-url.dwg");
+        verify(fileComponent, never()).deleteFile("used-file-url.dwg");
+    }
+
+    /**
+     * 도면 파일 사용 수 감소 성공 - 최근에 재사용된 도면 파일
+     * - 사용하는 도면이 없어도 재사용 후 일정 시간이 지나지 않은 도면 파일은 삭제하지 않음
+     */
+    @Test
+    public void decreaseFileReference_성공_최근_재사용된_파일() {
+        // given
+        final DrawingFile reusedDrawingFile = DrawingFile.builder()
+                .fileHash("file-hash")
+                .fileType(DrawingFileType.DWG)
+                .fileUrl("reused-file-url.dwg")
+                .fileSize(140801L)
+                .build();
+
+        // stub
+        when(drawingFileRepository.findAllByFileUrlInAndReferenceCountLessThanEqual(Set.of("reused-file-url.dwg"), 0))
+                .thenReturn(List.of(reusedDrawingFile));
+        when(drawingFileRepository.deleteUnusedByFileUrl(eq("reused-file-url.dwg"), any())).thenReturn(0);
+
+        // when
+        drawingService.decreaseFileReference(List.of("reused-file-url.dwg"));
+
+        // then
+        verify(fileComponent, never()).deleteFile(any());
+    }
+
+    /**
+     * 도면 파일의 부품 외곽 추출 성공 - DXF
+     */
+    @Test
+    public void extractPartList_성공_DXF() throws Exception {
+        // given
+        final FileEntity<DrawingFileType> file = FileEntity.<DrawingFileType>builder()
+                .name("drawing.dxf")
+                .size(1827628L)
+                .type(DrawingFileType.DXF)
+                .url("https://ordermanage.s3.ap-northeast-2.amazonaws.com/drawing.dxf")
+                .build();
+        final Drawing drawing = Drawing.builder()
+                .order(OrderBuilder.build())
+                .file(file)
+                .count(1)
+                .ingredient(Ingredient.SS400.getValue())
+                .thickness(10)
+                .build();
+
+        // stub
+        when(fileComponent.downloadFile(file.getUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+
+        // when
+        final List<NestingPart> actualPartList = drawingService.extractPartList(drawing);
+
+        // then
+        Assertions.assertThat(actualPartList).isNotEmpty();
+        Assertions.assertThat(actualPartList).allMatch(part -> part.width() >= 0 && part.height() >= 0);
+    }
+
+    /**
+     * 도면 파일의 부품 외곽 추출 성공 - DXF 가 아닌 도면은 빈 목록
+     */
+    @Test
+    public void extractPartList_성공_DWG() {
+        // given
+        final Drawing drawing = DrawingBuilder.build();
+
+        // when
+        final List<NestingPart> actualPartList = drawingService.extractPartList(drawing);
+
+        // then
+        Assertions.assertThat(actualPartList).isEmpty();
+        verify(fileComponent, never()).downloadFile(any());
     }
 }
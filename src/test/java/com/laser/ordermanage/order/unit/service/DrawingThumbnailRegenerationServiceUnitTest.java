@@ -0,0 +1,192 @@
+package com.laser.ordermanage.order.unit.service;
+
+import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.cache.redis.dao.DrawingThumbnailRegeneration;
+import com.laser.ordermanage.common.cache.redis.repository.DrawingThumbnailRegenerationRedisRepository;
+import com.laser.ordermanage.common.component.RasterizationLimiter;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.repository.DrawingThumbnailRepository;
+import com.laser.ordermanage.order.service.DrawingThumbnailRegenerationService;
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DrawingThumbnailRegenerationServiceUnitTest extends ServiceUnitTest {
+
+    private DrawingThumbnailRegenerationService drawingThumbnailRegenerationService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private DrawingThumbnailService drawingThumbnailService;
+
+    @Mock
+    private DrawingThumbnailRepository drawingThumbnailRepository;
+
+    @Mock
+    private DrawingThumbnailRegenerationRedisRepository drawingThumbnailRegenerationRedisRepository;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 재생성 작업을 요청 스레드에서 바로 실행, 조각 크기 2, 요청 수 제한 없음
+        drawingThumbnailRegenerationService = new DrawingThumbnailRegenerationService(
+                drawingThumbnailService,
+                drawingThumbnailRepository,
+                drawingThumbnailRegenerationRedisRepository,
+                Runnable::run,
+                new RasterizationLimiter(meterRegistry, 64, 0),
+                meterRegistry,
+                2,
+                0,
+                1
+        );
+    }
+
+    /**
+     * 이전 버전 썸네일 재생성 성공
+     * - 조각마다 다시 생성한 썸네일을 한 번에 반영하고, 진행 위치 저장
+     * - 생성에 실패한 썸네일은 기존 썸네일을 유지하고 건너뜀
+     * - 더 이상 이전 버전 썸네일이 없으면 완료
+     */
+    @Test
+    public void regenerateOutdatedThumbnail_성공() throws Exception {
+        // given
+        final DrawingThumbnail drawingThumbnail1 = buildDrawingThumbnail(1L);
+        final DrawingThumbnail drawingThumbnail2 = buildDrawingThumbnail(2L);
+        final DrawingThumbnail drawingThumbnail3 = buildDrawingThumbnail(3L);
+
+        // stub
+        when(drawingThumbnailRegenerationRedisRepository.findById(String.valueOf(DrawingThumbnail.CURRENT_VERSION))).thenReturn(Optional.empty());
+        when(drawingThumbnailRepository.findOutdatedThumbnailList(any(), eq(DrawingThumbnail.CURRENT_VERSION), any()))
+                .thenReturn(List.of(drawingThumbnail1, drawingThumbnail2), List.of(drawingThumbnail3), List.of());
+        doAnswer(invocation -> {
+            DrawingThumbnail drawingThumbnail = invocation.getArgument(0);
+            drawingThumbnail.regenerate("new-" + drawingThumbnail.getId() + ".png", "new-medium.png", "new-small.png", null);
+            return null;
+        }).when(drawingThumbnailService).regenerateThumbnail(any(), any());
+        doThrow(new IOException()).when(drawingThumbnailService).regenerateThumbnail(eq(drawingThumbnail2), any());
+
+        // when
+        drawingThumbnailRegenerationService.regenerateOutdatedThumbnail();
+
+        // then
+        verify(drawingThumbnailRepository).findOutdatedThumbnailList(eq(0L), eq(DrawingThumbnail.CURRENT_VERSION), any());
+        verify(drawingThumbnailRepository).findOutdatedThumbnailList(eq(2L), eq(DrawingThumbnail.CURRENT_VERSION), any());
+        verify(drawingThumbnailRepository).findOutdatedThumbnailList(eq(3L), eq(DrawingThumbnail.CURRENT_VERSION), any());
+        verify(drawingThumbnailRepository).updateRegeneratedThumbnailList(List.of(drawingThumbnail1), Map.of("file-url-1", "thumbnail-url-1.png", "file-url-2", "thumbnail-url-2.png"));
+        verify(drawingThumbnailRepository).updateRegeneratedThumbnailList(List.of(drawingThumbnail3), Map.of("file-url-3", "thumbnail-url-3.png"));
+
+        final ArgumentCaptor<DrawingThumbnailRegeneration> regenerationCaptor = ArgumentCaptor.forClass(DrawingThumbnailRegeneration.class);
+        verify(drawingThumbnailRegenerationRedisRepository, times(3)).save(regenerationCaptor.capture());
+        final DrawingThumbnailRegeneration actualRegeneration = regenerationCaptor.getValue();
+        Assertions.assertThat(actualRegeneration.getLastId()).isEqualTo(3L);
+        Assertions.assertThat(actualRegeneration.getRegeneratedCount()).isEqualTo(2L);
+        Assertions.assertThat(actualRegeneration.getFailedCount()).isEqualTo(1L);
+        Assertions.assertThat(actualRegeneration.getCompleted()).isTrue();
+
+        Assertions.assertThat(drawingThumbnail1.getThumbnailUrl()).isEqualTo("new-1.png");
+        Assertions.assertThat(drawingThumbnail1.getVersion()).isEqualTo(DrawingThumbnail.CURRENT_VERSION);
+        Assertions.assertThat(drawingThumbnail2.getThumbnailUrl()).isEqualTo("thumbnail-url-2.png");
+        Assertions.assertThat(meterRegistry.get("drawing.thumbnail.regeneration").tag("result", "regenerated").counter().count()).isEqualTo(2.0);
+        Assertions.assertThat(meterRegistry.get("drawing.thumbnail.regeneration").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 이전 버전 썸네일 재생성 성공
+     * - 변환 작업이 많아 픽셀 예산을 확보하지 못하면, 미룬 썸네일 전까지만 진행 위치를 이동하고 다음 실행에서 이어서 생성
+     */
+    @Test
+    public void regenerateOutdatedThumbnail_성공_변환_작업_초과() throws Exception {
+        // given
+        final DrawingThumbnail drawingThumbnail1 = buildDrawingThumbnail(1L);
+        final DrawingThumbnail drawingThumbnail2 = buildDrawingThumbnail(2L);
+
+        // stub
+        when(drawingThumbnailRegenerationRedisRepository.findById(String.valueOf(DrawingThumbnail.CURRENT_VERSION))).thenReturn(Optional.empty());
+        when(drawingThumbnailRepository.findOutdatedThumbnailList(any(), eq(DrawingThumbnail.CURRENT_VERSION), any())).thenReturn(List.of(drawingThumbnail1, drawingThumbnail2));
+        doThrow(new CustomCommonException(CommonErrorCode.RASTERIZATION_BUSY)).when(drawingThumbnailService).regenerateThumbnail(eq(drawingThumbnail1), any());
+
+        // when
+        drawingThumbnailRegenerationService.regenerateOutdatedThumbnail();
+
+        // then
+        verify(drawingThumbnailRepository, times(1)).findOutdatedThumbnailList(any(), any(), any());
+        // 예산을 확보하지 못한 후의 썸네일은 생성하지 않음
+        verify(drawingThumbnailService, times(1)).regenerateThumbnail(any(), any());
+        verify(drawingThumbnailRepository, never()).updateRegeneratedThumbnailList(any(), any());
+
+        final ArgumentCaptor<DrawingThumbnailRegeneration> regenerationCaptor = ArgumentCaptor.forClass(DrawingThumbnailRegeneration.class);
+        verify(drawingThumbnailRegenerationRedisRepository).save(regenerationCaptor.capture());
+        final DrawingThumbnailRegeneration actualRegeneration = regenerationCaptor.getValue();
+        Assertions.assertThat(actualRegeneration.getLastId()).isEqualTo(0L);
+        Assertions.assertThat(actualRegeneration.getCompleted()).isFalse();
+        Assertions.assertThat(meterRegistry.get("drawing.thumbnail.regeneration").tag("result", "busy").counter().count()).isEqualTo(2.0);
+    }
+
+    /**
+     * 이전 버전 썸네일 재생성 성공
+     * - 현재 버전의 재생성이 완료되었으면 실행하지 않음
+     */
+    @Test
+    public void regenerateOutdatedThumbnail_성공_완료된_재생성() {
+        // given
+        final DrawingThumbnailRegeneration regeneration = DrawingThumbnailRegeneration.start(DrawingThumbnail.CURRENT_VERSION);
+        regeneration.complete();
+
+        // stub
+        when(drawingThumbnailRegenerationRedisRepository.findById(String.valueOf(DrawingThumbnail.CURRENT_VERSION))).thenReturn(Optional.of(regeneration));
+
+        // when
+        drawingThumbnailRegenerationService.regenerateOutdatedThumbnail();
+
+        // then
+        verify(drawingThumbnailRepository, never()).findOutdatedThumbnailList(any(), any(), any());
+        verify(drawingThumbnailRegenerationRedisRepository, never()).save(any());
+    }
+
+    /**
+     * 썸네일 생성 상태 도입 전 도면의 썸네일 추가 성공
+     * - 추가한 썸네일을 다시 생성하도록 현재 버전의 재생성 진행 상황 초기화
+     */
+    @Test
+    public void backfillLegacyThumbnail_성공() {
+        // stub
+        when(drawingThumbnailRepository.insertLegacyThumbnail(any())).thenReturn(3);
+
+        // when
+        drawingThumbnailRegenerationService.backfillLegacyThumbnail();
+
+        // then
+        verify(drawingThumbnailRepository, times(1)).insertLegacyThumbnail(any());
+        verify(drawingThumbnailRegenerationRedisRepository, times(1)).deleteById(String.valueOf(DrawingThumbnail.CURRENT_VERSION));
+    }
+
+    private static DrawingThumbnail buildDrawingThumbnail(Long id) {
+        DrawingThumbnail drawingThumbnail = DrawingThumbnail.builder()
+                .fileUrl("file-url-" + id)
+                .fileType(DrawingFileType.PNG)
+                .build();
+        drawingThumbnail.complete("thumbnail-url-" + id + ".png", "medium-thumbnail-url.png", "small-thumbnail-url.png", null);
+        ReflectionTestUtils.setField(drawingThumbnail, "id", id);
+        ReflectionTestUtils.setField(drawingThumbnail, "version", null);
+        return drawingThumbnail;
+    }
+}
@@ -0,0 +1,384 @@
+package com.laser.ordermanage.order.unit.service;
+
+import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.common.entity.embedded.FileEntity;
+import com.laser.ordermanage.common.exception.CommonErrorCode;
+import com.laser.ordermanage.common.exception.CustomCommonException;
+import com.laser.ordermanage.common.util.RasterBudget;
+import com.laser.ordermanage.common.util.ThumbnailSize;
+import com.laser.ordermanage.order.domain.DrawingThumbnail;
+import com.laser.ordermanage.order.domain.type.DrawingFileType;
+import com.laser.ordermanage.order.domain.type.DrawingThumbnailStatus;
+import com.laser.ordermanage.order.dto.response.GetDrawingThumbnailResponse;
+import com.laser.ordermanage.order.exception.OrderErrorCode;
+import com.laser.ordermanage.order.repository.DrawingRepository;
+import com.laser.ordermanage.order.repository.DrawingThumbnailRepository;
+import com.laser.ordermanage.order.repository.OrderRepository;
+import com.laser.ordermanage.order.service.DrawingThumbnailService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DrawingThumbnailServiceUnitTest extends ServiceUnitTest {
+
+    private DrawingThumbnailService drawingThumbnailService;
+
+    @Mock
+    private FileComponent fileComponent;
+
+    @Mock
+    private DrawingThumbnailRepository drawingThumbnailRepository;
+
+    @Mock
+    private DrawingRepository drawingRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final FileEntity<DrawingFileType> dxfFile = FileEntity.<DrawingFileType>builder()
+            .name("drawing.dxf")
+            .size(1827628L)
+            .type(DrawingFileType.DXF)
+            .url("https://ordermanage.s3.ap-northeast-2.amazonaws.com/drawing.dxf")
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        // 썸네일 생성 작업을 요청 스레드에서 바로 실행
+        drawingThumbnailService = new DrawingThumbnailService(Runnable::run, fileComponent, RasterBudget.UNLIMITED, drawingThumbnailRepository, drawingRepository, orderRepository);
+        ReflectionTestUtils.setField(drawingThumbnailService, "retryDelayMinutes", 5L);
+    }
+
+    /**
+     * 도면 파일의 썸네일 추출 기능 성공 (DWG)
+     */
+    @Test
+    public void extractThumbnail_성공_DWG() throws Exception {
+        // when
+        Map<ThumbnailSize, byte[]> thumbnailMap = drawingThumbnailService.extractThumbnail(DrawingFileType.DWG, new FileInputStream("src/test/resources/drawing/drawing.dwg"));
+
+        // then
+        assertThumbnail(thumbnailMap);
+    }
+
+    /**
+     * 도면 파일의 썸네일 추출 기능 성공 (DXF)
+     */
+    @Test
+    public void extractThumbnail_성공_DXF() throws Exception {
+        // when
+        Map<ThumbnailSize, byte[]> thumbnailMap = drawingThumbnailService.extractThumbnail(DrawingFileType.DXF, new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+
+        // then
+        assertThumbnail(thumbnailMap);
+    }
+
+    /**
+     * 도면 파일의 썸네일 추출 기능 성공 (PDF)
+     */
+    @Test
+    public void extractThumbnail_성공_PDF() throws Exception {
+        // when
+        Map<ThumbnailSize, byte[]> thumbnailMap = drawingThumbnailService.extractThumbnail(DrawingFileType.PDF, new FileInputStream("src/test/resources/drawing/drawing.pdf"));
+
+        // then
+        assertThumbnail(thumbnailMap);
+    }
+
+    /**
+     * 도면 파일의 썸네일 추출 기능 성공 (PNG)
+     */
+    @Test
+    public void extractThumbnail_성공_PNG() throws Exception {
+        // when
+        Map<ThumbnailSize, byte[]> thumbnailMap = drawingThumbnailService.extractThumbnail(DrawingFileType.PNG, new FileInputStream("src/test/resources/drawing/drawing.png"));
+
+        // then
+        assertThumbnail(thumbnailMap);
+    }
+
+    // 크기별 PNG 썸네일의 긴 변은 썸네일 크기 이하
+    private void assertThumbnail(Map<ThumbnailSize, byte[]> thumbnailMap) throws Exception {
+        Assertions.assertThat(thumbnailMap).containsOnlyKeys(ThumbnailSize.values());
+        for (ThumbnailSize thumbnailSize : ThumbnailSize.values()) {
+            final byte[] thumbnail = thumbnailMap.get(thumbnailSize);
+            Assertions.assertThat(thumbnail).startsWith(PNG_SIGNATURE);
+
+            final BufferedImage thumbnailImage = ImageIO.read(new ByteArrayInputStream(thumbnail));
+            Assertions.assertThat(Math.max(thumbnailImage.getWidth(), thumbnailImage.getHeight())).isLessThanOrEqualTo(thumbnailSize.getSize());
+        }
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 요청 성공 (DXF)
+     * - 생성 중으로 저장 후 크기별 썸네일과 SVG 미리보기를 업로드하고 생성 완료로 변경
+     * - 생성된 도면 및 거래에 썸네일 반영
+     */
+    @Test
+    public void requestThumbnail_성공_DXF() throws Exception {
+        // stub
+        when(drawingThumbnailRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingThumbnailRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+        when(fileComponent.uploadFileAsync(eq("drawing-thumbnail"), any(), eq("drawing-thumbnail-500.png"), any())).thenReturn(CompletableFuture.completedFuture("thumbnail-url.png"));
+        when(fileComponent.uploadFileAsync(eq("drawing-thumbnail"), any(), eq("drawing-thumbnail-256.png"), any())).thenReturn(CompletableFuture.completedFuture("medium-thumbnail-url.png"));
+        when(fileComponent.uploadFileAsync(eq("drawing-thumbnail"), any(), eq("drawing-thumbnail-128.png"), any())).thenReturn(CompletableFuture.completedFuture("small-thumbnail-url.png"));
+        when(fileComponent.uploadFileAsync(eq("drawing-preview"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture("preview-url.svg"));
+
+        // when
+        drawingThumbnailService.requestThumbnail(dxfFile);
+
+        // then
+        ArgumentCaptor<DrawingThumbnail> captor = ArgumentCaptor.forClass(DrawingThumbnail.class);
+        verify(drawingThumbnailRepository, times(2)).save(captor.capture());
+        final DrawingThumbnail actualDrawingThumbnail = captor.getValue();
+        Assertions.assertThat(actualDrawingThumbnail.getFileUrl()).isEqualTo(dxfFile.getUrl());
+        Assertions.assertThat(actualDrawingThumbnail.getStatus()).isEqualTo(DrawingThumbnailStatus.COMPLETED);
+        Assertions.assertThat(actualDrawingThumbnail.getThumbnailUrl()).isEqualTo("thumbnail-url.png");
+        Assertions.assertThat(actualDrawingThumbnail.getMediumThumbnailUrl()).isEqualTo("medium-thumbnail-url.png");
+        Assertions.assertThat(actualDrawingThumbnail.getSmallThumbnailUrl()).isEqualTo("small-thumbnail-url.png");
+        Assertions.assertThat(actualDrawingThumbnail.getPreviewUrl()).isEqualTo("preview-url.svg");
+        verify(drawingRepository, times(1)).updateThumbnailUrlByFileUrl(dxfFile.getUrl(), "thumbnail-url.png");
+        verify(orderRepository, times(1)).updateMissingImgUrl(actualDrawingThumbnail.getCompletedAt());
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 요청 성공 - 대기열이 가득 차면 생성 중 상태로 두고 재시도 작업에서 생성
+     */
+    @Test
+    public void requestThumbnail_성공_대기열_초과() {
+        // given
+        drawingThumbnailService = new DrawingThumbnailService(
+                command -> {
+                    throw new RejectedExecutionException();
+                },
+                fileComponent,
+                RasterBudget.UNLIMITED,
+                drawingThumbnailRepository,
+                drawingRepository,
+                orderRepository
+        );
+
+        // stub
+        when(drawingThumbnailRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        drawingThumbnailService.requestThumbnail(dxfFile);
+
+        // then
+        ArgumentCaptor<DrawingThumbnail> captor = ArgumentCaptor.forClass(DrawingThumbnail.class);
+        verify(drawingThumbnailRepository, times(1)).save(captor.capture());
+        Assertions.assertThat(captor.getValue().getStatus()).isEqualTo(DrawingThumbnailStatus.PENDING);
+        verify(fileComponent, never()).downloadFile(any());
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 요청 성공 - 생성에 실패하면 최대 시도 횟수 전까지 생성 중 상태 유지
+     */
+    @Test
+    public void requestThumbnail_성공_생성_실패() {
+        // stub
+        when(drawingThumbnailRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingThumbnailRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenThrow(new CustomCommonException(CommonErrorCode.UNABLE_TO_AWS_S3_DOWNLOAD));
+
+        // when
+        drawingThumbnailService.requestThumbnail(dxfFile);
+
+        // then
+        ArgumentCaptor<DrawingThumbnail> captor = ArgumentCaptor.forClass(DrawingThumbnail.class);
+        verify(drawingThumbnailRepository, times(2)).save(captor.capture());
+        final DrawingThumbnail actualDrawingThumbnail = captor.getValue();
+        Assertions.assertThat(actualDrawingThumbnail.getStatus()).isEqualTo(DrawingThumbnailStatus.PENDING);
+        Assertions.assertThat(actualDrawingThumbnail.getAttemptCount()).isEqualTo(1);
+        verify(fileComponent, never()).uploadFileAsync(any(), any(), any(), any());
+        verifyNoInteractions(drawingRepository, orderRepository);
+    }
+
+    /**
+     * 도면 파일의 썸네일 생성 요청 성공 - 이미지 변환 작업이 많으면 시도 횟수에 포함하지 않고 생성 중 상태로 두어 재시도 작업에서 생성
+     */
+    @Test
+    public void requestThumbnail_성공_변환_작업_초과() {
+        // given
+        drawingThumbnailService = new DrawingThumbnailService(
+                Runnable::run,
+                fileComponent,
+                pixels -> {
+                    throw new CustomCommonException(CommonErrorCode.RASTERIZATION_BUSY);
+                },
+                drawingThumbnailRepository,
+                drawingRepository,
+                orderRepository
+        );
+
+        // stub
+        when(drawingThumbnailRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingThumbnailRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenAnswer(invocation -> new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+
+        // when
+        drawingThumbnailService.requestThumbnail(dxfFile);
+
+        // then
+        ArgumentCaptor<DrawingThumbnail> captor = ArgumentCaptor.forClass(DrawingThumbnail.class);
+        verify(drawingThumbnailRepository, times(1)).save(captor.capture());
+        final DrawingThumbnail actualDrawingThumbnail = captor.getValue();
+        Assertions.assertThat(actualDrawingThumbnail.getStatus()).isEqualTo(DrawingThumbnailStatus.PENDING);
+        Assertions.assertThat(actualDrawingThumbnail.getAttemptCount()).isEqualTo(0);
+        verify(fileComponent, never()).uploadFileAsync(any(), any(), any(), any());
+        verifyNoInteractions(drawingRepository, orderRepository);
+    }
+
+    /**
+     * 생성 중 상태로 남아있는 썸네일 재생성 성공
+     * - 썸네일 생성 후 썸네일 없이 생성된 도면 및 거래에 썸네일 반영
+     */
+    @Test
+    public void retryThumbnail_성공() throws Exception {
+        // given
+        final DrawingThumbnail drawingThumbnail = DrawingThumbnail.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileType(DrawingFileType.DXF)
+                .build();
+
+        // stub
+        when(drawingThumbnailRepository.findTop100ByStatusAndLastAttemptAtBeforeOrderByIdAsc(eq(DrawingThumbnailStatus.PENDING), any())).thenReturn(List.of(drawingThumbnail));
+        when(drawingThumbnailRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(drawingThumbnailRepository.claimAttempt(any(), any(), any())).thenReturn(1);
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+        when(fileComponent.uploadFileAsync(eq("drawing-thumbnail"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture("thumbnail-url.png"));
+        when(fileComponent.uploadFileAsync(eq("drawing-preview"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture("preview-url.svg"));
+
+        // when
+        drawingThumbnailService.retryThumbnail();
+
+        // then
+        Assertions.assertThat(drawingThumbnail.getStatus()).isEqualTo(DrawingThumbnailStatus.COMPLETED);
+        verify(drawingRepository, times(1)).updateThumbnailUrlByFileUrl(dxfFile.getUrl(), "thumbnail-url.png");
+        verify(drawingThumbnailRepository, times(2)).claimAttempt(any(), any(), any());
+        verify(drawingRepository, times(1)).updateMissingThumbnailUrl(any());
+        verify(orderRepository, times(2)).updateMissingImgUrl(any());
+    }
+
+    /**
+     * 생성 중 상태로 남아있는 썸네일 재생성 성공
+     * - 대기열에서 기다리던 작업이나 다른 재시도 작업이 먼저 선점한 썸네일은 다시 요청하지 않음
+     */
+    @Test
+    public void retryThumbnail_성공_이미_선점() {
+        // given
+        final DrawingThumbnail drawingThumbnail = DrawingThumbnail.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileType(DrawingFileType.DXF)
+                .build();
+        final LocalDateTime lastAttemptAt = drawingThumbnail.getLastAttemptAt();
+
+        // stub
+        when(drawingThumbnailRepository.findTop100ByStatusAndLastAttemptAtBeforeOrderByIdAsc(eq(DrawingThumbnailStatus.PENDING), any())).thenReturn(List.of(drawingThumbnail));
+        when(drawingThumbnailRepository.claimAttempt(any(), eq(lastAttemptAt), any())).thenReturn(0);
+
+        // when
+        drawingThumbnailService.retryThumbnail();
+
+        // then
+        Assertions.assertThat(drawingThumbnail.getLastAttemptAt()).isEqualTo(lastAttemptAt);
+        verify(fileComponent, never()).downloadFile(any());
+        verify(drawingThumbnailRepository, never()).save(any());
+        verify(drawingRepository, times(1)).updateMissingThumbnailUrl(any());
+        verify(orderRepository, times(1)).updateMissingImgUrl(any());
+    }
+
+    /**
+     * 완료된 썸네일을 현재 버전으로 다시 생성 성공
+     * - 새 썸네일을 업로드하고 썸네일 정보만 변경 (저장, 도면 및 거래 반영은 재생성 작업에서 처리)
+     */
+    @Test
+    public void regenerateThumbnail_성공() throws Exception {
+        // given
+        final DrawingThumbnail drawingThumbnail = DrawingThumbnail.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileType(DrawingFileType.DXF)
+                .build();
+        drawingThumbnail.complete("old-thumbnail-url.png", "old-medium-thumbnail-url.png", "old-small-thumbnail-url.png", null);
+        ReflectionTestUtils.setField(drawingThumbnail, "version", null);
+
+        // stub
+        when(fileComponent.downloadFile(dxfFile.getUrl())).thenReturn(new FileInputStream("src/test/resources/drawing/drawing.dxf"));
+        when(fileComponent.uploadFileAsync(eq("drawing-thumbnail"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture("thumbnail-url.png"));
+        when(fileComponent.uploadFileAsync(eq("drawing-preview"), any(), any(), any())).thenReturn(CompletableFuture.completedFuture("preview-url.svg"));
+
+        // when
+        drawingThumbnailService.regenerateThumbnail(drawingThumbnail, RasterBudget.UNLIMITED);
+
+        // then
+        Assertions.assertThat(drawingThumbnail.getThumbnailUrl()).isEqualTo("thumbnail-url.png");
+        Assertions.assertThat(drawingThumbnail.getPreviewUrl()).isEqualTo("preview-url.svg");
+        Assertions.assertThat(drawingThumbnail.getVersion()).isEqualTo(DrawingThumbnail.CURRENT_VERSION);
+        Assertions.assertThat(drawingThumbnail.getAttemptCount()).isEqualTo(1);
+        verify(drawingThumbnailRepository, never()).save(any());
+        verify(drawingRepository, never()).updateThumbnailUrlByFileUrl(any(), any());
+    }
+
+    /**
+     * 도면 파일 URL 기준으로 썸네일 조회 성공
+     */
+    @Test
+    public void getDrawingThumbnail_성공() {
+        // given
+        final DrawingThumbnail drawingThumbnail = DrawingThumbnail.builder()
+                .fileUrl(dxfFile.getUrl())
+                .fileType(DrawingFileType.DXF)
+                .build();
+        final GetDrawingThumbnailResponse expectedResponse = GetDrawingThumbnailResponse.from(drawingThumbnail);
+
+        // stub
+        when(drawingThumbnailRepository.findFirstByFileUrl(dxfFile.getUrl())).thenReturn(Optional.of(drawingThumbnail));
+
+        // when
+        final GetDrawingThumbnailResponse actualResponse = drawingThumbnailService.getDrawingThumbnail(dxfFile.getUrl());
+
+        // then
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        Assertions.assertThat(actualResponse.status()).isEqualTo(DrawingThumbnailStatus.PENDING.name());
+    }
+
+    /**
+     * 도면 파일 URL 기준으로 썸네일 조회 실패
+     * - 실패 사유 : 존재하지 않는 도면 썸네일
+     */
+    @Test
+    public void getDrawingThumbnail_실패_NOT_FOUND_DRAWING_THUMBNAIL() {
+        // given
+        final String unknownFileUrl = "unknown-file-url.dxf";
+
+        // stub
+        when(drawingThumbnailRepository.findFirstByFileUrl(unknownFileUrl)).thenReturn(Optional.empty());
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> drawingThumbnailService.getDrawingThumbnail(unknownFileUrl))
+                .isInstanceOf(CustomCommonException.class)
+                .hasMessage(OrderErrorCode.NOT_FOUND_DRAWING_THUMBNAIL.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.laser.ordermanage.order.unit.service;
 import com.laser.ordermanage.common.ServiceUnitTest;
 import com.laser.ordermanage.common.exception.CustomCommonException;
 import com.laser.ordermanage.common.paging.ListResponse;
+import com.laser.ordermanage.ingredient.service.IngredientDemandService;
 import com.laser.ordermanage.order.domain.Comment;
 import com.laser.ordermanage.order.domain.CommentBuilder;
 import com.laser.ordermanage.order.domain.Order;
@@ -14,6 +15,7 @@ import com.laser.ordermanage.order.exception.OrderErrorCode;
 import com.laser.ordermanage.order.repository.CommentRepository;
 import com.laser.ordermanage.order.repository.DrawingRepository;
 import com.laser.ordermanage.order.repository.OrderRepository;
+import com.laser.ordermanage.order.service.DrawingService;
 import com.laser.ordermanage.order.service.OrderService;
 import com.laser.ordermanage.user.domain.UserEntity;
 import com.laser.ordermanage.user.domain.UserEntityBuilder;
@@ -23,11 +25,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class OrderServiceUnitTest extends ServiceUnitTest {
 
@@ -46,6 +48,12 @@ public class OrderServiceUnitTest extends ServiceUnitTest {
     @Mock
     private UserAuthService userAuthService;
 
+    @Mock
+    private IngredientDemandService ingredientDemandService;
+
+    @Mock
+    private DrawingService drawingService;
+
     /**
      * 거래 DB id 기준으로 거래 조회 성공
      */
@@ -270,6 +278,7 @@ public class OrderServiceUnitTest extends ServiceUnitTest {
 
         // stub
         when(orderRepository.findFirstById(orderId)).thenReturn(Optional.of(order));
+        when(drawingRepository.findFileUrlByOrderList(List.of(orderId))).thenReturn(List.of("drawing-file-url.dwg"));
         doNothing().when(drawingRepository).deleteAllByOrder(orderId);
         doNothing().when(commentRepository).deleteAllByOrder(orderId);
         doNothing().when(orderRepository).delete(order);
@@ -279,6 +288,8 @@ public class OrderServiceUnitTest extends ServiceUnitTest {
 
         // then
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(ingredientDemandService, times(1)).deleteDemandByOrderList(List.of(orderId));
+        verify(drawingService, times(1)).decreaseFileReference(List.of("drawing-file-url.dwg"));
     }
 
     /**
@@ -0,0 +1,137 @@
+package com.laser.ordermanage.order.unit.service;
+
+import com.laser.ordermanage.common.ServiceUnitTest;
+import com.laser.ordermanage.common.cache.redis.dao.OrphanFileCleanup;
+import com.laser.ordermanage.common.cache.redis.repository.OrphanFileCleanupRedisRepository;
+import com.laser.ordermanage.common.cloud.FileStorage;
+import com.laser.ordermanage.common.cloud.StoredObject;
+import com.laser.ordermanage.common.cloud.StoredObjectList;
+import com.laser.ordermanage.common.component.FileComponent;
+import com.laser.ordermanage.order.repository.DrawingFileRepository;
+import com.laser.ordermanage.order.service.OrphanFileCleanupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class OrphanFileCleanupServiceUnitTest extends ServiceUnitTest {
+
+    private OrphanFileCleanupService orphanFileCleanupService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private FileComponent fileComponent;
+
+    @Mock
+    private DrawingFileRepository drawingFileRepository;
+
+    @Mock
+    private OrphanFileCleanupRedisRepository orphanFileCleanupRedisRepository;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 유예 기간 1일, 실행마다 목록 하나만 확인
+        orphanFileCleanupService = new OrphanFileCleanupService(
+                fileComponent,
+                drawingFileRepository,
+                orphanFileCleanupRedisRepository,
+                meterRegistry,
+                24,
+                1
+        );
+    }
+
+    /**
+     * 사용하지 않는 저장소 파일 정리 성공
+     * - 처음부터 확인하는 경우, 버려진 도면 파일 정보를 먼저 삭제하고 만료된 멀티파트 업로드 취소
+     * - 유예 기간이 지나고 거래 관련 폴더에 있는 파일 중 DB 에서 사용하지 않는 파일만 삭제
+     * - 마지막 목록까지 확인하면 다음 실행에서 처음부터 확인
+     */
+    @Test
+    public void cleanupOrphanFile_성공() {
+        // given
+        final Instant oldUploadedAt = Instant.now().minus(Duration.ofDays(30));
+        final StoredObject referencedDrawing = buildStoredObject("drawing/referenced-drawing.dwg", oldUploadedAt);
+        final StoredObject orphanThumbnail = buildStoredObject("drawing-thumbnail/orphan-drawing-thumbnail-500.png", oldUploadedAt);
+        final StoredObject recentQuotation = buildStoredObject("quotation/recent-quotation.pdf", Instant.now());
+        final StoredObject otherFolderFile = buildStoredObject("other/other-file.png", oldUploadedAt);
+
+        // stub
+        when(orphanFileCleanupRedisRepository.findById(OrphanFileCleanup.ID)).thenReturn(Optional.empty());
+        when(fileComponent.getStoredFileList(null, FileStorage.MAX_DELETE_OBJECT_COUNT))
+                .thenReturn(new StoredObjectList(List.of(referencedDrawing, orphanThumbnail, recentQuotation, otherFolderFile), false));
+        when(drawingFileRepository.findReferencedFileUrlList(List.of(referencedDrawing.fileUrl(), orphanThumbnail.fileUrl())))
+                .thenReturn(List.of(referencedDrawing.fileUrl()));
+        when(fileComponent.deleteFileList(List.of(orphanThumbnail.fileUrl()))).thenReturn(List.of());
+
+        // when
+        orphanFileCleanupService.cleanupOrphanFile();
+
+        // then
+        verify(drawingFileRepository, times(1)).deleteAbandonedDrawingFile(any());
+        verify(fileComponent, times(1)).abortExpiredChunkedUpload();
+        verify(fileComponent, times(1)).deleteFileList(List.of(orphanThumbnail.fileUrl()));
+
+        final ArgumentCaptor<OrphanFileCleanup> cleanupCaptor = ArgumentCaptor.forClass(OrphanFileCleanup.class);
+        verify(orphanFileCleanupRedisRepository, times(1)).save(cleanupCaptor.capture());
+        Assertions.assertThat(cleanupCaptor.getValue().getLastKey()).isNull();
+        Assertions.assertThat(meterRegistry.get("storage.orphan-file.cleanup").tag("result", "deleted").counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 사용하지 않는 저장소 파일 정리 성공
+     * - 이전 실행에서 마지막으로 확인한 key 다음부터 확인하고, 버려진 도면 파일 정보는 삭제하지 않음
+     * - 확인할 목록이 남아 있으면 마지막으로 확인한 key 저장
+     * - 삭제하지 못한 파일 수 기록
+     */
+    @Test
+    public void cleanupOrphanFile_성공_이어서_확인() {
+        // given
+        final Instant oldUploadedAt = Instant.now().minus(Duration.ofDays(30));
+        final OrphanFileCleanup cleanup = OrphanFileCleanup.start();
+        cleanup.checkpoint("drawing/last-drawing.dwg", 3, 0);
+
+        final StoredObject orphanDrawing = buildStoredObject("drawing/orphan-drawing.dwg", oldUploadedAt);
+        final StoredObject orphanPurchaseOrder = buildStoredObject("purchase-order/orphan-purchase-order.pdf", oldUploadedAt);
+
+        // stub
+        when(orphanFileCleanupRedisRepository.findById(OrphanFileCleanup.ID)).thenReturn(Optional.of(cleanup));
+        when(fileComponent.getStoredFileList(eq("drawing/last-drawing.dwg"), anyInt()))
+                .thenReturn(new StoredObjectList(List.of(orphanDrawing, orphanPurchaseOrder), true));
+        when(drawingFileRepository.findReferencedFileUrlList(any())).thenReturn(List.of());
+        when(fileComponent.deleteFileList(any())).thenReturn(List.of(orphanPurchaseOrder.fileUrl()));
+
+        // when
+        orphanFileCleanupService.cleanupOrphanFile();
+
+        // then
+        verify(drawingFileRepository, never()).deleteAbandonedDrawingFile(any());
+        verify(fileComponent, never()).abortExpiredChunkedUpload();
+        verify(fileComponent, times(1)).getStoredFileList(any(), anyInt());
+
+        final ArgumentCaptor<OrphanFileCleanup> cleanupCaptor = ArgumentCaptor.forClass(OrphanFileCleanup.class);
+        verify(orphanFileCleanupRedisRepository, times(1)).save(cleanupCaptor.capture());
+        final OrphanFileCleanup actualCleanup = cleanupCaptor.getValue();
+        Assertions.assertThat(actualCleanup.getLastKey()).isEqualTo(orphanPurchaseOrder.key());
+        Assertions.assertThat(actualCleanup.getDeletedCount()).isEqualTo(4L);
+        Assertions.assertThat(actualCleanup.getFailedCount()).isEqualTo(1L);
+        Assertions.assertThat(meterRegistry.get("storage.orphan-file.cleanup").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private static StoredObject buildStoredObject(String key, Instant lastModified) {
+        return new StoredObject(key, "https://bucket.s3.ap-northeast-2.amazonaws.com/" + key, lastModified);
+    }
+}